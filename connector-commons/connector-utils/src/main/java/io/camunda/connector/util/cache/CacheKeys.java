@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.util.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Builds keys for caches of long-lived clients and connections. Keys are SHA-256 hashes of the
+ * settings a resource was created with, so that credentials contained in these settings are never
+ * kept in plain text by a cache.
+ */
+public final class CacheKeys {
+
+  private static final char SEPARATOR = '\0';
+
+  private CacheKeys() {}
+
+  /**
+   * Returns the hex encoded SHA-256 hash of the given parts, separated by a NUL character. {@code
+   * null} parts are hashed as the string {@code "null"}.
+   */
+  public static String sha256(String... parts) {
+    return sha256(Arrays.asList(parts));
+  }
+
+  /** Returns the hex encoded SHA-256 hash of the given parts, see {@link #sha256(String...)}. */
+  public static String sha256(List<String> parts) {
+    var raw = new StringBuilder();
+    for (int i = 0; i < parts.size(); i++) {
+      if (i > 0) {
+        raw.append(SEPARATOR);
+      }
+      raw.append(parts.get(i));
+    }
+    try {
+      var digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of()
+          .formatHex(digest.digest(raw.toString().getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      // SHA-256 is required by the Java spec, so this should never happen
+      throw new IllegalStateException("SHA-256 algorithm not available", e);
+    }
+  }
+
+  /**
+   * Returns the keys and values of the given map as alternating parts, sorted by key, so that the
+   * hash of e.g. client properties does not depend on their iteration order.
+   */
+  public static List<String> sortedEntries(Map<?, ?> map) {
+    var sorted = new TreeMap<String, String>();
+    map.forEach((k, v) -> sorted.put(Objects.toString(k), Objects.toString(v)));
+    var parts = new ArrayList<String>(sorted.size() * 2);
+    sorted.forEach(
+        (k, v) -> {
+          parts.add(k);
+          parts.add(v);
+        });
+    return parts;
+  }
+}
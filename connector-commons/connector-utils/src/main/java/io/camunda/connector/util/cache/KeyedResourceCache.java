@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.util.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded cache of long-lived resources such as clients, connections or connection pools, keyed by
+ * a hash of the settings they were created with (see {@link CacheKeys}).
+ *
+ * <p>Resources that have not been used for the configured time, that exceed the maximum size or
+ * that are removed explicitly are closed. This class is thread-safe.
+ *
+ * @param <V> type of the cached resources
+ */
+public final class KeyedResourceCache<V> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(KeyedResourceCache.class);
+
+  private final String name;
+  private final Consumer<? super V> closer;
+  private final Cache<String, V> resources;
+
+  /**
+   * Creates a cache which closes removed resources with the given closer.
+   *
+   * @param name name of the resources, used for logging
+   * @param maximumSize maximum number of cached resources
+   * @param idleTimeout time after which an unused resource is removed and closed
+   * @param closer closes a resource
+   */
+  public KeyedResourceCache(
+      String name, long maximumSize, Duration idleTimeout, Consumer<? super V> closer) {
+    this(name, maximumSize, idleTimeout, closer, closer);
+  }
+
+  /**
+   * Creates a cache which closes removed resources differently from the resources that are still
+   * cached when {@link #closeAll()} is called, e.g. to let an evicted pool finish running work.
+   *
+   * @param name name of the resources, used for logging
+   * @param maximumSize maximum number of cached resources
+   * @param idleTimeout time after which an unused resource is removed and closed
+   * @param removalCloser closes a resource that has been removed from the cache
+   * @param closer closes a resource immediately, used by {@link #closeAll()}
+   */
+  public KeyedResourceCache(
+      String name,
+      long maximumSize,
+      Duration idleTimeout,
+      Consumer<? super V> removalCloser,
+      Consumer<? super V> closer) {
+    this.name = name;
+    this.closer = closer;
+    this.resources =
+        Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterAccess(idleTimeout)
+            .removalListener(
+                (String key, V resource, RemovalCause cause) -> {
+                  if (resource != null) {
+                    LOG.debug("Closing {} ({})", name, cause);
+                    closeQuietly(resource, removalCloser);
+                  }
+                })
+            .build();
+  }
+
+  /** Returns the resource for the given key, creating it on first use. */
+  public V get(String key, Function<String, ? extends V> factory) {
+    return resources.get(key, factory);
+  }
+
+  /** Returns the resource for the given key, or {@code null} if there is none. */
+  public V getIfPresent(String key) {
+    return resources.getIfPresent(key);
+  }
+
+  /**
+   * Returns a view of the cached resources. Resources removed from the view are closed like
+   * evicted ones.
+   */
+  public ConcurrentMap<String, V> asMap() {
+    return resources.asMap();
+  }
+
+  /** Returns the cached resources. */
+  public Collection<V> values() {
+    return resources.asMap().values();
+  }
+
+  /** Returns the approximate number of cached resources. */
+  public long estimatedSize() {
+    return resources.estimatedSize();
+  }
+
+  /** Removes and closes the resource for the given key, if any. */
+  public void invalidate(String key) {
+    resources.invalidate(key);
+  }
+
+  /** Removes and closes all resources, e.g. when the JVM shuts down. */
+  public void closeAll() {
+    // close synchronously, the removal listener runs asynchronously and may not finish on shutdown
+    var remaining = List.copyOf(resources.asMap().values());
+    resources.invalidateAll();
+    remaining.forEach(resource -> closeQuietly(resource, closer));
+  }
+
+  private void closeQuietly(V resource, Consumer<? super V> closer) {
+    try {
+      closer.accept(resource);
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to close {}", name, e);
+    }
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.util.env;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads tuning settings of connectors from environment variables. A missing or blank variable
+ * results in the default value. An invalid value, e.g. one that is not a number or is below the
+ * allowed minimum, is logged and replaced by the default value, so that a misconfiguration does
+ * not prevent the connector from starting.
+ */
+public final class EnvironmentSettings {
+
+  private static final Logger LOG = LoggerFactory.getLogger(EnvironmentSettings.class);
+
+  private EnvironmentSettings() {}
+
+  /** Reads an {@code int} of at least {@code min} from the given environment variable. */
+  public static int getInt(String name, int defaultValue, int min) {
+    return parseInt(name, System.getenv(name), defaultValue, min);
+  }
+
+  /** Reads a {@code long} of at least {@code min} from the given environment variable. */
+  public static long getLong(String name, long defaultValue, long min) {
+    return parseLong(name, System.getenv(name), defaultValue, min);
+  }
+
+  /** Reads {@code true} or {@code false}, ignoring case, from the given environment variable. */
+  public static boolean getBoolean(String name, boolean defaultValue) {
+    return parseBoolean(name, System.getenv(name), defaultValue);
+  }
+
+  /**
+   * Reads a positive duration in ISO-8601 format, e.g. {@code PT10M}, from the given environment
+   * variable.
+   */
+  public static Duration getDuration(String name, Duration defaultValue) {
+    return parseDuration(name, System.getenv(name), defaultValue);
+  }
+
+  /**
+   * Reads a positive duration in seconds from the given environment variable, or {@link
+   * Duration#ZERO} if {@code allowZero} is set, e.g. to disable a timeout.
+   */
+  public static Duration getSeconds(String name, Duration defaultValue, boolean allowZero) {
+    return Duration.ofSeconds(getLong(name, defaultValue.toSeconds(), allowZero ? 0 : 1));
+  }
+
+  /** Parses the value of the given variable, see {@link #getInt(String, int, int)}. */
+  public static int parseInt(String name, String value, int defaultValue, int min) {
+    return (int) parseLong(name, value, defaultValue, min, true);
+  }
+
+  /** Parses the value of the given variable, see {@link #getLong(String, long, long)}. */
+  public static long parseLong(String name, String value, long defaultValue, long min) {
+    return parseLong(name, value, defaultValue, min, false);
+  }
+
+  /** Parses the value of the given variable, see {@link #getBoolean(String, boolean)}. */
+  public static boolean parseBoolean(String name, String value, boolean defaultValue) {
+    if (value == null || value.isBlank()) {
+      return defaultValue;
+    }
+    if ("true".equalsIgnoreCase(value.trim())) {
+      return true;
+    }
+    if ("false".equalsIgnoreCase(value.trim())) {
+      return false;
+    }
+    return invalid(name, value, "true or false", defaultValue);
+  }
+
+  /** Parses the value of the given variable, see {@link #getDuration(String, Duration)}. */
+  public static Duration parseDuration(String name, String value, Duration defaultValue) {
+    if (value == null || value.isBlank()) {
+      return defaultValue;
+    }
+    try {
+      var duration = Duration.parse(value.trim());
+      if (duration.isPositive()) {
+        return duration;
+      }
+    } catch (DateTimeParseException e) {
+      // reported below
+    }
+    return invalid(name, value, "a positive ISO-8601 duration", defaultValue);
+  }
+
+  private static long parseLong(
+      String name, String value, long defaultValue, long min, boolean intRange) {
+    if (value == null || value.isBlank()) {
+      return defaultValue;
+    }
+    try {
+      var parsed = intRange ? Integer.parseInt(value.trim()) : Long.parseLong(value.trim());
+      if (parsed >= min) {
+        return parsed;
+      }
+    } catch (NumberFormatException e) {
+      // reported below
+    }
+    return invalid(name, value, "a number of at least " + min, defaultValue);
+  }
+
+  private static <T> T invalid(String name, String value, String expected, T defaultValue) {
+    LOG.warn(
+        "Invalid value '{}' of {}, expected {}. Using the default of {}",
+        value,
+        name,
+        expected,
+        defaultValue);
+    return defaultValue;
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.util.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+
+class CacheKeysTest {
+
+  @Test
+  void shouldHashPartsInOrder() {
+    assertThat(CacheKeys.sha256("a", "b")).isEqualTo(CacheKeys.sha256(List.of("a", "b")));
+    assertThat(CacheKeys.sha256("a", "b")).isNotEqualTo(CacheKeys.sha256("b", "a"));
+    // the separator keeps the boundaries of the parts
+    assertThat(CacheKeys.sha256("ab", "c")).isNotEqualTo(CacheKeys.sha256("a", "bc"));
+    assertThat(CacheKeys.sha256("secret")).hasSize(64).doesNotContain("secret");
+  }
+
+  @Test
+  void shouldSortEntriesByKey() {
+    var properties = new Properties();
+    properties.put("b", "2");
+    properties.put("a", 1);
+
+    assertThat(CacheKeys.sortedEntries(properties)).containsExactly("a", "1", "b", "2");
+    assertThat(CacheKeys.sha256(CacheKeys.sortedEntries(properties)))
+        .isEqualTo(CacheKeys.sha256(CacheKeys.sortedEntries(Map.of("a", "1", "b", "2"))));
+  }
+}
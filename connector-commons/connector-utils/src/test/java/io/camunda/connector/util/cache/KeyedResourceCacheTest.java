@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.util.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+class KeyedResourceCacheTest {
+
+  private final List<String> closed = new CopyOnWriteArrayList<>();
+
+  @Test
+  void shouldCreateResourceOnce() {
+    var cache = new KeyedResourceCache<String>("test", 10, Duration.ofMinutes(1), closed::add);
+
+    var first = cache.get("key", k -> "resource-" + k);
+    var second = cache.get("key", k -> "other");
+
+    assertThat(first).isEqualTo("resource-key");
+    assertThat(second).isSameAs(first);
+    assertThat(cache.estimatedSize()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCloseAllResourcesSynchronously() {
+    var cache =
+        new KeyedResourceCache<String>(
+            "test", 10, Duration.ofMinutes(1), resource -> {}, closed::add);
+    cache.get("a", k -> "resource-a");
+    cache.get("b", k -> "resource-b");
+
+    cache.closeAll();
+
+    assertThat(closed).containsExactlyInAnyOrder("resource-a", "resource-b");
+    assertThat(cache.values()).isEmpty();
+  }
+
+  @Test
+  void shouldContinueClosing_whenClosingOneResourceFails() {
+    var cache =
+        new KeyedResourceCache<String>(
+            "test",
+            10,
+            Duration.ofMinutes(1),
+            resource -> {
+              if (resource.equals("resource-a")) {
+                throw new IllegalStateException("expected");
+              }
+              closed.add(resource);
+            });
+    cache.get("a", k -> "resource-a");
+    cache.get("b", k -> "resource-b");
+
+    cache.closeAll();
+
+    assertThat(closed).contains("resource-b");
+  }
+}
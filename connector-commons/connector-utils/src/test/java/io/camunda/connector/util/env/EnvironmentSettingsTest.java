@@ -0,0 +1,82 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.util.env;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class EnvironmentSettingsTest {
+
+  private static final String NAME = "CONNECTOR_TEST_SETTING";
+
+  @Test
+  void shouldParseInt() {
+    assertThat(EnvironmentSettings.parseInt(NAME, " 42 ", 10, 1)).isEqualTo(42);
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = {" ", "0", "-1", "abc", "1.5", "2147483648"})
+  void shouldUseDefaultInt_whenValueIsMissingOrInvalid(String value) {
+    assertThat(EnvironmentSettings.parseInt(NAME, value, 10, 1)).isEqualTo(10);
+  }
+
+  @Test
+  void shouldAcceptMinimum() {
+    assertThat(EnvironmentSettings.parseInt(NAME, "0", 10, 0)).isZero();
+    assertThat(EnvironmentSettings.parseLong(NAME, "0", 10, 0)).isZero();
+  }
+
+  @Test
+  void shouldParseLong() {
+    assertThat(EnvironmentSettings.parseLong(NAME, "2147483648", 10, 1)).isEqualTo(2147483648L);
+    assertThat(EnvironmentSettings.parseLong(NAME, "-5", 10, 1)).isEqualTo(10);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"true", "TRUE", " True "})
+  void shouldParseTrue(String value) {
+    assertThat(EnvironmentSettings.parseBoolean(NAME, value, false)).isTrue();
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = {"yes", "1"})
+  void shouldUseDefaultBoolean_whenValueIsMissingOrInvalid(String value) {
+    assertThat(EnvironmentSettings.parseBoolean(NAME, value, true)).isTrue();
+    assertThat(EnvironmentSettings.parseBoolean(NAME, value, false)).isFalse();
+  }
+
+  @Test
+  void shouldParseDuration() {
+    assertThat(EnvironmentSettings.parseDuration(NAME, "PT10M", Duration.ofMinutes(1)))
+        .isEqualTo(Duration.ofMinutes(10));
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = {"10", "PT0S", "-PT1S"})
+  void shouldUseDefaultDuration_whenValueIsMissingOrInvalid(String value) {
+    assertThat(EnvironmentSettings.parseDuration(NAME, value, Duration.ofMinutes(1)))
+        .isEqualTo(Duration.ofMinutes(1));
+  }
+}
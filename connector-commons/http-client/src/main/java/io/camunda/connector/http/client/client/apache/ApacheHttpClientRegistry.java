@@ -0,0 +1,232 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.client.client.apache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.camunda.connector.http.client.client.apache.proxy.ProxyAwareHttpClient;
+import io.camunda.connector.http.client.client.apache.proxy.ProxyAwareHttpClient.PoolConfiguration;
+import io.camunda.connector.http.client.client.apache.proxy.ProxyHandler;
+import io.camunda.connector.http.client.model.ClientTls;
+import io.camunda.connector.http.client.model.HttpClientRequest;
+import io.camunda.connector.http.client.proxy.ProxyConfiguration.ProxyDetails;
+import io.camunda.connector.http.client.utils.EnvVarHelper;
+import io.camunda.connector.util.cache.CacheKeys;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Process-wide registry of long-lived {@link ProxyAwareHttpClient} instances. Clients are keyed by
+ * everything that is baked into an Apache client at build time (proxy, TLS material, redirect
+ * handling and timeouts), so requests with the same settings share one bounded connection pool and
+ * reuse TCP connections and TLS sessions across jobs.
+ *
+ * <p>Clients that have not been used for a while are evicted and closed once all of their
+ * connections have been released. Idle pooled connections are closed periodically. This class is
+ * thread-safe.
+ */
+public class ApacheHttpClientRegistry implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ApacheHttpClientRegistry.class);
+
+  /** Time after which an unused client is evicted from the registry. */
+  private static final Duration CLIENT_EXPIRY = Duration.ofMinutes(10);
+
+  /** Delay between two attempts to close an evicted client that still has leased connections. */
+  private static final Duration CLOSE_RETRY_DELAY = Duration.ofSeconds(30);
+
+  private final Configuration configuration;
+  private final Cache<ClientKey, ProxyAwareHttpClient> clients;
+  private final ScheduledExecutorService maintenanceExecutor;
+
+  /**
+   * Settings of the registry.
+   *
+   * @param maxClients maximum number of distinct clients kept in the registry
+   * @param poolConfiguration connection pool limits applied to every client
+   * @param connectionIdleTimeout time after which idle pooled connections are closed
+   */
+  public record Configuration(
+      int maxClients, PoolConfiguration poolConfiguration, Duration connectionIdleTimeout) {
+
+    /** Reads the settings from the {@code CONNECTOR_HTTP_CLIENT_POOL_*} environment variables. */
+    public static Configuration fromEnvironment() {
+      return new Configuration(
+          EnvVarHelper.getPoolMaxClients(),
+          new PoolConfiguration(
+              EnvVarHelper.getPoolMaxTotal(), EnvVarHelper.getPoolMaxPerRoute(), null),
+          EnvVarHelper.getPoolIdleTimeout());
+    }
+  }
+
+  /** Aggregated connection pool statistics of all clients in the registry. */
+  public record Stats(long clients, int leased, int available, int pending, int max) {}
+
+  /**
+   * Cache key of a client. The TLS material is only kept as a hash so that key material is not
+   * retained in plain text by the registry.
+   */
+  record ClientKey(
+      String scheme,
+      ProxyDetails proxy,
+      boolean followRedirects,
+      int connectionTimeoutInSeconds,
+      int readTimeoutInSeconds,
+      String clientTlsFingerprint) {}
+
+  public ApacheHttpClientRegistry(Configuration configuration) {
+    this.configuration = configuration;
+    this.clients =
+        Caffeine.newBuilder()
+            .maximumSize(configuration.maxClients())
+            .expireAfterAccess(CLIENT_EXPIRY)
+            .removalListener(
+                (ClientKey key, ProxyAwareHttpClient client, RemovalCause cause) -> {
+                  if (client != null) {
+                    LOG.debug("Shared HTTP client evicted ({}), closing it", cause);
+                    closeWhenReleased(client);
+                  }
+                })
+            .build();
+    this.maintenanceExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            r -> {
+              Thread thread = new Thread(r, "http-client-pool-maintenance");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long period = Math.max(1, configuration.connectionIdleTimeout().toSeconds() / 2);
+    maintenanceExecutor.scheduleWithFixedDelay(
+        this::closeIdleConnections, period, period, TimeUnit.SECONDS);
+  }
+
+  /** Returns the registry shared by all connectors of this JVM. */
+  public static ApacheHttpClientRegistry getDefault() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  /**
+   * Returns the shared client for the settings of the given request, creating it on first use. The
+   * returned client must not be closed by the caller.
+   *
+   * @param request the request that will be executed with the client
+   * @param scheme the scheme of the target URL, used to select the proxy
+   * @param host the host of the target URL
+   */
+  public ProxyAwareHttpClient getClient(HttpClientRequest request, String scheme, String host) {
+    var proxy = new ProxyHandler().getProxyDetails(scheme).orElse(null);
+    var clientTls = request.hasClientTls() ? request.getClientTls() : null;
+    var key =
+        new ClientKey(
+            scheme,
+            proxy,
+            request.isFollowRedirects(),
+            request.getConnectionTimeoutInSeconds(),
+            request.getReadTimeoutInSeconds(),
+            clientTls != null ? fingerprint(clientTls) : null);
+    return clients.get(
+        key,
+        k -> {
+          LOG.debug(
+              "Creating shared HTTP client for scheme [{}], followRedirects [{}], mTLS [{}]",
+              k.scheme(),
+              k.followRedirects(),
+              k.clientTlsFingerprint() != null);
+          return new ProxyAwareHttpClient(
+              new ProxyAwareHttpClient.TimeoutConfiguration(
+                  k.connectionTimeoutInSeconds(), k.readTimeoutInSeconds()),
+              new ProxyAwareHttpClient.ProxyContext(scheme, host),
+              k.followRedirects(),
+              clientTls != null ? ClientTlsFactory.create(clientTls) : null,
+              configuration.poolConfiguration());
+        });
+  }
+
+  /** Returns the aggregated connection pool statistics, e.g. to expose them as gauges. */
+  public Stats getStats() {
+    int leased = 0;
+    int available = 0;
+    int pending = 0;
+    int max = 0;
+    for (ProxyAwareHttpClient client : clients.asMap().values()) {
+      var stats = client.getPoolStats();
+      leased += stats.getLeased();
+      available += stats.getAvailable();
+      pending += stats.getPending();
+      max += stats.getMax();
+    }
+    return new Stats(clients.estimatedSize(), leased, available, pending, max);
+  }
+
+  @Override
+  public void close() {
+    maintenanceExecutor.shutdownNow();
+    clients.asMap().values().forEach(ApacheHttpClientRegistry::closeQuietly);
+    clients.invalidateAll();
+  }
+
+  private void closeIdleConnections() {
+    try {
+      clients.cleanUp();
+      for (ProxyAwareHttpClient client : clients.asMap().values()) {
+        client.closeIdleConnections(configuration.connectionIdleTimeout());
+      }
+    } catch (Exception e) {
+      LOG.warn("Failed to close idle HTTP connections", e);
+    }
+  }
+
+  /**
+   * Closes an evicted client once no connection is leased anymore, so that responses which are
+   * still being streamed are not cut off.
+   */
+  private void closeWhenReleased(ProxyAwareHttpClient client) {
+    if (client.getPoolStats().getLeased() > 0 && !maintenanceExecutor.isShutdown()) {
+      maintenanceExecutor.schedule(
+          () -> closeWhenReleased(client), CLOSE_RETRY_DELAY.toSeconds(), TimeUnit.SECONDS);
+      return;
+    }
+    closeQuietly(client);
+  }
+
+  private static void closeQuietly(ProxyAwareHttpClient client) {
+    try {
+      client.close();
+    } catch (Exception e) {
+      LOG.debug("Failed to close shared HTTP client", e);
+    }
+  }
+
+  private static String fingerprint(ClientTls tls) {
+    return CacheKeys.sha256(
+        Objects.requireNonNullElse(tls.clientCertificate(), ""),
+        Objects.requireNonNullElse(tls.clientPrivateKey(), ""),
+        Objects.requireNonNullElse(tls.privateKeyPassword(), ""),
+        Objects.requireNonNullElse(tls.trustedCertificate(), ""));
+  }
+
+  private static final class DefaultHolder {
+    private static final ApacheHttpClientRegistry INSTANCE =
+        new ApacheHttpClientRegistry(Configuration.fromEnvironment());
+  }
+}
@@ -44,10 +44,20 @@ import org.apache.hc.core5.http.HttpStatus;
 public class CustomApacheHttpClient implements HttpClient {
 
   private final HttpBlockListManager httpBlocklistManager = new DefaultHttpBlocklistManager();
+  private final ApacheHttpClientRegistry clientRegistry;
+
+  public CustomApacheHttpClient() {
+    this(ApacheHttpClientRegistry.getDefault());
+  }
+
+  public CustomApacheHttpClient(ApacheHttpClientRegistry clientRegistry) {
+    this.clientRegistry = clientRegistry;
+  }
 
   /**
    * Converts the given {@link HttpClientRequest} to an Apache {@link
-   * org.apache.hc.core5.http.ClassicHttpRequest} and executes it.
+   * org.apache.hc.core5.http.ClassicHttpRequest} and executes it with a shared client from the
+   * {@link ApacheHttpClientRegistry}, so that connections are reused across requests.
    *
    * @param request the request to execute
    * @return the {@link StreamingHttpResponse} containing the response details
@@ -56,7 +66,8 @@ public class CustomApacheHttpClient implements HttpClient {
   public <T> HttpResponse<T> execute(HttpClientRequest request, ResponseMapper<T> responseMapper) {
     var apacheRequest = prepareApacheRequest(request);
 
-    try (var client = newClient(apacheRequest, request)) {
+    var client = getClient(apacheRequest, request);
+    try {
       var apacheResponseHandler =
           new CustomResponseHandler<>(responseMapper, request.isFollowRedirects());
       return client.execute(apacheRequest, apacheResponseHandler);
@@ -99,30 +110,31 @@ public class CustomApacheHttpClient implements HttpClient {
   @Override
   public StreamingHttpResponse executeStreaming(HttpClientRequest request) {
     var apacheRequest = prepareApacheRequest(request);
-    ProxyAwareHttpClient client = newClient(apacheRequest, request);
+    ProxyAwareHttpClient client = getClient(apacheRequest, request);
+    ClassicHttpResponse response = null;
     try {
-      ClassicHttpResponse response = client.executeOpen(apacheRequest);
+      response = client.executeOpen(apacheRequest);
       int status = response.getCode();
       String reason = response.getReasonPhrase();
       Map<String, List<String>> headers = formatHeaders(response.getHeaders());
       InputStream entityStream =
           response.getEntity() != null ? response.getEntity().getContent() : null;
-      InputStream body = new ResponseClosingStream(entityStream, response, client);
+      InputStream body = new ResponseClosingStream(entityStream, response);
       return new StreamingHttpResponse(status, reason, headers, body);
     } catch (ClientProtocolException e) {
-      closeQuietly(client);
+      closeQuietly(response);
       throw new ConnectorException(
           String.valueOf(HttpStatus.SC_SERVER_ERROR),
           "An error with the HTTP protocol occurred",
           e);
     } catch (SocketTimeoutException e) {
-      closeQuietly(client);
+      closeQuietly(response);
       throw new ConnectorException(
           String.valueOf(HttpStatus.SC_REQUEST_TIMEOUT),
           "The request timed out. Please try increasing the read and connection timeouts.",
           e);
     } catch (SSLException e) {
-      closeQuietly(client);
+      closeQuietly(response);
       throw new ConnectorException(
           "SSL_HANDSHAKE_FAILED",
           "TLS handshake failed: "
@@ -132,13 +144,13 @@ public class CustomApacheHttpClient implements HttpClient {
               + "configuration.",
           e);
     } catch (IOException e) {
-      closeQuietly(client);
+      closeQuietly(response);
       throw new ConnectorException(
           String.valueOf(HttpStatus.SC_REQUEST_TIMEOUT),
           "An error occurred while executing the request, or the connection was aborted",
           e);
     } catch (RuntimeException e) {
-      closeQuietly(client);
+      closeQuietly(response);
       throw e;
     }
   }
@@ -165,18 +177,11 @@ public class CustomApacheHttpClient implements HttpClient {
     return apacheRequest;
   }
 
-  private ProxyAwareHttpClient newClient(
+  private ProxyAwareHttpClient getClient(
       ClassicHttpRequest apacheRequest, HttpClientRequest request) {
     var host = apacheRequest.getAuthority().getHostName();
     var scheme = apacheRequest.getScheme();
-    var sslContext =
-        request.hasClientTls() ? ClientTlsFactory.create(request.getClientTls()) : null;
-    return new ProxyAwareHttpClient(
-        new ProxyAwareHttpClient.TimeoutConfiguration(
-            request.getConnectionTimeoutInSeconds(), request.getReadTimeoutInSeconds()),
-        new ProxyAwareHttpClient.ProxyContext(scheme, host),
-        request.isFollowRedirects(),
-        sslContext);
+    return clientRegistry.getClient(request, scheme, host);
   }
 
   private static Map<String, List<String>> formatHeaders(Header[] headersArray) {
@@ -194,18 +199,18 @@ public class CustomApacheHttpClient implements HttpClient {
     }
   }
 
-  /** Closing this stream cascades close to the response and client, releasing the connection. */
+  /**
+   * Closing this stream cascades close to the response, releasing the connection back to the pool
+   * of the shared client.
+   */
   private static final class ResponseClosingStream extends FilterInputStream {
 
     private final ClassicHttpResponse response;
-    private final ProxyAwareHttpClient client;
     private boolean closed;
 
-    ResponseClosingStream(
-        InputStream delegate, ClassicHttpResponse response, ProxyAwareHttpClient client) {
+    ResponseClosingStream(InputStream delegate, ClassicHttpResponse response) {
       super(delegate != null ? delegate : InputStream.nullInputStream());
       this.response = response;
-      this.client = client;
     }
 
     @Override
@@ -225,11 +230,6 @@ public class CustomApacheHttpClient implements HttpClient {
       } catch (IOException e) {
         if (firstError == null) firstError = e;
       }
-      try {
-        client.close();
-      } catch (IOException e) {
-        if (firstError == null) firstError = e;
-      }
       if (firstError != null) throw firstError;
     }
   }
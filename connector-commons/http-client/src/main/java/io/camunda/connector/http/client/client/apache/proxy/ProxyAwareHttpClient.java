@@ -18,20 +18,26 @@ package io.camunda.connector.http.client.client.apache.proxy;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.time.Duration;
 import javax.net.ssl.SSLContext;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.cookie.BasicCookieStore;
 import org.apache.hc.client5.http.impl.DefaultRedirectStrategy;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
 import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
 import org.apache.hc.core5.http.ClassicHttpRequest;
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.io.HttpClientResponseHandler;
 import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
 import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,11 +54,29 @@ public class ProxyAwareHttpClient implements Closeable {
   private final CloseableHttpClient client;
   private final boolean followRedirects;
   private final SSLContext sslContext;
+  private final PoolConfiguration poolConfiguration;
+  private PoolingHttpClientConnectionManager connectionManager;
 
   public record TimeoutConfiguration(int connectionTimeoutInSeconds, int readTimeoutInSeconds) {}
 
   public record ProxyContext(String scheme, String host) {}
 
+  /**
+   * Connection pool limits of the client.
+   *
+   * @param maxConnTotal maximum number of connections across all routes
+   * @param maxConnPerRoute maximum number of connections per target host
+   * @param connectionTimeToLive maximum lifetime of a pooled connection, or {@code null} for no
+   *     limit
+   */
+  public record PoolConfiguration(
+      int maxConnTotal, int maxConnPerRoute, Duration connectionTimeToLive) {
+
+    /** No limits, used by clients that are created for a single request. */
+    public static final PoolConfiguration UNBOUNDED =
+        new PoolConfiguration(Integer.MAX_VALUE, Integer.MAX_VALUE, null);
+  }
+
   public ProxyAwareHttpClient(
       TimeoutConfiguration timeoutConfiguration,
       ProxyContext proxyContext,
@@ -65,10 +89,25 @@ public class ProxyAwareHttpClient implements Closeable {
       ProxyContext proxyContext,
       boolean followRedirects,
       SSLContext sslContext) {
+    this(
+        timeoutConfiguration,
+        proxyContext,
+        followRedirects,
+        sslContext,
+        PoolConfiguration.UNBOUNDED);
+  }
+
+  public ProxyAwareHttpClient(
+      TimeoutConfiguration timeoutConfiguration,
+      ProxyContext proxyContext,
+      boolean followRedirects,
+      SSLContext sslContext,
+      PoolConfiguration poolConfiguration) {
     this.timeoutConfiguration = timeoutConfiguration;
     this.proxyContext = proxyContext;
     this.followRedirects = followRedirects;
     this.sslContext = sslContext;
+    this.poolConfiguration = poolConfiguration;
     this.client = createClient();
   }
 
@@ -81,15 +120,39 @@ public class ProxyAwareHttpClient implements Closeable {
 
   public <T> T execute(ClassicHttpRequest request, HttpClientResponseHandler<T> responseHandler)
       throws IOException {
-    return client.execute(request, responseHandler);
+    return client.execute(request, newExecutionContext(), responseHandler);
   }
 
   /**
    * Executes the request without closing the response. The caller MUST close the returned response
-   * and this client to release the connection.
+   * to release the connection.
    */
   public ClassicHttpResponse executeOpen(ClassicHttpRequest request) throws IOException {
-    return client.executeOpen(null, request, null);
+    return client.executeOpen(null, request, newExecutionContext());
+  }
+
+  /**
+   * Creates a context with its own cookie store, so that cookies received by one request (e.g.
+   * during a redirect) are never sent by another request that shares this client.
+   */
+  private HttpClientContext newExecutionContext() {
+    var context = HttpClientContext.create();
+    context.setCookieStore(new BasicCookieStore());
+    return context;
+  }
+
+  /** Returns the current statistics of the connection pool across all routes. */
+  public PoolStats getPoolStats() {
+    return connectionManager.getTotalStats();
+  }
+
+  /**
+   * Closes pooled connections that are expired or have been idle for longer than the given
+   * duration. Leased connections are not affected.
+   */
+  public void closeIdleConnections(Duration idleTime) {
+    connectionManager.closeExpired();
+    connectionManager.closeIdle(TimeValue.of(idleTime));
   }
 
   private CloseableHttpClient createClient() {
@@ -97,8 +160,11 @@ public class ProxyAwareHttpClient implements Closeable {
 
     setProxyIfConfigured(proxyContext, builder);
 
+    // The client holds at most one TLS identity, so pooled connections can be reused regardless of
+    // the principal they were established with.
     builder
         .setDefaultRequestConfig(getRequestTimeoutConfig(timeoutConfiguration))
+        .disableConnectionState()
         .useSystemProperties();
     if (!followRedirects) {
       builder.disableRedirectHandling();
@@ -116,9 +182,8 @@ public class ProxyAwareHttpClient implements Closeable {
               HttpHost proxyHttpHost =
                   new HttpHost(proxyDetails.scheme(), proxyDetails.host(), proxyDetails.port());
               LOG.debug(
-                  "Using proxy for target scheme [{}] and host [{}] => [{}]",
+                  "Using proxy for target scheme [{}] => [{}]",
                   proxyContext.scheme(),
-                  proxyContext.host(),
                   proxyHttpHost);
               builder.setDefaultCredentialsProvider(
                   proxyHandler.getCredentialsProvider(proxyContext.scheme()));
@@ -127,15 +192,22 @@ public class ProxyAwareHttpClient implements Closeable {
   }
 
   private HttpClientBuilder createHttpClientBuilder() {
-    return HttpClients.custom().setConnectionManager(createConnectionManager());
+    connectionManager = createConnectionManager();
+    return HttpClients.custom().setConnectionManager(connectionManager);
   }
 
   private PoolingHttpClientConnectionManager createConnectionManager() {
     var builder =
         PoolingHttpClientConnectionManagerBuilder.create()
-            .setMaxConnTotal(Integer.MAX_VALUE)
-            .setMaxConnPerRoute(Integer.MAX_VALUE)
+            .setMaxConnTotal(poolConfiguration.maxConnTotal())
+            .setMaxConnPerRoute(poolConfiguration.maxConnPerRoute())
             .setDefaultSocketConfig(SocketConfig.custom().setSoKeepAlive(true).build());
+    if (poolConfiguration.connectionTimeToLive() != null) {
+      builder.setDefaultConnectionConfig(
+          ConnectionConfig.custom()
+              .setTimeToLive(TimeValue.of(poolConfiguration.connectionTimeToLive()))
+              .build());
+    }
     if (sslContext != null) {
       builder.setTlsSocketStrategy(new DefaultClientTlsStrategy(sslContext));
     }
@@ -16,33 +16,45 @@
  */
 package io.camunda.connector.http.client.utils;
 
+import io.camunda.connector.util.env.EnvironmentSettings;
+import java.time.Duration;
+
 public class EnvVarHelper {
 
   private static final String ENV_VAR_MAX_BODY_SIZE = "CONNECTOR_HTTP_CLIENT_MAX_BODY_SIZE";
+  private static final String ENV_VAR_POOL_MAX_TOTAL = "CONNECTOR_HTTP_CLIENT_POOL_MAX_TOTAL";
+  private static final String ENV_VAR_POOL_MAX_PER_ROUTE =
+      "CONNECTOR_HTTP_CLIENT_POOL_MAX_PER_ROUTE";
+  private static final String ENV_VAR_POOL_IDLE_TIMEOUT_SECONDS =
+      "CONNECTOR_HTTP_CLIENT_POOL_IDLE_TIMEOUT_SECONDS";
+  private static final String ENV_VAR_POOL_MAX_CLIENTS = "CONNECTOR_HTTP_CLIENT_POOL_MAX_CLIENTS";
 
   public static int getMaxInMemoryBodySize() {
-    String envVar = System.getenv(ENV_VAR_MAX_BODY_SIZE);
-    if (envVar != null) {
-      try {
-        int size = Integer.parseInt(envVar);
-        if (size > 0) {
-          return size;
-        } else {
-          throw new IllegalArgumentException(
-              "Environment variable "
-                  + ENV_VAR_MAX_BODY_SIZE
-                  + " must be a positive integer, but was: "
-                  + envVar);
-        }
-      } catch (NumberFormatException e) {
-        throw new IllegalArgumentException(
-            "Environment variable "
-                + ENV_VAR_MAX_BODY_SIZE
-                + " must be a valid integer, but was: "
-                + envVar,
-            e);
-      }
-    }
-    return 50 * 1024 * 1024; // Default to 50 MB
+    return getPositiveInt(ENV_VAR_MAX_BODY_SIZE, 50 * 1024 * 1024); // Default to 50 MB
+  }
+
+  /** Maximum number of pooled connections of a shared HTTP client across all routes. */
+  public static int getPoolMaxTotal() {
+    return getPositiveInt(ENV_VAR_POOL_MAX_TOTAL, 500);
+  }
+
+  /** Maximum number of pooled connections of a shared HTTP client per target host. */
+  public static int getPoolMaxPerRoute() {
+    return getPositiveInt(ENV_VAR_POOL_MAX_PER_ROUTE, 100);
+  }
+
+  /** Time after which idle pooled connections are closed. */
+  public static Duration getPoolIdleTimeout() {
+    return Duration.ofSeconds(getPositiveInt(ENV_VAR_POOL_IDLE_TIMEOUT_SECONDS, 60));
+  }
+
+  /** Maximum number of shared HTTP clients, i.e. distinct proxy/TLS/redirect/timeout settings. */
+  public static int getPoolMaxClients() {
+    return getPositiveInt(ENV_VAR_POOL_MAX_CLIENTS, 100);
+  }
+
+  /** Reads a positive integer, logging invalid values and falling back to the default. */
+  private static int getPositiveInt(String name, int defaultValue) {
+    return EnvironmentSettings.getInt(name, defaultValue, 1);
   }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.http.client.client.apache;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.camunda.connector.http.client.client.apache.proxy.ProxyAwareHttpClient.PoolConfiguration;
+import io.camunda.connector.http.client.mapper.ResponseMappers;
+import io.camunda.connector.http.client.model.HttpClientRequest;
+import io.camunda.connector.http.client.model.HttpMethod;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@WireMockTest
+class ApacheHttpClientRegistryTest {
+
+  private final ApacheHttpClientRegistry registry =
+      new ApacheHttpClientRegistry(
+          new ApacheHttpClientRegistry.Configuration(
+              10, new PoolConfiguration(20, 5, null), Duration.ofSeconds(60)));
+
+  @AfterEach
+  void closeRegistry() {
+    registry.close();
+  }
+
+  private static HttpClientRequest request(String url) {
+    HttpClientRequest request = new HttpClientRequest();
+    request.setMethod(HttpMethod.GET);
+    request.setUrl(url);
+    return request;
+  }
+
+  @Test
+  void shouldReuseClient_whenSettingsAreEqual() {
+    var first = registry.getClient(request("http://a.example.com"), "http", "a.example.com");
+    var second = registry.getClient(request("http://b.example.com"), "http", "b.example.com");
+
+    assertThat(second).isSameAs(first);
+    assertThat(registry.getStats().clients()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldCreateSeparateClients_whenSettingsDiffer() {
+    var defaultRequest = request("http://example.com");
+    var redirectRequest = request("http://example.com");
+    redirectRequest.setFollowRedirects(true);
+    var timeoutRequest = request("http://example.com");
+    timeoutRequest.setReadTimeoutInSeconds(5);
+
+    var defaultClient = registry.getClient(defaultRequest, "http", "example.com");
+    var redirectClient = registry.getClient(redirectRequest, "http", "example.com");
+    var timeoutClient = registry.getClient(timeoutRequest, "http", "example.com");
+
+    assertThat(defaultClient).isNotSameAs(redirectClient).isNotSameAs(timeoutClient);
+    assertThat(redirectClient).isNotSameAs(timeoutClient);
+  }
+
+  @Test
+  void shouldKeepConnectionPooled_afterRequestCompleted(WireMockRuntimeInfo wm) {
+    stubFor(get("/pooled").willReturn(ok("body")));
+    var httpClient = new CustomApacheHttpClient(registry);
+
+    httpClient.execute(request(wm.getHttpBaseUrl() + "/pooled"), ResponseMappers.asString());
+    httpClient.execute(request(wm.getHttpBaseUrl() + "/pooled"), ResponseMappers.asString());
+
+    var stats = registry.getStats();
+    assertThat(stats.clients()).isEqualTo(1);
+    assertThat(stats.leased()).isZero();
+    assertThat(stats.available()).isEqualTo(1);
+  }
+}
@@ -36,6 +36,7 @@ import java.util.stream.StreamSupport;
 import org.camunda.feel.FeelEngine;
 import org.camunda.feel.impl.JavaValueMapper;
 import org.camunda.feel.impl.SpiServiceLoader;
+import org.camunda.feel.syntaxtree.ParsedExpression;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import scala.collection.Iterable;
@@ -51,8 +52,17 @@ public class LocalFeelExpressionEvaluator implements FeelExpressionEvaluator {
   private static final Logger LOG = LoggerFactory.getLogger(LocalFeelExpressionEvaluator.class);
   private final FeelEngine feelEngine;
   private final ObjectMapper objectMapper;
+  private final ParsedExpressionCache expressionCache;
 
   public LocalFeelExpressionEvaluator() {
+    this(ParsedExpressionCache.shared());
+  }
+
+  /**
+   * @param expressionCache the cache of parsed expressions, shared with other evaluators by default
+   */
+  public LocalFeelExpressionEvaluator(ParsedExpressionCache expressionCache) {
+    this.expressionCache = expressionCache;
     this.objectMapper =
         new ObjectMapper()
             .registerModule(DefaultScalaModule$.MODULE$)
@@ -215,7 +225,17 @@ public class LocalFeelExpressionEvaluator implements FeelExpressionEvaluator {
   private Object evaluateInternal(final String expression, final Object[] variables) {
     var variablesAsMap = FeelEngineWrapperUtil.mergeMapVariables(objectMapper, variables);
     var variablesAsMapAsScalaMap = toScalaMap(variablesAsMap);
-    var result = feelEngine.evalExpression(trimExpression(expression), variablesAsMapAsScalaMap);
+    var parsedExpression = expressionCache.get(trimExpression(expression), this::parseExpression);
+    var result = feelEngine.eval(parsedExpression, variablesAsMapAsScalaMap);
+    if (result.isRight()) {
+      return result.right().get();
+    } else {
+      throw new RuntimeException(result.left().get().message());
+    }
+  }
+
+  private ParsedExpression parseExpression(final String expression) {
+    var result = feelEngine.parseExpression(expression);
     if (result.isRight()) {
       return result.right().get();
     } else {
@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.feel;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.function.Function;
+import org.camunda.feel.syntaxtree.ParsedExpression;
+
+/**
+ * Bounded cache of parsed FEEL expressions, keyed by the (trimmed) expression text. Parsing is the
+ * most expensive part of evaluating the short input mappings, result and error expressions that
+ * connectors evaluate for every job, while the parsed form can be evaluated with any variables.
+ *
+ * <p>The cache is bounded by the total length of the cached expressions, so a few huge generated
+ * expressions cannot crowd out the heap. Expressions that fail to parse are not cached. This class
+ * is thread-safe.
+ */
+public class ParsedExpressionCache {
+
+  /** Default bound of the total number of characters of all cached expressions. */
+  public static final long DEFAULT_MAX_WEIGHT = 10_000_000;
+
+  private static final ParsedExpressionCache SHARED =
+      new ParsedExpressionCache(DEFAULT_MAX_WEIGHT);
+
+  private final Cache<String, ParsedExpression> cache;
+
+  public record Stats(
+      long estimatedSize, long hitCount, long missCount, double hitRate, long evictionCount) {}
+
+  public ParsedExpressionCache(long maxWeight) {
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxWeight)
+            .weigher((String expression, ParsedExpression parsed) -> expression.length())
+            .recordStats()
+            .build();
+  }
+
+  /** Returns the cache shared by all {@link LocalFeelExpressionEvaluator} instances by default. */
+  public static ParsedExpressionCache shared() {
+    return SHARED;
+  }
+
+  /**
+   * Returns the parsed form of the given expression, parsing it with the given parser on a cache
+   * miss.
+   *
+   * @param expression the trimmed expression text
+   * @param parser parses the expression, may throw if the expression is invalid
+   * @return the parsed expression
+   */
+  public ParsedExpression get(String expression, Function<String, ParsedExpression> parser) {
+    return cache.get(expression, parser);
+  }
+
+  /** Returns cache statistics useful for diagnostics and observability. */
+  public Stats getStats() {
+    var stats = cache.stats();
+    return new Stats(
+        cache.estimatedSize(),
+        stats.hitCount(),
+        stats.missCount(),
+        stats.hitRate(),
+        stats.evictionCount());
+  }
+
+  /** Removes all cached expressions. */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+}
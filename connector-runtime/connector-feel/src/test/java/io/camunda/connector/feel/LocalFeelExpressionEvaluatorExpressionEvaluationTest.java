@@ -689,4 +689,35 @@ class LocalFeelExpressionEvaluatorExpressionEvaluationTest {
     assertThatThrownBy(FeelConnectorFunctionProvider::currentCreateDocumentNonce)
         .isInstanceOf(IllegalStateException.class);
   }
+
+  @Test
+  void evaluate_ShouldReuseParsedExpression_WhenSameExpressionEvaluatedAgain() {
+    // given
+    var cache = new ParsedExpressionCache(ParsedExpressionCache.DEFAULT_MAX_WEIGHT);
+    var evaluator = new LocalFeelExpressionEvaluator(cache);
+
+    // when
+    Object first = evaluator.evaluate("= a + 1", Map.of("a", 1));
+    Object second = evaluator.evaluate("a + 1", Map.of("a", 41));
+
+    // then
+    assertThat(first).isEqualTo(2L);
+    assertThat(second).isEqualTo(42L);
+    assertThat(cache.getStats().missCount()).isEqualTo(1);
+    assertThat(cache.getStats().hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void evaluate_ShouldNotCacheExpression_WhenParsingFails() {
+    // given
+    var cache = new ParsedExpressionCache(ParsedExpressionCache.DEFAULT_MAX_WEIGHT);
+    var evaluator = new LocalFeelExpressionEvaluator(cache);
+
+    // when
+    assertThatThrownBy(() -> evaluator.evaluate("= {", Map.of()))
+        .isInstanceOf(FeelEngineWrapperException.class);
+
+    // then
+    assertThat(cache.getStats().estimatedSize()).isZero();
+  }
 }
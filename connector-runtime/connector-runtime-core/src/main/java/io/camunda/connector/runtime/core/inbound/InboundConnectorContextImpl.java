@@ -55,6 +55,8 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.jspecify.annotations.Nullable;
@@ -144,33 +146,66 @@ public class InboundConnectorContextImpl extends AbstractConnectorContext
     return this.correlateWithResultInternal(correlationRequest);
   }
 
+  @Override
+  public CompletableFuture<CorrelationResult> correlateAsync(
+      CorrelationRequest correlationRequest) {
+    try {
+      return correlationHandler
+          .correlateAsync(connectorDetails.connectorElements(), correlationRequest)
+          .thenApply(this::completeCorrelation)
+          .handle(
+              (result, error) ->
+                  error == null ? result : handleCorrelationException(unwrap(error)));
+    } catch (Exception exception) {
+      return CompletableFuture.completedFuture(handleCorrelationException(exception));
+    }
+  }
+
+  private static Exception unwrap(Throwable error) {
+    var cause =
+        error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    return cause instanceof Exception exception ? exception : new CompletionException(cause);
+  }
+
   private CorrelationResult correlateWithResultInternal(CorrelationRequest correlationRequest) {
     try {
-      var result =
-          correlationHandler.correlate(connectorDetails.connectorElements(), correlationRequest);
-      logCorrelationResult(result);
-      return attachElementBinder(result);
-    } catch (ConnectorInputException connectorInputException) {
-      return new CorrelationResult.Failure.InvalidInput(
-          connectorInputException.getMessage(), connectorInputException);
-    } catch (FeelEngineWrapperException feelEngineWrapperException) {
-      log(
-          activity ->
-              activity
-                  .withSeverity(Severity.ERROR)
-                  .withMessage("Failed to evaluate FEEL expression", feelEngineWrapperException));
-      return new CorrelationResult.Failure.Other(feelEngineWrapperException);
+      return completeCorrelation(
+          correlationHandler.correlate(connectorDetails.connectorElements(), correlationRequest));
     } catch (Exception exception) {
-      log(
-          activity ->
-              activity
-                  .withSeverity(Severity.ERROR)
-                  .withMessage("Failed to correlate inbound event", exception));
-      LOG.error("Failed to correlate inbound event", exception);
-      return new CorrelationResult.Failure.Other(exception);
+      return handleCorrelationException(exception);
     }
   }
 
+  private CorrelationResult completeCorrelation(CorrelationResult result) {
+    logCorrelationResult(result);
+    return attachElementBinder(result);
+  }
+
+  private CorrelationResult handleCorrelationException(Exception exception) {
+    return switch (exception) {
+      case ConnectorInputException connectorInputException ->
+          new CorrelationResult.Failure.InvalidInput(
+              connectorInputException.getMessage(), connectorInputException);
+      case FeelEngineWrapperException feelEngineWrapperException -> {
+        log(
+            activity ->
+                activity
+                    .withSeverity(Severity.ERROR)
+                    .withMessage("Failed to evaluate FEEL expression", feelEngineWrapperException));
+        yield new CorrelationResult.Failure.Other(feelEngineWrapperException);
+      }
+      default -> {
+        log(
+            activity ->
+                activity
+                    .withSeverity(Severity.ERROR)
+                    .withMessage("Failed to correlate inbound event", exception));
+        LOG.error("Failed to correlate inbound event", exception);
+        yield new CorrelationResult.Failure.Other(exception);
+      }
+    };
+  }
+
   /**
    * Wraps the activated element of a successful correlation in a {@link BindableProcessElement} so
    * callers can resolve element-scoped properties via {@link
@@ -29,6 +29,7 @@ import io.camunda.connector.runtime.core.inbound.correlation.MessageCorrelationP
 import io.camunda.connector.runtime.core.inbound.details.InboundConnectorDetails.ValidInboundConnectorDetails;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -96,6 +97,12 @@ public class InboundIntermediateConnectorContextImpl
     return inboundContext.correlate(correlationRequest);
   }
 
+  @Override
+  public CompletableFuture<CorrelationResult> correlateAsync(
+      CorrelationRequest correlationRequest) {
+    return inboundContext.correlateAsync(correlationRequest);
+  }
+
   @Override
   public ActivationCheckResult canActivate(Object variables) {
     return inboundContext.canActivate(variables);
@@ -16,19 +16,26 @@
  */
 package io.camunda.connector.runtime.core.inbound.activitylog;
 
-import com.google.common.collect.EvictingQueue;
 import io.camunda.connector.api.inbound.Activity;
 import io.camunda.connector.runtime.core.inbound.ExecutableId;
-import java.util.*;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
+/**
+ * Keeps the most recent {@code maxLogSize} activities per executable. Every executable has its own
+ * lock-free {@link ActivityLogRing}, so connectors logging concurrently do not contend with each
+ * other or with readers of the logs.
+ */
 public class ActivityLogRegistry implements ActivityLogWriter {
 
   private final Logger LOG = LoggerFactory.getLogger(ActivityLogRegistry.class);
 
-  private final Map<ExecutableId, EvictingQueue<Activity>> activityLogs = new HashMap<>();
+  private final Map<ExecutableId, ActivityLogRing> activityLogs = new ConcurrentHashMap<>();
 
   private final int maxLogSize;
 
@@ -41,17 +48,12 @@ public class ActivityLogRegistry implements ActivityLogWriter {
   }
 
   public Collection<Activity> getLogs(ExecutableId executableId) {
-    synchronized (activityLogs) {
-      return Optional.ofNullable(activityLogs.get(executableId))
-          .<Collection<Activity>>map(queue -> Collections.unmodifiableList(new ArrayList<>(queue)))
-          .orElse(Collections.emptyList());
-    }
+    var ring = activityLogs.get(executableId);
+    return ring != null ? ring.snapshot() : Collections.emptyList();
   }
 
   public void remove(ExecutableId executableId) {
-    synchronized (activityLogs) {
-      activityLogs.remove(executableId);
-    }
+    activityLogs.remove(executableId);
   }
 
   @Override
@@ -65,10 +67,12 @@ public class ActivityLogRegistry implements ActivityLogWriter {
       case ERROR, WARNING -> LOG.warn(message); // errors would be too noisy
     }
     MDC.clear();
-    synchronized (activityLogs) {
-      activityLogs
-          .computeIfAbsent(logEntry.executableId(), key -> EvictingQueue.create(maxLogSize))
-          .add(logEntry.activity());
+    var ring = activityLogs.get(logEntry.executableId());
+    if (ring == null) {
+      ring =
+          activityLogs.computeIfAbsent(
+              logEntry.executableId(), key -> new ActivityLogRing(maxLogSize));
     }
+    ring.add(logEntry.activity());
   }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.inbound.activitylog;
+
+import io.camunda.connector.api.inbound.Activity;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free ring of the most recent activities of one executable.
+ *
+ * <p>Writers claim a sequence number and store the activity in the slot it maps to, overwriting
+ * the oldest activity once the ring is full. A slot is only ever replaced by a newer sequence, so
+ * a delayed writer cannot overwrite an activity that is newer than its own. Readers take a
+ * snapshot of the sequence range that is currently retained and skip slots whose write is still in
+ * flight or that have already been overwritten by a newer activity, so a snapshot never blocks
+ * writers and never returns an activity twice.
+ */
+final class ActivityLogRing {
+
+  private final AtomicReferenceArray<Slot> slots;
+  private final AtomicLong nextSequence = new AtomicLong();
+
+  ActivityLogRing(int capacity) {
+    this.slots = new AtomicReferenceArray<>(capacity);
+  }
+
+  void add(Activity activity) {
+    int capacity = slots.length();
+    if (capacity == 0) {
+      return;
+    }
+    long sequence = nextSequence.getAndIncrement();
+    int index = index(sequence, capacity);
+    var slot = new Slot(sequence, activity);
+    Slot current;
+    do {
+      current = slots.get(index);
+      if (current != null && current.sequence() > sequence) {
+        // this writer was preempted and a newer activity already took the slot; keep the newer one
+        return;
+      }
+    } while (!slots.compareAndSet(index, current, slot));
+  }
+
+  /** Returns the retained activities, oldest first. */
+  List<Activity> snapshot() {
+    int capacity = slots.length();
+    long end = nextSequence.get();
+    long start = Math.max(0, end - capacity);
+    var activities = new ArrayList<Activity>((int) (end - start));
+    for (long sequence = start; sequence < end; sequence++) {
+      Slot slot = slots.get(index(sequence, capacity));
+      if (slot != null && slot.sequence() == sequence) {
+        activities.add(slot.activity());
+      }
+    }
+    return Collections.unmodifiableList(activities);
+  }
+
+  private static int index(long sequence, int capacity) {
+    return (int) (sequence % capacity);
+  }
+
+  private record Slot(long sequence, Activity activity) {}
+}
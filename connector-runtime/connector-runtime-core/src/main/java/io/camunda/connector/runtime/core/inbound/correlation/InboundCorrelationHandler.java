@@ -19,6 +19,7 @@ package io.camunda.connector.runtime.core.inbound.correlation;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.client.CamundaClient;
+import io.camunda.client.api.CamundaFuture;
 import io.camunda.client.api.command.ClientStatusException;
 import io.camunda.client.api.response.CorrelateMessageResponse;
 import io.camunda.client.api.response.ProcessInstanceEvent;
@@ -40,10 +41,15 @@ import io.camunda.connector.feel.LocalFeelExpressionEvaluator;
 import io.camunda.connector.runtime.core.ConnectorResultHandler;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorElement;
 import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -94,143 +100,199 @@ public class InboundCorrelationHandler {
 
   public CorrelationResult correlate(
       List<InboundConnectorElement> elements, CorrelationRequest correlationRequest) {
+    return correlate(elements, correlationRequest, true).join();
+  }
+
+  /**
+   * Non-blocking variant of {@link #correlate(List, CorrelationRequest)}. The activation condition,
+   * correlation key and result expression are evaluated on the calling thread, the command is then
+   * sent to the gateway without waiting for the response.
+   *
+   * <p>The returned future never completes exceptionally: failures reported by the gateway are
+   * mapped to a {@link CorrelationResult.Failure}, like in the blocking variant. Exceptions raised
+   * while preparing the command (e.g. a message ID expression that cannot be evaluated) are thrown
+   * directly.
+   */
+  public CompletableFuture<CorrelationResult> correlateAsync(
+      List<InboundConnectorElement> elements, CorrelationRequest correlationRequest) {
+    return correlate(elements, correlationRequest, false);
+  }
+
+  private CompletableFuture<CorrelationResult> correlate(
+      List<InboundConnectorElement> elements,
+      CorrelationRequest correlationRequest,
+      boolean blocking) {
 
     final ActivationCheckResult activationCheckResult;
     try {
       activationCheckResult = canActivate(elements, correlationRequest.getVariables());
     } catch (ConnectorInputException e) {
       LOG.info("Failed to evaluate activation condition", e);
-      return new CorrelationResult.Failure.InvalidInput(
-          "Failed to evaluate activation condition against the provided input", e);
+      return CompletableFuture.completedFuture(
+          new CorrelationResult.Failure.InvalidInput(
+              "Failed to evaluate activation condition against the provided input", e));
     }
 
     return switch (activationCheckResult) {
       case ActivationCheckResult.Failure.NoMatchingElement noMatchingElement ->
-          new ActivationConditionNotMet(noMatchingElement.discardUnmatchedEvents());
+          CompletableFuture.completedFuture(
+              new ActivationConditionNotMet(noMatchingElement.discardUnmatchedEvents()));
       case ActivationCheckResult.Failure.TooManyMatchingElements tooMany ->
-          new Failure.InvalidInput(
-              "Multiple connectors are activated for the same input: " + tooMany.reason(), null);
+          CompletableFuture.completedFuture(
+              new Failure.InvalidInput(
+                  "Multiple connectors are activated for the same input: " + tooMany.reason(),
+                  null));
       case ActivationCheckResult.Success.CanActivate canActivate ->
           correlateInternal(
               findMatchingElement(elements, canActivate.activatedElement()),
               correlationRequest.getVariables(),
-              correlationRequest.getMessageId());
+              correlationRequest.getMessageId(),
+              blocking);
     };
   }
 
-  protected CorrelationResult correlateInternal(
-      InboundConnectorElement activatedElement, Object variables, String messageId) {
+  private CompletableFuture<CorrelationResult> correlateInternal(
+      InboundConnectorElement activatedElement,
+      Object variables,
+      String messageId,
+      boolean blocking) {
     var correlationPoint = activatedElement.correlationPoint();
 
     return switch (correlationPoint) {
       case StartEventCorrelationPoint corPoint ->
-          triggerStartEvent(activatedElement, corPoint, variables);
+          triggerStartEvent(activatedElement, corPoint, variables, blocking);
       case MessageCorrelationPoint corPoint ->
           triggerMessage(
               activatedElement,
               corPoint,
               variables,
-              resolveMessageId(corPoint.messageIdExpression(), messageId, variables));
+              resolveMessageId(corPoint.messageIdExpression(), messageId, variables),
+              blocking);
       case MessageStartEventCorrelationPoint corPoint ->
           triggerMessageStartEvent(
               activatedElement,
               corPoint,
               variables,
-              resolveMessageId(corPoint.messageIdExpression(), messageId, variables));
+              resolveMessageId(corPoint.messageIdExpression(), messageId, variables),
+              blocking);
     };
   }
 
-  protected CorrelationResult triggerStartEvent(
+  private CompletableFuture<CorrelationResult> triggerStartEvent(
       InboundConnectorElement activatedElement,
       StartEventCorrelationPoint correlationPoint,
-      Object variables) {
+      Object variables,
+      boolean blocking) {
     Object extractedVariables = extractVariables(variables, activatedElement);
     try {
       checkVariablesSize(extractedVariables);
     } catch (ConnectorInputException e) {
-      return new CorrelationResult.Failure.InvalidInput(e.getMessage(), e);
+      return CompletableFuture.completedFuture(
+          new CorrelationResult.Failure.InvalidInput(e.getMessage(), e));
     }
     if (activatedElement.synchronousResponse()) {
-      return triggerStartEventWithResult(activatedElement, correlationPoint, extractedVariables);
+      return triggerStartEventWithResult(
+          activatedElement, correlationPoint, extractedVariables, blocking);
     } else {
-      return triggerStartEventWithoutResult(activatedElement, correlationPoint, extractedVariables);
+      return triggerStartEventWithoutResult(
+          activatedElement, correlationPoint, extractedVariables, blocking);
     }
   }
 
-  private CorrelationResult triggerStartEventWithoutResult(
+  private CompletableFuture<CorrelationResult> triggerStartEventWithoutResult(
       InboundConnectorElement activatedElement,
       StartEventCorrelationPoint correlationPoint,
-      Object extractedVariables) {
-    try {
-      ProcessInstanceEvent result =
-          camundaClient
-              .newCreateInstanceCommand()
-              .bpmnProcessId(correlationPoint.bpmnProcessId())
-              .version(correlationPoint.version())
-              .tenantId(activatedElement.tenantId())
-              .variables(extractedVariables)
-              .send()
-              .join();
-
-      LOG.info("Created a process instance with key {}", result.getProcessInstanceKey());
-      return new CorrelationResult.Success.ProcessInstanceCreated(
-          activatedElement.element(), result.getProcessInstanceKey(), result.getTenantId());
-
-    } catch (ClientStatusException e1) {
-      LOG.info("Failed to create process instance: ", e1);
-      return new CorrelationResult.Failure.ZeebeClientStatus(
-          e1.getStatus().getCode().name(), e1.getMessage());
-    } catch (Throwable e2) {
-      return new Other(e2);
-    }
+      Object extractedVariables,
+      boolean blocking) {
+    return send(
+            () ->
+                camundaClient
+                    .newCreateInstanceCommand()
+                    .bpmnProcessId(correlationPoint.bpmnProcessId())
+                    .version(correlationPoint.version())
+                    .tenantId(activatedElement.tenantId())
+                    .variables(extractedVariables)
+                    .send(),
+            blocking)
+        .handle(
+            (ProcessInstanceEvent result, Throwable error) -> {
+              if (error == null) {
+                LOG.info("Created a process instance with key {}", result.getProcessInstanceKey());
+                return new CorrelationResult.Success.ProcessInstanceCreated(
+                    activatedElement.element(),
+                    result.getProcessInstanceKey(),
+                    result.getTenantId());
+              }
+              var cause = unwrap(error);
+              return statusOf(cause)
+                  .<CorrelationResult>map(
+                      status -> {
+                        LOG.info("Failed to create process instance: ", cause);
+                        return new CorrelationResult.Failure.ZeebeClientStatus(
+                            status.getCode().name(), cause.getMessage());
+                      })
+                  .orElseGet(() -> new Other(cause));
+            });
   }
 
-  private CorrelationResult triggerStartEventWithResult(
+  private CompletableFuture<CorrelationResult> triggerStartEventWithResult(
       InboundConnectorElement activatedElement,
       StartEventCorrelationPoint correlationPoint,
-      Object extractedVariables) {
-    try {
-      ProcessInstanceResult result =
-          camundaClient
-              .newCreateInstanceCommand()
-              .bpmnProcessId(correlationPoint.bpmnProcessId())
-              .version(correlationPoint.version())
-              .tenantId(activatedElement.tenantId())
-              .variables(extractedVariables)
-              .withResult()
-              .send()
-              .join();
-
-      LOG.info(
-          "Created a process instance with key {} synchronously, received result variables",
-          result.getProcessInstanceKey());
-      return new CorrelationResult.Success.ProcessInstanceCreatedWithResult(
-          activatedElement.element(),
-          result.getProcessInstanceKey(),
-          result.getTenantId(),
-          result.getVariablesAsMap());
-
-    } catch (ClientStatusException e1) {
-      LOG.info("Failed to create process instance with result: ", e1);
-      return new CorrelationResult.Failure.ZeebeClientStatus(
-          e1.getStatus().getCode().name(), e1.getMessage());
-    } catch (Throwable e2) {
-      return new Other(e2);
-    }
+      Object extractedVariables,
+      boolean blocking) {
+    return send(
+            () ->
+                camundaClient
+                    .newCreateInstanceCommand()
+                    .bpmnProcessId(correlationPoint.bpmnProcessId())
+                    .version(correlationPoint.version())
+                    .tenantId(activatedElement.tenantId())
+                    .variables(extractedVariables)
+                    .withResult()
+                    .send(),
+            blocking)
+        .handle(
+            (ProcessInstanceResult result, Throwable error) -> {
+              if (error == null) {
+                LOG.info(
+                    "Created a process instance with key {} synchronously, "
+                        + "received result variables",
+                    result.getProcessInstanceKey());
+                return new CorrelationResult.Success.ProcessInstanceCreatedWithResult(
+                    activatedElement.element(),
+                    result.getProcessInstanceKey(),
+                    result.getTenantId(),
+                    result.getVariablesAsMap());
+              }
+              var cause = unwrap(error);
+              return statusOf(cause)
+                  .<CorrelationResult>map(
+                      status -> {
+                        LOG.info("Failed to create process instance with result: ", cause);
+                        return new CorrelationResult.Failure.ZeebeClientStatus(
+                            status.getCode().name(), cause.getMessage());
+                      })
+                  .orElseGet(() -> new Other(cause));
+            });
   }
 
-  protected CorrelationResult triggerMessageStartEvent(
+  private CompletableFuture<CorrelationResult> triggerMessageStartEvent(
       InboundConnectorElement activatedElement,
       MessageStartEventCorrelationPoint correlationPoint,
       Object variables,
-      String messageId) {
+      String messageId,
+      boolean blocking) {
 
     var correlationKey =
         extractCorrelationKey(correlationPoint.correlationKeyExpression(), variables);
 
     if (activatedElement.synchronousResponse()) {
       return correlateMessageSynchronously(
-          activatedElement, correlationPoint.messageName(), variables, correlationKey.orElse(""));
+          activatedElement,
+          correlationPoint.messageName(),
+          variables,
+          correlationKey.orElse(""),
+          blocking);
     }
 
     return publishMessage(
@@ -239,25 +301,33 @@ public class InboundCorrelationHandler {
         variables,
         messageId,
         correlationPoint.timeToLive(),
-        correlationKey.orElse(""));
+        correlationKey.orElse(""),
+        blocking);
   }
 
-  protected CorrelationResult triggerMessage(
+  private CompletableFuture<CorrelationResult> triggerMessage(
       InboundConnectorElement activatedElement,
       MessageCorrelationPoint correlationPoint,
       Object variables,
-      String messageId) {
+      String messageId,
+      boolean blocking) {
 
     var correlationKeyExpression = correlationPoint.correlationKeyExpression();
     var correlationKey = extractCorrelationKey(correlationKeyExpression, variables);
     if (correlationKey.isEmpty()) {
-      return new CorrelationResult.Failure.InvalidInput(
-          "Wasn't able to obtain correlation key for expression " + correlationKeyExpression, null);
+      return CompletableFuture.completedFuture(
+          new CorrelationResult.Failure.InvalidInput(
+              "Wasn't able to obtain correlation key for expression " + correlationKeyExpression,
+              null));
     }
 
     if (activatedElement.synchronousResponse()) {
       return correlateMessageSynchronously(
-          activatedElement, correlationPoint.messageName(), variables, correlationKey.get());
+          activatedElement,
+          correlationPoint.messageName(),
+          variables,
+          correlationKey.get(),
+          blocking);
     }
 
     return publishMessage(
@@ -266,100 +336,157 @@ public class InboundCorrelationHandler {
         variables,
         messageId,
         correlationPoint.timeToLive(),
-        correlationKey.get());
+        correlationKey.get(),
+        blocking);
   }
 
   /**
    * Correlates a message synchronously using {@code newCorrelateMessageCommand}, waiting for the
-   * message to be correlated before returning. Returns a {@link
+   * message to be correlated before the result is completed. Completes with a {@link
    * CorrelationResult.Success.MessageCorrelated} with the process instance key on success.
    */
-  private CorrelationResult correlateMessageSynchronously(
+  private CompletableFuture<CorrelationResult> correlateMessageSynchronously(
       InboundConnectorElement activatedElement,
       String messageName,
       Object variables,
-      String correlationKey) {
+      String correlationKey,
+      boolean blocking) {
     Object extractedVariables = extractVariables(variables, activatedElement);
     try {
       checkVariablesSize(extractedVariables);
     } catch (ConnectorInputException e) {
-      return new CorrelationResult.Failure.InvalidInput(e.getMessage(), e);
-    }
-    try {
-      var step2 = camundaClient.newCorrelateMessageCommand().messageName(messageName);
-      var step3 =
-          correlationKey.isBlank()
-              ? step2.withoutCorrelationKey()
-              : step2.correlationKey(correlationKey);
-      step3.variables(extractedVariables).tenantId(activatedElement.tenantId());
-      CorrelateMessageResponse response = step3.send().join();
-
-      LOG.info(
-          "Correlated message synchronously, process instance key: {}",
-          response.getProcessInstanceKey());
-      return new CorrelationResult.Success.MessageCorrelated(
-          activatedElement.element(),
-          response.getProcessInstanceKey(),
-          response.getMessageKey(),
-          response.getTenantId());
-
-    } catch (ClientStatusException ex) {
-      LOG.info("Failed to correlate message synchronously: {}", ex.getMessage());
-      return new CorrelationResult.Failure.ZeebeClientStatus(
-          ex.getStatus().getCode().name(), ex.getMessage());
-    } catch (Exception ex) {
-      return new Failure.Other(ex);
+      return CompletableFuture.completedFuture(
+          new CorrelationResult.Failure.InvalidInput(e.getMessage(), e));
     }
+    return send(
+            () -> {
+              var step2 = camundaClient.newCorrelateMessageCommand().messageName(messageName);
+              var step3 =
+                  correlationKey.isBlank()
+                      ? step2.withoutCorrelationKey()
+                      : step2.correlationKey(correlationKey);
+              step3.variables(extractedVariables).tenantId(activatedElement.tenantId());
+              return step3.send();
+            },
+            blocking)
+        .handle(
+            (CorrelateMessageResponse response, Throwable error) -> {
+              if (error == null) {
+                LOG.info(
+                    "Correlated message synchronously, process instance key: {}",
+                    response.getProcessInstanceKey());
+                return new CorrelationResult.Success.MessageCorrelated(
+                    activatedElement.element(),
+                    response.getProcessInstanceKey(),
+                    response.getMessageKey(),
+                    response.getTenantId());
+              }
+              var cause = unwrap(error);
+              return statusOf(cause)
+                  .<CorrelationResult>map(
+                      status -> {
+                        LOG.info(
+                            "Failed to correlate message synchronously: {}", cause.getMessage());
+                        return new CorrelationResult.Failure.ZeebeClientStatus(
+                            status.getCode().name(), cause.getMessage());
+                      })
+                  .orElseGet(() -> new Failure.Other(cause));
+            });
   }
 
-  private CorrelationResult publishMessage(
+  private CompletableFuture<CorrelationResult> publishMessage(
       InboundConnectorElement activatedElement,
       String messageName,
       Object variables,
       String messageId,
       Duration timeToLive,
-      String correlationKey) {
+      String correlationKey,
+      boolean blocking) {
     Object extractedVariables = extractVariables(variables, activatedElement);
     try {
       checkVariablesSize(extractedVariables);
     } catch (ConnectorInputException e) {
-      return new CorrelationResult.Failure.InvalidInput(e.getMessage(), e);
+      return CompletableFuture.completedFuture(
+          new CorrelationResult.Failure.InvalidInput(e.getMessage(), e));
     }
-    CorrelationResult result;
+    return send(
+            () -> {
+              var command =
+                  camundaClient
+                      .newPublishMessageCommand()
+                      .messageName(messageName)
+                      .correlationKey(correlationKey)
+                      .messageId(messageId)
+                      .tenantId(activatedElement.tenantId())
+                      .variables(extractedVariables);
+              if (timeToLive != null) {
+                command.timeToLive(timeToLive);
+              } else {
+                command.timeToLive(defaultMessageTtl);
+              }
+              return command.send();
+            },
+            blocking)
+        .handle(
+            (PublishMessageResponse response, Throwable error) -> {
+              if (error == null) {
+                LOG.info("Published message with key: {}", response.getMessageKey());
+                return new CorrelationResult.Success.MessagePublished(
+                    activatedElement.element(), response.getMessageKey(), response.getTenantId());
+              }
+              var cause = unwrap(error);
+              return statusOf(cause)
+                  .<CorrelationResult>map(
+                      status -> {
+                        if (Status.ALREADY_EXISTS.getCode().equals(status.getCode())) {
+                          LOG.debug("Message already correlated: {}", cause.getMessage());
+                          return new MessageAlreadyCorrelated(activatedElement.element());
+                        }
+                        LOG.info("Failed to publish message: {}", cause.getMessage());
+                        return new CorrelationResult.Failure.ZeebeClientStatus(
+                            status.getCode().name(), cause.getMessage());
+                      })
+                  .orElseGet(() -> new Failure.Other(cause));
+            });
+  }
+
+  /**
+   * Sends a command built by the given supplier. In blocking mode the calling thread waits for the
+   * response, which keeps the exception translation of {@link CamundaFuture#join()}. Failures
+   * while building or sending the command are returned as a failed future in both modes.
+   */
+  private static <T> CompletableFuture<T> send(
+      Supplier<CamundaFuture<T>> sender, boolean blocking) {
     try {
-      var command =
-          camundaClient
-              .newPublishMessageCommand()
-              .messageName(messageName)
-              .correlationKey(correlationKey)
-              .messageId(messageId)
-              .tenantId(activatedElement.tenantId())
-              .variables(extractedVariables);
-      if (timeToLive != null) {
-        command.timeToLive(timeToLive);
-      } else {
-        command.timeToLive(defaultMessageTtl);
-      }
-      PublishMessageResponse response = command.send().join();
-
-      LOG.info("Published message with key: {}", response.getMessageKey());
-      result =
-          new CorrelationResult.Success.MessagePublished(
-              activatedElement.element(), response.getMessageKey(), response.getTenantId());
-    } catch (ClientStatusException ex) {
-      if (Status.ALREADY_EXISTS.getCode().equals(ex.getStatus().getCode())) {
-        result = new MessageAlreadyCorrelated(activatedElement.element());
-        LOG.debug("Message already correlated: {}", ex.getMessage());
-      } else {
-        LOG.info("Failed to publish message: {}", ex.getMessage());
-        result =
-            new CorrelationResult.Failure.ZeebeClientStatus(
-                ex.getStatus().getCode().name(), ex.getMessage());
-      }
-    } catch (Exception ex) {
-      result = new Failure.Other(ex);
+      var future = sender.get();
+      return blocking
+          ? CompletableFuture.completedFuture(future.join())
+          : future.toCompletableFuture();
+    } catch (Throwable e) {
+      return CompletableFuture.failedFuture(e);
     }
-    return result;
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    var cause = error;
+    while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+        && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause;
+  }
+
+  /**
+   * Returns the gRPC status of a gateway failure. Asynchronous responses fail with the raw {@link
+   * StatusRuntimeException}, whereas {@link CamundaFuture#join()} translates it to a {@link
+   * ClientStatusException}.
+   */
+  private static Optional<Status> statusOf(Throwable error) {
+    return switch (error) {
+      case ClientStatusException e -> Optional.of(e.getStatus());
+      case StatusRuntimeException e -> Optional.of(e.getStatus());
+      default -> Optional.empty();
+    };
   }
 
   private InboundConnectorElement findMatchingElement(
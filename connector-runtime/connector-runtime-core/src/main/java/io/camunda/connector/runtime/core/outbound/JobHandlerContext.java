@@ -17,11 +17,14 @@
 package io.camunda.connector.runtime.core.outbound;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.*;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.camunda.client.api.response.ActivatedJob;
 import io.camunda.connector.api.document.Document;
 import io.camunda.connector.api.document.DocumentCreationRequest;
@@ -37,6 +40,7 @@ import io.camunda.connector.api.secret.SecretProvider;
 import io.camunda.connector.api.validation.ValidationProvider;
 import io.camunda.connector.runtime.core.AbstractConnectorContext;
 import io.camunda.connector.runtime.core.secret.SecretFilter;
+import java.io.IOException;
 import java.util.Objects;
 import java.util.Optional;
 import org.jspecify.annotations.Nullable;
@@ -90,20 +94,41 @@ public class JobHandlerContext extends AbstractConnectorContext
 
   private String getJsonReplacedWithSecrets() {
     if (jsonWithSecrets == null) {
-      jsonWithSecrets =
-          getSecretHandler()
-              .replaceSecrets(
-                  job.getVariables(),
-                  new SecretContext(
-                      job.getTenantId(), job.getBpmnProcessId(), job.getPhysicalTenantId()));
+      jsonWithSecrets = getSecretHandler().replaceSecrets(job.getVariables(), getSecretContext());
     }
     return jsonWithSecrets;
   }
 
+  /**
+   * Streams the job variables through the secret replacement into a token buffer the variables
+   * are bound from, so large payloads are neither copied per secret nor re-serialized.
+   */
+  private JsonParser parseJsonReplacedWithSecrets() throws IOException {
+    if (jsonWithSecrets != null) {
+      return objectMapper.createParser(jsonWithSecrets);
+    }
+
+    final var buffer =
+        new TokenBuffer(objectMapper, false)
+            .forceUseOfBigDecimal(
+                objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS));
+    try (var parser = objectMapper.createParser(job.getVariables())) {
+      getSecretHandler().replaceSecrets(parser, buffer, getSecretContext());
+    } catch (JsonParseException e) {
+      // placeholders may also be used outside of JSON strings (e.g. {"port": {{secrets.PORT}}}),
+      // which only results in valid JSON after replacing them in the raw variables
+      return objectMapper.createParser(getJsonReplacedWithSecrets());
+    }
+    return buffer.asParser(objectMapper);
+  }
+
+  private SecretContext getSecretContext() {
+    return new SecretContext(job.getTenantId(), job.getBpmnProcessId(), job.getPhysicalTenantId());
+  }
+
   private <T> T mapJson(Class<T> cls) {
-    var jsonWithSecrets = getJsonReplacedWithSecrets();
-    try {
-      return objectMapper.readValue(jsonWithSecrets, cls);
+    try (var parser = parseJsonReplacedWithSecrets()) {
+      return objectMapper.readValue(parser, cls);
     } catch (JsonParseException e) {
       throw new ConnectorInputException("This is not a JSON object", e);
     } catch (InvalidFormatException
@@ -127,6 +152,8 @@ public class JobHandlerContext extends AbstractConnectorContext
       throw new ConnectorInputException(errorMessage, e);
     } catch (JsonProcessingException e) {
       throw new ConnectorInputException(e.getOriginalMessage(), e);
+    } catch (IOException e) {
+      throw new ConnectorInputException(e.getMessage(), e);
     }
   }
 
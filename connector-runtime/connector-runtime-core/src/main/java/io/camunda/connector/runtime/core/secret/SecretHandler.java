@@ -16,9 +16,12 @@
  */
 package io.camunda.connector.runtime.core.secret;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import io.camunda.connector.api.error.ConnectorInputException;
 import io.camunda.connector.api.secret.SecretContext;
 import io.camunda.connector.api.secret.SecretProvider;
+import java.io.IOException;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,4 +53,13 @@ public class SecretHandler {
   public String replaceSecrets(String input, SecretContext context) {
     return SecretUtil.replaceSecrets(input, context, secretReplacer);
   }
+
+  /**
+   * Copies the JSON read by the parser to the generator, replacing secret placeholders inside
+   * string values on the fly.
+   */
+  public void replaceSecrets(JsonParser parser, JsonGenerator generator, SecretContext context)
+      throws IOException {
+    SecretUtil.replaceSecrets(parser, generator, context, secretReplacer);
+  }
 }
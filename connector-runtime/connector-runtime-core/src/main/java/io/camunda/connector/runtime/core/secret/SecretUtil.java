@@ -16,11 +16,16 @@
  */
 package io.camunda.connector.runtime.core.secret;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.io.JsonStringEncoder;
 import io.camunda.connector.api.secret.SecretContext;
+import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -31,61 +36,101 @@ public class SecretUtil {
 
   private static final JsonStringEncoder encoder = JsonStringEncoder.getInstance();
 
+  private static final String SECRETS_PREFIX = "secrets.";
+
   private static final Pattern SECRET_PATTERN_SECRETS =
       Pattern.compile("secrets\\.(?<secret>([a-zA-Z0-9]+[\\/._-])*[a-zA-Z0-9]+)");
 
   private static final Pattern SECRET_PATTERN_PARENTHESES =
       Pattern.compile("\\{\\{\\s*secrets\\.(?<secret>\\S+?\\s*)}}");
 
+  /**
+   * Both placeholder notations in a single pattern. The parentheses alternative comes first, so
+   * {@code {{secrets.NAME}}} is matched as a whole before the plain {@code secrets.NAME} notation.
+   */
+  private static final Pattern SECRET_PATTERN =
+      Pattern.compile(
+          "\\{\\{\\s*secrets\\.(?<parenthesesSecret>\\S+?\\s*)}}"
+              + "|secrets\\.(?<secret>([a-zA-Z0-9]+[\\/._-])*[a-zA-Z0-9]+)");
+
+  /**
+   * Replaces secret placeholders in a raw (JSON) string in a single pass. Replacement values are
+   * JSON-escaped, as they are expected to end up inside a JSON string.
+   */
   public static String replaceSecrets(
       String input, SecretContext context, SecretReplacer secretReplacer) {
     if (input == null) {
       throw new IllegalStateException("input cant be null.");
     }
-    input = replaceSecretsWithParentheses(input, context, secretReplacer);
-    input = replaceSecretsWithoutParentheses(input, context, secretReplacer);
-    return input;
+    return replaceSecrets(
+        input, context, secretReplacer, value -> new String(encoder.quoteAsString(value)));
   }
 
-  private static String replaceSecretsWithParentheses(
-      String input, SecretContext context, SecretReplacer secretReplacer) {
-    var secretVariableNameWithParenthesesMatcher = SECRET_PATTERN_PARENTHESES.matcher(input);
-    while (secretVariableNameWithParenthesesMatcher.find()) {
-      input =
-          replaceTokens(
-              input,
-              SECRET_PATTERN_PARENTHESES,
-              matcher -> resolveSecretValue(context, secretReplacer, matcher));
+  /**
+   * Copies the JSON token stream of the given parser to the given generator in a single pass,
+   * replacing secret placeholders inside strings only. In contrast to {@link
+   * #replaceSecrets(String, SecretContext, SecretReplacer)}, replacement values are written as-is,
+   * as the generator takes care of encoding them.
+   */
+  public static void replaceSecrets(
+      JsonParser parser,
+      JsonGenerator generator,
+      SecretContext context,
+      SecretReplacer secretReplacer)
+      throws IOException {
+    final UnaryOperator<String> valueEncoder = UnaryOperator.identity();
+    JsonToken token;
+    while ((token = parser.nextToken()) != null) {
+      switch (token) {
+        case FIELD_NAME ->
+            generator.writeFieldName(
+                replaceSecrets(parser.currentName(), context, secretReplacer, valueEncoder));
+        case VALUE_STRING ->
+            generator.writeString(
+                replaceSecrets(parser.getText(), context, secretReplacer, valueEncoder));
+        default -> generator.copyCurrentEvent(parser);
+      }
     }
-    return input;
+    generator.flush();
   }
 
-  private static String replaceSecretsWithoutParentheses(
-      String input, SecretContext context, SecretReplacer secretReplacer) {
-    var secretVariableNameWithParenthesesMatcher = SECRET_PATTERN_SECRETS.matcher(input);
-    while (secretVariableNameWithParenthesesMatcher.find()) {
-      input =
-          replaceTokens(
-              input,
-              SECRET_PATTERN_SECRETS,
-              matcher -> resolveSecretValue(context, secretReplacer, matcher));
+  private static String replaceSecrets(
+      String input,
+      SecretContext context,
+      SecretReplacer secretReplacer,
+      UnaryOperator<String> valueEncoder) {
+    if (!input.contains(SECRETS_PREFIX)) {
+      return input;
+    }
+
+    final var matcher = SECRET_PATTERN.matcher(input);
+    if (!matcher.find()) {
+      return input;
     }
-    return input;
+
+    final var output = new StringBuilder(input.length());
+    int lastIndex = 0;
+    do {
+      output.append(input, lastIndex, matcher.start());
+      final var value = resolveSecretValue(context, secretReplacer, matcher);
+      output.append(value != null ? valueEncoder.apply(value) : matcher.group());
+      lastIndex = matcher.end();
+    } while (matcher.find());
+    output.append(input, lastIndex, input.length());
+
+    return output.toString();
   }
 
   private static @Nullable String resolveSecretValue(
       SecretContext context, SecretReplacer secretReplacer, Matcher matcher) {
-    var secretName = matcher.group("secret").trim();
-    if (!secretName.isBlank()) {
-      var result = secretReplacer.replaceSecrets(secretName, context);
-      if (result != null) {
-        return new String(encoder.quoteAsString(result));
-      } else {
-        return matcher.group();
-      }
-    } else {
+    var secretName =
+        Objects.requireNonNullElseGet(
+                matcher.group("parenthesesSecret"), () -> matcher.group("secret"))
+            .trim();
+    if (secretName.isBlank()) {
       return null;
     }
+    return secretReplacer.replaceSecrets(secretName, context);
   }
 
   public static String replaceTokens(
@@ -22,9 +22,11 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.connector.api.secret.SecretContext;
 import io.camunda.connector.runtime.core.secret.SecretReplacer;
 import io.camunda.connector.runtime.core.secret.SecretUtil;
+import java.io.StringWriter;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
@@ -96,4 +98,29 @@ public class SecretUtilTests {
     String replacedContent = SecretUtil.replaceSecrets(content, secretContext, secretReplacer);
     assertThat(replacedContent).isEqualTo("Hello VALUE1 and VALUE2 and {{secrets.KEY3}}");
   }
+
+  @Test
+  void shouldNotReplacePlaceholdersInsideSecretValues() {
+    SecretReplacer secretReplacer =
+        (name, context) -> name.equals("KEY1") ? "secrets.KEY3" : secrets.get(name);
+    String replacedContent =
+        SecretUtil.replaceSecrets("{{secrets.KEY1}} secrets.KEY2", null, secretReplacer);
+    assertThat(replacedContent).isEqualTo("secrets.KEY3 VALUE2");
+  }
+
+  @Test
+  void shouldReplaceSecretsInJsonStringsWhileStreaming() throws Exception {
+    SecretReplacer secretReplacer = (name, context) -> "say \"hi\"";
+    String input = "{\"greeting\": \"{{secrets.KEY1}}\", \"list\": [1, 1.5, true, \"secrets.KEY1\"]}";
+
+    var objectMapper = new ObjectMapper();
+    var output = new StringWriter();
+    try (var parser = objectMapper.createParser(input);
+        var generator = objectMapper.createGenerator(output)) {
+      SecretUtil.replaceSecrets(parser, generator, null, secretReplacer);
+    }
+
+    assertThat(output.toString())
+        .isEqualTo("{\"greeting\":\"say \\\"hi\\\"\",\"list\":[1,1.5,true,\"say \\\"hi\\\"\"]}");
+  }
 }
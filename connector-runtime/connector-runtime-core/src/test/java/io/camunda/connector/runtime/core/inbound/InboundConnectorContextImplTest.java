@@ -52,6 +52,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
@@ -200,6 +201,33 @@ class InboundConnectorContextImplTest {
     assertThat(bound.getStringMap()).containsEntry("from", "activated-element");
   }
 
+  @Test
+  void correlateAsync_mapsFailedCorrelationToFailureResult() {
+    var definition = getInboundConnectorDefinition(Map.of());
+    var correlationHandler = mock(InboundCorrelationHandler.class);
+    var failure = new IllegalStateException("Gateway unavailable");
+    when(correlationHandler.correlateAsync(any(), any()))
+        .thenReturn(CompletableFuture.failedFuture(failure));
+    var context =
+        new InboundConnectorContextImpl(
+            secretProvider,
+            (e) -> {},
+            definition,
+            correlationHandler,
+            (e) -> {},
+            mapper,
+            activityLogRegistry,
+            camundaClient);
+
+    var result =
+        context.correlateAsync(CorrelationRequest.builder().variables(Map.of()).build()).join();
+
+    assertThat(result)
+        .isInstanceOfSatisfying(
+            CorrelationResult.Failure.Other.class,
+            other -> assertThat(other.error()).isSameAs(failure));
+  }
+
   @Test
   void create_stampsTheElementsPhysicalTenantIdWhenRequestHasNone() {
     var element =
@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.inbound.activitylog;
+
+import io.camunda.connector.api.inbound.Activity;
+import io.camunda.connector.api.inbound.ActivityLogTag;
+import io.camunda.connector.api.inbound.Severity;
+import io.camunda.connector.runtime.core.inbound.ExecutableId;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures activity log throughput with many connector threads logging concurrently while the
+ * REST endpoints read the logs.
+ *
+ * <p>Not run as part of the test suite. Run {@link #main(String[])} from the IDE or the test
+ * classpath to execute it.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActivityLogRegistryBenchmark {
+
+  /** Number of executables the writers spread their activities over. */
+  @Param({"1", "64"})
+  public int executableCount;
+
+  private final ActivityLogRegistry registry = new ActivityLogRegistry();
+  private ExecutableId[] executableIds;
+  private Activity activity;
+
+  @Setup
+  public void setUp() {
+    executableIds = new ExecutableId[executableCount];
+    for (int i = 0; i < executableCount; i++) {
+      executableIds[i] = ExecutableId.fromDeduplicationId("connector-" + i);
+    }
+    activity =
+        Activity.newBuilder()
+            .withSeverity(Severity.DEBUG)
+            .withTag(ActivityLogTag.MESSAGE)
+            .withMessage("Message received")
+            .build();
+  }
+
+  @Benchmark
+  @Group("logAndRead")
+  @GroupThreads(8)
+  public void log() {
+    registry.log(new ActivityLogEntry(randomExecutable(), ActivitySource.CONNECTOR, activity));
+  }
+
+  @Benchmark
+  @Group("logAndRead")
+  @GroupThreads(1)
+  public Collection<Activity> getLogs() {
+    return registry.getLogs(randomExecutable());
+  }
+
+  private ExecutableId randomExecutable() {
+    return executableIds[ThreadLocalRandom.current().nextInt(executableIds.length)];
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(ActivityLogRegistryBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+}
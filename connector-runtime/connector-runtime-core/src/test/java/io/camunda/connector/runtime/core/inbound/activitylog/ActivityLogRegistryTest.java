@@ -23,6 +23,8 @@ import io.camunda.connector.api.inbound.Activity;
 import io.camunda.connector.api.inbound.ActivityLogTag;
 import io.camunda.connector.api.inbound.Severity;
 import io.camunda.connector.runtime.core.inbound.ExecutableId;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.Test;
 
 class ActivityLogRegistryTest {
@@ -70,4 +72,40 @@ class ActivityLogRegistryTest {
     assertThatCode(() -> registry.remove(id)).doesNotThrowAnyException();
     assertThat(registry.getLogs(id)).isEmpty();
   }
+
+  @Test
+  void log_keepsMostRecentActivitiesInOrder() {
+    var registry = new ActivityLogRegistry(3);
+    var id = ExecutableId.fromDeduplicationId("someConnector");
+    for (int i = 0; i < 5; i++) {
+      registry.log(entry(id, "message-" + i));
+    }
+
+    assertThat(registry.getLogs(id))
+        .extracting(Activity::message)
+        .containsExactly("message-2", "message-3", "message-4");
+  }
+
+  @Test
+  void log_concurrentWriters_retainMaxLogSizeActivities() throws Exception {
+    var registry = new ActivityLogRegistry(50);
+    var id = ExecutableId.fromDeduplicationId("someConnector");
+    try (var executor = Executors.newFixedThreadPool(4)) {
+      var start = new CountDownLatch(1);
+      for (int thread = 0; thread < 4; thread++) {
+        int writer = thread;
+        executor.submit(
+            () -> {
+              start.await();
+              for (int i = 0; i < 1_000; i++) {
+                registry.log(entry(id, writer + "-" + i));
+              }
+              return null;
+            });
+      }
+      start.countDown();
+    }
+
+    assertThat(registry.getLogs(id)).hasSize(50).doesNotHaveDuplicates();
+  }
 }
@@ -22,6 +22,7 @@ import static org.mockito.Mockito.*;
 
 import io.camunda.client.CamundaClient;
 import io.camunda.client.api.command.ClientStatusException;
+import io.camunda.client.impl.CamundaClientFutureImpl;
 import io.camunda.connector.api.document.Document;
 import io.camunda.connector.api.inbound.CorrelationFailureHandlingStrategy;
 import io.camunda.connector.api.inbound.CorrelationRequest;
@@ -38,6 +39,7 @@ import io.camunda.connector.runtime.core.testutil.command.CorrelateMessageComman
 import io.camunda.connector.runtime.core.testutil.command.CreateCommandDummy;
 import io.camunda.connector.runtime.core.testutil.command.PublishMessageCommandDummy;
 import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Base64;
@@ -956,4 +958,80 @@ public class InboundCorrelationHandlerTest {
       assertThat(result).isInstanceOf(Success.MessagePublished.class);
     }
   }
+
+  @Nested
+  class AsyncCorrelation {
+
+    private InboundConnectorElement messageElement() {
+      var point = new StandaloneMessageCorrelationPoint("msg1", "=correlationKey", null, null);
+      var element = mock(InboundConnectorElement.class);
+      when(element.correlationPoint()).thenReturn(point);
+      when(element.element())
+          .thenReturn(new ProcessElementWithRuntimeData("process1", 0, 0, "element", "default"));
+      return element;
+    }
+
+    @Test
+    void message_shouldCompleteWithPublishedMessage() {
+      // given
+      var element = messageElement();
+      var dummyCommand = Mockito.spy(new PublishMessageCommandDummy());
+      when(camundaClient.newPublishMessageCommand()).thenReturn(dummyCommand);
+
+      // when
+      var result =
+          handler.correlateAsync(
+              List.of(element),
+              CorrelationRequest.builder().variables(Map.of("correlationKey", "myKey")).build());
+
+      // then
+      assertThat(result).isCompleted();
+      assertThat(result.join()).isInstanceOf(Success.MessagePublished.class);
+      verify(dummyCommand).correlationKey("myKey");
+      verify(dummyCommand).send();
+    }
+
+    @Test
+    void message_gatewayFailure_shouldCompleteWithZeebeClientStatus() {
+      // given
+      var element = messageElement();
+      CamundaClientFutureImpl future = new CamundaClientFutureImpl<>();
+      var dummyCommand = Mockito.spy(new PublishMessageCommandDummy());
+      doReturn(future).when(dummyCommand).send();
+      when(camundaClient.newPublishMessageCommand()).thenReturn(dummyCommand);
+
+      // when
+      var result =
+          handler.correlateAsync(
+              List.of(element),
+              CorrelationRequest.builder().variables(Map.of("correlationKey", "myKey")).build());
+
+      // then
+      assertThat(result).isNotDone();
+      future.completeExceptionally(new StatusRuntimeException(Status.UNAVAILABLE));
+      var error = result.join();
+      assertThat(error).isInstanceOf(Failure.ZeebeClientStatus.class);
+      assertThat(((Failure.ZeebeClientStatus) error).status()).isEqualTo("UNAVAILABLE");
+    }
+
+    @Test
+    void message_alreadyExists_shouldCompleteWithMessageAlreadyCorrelated() {
+      // given
+      var element = messageElement();
+      CamundaClientFutureImpl future = new CamundaClientFutureImpl<>();
+      future.completeExceptionally(new StatusRuntimeException(Status.ALREADY_EXISTS));
+      var dummyCommand = Mockito.spy(new PublishMessageCommandDummy());
+      doReturn(future).when(dummyCommand).send();
+      when(camundaClient.newPublishMessageCommand()).thenReturn(dummyCommand);
+
+      // when
+      var result =
+          handler.correlateAsync(
+              List.of(element),
+              CorrelationRequest.builder().variables(Map.of("correlationKey", "myKey")).build());
+
+      // then
+      assertThat(result.join()).isInstanceOf(Success.MessageAlreadyCorrelated.class);
+    }
+  }
 }
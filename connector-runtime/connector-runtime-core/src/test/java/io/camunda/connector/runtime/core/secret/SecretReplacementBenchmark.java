@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.core.secret;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares binding job variables after replacing secrets in the raw JSON string with binding them
+ * from the token stream the secrets were replaced in.
+ *
+ * <p>Not run as part of the test suite. Run {@link #main(String[])} from the IDE or the test
+ * classpath to execute it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecretReplacementBenchmark {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final SecretReplacer secretReplacer = (name, context) -> "value-of-" + name;
+
+  /** Approximate size of the job variables in kilobytes. */
+  @Param({"4", "64", "1024"})
+  public int payloadSizeKb;
+
+  /** Number of secret placeholders in the job variables. */
+  @Param({"1", "20"})
+  public int secretCount;
+
+  private String variables;
+
+  @Setup
+  public void setUp() {
+    variables = createVariables(payloadSizeKb * 1024, secretCount);
+  }
+
+  @Benchmark
+  public JsonNode replaceInString() throws IOException {
+    final var json = SecretUtil.replaceSecrets(variables, null, secretReplacer);
+    return objectMapper.readValue(json, JsonNode.class);
+  }
+
+  @Benchmark
+  public JsonNode replaceInTokenStream() throws IOException {
+    final var buffer =
+        new TokenBuffer(objectMapper, false)
+            .forceUseOfBigDecimal(
+                objectMapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS));
+    try (var parser = objectMapper.createParser(variables)) {
+      SecretUtil.replaceSecrets(parser, buffer, null, secretReplacer);
+    }
+    try (var parser = buffer.asParser(objectMapper)) {
+      return objectMapper.readValue(parser, JsonNode.class);
+    }
+  }
+
+  /**
+   * Creates an outbound connector like payload: a few configuration fields holding the secrets and
+   * a large request body made up of records with strings and numbers.
+   */
+  private static String createVariables(int size, int secretCount) {
+    final var json = new StringBuilder(size + 1024);
+    json.append("{\"authentication\":{");
+    for (int i = 0; i < secretCount; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("\"token%d\":\"Bearer {{secrets.TOKEN_%d}}\"".formatted(i, i));
+    }
+    json.append("},\"url\":\"https://example.com/api\",\"body\":{\"items\":[");
+    for (int i = 0; json.length() < size; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append(
+          "{\"id\":%d,\"name\":\"item-%d\",\"description\":\"Lorem ipsum dolor sit amet\",\"price\":%d.99}"
+              .formatted(i, i, i % 100));
+    }
+    json.append("]}}");
+    return json.toString();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder().include(SecretReplacementBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
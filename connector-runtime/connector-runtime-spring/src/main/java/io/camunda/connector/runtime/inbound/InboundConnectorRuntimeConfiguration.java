@@ -165,9 +165,15 @@ public class InboundConnectorRuntimeConfiguration {
   public InboundExecutableRegistry inboundExecutableRegistry(
       InboundConnectorFactory inboundConnectorFactory,
       BatchExecutableProcessor batchExecutableProcessor,
-      ActivityLogRegistry activityLogRegistry) {
+      ActivityLogRegistry activityLogRegistry,
+      ConnectorsInboundMetrics connectorsInboundMetrics,
+      @Value("${camunda.connector.inbound.registry.event-threads:4}") int eventThreads) {
     return new InboundExecutableRegistryImpl(
-        inboundConnectorFactory, batchExecutableProcessor, activityLogRegistry);
+        inboundConnectorFactory,
+        batchExecutableProcessor,
+        activityLogRegistry,
+        connectorsInboundMetrics,
+        eventThreads);
   }
 
   @Bean
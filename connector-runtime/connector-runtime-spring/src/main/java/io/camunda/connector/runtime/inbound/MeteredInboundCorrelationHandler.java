@@ -26,6 +26,7 @@ import io.camunda.connector.runtime.core.inbound.correlation.InboundCorrelationH
 import io.camunda.connector.runtime.metrics.ConnectorsInboundMetrics;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class MeteredInboundCorrelationHandler extends InboundCorrelationHandler {
 
@@ -58,25 +59,51 @@ public class MeteredInboundCorrelationHandler extends InboundCorrelationHandler
   @Override
   public CorrelationResult correlate(
       List<InboundConnectorElement> elementList, CorrelationRequest correlationRequest) {
-    if (elementList.isEmpty()) {
-      throw new IllegalArgumentException("No elements to correlate, potential API misuse");
-    }
-    this.connectorsInboundMetrics.increaseTrigger(elementList.getFirst());
+    var element = firstElement(elementList);
+    this.connectorsInboundMetrics.increaseTrigger(element);
     try {
       var result = super.correlate(elementList, correlationRequest);
-      switch (result) {
-        case CorrelationResult.Success ignored ->
-            this.connectorsInboundMetrics.increaseCorrelationSuccess(elementList.getFirst());
-        case CorrelationResult.Failure.ActivationConditionNotMet ignored ->
-            this.connectorsInboundMetrics.increaseActivationConditionFailure(
-                elementList.getFirst());
-        case CorrelationResult.Failure ignored ->
-            this.connectorsInboundMetrics.increaseCorrelationFailure(elementList.getFirst());
-      }
+      recordResult(element, result);
       return result;
     } catch (Exception e) {
-      this.connectorsInboundMetrics.increaseCorrelationFailure(elementList.getFirst());
+      this.connectorsInboundMetrics.increaseCorrelationFailure(element);
       throw e;
     }
   }
+
+  @Override
+  public CompletableFuture<CorrelationResult> correlateAsync(
+      List<InboundConnectorElement> elementList, CorrelationRequest correlationRequest) {
+    var element = firstElement(elementList);
+    this.connectorsInboundMetrics.increaseTrigger(element);
+    try {
+      return super.correlateAsync(elementList, correlationRequest)
+          .thenApply(
+              result -> {
+                recordResult(element, result);
+                return result;
+              });
+    } catch (Exception e) {
+      this.connectorsInboundMetrics.increaseCorrelationFailure(element);
+      throw e;
+    }
+  }
+
+  private static InboundConnectorElement firstElement(List<InboundConnectorElement> elementList) {
+    if (elementList.isEmpty()) {
+      throw new IllegalArgumentException("No elements to correlate, potential API misuse");
+    }
+    return elementList.getFirst();
+  }
+
+  private void recordResult(InboundConnectorElement element, CorrelationResult result) {
+    switch (result) {
+      case CorrelationResult.Success ignored ->
+          this.connectorsInboundMetrics.increaseCorrelationSuccess(element);
+      case CorrelationResult.Failure.ActivationConditionNotMet ignored ->
+          this.connectorsInboundMetrics.increaseActivationConditionFailure(element);
+      case CorrelationResult.Failure ignored ->
+          this.connectorsInboundMetrics.increaseCorrelationFailure(element);
+    }
+  }
 }
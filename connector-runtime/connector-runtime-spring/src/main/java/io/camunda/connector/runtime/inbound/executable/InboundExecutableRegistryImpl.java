@@ -31,10 +31,17 @@ import io.camunda.connector.runtime.inbound.executable.InboundExecutableStateTra
 import io.camunda.connector.runtime.inbound.executable.RegisteredExecutable.Activated;
 import io.camunda.connector.runtime.inbound.executable.RegisteredExecutable.Cancelled;
 import io.camunda.connector.runtime.inbound.executable.RegisteredExecutable.FailedToActivate;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics;
+import io.camunda.connector.runtime.metrics.ConnectorsInboundMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,18 +49,31 @@ import org.springframework.scheduling.annotation.Scheduled;
 
 /**
  * Registry for inbound executables. Orchestrates event handling, state transitions, and queries.
+ *
+ * <p>Published events are handled as soon as they arrive on a small thread pool. Events of the same
+ * process are handled one after another in publishing order, while events of different processes
+ * are handled in parallel.
  */
 public class InboundExecutableRegistryImpl implements InboundExecutableRegistry {
 
   private static final Logger LOG = LoggerFactory.getLogger(InboundExecutableRegistryImpl.class);
 
+  public static final int DEFAULT_EVENT_THREADS = 4;
+
   private final InboundExecutableStateStore stateStore;
   private final InboundExecutableStateTransitionService stateTransitionService;
   private final InboundExecutableQueryService queryService;
   private final BatchExecutableProcessor batchExecutableProcessor;
   private final ActivityLogRegistry activityLogRegistry;
-
-  private final BlockingQueue<InboundExecutableEvent> eventQueue = new LinkedBlockingQueue<>();
+  private final ConnectorsInboundMetrics inboundMetrics;
+
+  // Platform threads, as state transitions hold the process locks (synchronized) while activating
+  // connectors, which would pin the carrier threads of virtual threads.
+  private final ExecutorService eventExecutor;
+  // Tail of the events of each process, new events are chained to it so that the events of one
+  // process are handled in order. Entries are removed once their last event has been handled.
+  private final ConcurrentHashMap<String, CompletableFuture<Void>> eventChains =
+      new ConcurrentHashMap<>();
   // Per-(tenantId,bpmnProcessId) lock objects to serialize state transitions within this registry
   // instance.
   // Intentionally never evicted to avoid handing out different locks for the same key under race;
@@ -64,6 +84,20 @@ public class InboundExecutableRegistryImpl implements InboundExecutableRegistry
       InboundConnectorFactory connectorFactory,
       BatchExecutableProcessor batchExecutableProcessor,
       ActivityLogRegistry activityLogRegistry) {
+    this(
+        connectorFactory,
+        batchExecutableProcessor,
+        activityLogRegistry,
+        new ConnectorsInboundMetrics(new SimpleMeterRegistry()),
+        DEFAULT_EVENT_THREADS);
+  }
+
+  public InboundExecutableRegistryImpl(
+      InboundConnectorFactory connectorFactory,
+      BatchExecutableProcessor batchExecutableProcessor,
+      ActivityLogRegistry activityLogRegistry,
+      ConnectorsInboundMetrics inboundMetrics,
+      int eventThreads) {
 
     this.stateStore = new InMemoryInboundExecutableStateStore();
     var deduplicationScopesByType =
@@ -79,6 +113,8 @@ public class InboundExecutableRegistryImpl implements InboundExecutableRegistry
         new InboundExecutableQueryService(stateStore, connectorFactory, activityLogRegistry);
     this.batchExecutableProcessor = batchExecutableProcessor;
     this.activityLogRegistry = activityLogRegistry;
+    this.inboundMetrics = inboundMetrics;
+    this.eventExecutor = createEventExecutor(eventThreads);
   }
 
   // Constructor for testing with injected dependencies
@@ -93,24 +129,86 @@ public class InboundExecutableRegistryImpl implements InboundExecutableRegistry
     this.queryService = queryService;
     this.batchExecutableProcessor = batchExecutableProcessor;
     this.activityLogRegistry = activityLogRegistry;
+    this.inboundMetrics = new ConnectorsInboundMetrics(new SimpleMeterRegistry());
+    this.eventExecutor = createEventExecutor(DEFAULT_EVENT_THREADS);
+  }
+
+  private static ExecutorService createEventExecutor(int threads) {
+    return Executors.newFixedThreadPool(
+        Math.max(threads, 1), Thread.ofPlatform().name("inbound-registry-", 0).factory());
   }
 
   @Override
   public void publishEvent(InboundExecutableEvent event) {
-    eventQueue.add(event);
-    LOG.debug("Event added to the queue: {}", event);
+    var chainKey = eventChainKey(event);
+    var publishedAt = System.nanoTime();
+    inboundMetrics.registryEventQueued();
+    LOG.debug("Event published for '{}': {}", chainKey, event);
+    try {
+      var chain =
+          eventChains.compute(
+              chainKey,
+              (key, tail) ->
+                  (tail != null ? tail : CompletableFuture.<Void>completedFuture(null))
+                      .thenRunAsync(() -> dispatchEvent(event, publishedAt), eventExecutor));
+      // registered outside of compute, as it may run immediately on this thread
+      chain.whenComplete((ignored, e) -> eventChains.remove(chainKey, chain));
+    } catch (RejectedExecutionException e) {
+      inboundMetrics.registryEventHandled(eventType(event), Duration.ZERO);
+      LOG.warn("Registry is shutting down, dropping event: {}", event);
+    }
   }
 
-  @Scheduled(fixedDelay = 1000)
-  void processEventQueue() {
-    while (!eventQueue.isEmpty()) {
-      var event = eventQueue.poll();
-      if (event != null) {
-        handleEvent(event);
-      }
+  /** Blocks until all events published so far have been handled, e.g. in tests. */
+  void awaitPublishedEvents() {
+    eventChains.values().forEach(chain -> chain.exceptionally(e -> null).join());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    eventExecutor.shutdownNow();
+  }
+
+  private void dispatchEvent(InboundExecutableEvent event, long publishedAt) {
+    try {
+      handleEvent(event);
+    } catch (Exception e) {
+      LOG.error("Failed to handle inbound executable event: {}", event, e);
+    } finally {
+      inboundMetrics.registryEventHandled(
+          eventType(event), Duration.ofNanos(System.nanoTime() - publishedAt));
     }
   }
 
+  /**
+   * Events of the same process share a key, so that they are handled in order. Cancellations use
+   * the key of the process of the cancelled executable.
+   */
+  private String eventChainKey(InboundExecutableEvent event) {
+    return switch (event) {
+      case InboundExecutableEvent.ProcessStateChanged stateChanged ->
+          processLockKey(
+              stateChanged.physicalTenantId(),
+              stateChanged.tenantId(),
+              stateChanged.bpmnProcessId());
+      case InboundExecutableEvent.Cancelled cancelled -> {
+        var executable = stateStore.get(cancelled.id());
+        yield executable instanceof Activated
+            ? extractProcessLockKey(executable)
+            : cancelled.id().toString();
+      }
+    };
+  }
+
+  private static String eventType(InboundExecutableEvent event) {
+    return switch (event) {
+      case InboundExecutableEvent.ProcessStateChanged ignored ->
+          ConnectorMetrics.Inbound.EVENT_TYPE_PROCESS_STATE_CHANGED;
+      case InboundExecutableEvent.Cancelled ignored ->
+          ConnectorMetrics.Inbound.EVENT_TYPE_CANCELLED;
+    };
+  }
+
   void handleEvent(InboundExecutableEvent event) {
     switch (event) {
       case InboundExecutableEvent.ProcessStateChanged stateChanged ->
@@ -280,17 +378,26 @@ public class InboundExecutableRegistryImpl implements InboundExecutableRegistry
 
   private void handleCancelled(InboundExecutableEvent.Cancelled cancelled) {
     RegisteredExecutable executable = stateStore.get(cancelled.id());
-    if (executable instanceof Activated activated) {
-      Cancelled cancelledExecutable =
-          batchExecutableProcessor.cancelExecutable(activated, cancelled.throwable());
-      stateStore.replace(cancelled.id(), cancelledExecutable);
-
-      if (cancelled.throwable() instanceof ConnectorRetryException retryException) {
-        scheduleRetry(cancelled.id(), cancelledExecutable, retryException);
-      }
-    } else {
+    if (!(executable instanceof Activated)) {
       LOG.error(
           "Attempted to cancel an inbound connector executable that is not in the active state");
+      return;
+    }
+    // events are handled in parallel, serialize with state changes and resets of the same process
+    var processLockKey = extractProcessLockKey(executable);
+    synchronized (processLocks.computeIfAbsent(processLockKey, k -> new Object())) {
+      if (stateStore.get(cancelled.id()) instanceof Activated activated) {
+        Cancelled cancelledExecutable =
+            batchExecutableProcessor.cancelExecutable(activated, cancelled.throwable());
+        stateStore.replace(cancelled.id(), cancelledExecutable);
+
+        if (cancelled.throwable() instanceof ConnectorRetryException retryException) {
+          scheduleRetry(cancelled.id(), cancelledExecutable, retryException);
+        }
+      } else {
+        LOG.error(
+            "Attempted to cancel an inbound connector executable that is not in the active state");
+      }
     }
   }
 
@@ -0,0 +1,249 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.search;
+
+import io.camunda.client.api.search.response.ElementInstance;
+import io.camunda.client.api.search.response.SearchResponse;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Index of active element instances shared by all intermediate inbound connectors of one physical
+ * tenant.
+ *
+ * <p>The index is kept per process definition. All active element instances of a process
+ * definition are fetched with one bulk search, paging with the search cursor, and grouped by the
+ * elements connectors have asked for, so connectors polling different elements of the same process
+ * share one search. A background thread refreshes every indexed process definition once per
+ * refresh interval, so reads are served from the latest snapshot without searching.
+ *
+ * <p>The first read of a process definition or element is fetched on the calling thread, and so is
+ * a read of a snapshot that could not be refreshed for two refresh intervals, so that search
+ * errors reach the connector instead of stale instances being served. Process definitions that
+ * have not been read for a while, e.g. because their connectors have been deactivated, are
+ * dropped.
+ *
+ * <p>The refresh interval should not exceed the interval in which connectors poll, otherwise
+ * instances are served older than the polling interval. The default matches the default process
+ * polling interval of the HTTP polling connector (5 seconds).
+ */
+public class ActiveElementInstanceIndex implements AutoCloseable {
+
+  public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofSeconds(5);
+
+  private static final Logger LOG = LoggerFactory.getLogger(ActiveElementInstanceIndex.class);
+
+  private static final int STALE_FACTOR = 2;
+  private static final int IDLE_TIMEOUT_FACTOR = 10;
+  private static final Duration MIN_IDLE_TIMEOUT = Duration.ofMinutes(1);
+
+  private final SearchQueryClient searchQueryClient;
+  private final long staleAfterNanos;
+  private final long idleTimeoutNanos;
+  private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+  private final Timer refreshTime;
+  private final ScheduledExecutorService refreshExecutor;
+
+  public ActiveElementInstanceIndex(
+      SearchQueryClient searchQueryClient,
+      Duration refreshInterval,
+      MeterRegistry meterRegistry,
+      String physicalTenantId) {
+    if (!refreshInterval.isPositive()) {
+      throw new IllegalArgumentException(
+          "Refresh interval must be positive, got " + refreshInterval);
+    }
+    this.searchQueryClient = searchQueryClient;
+    this.staleAfterNanos = refreshInterval.multipliedBy(STALE_FACTOR).toNanos();
+    this.idleTimeoutNanos =
+        Math.max(
+            refreshInterval.multipliedBy(IDLE_TIMEOUT_FACTOR).toNanos(),
+            MIN_IDLE_TIMEOUT.toNanos());
+    this.refreshTime =
+        Timer.builder(ConnectorMetrics.Inbound.METRIC_NAME_ACTIVE_INSTANCE_INDEX_REFRESH_TIME)
+            .tag(ConnectorMetrics.Tag.PHYSICAL_TENANT_ID, physicalTenantId)
+            .register(meterRegistry);
+    Gauge.builder(
+            ConnectorMetrics.Inbound.METRIC_NAME_ACTIVE_INSTANCE_INDEX_AGE,
+            this,
+            ActiveElementInstanceIndex::oldestEntryAgeSeconds)
+        .tag(ConnectorMetrics.Tag.PHYSICAL_TENANT_ID, physicalTenantId)
+        .baseUnit("seconds")
+        .register(meterRegistry);
+    Gauge.builder(
+            ConnectorMetrics.Inbound.METRIC_NAME_ACTIVE_INSTANCE_INDEX_SIZE,
+            entries,
+            ConcurrentHashMap::size)
+        .tag(ConnectorMetrics.Tag.PHYSICAL_TENANT_ID, physicalTenantId)
+        .register(meterRegistry);
+    this.refreshExecutor =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform()
+                .name("active-instance-index-" + physicalTenantId)
+                .daemon()
+                .factory());
+    refreshExecutor.scheduleWithFixedDelay(
+        this::refresh,
+        refreshInterval.toMillis(),
+        refreshInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  /** Returns the active instances of the given element from the latest snapshot. */
+  public List<ElementInstance> getActiveElementInstances(
+      long processDefinitionKey, String elementId) {
+    return entries.computeIfAbsent(processDefinitionKey, Entry::new).read(elementId);
+  }
+
+  /**
+   * Refreshes every indexed process definition and drops the ones that have not been read for a
+   * while. Runs once per refresh interval.
+   */
+  void refresh() {
+    final long now = System.nanoTime();
+    entries.values().removeIf(entry -> now - entry.lastReadNanos > idleTimeoutNanos);
+    for (var entry : entries.values()) {
+      try {
+        entry.refresh();
+      } catch (RuntimeException e) {
+        LOG.warn(
+            "Failed to refresh the active element instances of process definition {}",
+            entry.processDefinitionKey,
+            e);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    refreshExecutor.shutdownNow();
+  }
+
+  private Map<String, List<ElementInstance>> fetch(
+      long processDefinitionKey, Set<String> elementIds) {
+    return refreshTime.record(
+        () -> {
+          final var result = new HashMap<String, List<ElementInstance>>();
+          elementIds.forEach(elementId -> result.put(elementId, new ArrayList<>()));
+          String paginationIndex = null;
+          SearchResponse<ElementInstance> searchResult;
+          do {
+            searchResult =
+                searchQueryClient.queryActiveElementInstances(
+                    processDefinitionKey, paginationIndex);
+            paginationIndex = searchResult.page().endCursor();
+            if (searchResult.items() != null) {
+              for (var instance : searchResult.items()) {
+                var instances = result.get(instance.getElementId());
+                if (instances != null) {
+                  instances.add(instance);
+                }
+              }
+            }
+          } while (!CollectionUtils.isEmpty(searchResult.items()));
+          result.replaceAll((elementId, instances) -> List.copyOf(instances));
+          return Map.copyOf(result);
+        });
+  }
+
+  private double oldestEntryAgeSeconds() {
+    final long now = System.nanoTime();
+    return entries.values().stream()
+        .map(entry -> entry.snapshot)
+        .filter(snapshot -> snapshot != null)
+        .mapToLong(snapshot -> now - snapshot.refreshedNanos())
+        .max()
+        .orElse(0)
+        / 1_000_000_000d;
+  }
+
+  private record Snapshot(Map<String, List<ElementInstance>> instances, long refreshedNanos) {}
+
+  private final class Entry {
+
+    private final long processDefinitionKey;
+    private final Set<String> elementIds = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+    private volatile long lastReadNanos = System.nanoTime();
+
+    private Entry(long processDefinitionKey) {
+      this.processDefinitionKey = processDefinitionKey;
+    }
+
+    private List<ElementInstance> read(String elementId) {
+      lastReadNanos = System.nanoTime();
+      var current = snapshot;
+      if (isUsable(current, elementId)) {
+        return current.instances().get(elementId);
+      }
+
+      refreshLock.lock();
+      try {
+        // another reader or the background refresh may have refreshed the entry in the meantime
+        current = snapshot;
+        if (isUsable(current, elementId)) {
+          return current.instances().get(elementId);
+        }
+        elementIds.add(elementId);
+        return refreshLocked().instances().get(elementId);
+      } finally {
+        refreshLock.unlock();
+      }
+    }
+
+    private void refresh() {
+      refreshLock.lock();
+      try {
+        if (!elementIds.isEmpty()) {
+          refreshLocked();
+        }
+      } finally {
+        refreshLock.unlock();
+      }
+    }
+
+    private Snapshot refreshLocked() {
+      var refreshed =
+          new Snapshot(fetch(processDefinitionKey, Set.copyOf(elementIds)), System.nanoTime());
+      snapshot = refreshed;
+      return refreshed;
+    }
+
+    private boolean isUsable(Snapshot snapshot, String elementId) {
+      return snapshot != null
+          && snapshot.instances().containsKey(elementId)
+          && System.nanoTime() - snapshot.refreshedNanos() < staleAfterNanos;
+    }
+  }
+}
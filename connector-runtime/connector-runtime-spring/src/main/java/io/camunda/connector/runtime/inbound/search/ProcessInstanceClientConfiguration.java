@@ -20,6 +20,9 @@ import io.camunda.client.CamundaClient;
 import io.camunda.client.spring.bean.CamundaClientRegistry;
 import io.camunda.connector.runtime.core.inbound.ProcessInstanceClient;
 import io.camunda.connector.runtime.inbound.PhysicalTenantIds;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,12 +44,21 @@ public class ProcessInstanceClientConfiguration {
       CamundaClientRegistry registry,
       @Autowired(required = false) CamundaClient legacyCamundaClient,
       @Autowired(required = false) SearchQueryClient legacySearchQueryClient,
-      @Value("${camunda.connector.process-definition-search.page-size:200}") int limit) {
+      @Autowired(required = false) MeterRegistry meterRegistry,
+      @Value("${camunda.connector.process-definition-search.page-size:200}") int limit,
+      @Value("${camunda.connector.inbound.active-instance-index.refresh-interval:PT5S}")
+          Duration refreshInterval) {
     var searchQueryClientsByPhysicalTenantId =
         PhysicalTenantIds.buildSearchQueryClientsByPhysicalTenantId(
             registry, legacyCamundaClient, legacySearchQueryClient, limit);
+    var metrics = meterRegistry != null ? meterRegistry : new SimpleMeterRegistry();
     return searchQueryClientsByPhysicalTenantId.entrySet().stream()
         .collect(
-            Collectors.toMap(Map.Entry::getKey, e -> new ProcessInstanceClientImpl(e.getValue())));
+            Collectors.toMap(
+                Map.Entry::getKey,
+                e ->
+                    new ProcessInstanceClientImpl(
+                        new ActiveElementInstanceIndex(
+                            e.getValue(), refreshInterval, metrics, e.getKey()))));
   }
 }
@@ -17,28 +17,34 @@
 package io.camunda.connector.runtime.inbound.search;
 
 import io.camunda.client.api.search.response.ElementInstance;
-import io.camunda.client.api.search.response.SearchResponse;
 import io.camunda.connector.runtime.core.inbound.ProcessInstanceClient;
-import java.util.ArrayList;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
-import org.springframework.util.CollectionUtils;
 
 public class ProcessInstanceClientImpl implements ProcessInstanceClient {
 
-  private final SearchQueryClient searchQueryClient;
-  private final Lock fetchActiveProcessLock;
+  private final ActiveElementInstanceIndex activeElementInstanceIndex;
 
   public ProcessInstanceClientImpl(final SearchQueryClient searchQueryClient) {
-    this.searchQueryClient = searchQueryClient;
-    this.fetchActiveProcessLock = new ReentrantLock();
+    this(
+        new ActiveElementInstanceIndex(
+            searchQueryClient,
+            ActiveElementInstanceIndex.DEFAULT_REFRESH_INTERVAL,
+            new SimpleMeterRegistry(),
+            "default"));
+  }
+
+  public ProcessInstanceClientImpl(final ActiveElementInstanceIndex activeElementInstanceIndex) {
+    this.activeElementInstanceIndex = activeElementInstanceIndex;
   }
 
   /**
    * Fetches a list of 'ACTIVE' flow node instances associated with a given process definition key
    * and element ID.
    *
+   * <p>The instances are read from the {@link ActiveElementInstanceIndex} shared by all
+   * intermediate inbound connectors, so they may be up to its refresh interval old.
+   *
    * @param processDefinitionKey The unique identifier for the process definition to retrieve flow
    *     node instances from.
    * @param elementId The identifier of the specific flow node element within the process
@@ -49,24 +55,6 @@ public class ProcessInstanceClientImpl implements ProcessInstanceClient {
   @Override
   public List<ElementInstance> fetchActiveProcessInstanceKeyByDefinitionKeyAndElementId(
       final Long processDefinitionKey, final String elementId) {
-    fetchActiveProcessLock.lock();
-    try {
-      String processPaginationIndex = null;
-      SearchResponse<ElementInstance> searchResult;
-      List<ElementInstance> result = new ArrayList<>();
-      do {
-        searchResult =
-            searchQueryClient.queryActiveFlowNodes(
-                processDefinitionKey, elementId, processPaginationIndex);
-        processPaginationIndex = searchResult.page().endCursor();
-        if (searchResult.items() != null) {
-          result.addAll(searchResult.items());
-        }
-
-      } while (!CollectionUtils.isEmpty(searchResult.items()));
-      return result;
-    } finally {
-      fetchActiveProcessLock.unlock();
-    }
+    return activeElementInstanceIndex.getActiveElementInstances(processDefinitionKey, elementId);
   }
 }
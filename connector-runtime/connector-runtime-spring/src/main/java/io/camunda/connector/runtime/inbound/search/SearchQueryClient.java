@@ -33,6 +33,10 @@ public interface SearchQueryClient {
   SearchResponse<ElementInstance> queryActiveFlowNodes(
       long processDefinitionKey, String elementId, String paginationIndex);
 
+  /** Queries the active element instances of all elements of the given process definition. */
+  SearchResponse<ElementInstance> queryActiveElementInstances(
+      long processDefinitionKey, String paginationIndex);
+
   BpmnModelInstance getProcessModel(long processDefinitionKey);
 
   ProcessDefinition getProcessDefinition(long processDefinitionKey);
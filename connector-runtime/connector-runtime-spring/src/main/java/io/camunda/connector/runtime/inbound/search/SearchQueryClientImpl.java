@@ -90,6 +90,24 @@ public class SearchQueryClientImpl implements SearchQueryClient {
     return query.send().join();
   }
 
+  @Override
+  public SearchResponse<ElementInstance> queryActiveElementInstances(
+      long processDefinitionKey, String paginationIndex) {
+    final var query =
+        camundaClient
+            .newElementInstanceSearchRequest()
+            .filter(
+                i ->
+                    i.processDefinitionKey(processDefinitionKey)
+                        .state(ElementInstanceState.ACTIVE));
+    if (paginationIndex != null) {
+      query.page(p -> p.limit(limit).after(paginationIndex));
+    } else {
+      query.page(p -> p.limit(limit));
+    }
+    return query.send().join();
+  }
+
   @Override
   public BpmnModelInstance getProcessModel(long processDefinitionKey) {
     final String xml =
@@ -50,8 +50,13 @@ import io.camunda.connector.api.inbound.webhook.WebhookTriggerResultContext;
 import io.camunda.connector.feel.FeelEngineWrapperException;
 import io.camunda.connector.runtime.core.inbound.InboundConnectorManagementContext;
 import io.camunda.connector.runtime.inbound.executable.RegisteredExecutable;
+import io.camunda.connector.runtime.inbound.webhook.WebhookRequestBody.BodyTooLargeException;
 import io.camunda.connector.runtime.inbound.webhook.model.HttpServletRequestWebhookProcessingPayload;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics;
 import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.Part;
@@ -62,9 +67,11 @@ import java.util.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -81,11 +88,46 @@ public class InboundWebhookRestController {
   private static final Set<String> REDACTED_QUERY_PARAMS =
       Set.of("token", "access_token", "signature", "api_key", "apikey");
 
+  static final DataSize DEFAULT_BODY_MAX_SIZE = DataSize.ofMegabytes(100);
+
   private final WebhookConnectorRegistry webhookConnectorRegistry;
+  private final long bodyStreamThreshold;
+  private final long bodyMaxSize;
+  private final Counter notFoundRequests;
+  private final Counter tooLargeRequests;
 
-  @Autowired
   public InboundWebhookRestController(final WebhookConnectorRegistry webhookConnectorRegistry) {
+    this(webhookConnectorRegistry, null, DEFAULT_BODY_MAX_SIZE, new SimpleMeterRegistry());
+  }
+
+  /**
+   * @param bodyStreamThreshold request bodies larger than this are spooled to disk and passed to
+   *     the connector as a part instead of the raw body, or {@code null} to never spool bodies.
+   *     Spooled bodies are not available to signature and API key checks, which therefore reject
+   *     them, nor to FEEL expressions on {@code request.body}.
+   * @param bodyMaxSize request bodies larger than this are rejected with {@code 413}
+   */
+  @Autowired
+  public InboundWebhookRestController(
+      final WebhookConnectorRegistry webhookConnectorRegistry,
+      @Value("${camunda.connector.webhook.body.stream-threshold:#{null}}")
+          final DataSize bodyStreamThreshold,
+      @Value("${camunda.connector.webhook.body.max-size:100MB}") final DataSize bodyMaxSize,
+      @Autowired(required = false) final MeterRegistry meterRegistry) {
     this.webhookConnectorRegistry = webhookConnectorRegistry;
+    this.bodyStreamThreshold =
+        bodyStreamThreshold != null ? bodyStreamThreshold.toBytes() : Long.MAX_VALUE;
+    this.bodyMaxSize = bodyMaxSize.toBytes();
+    var registry = meterRegistry != null ? meterRegistry : new SimpleMeterRegistry();
+    this.notFoundRequests = rejectedRequests(registry, ConnectorMetrics.Inbound.REJECTED_NOT_FOUND);
+    this.tooLargeRequests =
+        rejectedRequests(registry, ConnectorMetrics.Inbound.REJECTED_PAYLOAD_TOO_LARGE);
+  }
+
+  private static Counter rejectedRequests(MeterRegistry registry, String reason) {
+    return Counter.builder(ConnectorMetrics.Inbound.METRIC_NAME_WEBHOOK_REJECTED_REQUESTS)
+        .tag(ConnectorMetrics.Tag.REASON, reason)
+        .register(registry);
   }
 
   protected static ResponseEntity<?> toResponseEntity(WebhookHttpResponse webhookHttpResponse) {
@@ -184,36 +226,53 @@ public class InboundWebhookRestController {
       HttpServletRequest httpServletRequest)
       throws IOException {
     LOG.trace("Received inbound hook on {}", sanitizeForLog(context));
+    if (connectorOpt.isEmpty()) {
+      notFoundRequests.increment();
+      return ResponseEntity.notFound().build();
+    }
+    if (httpServletRequest.getContentLengthLong() > bodyMaxSize) {
+      return rejectTooLarge(context);
+    }
+    var connector = connectorOpt.get();
     // Body must be read before any call that triggers form-parameter parsing (e.g.
     // getParameterMap).
     // For application/x-www-form-urlencoded requests, Tomcat consumes the input stream when
     // getParameterMap() is invoked, which would leave rawBody empty and break HMAC verification.
-    byte[] bodyAsByteArray = httpServletRequest.getInputStream().readAllBytes();
-    Map<String, String> params = extractQueryParams(httpServletRequest.getQueryString());
+    try (var body =
+        WebhookRequestBody.read(
+            httpServletRequest.getInputStream(), bodyStreamThreshold, bodyMaxSize)) {
+      Map<String, String> params = extractQueryParams(httpServletRequest.getQueryString());
+      // In Tomcat 11.0.12 (2025-10-07), the Coyote HTTP stack was updated to
+      // “store HTTP request headers using the original case for the header name rather
+      // than forcing it to lower case.”
+      // This breaks some webhook connectors that expect lowercase headers in expressions.
+      var lowercaseHeaders =
+          headers.entrySet().stream()
+              .collect(toMap(e -> e.getKey().toLowerCase(), Map.Entry::getValue));
+      Optional.ofNullable(httpServletRequest.getContentType())
+          .ifPresent(contentType -> lowercaseHeaders.putIfAbsent("content-type", contentType));
+      var parts = new ArrayList<>(getParts(httpServletRequest));
+      if (parts.isEmpty()) {
+        // a body above the opt-in stream threshold is not materialized, connectors can store it
+        // as a document instead
+        body.spooledPart(httpServletRequest.getContentType()).ifPresent(parts::add);
+      }
+      WebhookProcessingPayload payload =
+          new HttpServletRequestWebhookProcessingPayload(
+              httpServletRequest, params, lowercaseHeaders, body.bytes(), parts);
+      return processWebhook(connector, payload);
+    } catch (BodyTooLargeException e) {
+      return rejectTooLarge(context);
+    }
+  }
 
-    return connectorOpt
-        .map(
-            connector -> {
-              // In Tomcat 11.0.12 (2025-10-07), the Coyote HTTP stack was updated to
-              // “store HTTP request headers using the original case for the header name rather
-              // than forcing it to lower case.”
-              // This breaks some webhook connectors that expect lowercase headers in expressions.
-              var lowercaseHeaders =
-                  headers.entrySet().stream()
-                      .collect(toMap(e -> e.getKey().toLowerCase(), Map.Entry::getValue));
-              Optional.ofNullable(httpServletRequest.getContentType())
-                  .ifPresent(
-                      contentType -> lowercaseHeaders.putIfAbsent("content-type", contentType));
-              WebhookProcessingPayload payload =
-                  new HttpServletRequestWebhookProcessingPayload(
-                      httpServletRequest,
-                      params,
-                      lowercaseHeaders,
-                      bodyAsByteArray,
-                      getParts(httpServletRequest));
-              return processWebhook(connector, payload);
-            })
-        .orElseGet(() -> ResponseEntity.notFound().build());
+  private ResponseEntity<?> rejectTooLarge(String context) {
+    LOG.debug(
+        "Rejecting inbound hook on {}: body exceeds {} bytes",
+        sanitizeForLog(context),
+        bodyMaxSize);
+    tooLargeRequests.increment();
+    return ResponseEntity.status(HttpStatus.CONTENT_TOO_LARGE).build();
   }
 
   private ResponseEntity<?> processWebhook(
@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.webhook;
+
+import io.camunda.connector.api.inbound.webhook.Part;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Body of an inbound webhook request, read with an upper bound on its size.
+ *
+ * <p>Bodies up to the stream threshold are kept in memory, as connectors evaluate them in FEEL
+ * expressions and verify signatures against the raw bytes. Larger bodies are spooled to a temporary
+ * file while reading and handed to the connector as a {@link Part}, so that they can be stored as a
+ * document without ever being held in memory. The temporary file is deleted when the body is
+ * closed.
+ */
+final class WebhookRequestBody implements AutoCloseable {
+
+  static final String SPOOLED_PART_NAME = "body";
+
+  private static final Logger LOG = LoggerFactory.getLogger(WebhookRequestBody.class);
+  private static final int BUFFER_SIZE = 8 * 1024;
+  private static final byte[] EMPTY = new byte[0];
+
+  private final byte[] bytes;
+  private final Path spoolFile;
+  private InputStream spoolStream;
+
+  private WebhookRequestBody(byte[] bytes, Path spoolFile) {
+    this.bytes = bytes;
+    this.spoolFile = spoolFile;
+  }
+
+  /**
+   * Reads the given stream to the end.
+   *
+   * @param streamThreshold size in bytes above which the body is spooled to disk
+   * @param maxSize size in bytes above which reading is aborted
+   * @throws BodyTooLargeException if the body exceeds {@code maxSize}
+   */
+  static WebhookRequestBody read(InputStream in, long streamThreshold, long maxSize)
+      throws IOException {
+    var memory = new ByteArrayOutputStream();
+    OutputStream out = memory;
+    Path spoolFile = null;
+    var buffer = new byte[BUFFER_SIZE];
+    long total = 0;
+    try {
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        total += read;
+        if (total > maxSize) {
+          throw new BodyTooLargeException(maxSize);
+        }
+        if (spoolFile == null && total > streamThreshold) {
+          spoolFile = Files.createTempFile("webhook-body-", ".tmp");
+          out = Files.newOutputStream(spoolFile);
+          memory.writeTo(out);
+          memory = null;
+        }
+        out.write(buffer, 0, read);
+      }
+      out.close();
+    } catch (IOException | RuntimeException e) {
+      closeQuietly(out);
+      deleteQuietly(spoolFile);
+      throw e;
+    }
+    return spoolFile == null
+        ? new WebhookRequestBody(memory.toByteArray(), null)
+        : new WebhookRequestBody(EMPTY, spoolFile);
+  }
+
+  /**
+   * @return the body if it was kept in memory, or an empty array if it was spooled to disk
+   */
+  byte[] bytes() {
+    return bytes;
+  }
+
+  /**
+   * @return the spooled body as a part with the given content type, empty if the body was kept in
+   *     memory
+   */
+  Optional<Part> spooledPart(String contentType) throws IOException {
+    if (spoolFile == null) {
+      return Optional.empty();
+    }
+    if (spoolStream == null) {
+      spoolStream = Files.newInputStream(spoolFile);
+    }
+    return Optional.of(new Part(SPOOLED_PART_NAME, null, spoolStream, contentType));
+  }
+
+  @Override
+  public void close() {
+    closeQuietly(spoolStream);
+    deleteQuietly(spoolFile);
+  }
+
+  private static void closeQuietly(AutoCloseable closeable) {
+    if (closeable == null) {
+      return;
+    }
+    try {
+      closeable.close();
+    } catch (Exception e) {
+      LOG.debug("Failed to close webhook body stream", e);
+    }
+  }
+
+  private static void deleteQuietly(Path file) {
+    if (file == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      LOG.warn("Failed to delete spooled webhook body {}", file, e);
+    }
+  }
+
+  /** Thrown when a webhook request body exceeds the configured maximum size. */
+  static final class BodyTooLargeException extends IOException {
+
+    BodyTooLargeException(long maxSize) {
+      super("Webhook request body exceeds the maximum size of " + maxSize + " bytes");
+    }
+  }
+}
@@ -31,6 +31,10 @@ public class ConnectorMetrics {
     public static final String ELEMENT_TEMPLATE_VERSION = "elementTemplateVersion";
     public static final String RESULT = "result";
     public static final String PHYSICAL_TENANT_ID = "physicalTenantId";
+    public static final String STATE = "state";
+    public static final String EVENT_TYPE = "eventType";
+    public static final String PROVIDER = "provider";
+    public static final String REASON = "reason";
   }
 
   public static class Outbound {
@@ -72,6 +76,12 @@ public class ConnectorMetrics {
     public static final String METRIC_NAME_WORKER_STREAM_INACTIVITY_RECREATED =
         "camunda.client.worker.stream.inactivity.recreated";
 
+    /**
+     * Number of jobs currently parked while waiting for a long-running remote operation, see
+     * {@code io.camunda.connector.api.outbound.PendingOperation}.
+     */
+    public static final String METRIC_NAME_PARKED_JOBS = "camunda.connector.outbound.parked-jobs";
+
     /** Value of the {@code action} tag for successfully completed jobs. */
     public static final String ACTION_COMPLETED = "completed";
 
@@ -125,6 +135,57 @@ public class ConnectorMetrics {
     public static final String METRIC_NAME_LAST_TRIGGERED =
         "camunda.connector.inbound.last-triggered";
 
+    /**
+     * Number of events published to the inbound executable registry that have not been handled
+     * yet. A value that stays high after a redeployment means connectors are activated with a lag.
+     */
+    public static final String METRIC_NAME_REGISTRY_EVENT_QUEUE_SIZE =
+        "camunda.connector.inbound.registry.event-queue.size";
+
+    /**
+     * Time from publishing an event to the inbound executable registry until it has been handled,
+     * tagged by {@code eventType}. Includes the time the event waited behind earlier events of the
+     * same process.
+     */
+    public static final String METRIC_NAME_REGISTRY_EVENT_LATENCY =
+        "camunda.connector.inbound.registry.event-latency";
+
+    /**
+     * Time to refresh the active element instances of one process definition in the index shared
+     * by intermediate inbound connectors, tagged by {@code physicalTenantId}.
+     */
+    public static final String METRIC_NAME_ACTIVE_INSTANCE_INDEX_REFRESH_TIME =
+        "camunda.connector.inbound.active-instance-index.refresh-time";
+
+    /**
+     * Age in seconds of the least recently refreshed process definition in the active element
+     * instance index. Process definitions are refreshed in the background, so the age should stay
+     * close to {@code camunda.connector.inbound.active-instance-index.refresh-interval}; a growing
+     * age indicates failing or slow searches.
+     */
+    public static final String METRIC_NAME_ACTIVE_INSTANCE_INDEX_AGE =
+        "camunda.connector.inbound.active-instance-index.age";
+
+    /** Number of process definitions tracked by the active element instance index. */
+    public static final String METRIC_NAME_ACTIVE_INSTANCE_INDEX_SIZE =
+        "camunda.connector.inbound.active-instance-index.size";
+
+    /**
+     * Number of webhook requests rejected before reaching a connector, tagged by {@code reason}.
+     * Rejected bodies are never read in full, see {@code camunda.connector.webhook.body.max-size}.
+     */
+    public static final String METRIC_NAME_WEBHOOK_REJECTED_REQUESTS =
+        "camunda.connector.inbound.webhook.rejected-requests";
+
+    /** Value of the {@code reason} tag when no webhook is registered for the path. */
+    public static final String REJECTED_NOT_FOUND = "not-found";
+
+    /** Value of the {@code reason} tag when the request body exceeds the maximum size. */
+    public static final String REJECTED_PAYLOAD_TOO_LARGE = "payload-too-large";
+
+    public static final String EVENT_TYPE_PROCESS_STATE_CHANGED = "process-state-changed";
+    public static final String EVENT_TYPE_CANCELLED = "cancelled";
+
     public static final String ACTION_ACTIVATED = "activated";
     public static final String ACTION_DEACTIVATED = "deactivated";
     public static final String ACTION_ACTIVATION_FAILED = "activation-failed";
@@ -135,6 +196,58 @@ public class ConnectorMetrics {
     public static final String ACTION_CORRELATION_FAILED = "correlation-failed";
   }
 
+  public static class Feel {
+
+    /**
+     * Number of lookups in the cache of parsed FEEL expressions used by local evaluation, tagged by
+     * {@code result} ({@code hit} or {@code miss}).
+     */
+    public static final String METRIC_NAME_EXPRESSION_CACHE_ACCESSES =
+        "camunda.connector.feel.expression-cache.accesses";
+
+    /** Approximate number of parsed FEEL expressions currently cached. */
+    public static final String METRIC_NAME_EXPRESSION_CACHE_SIZE =
+        "camunda.connector.feel.expression-cache.size";
+  }
+
+  public static class Secrets {
+
+    /**
+     * Number of lookups in the resolved-secret cache, tagged by {@code provider} and {@code result}
+     * ({@code hit} or {@code miss}).
+     */
+    public static final String METRIC_NAME_CACHE_ACCESSES =
+        "camunda.connector.secrets.cache.accesses";
+
+    /** Time spent resolving secrets from the provider on cache misses and background refreshes. */
+    public static final String METRIC_NAME_LOOKUP_TIME = "camunda.connector.secrets.lookup-time";
+
+    /** Value of the {@code result} tag for a resolved-secret cache hit. */
+    public static final String RESULT_CACHE_HIT = "hit";
+
+    /** Value of the {@code result} tag for a resolved-secret cache miss. */
+    public static final String RESULT_CACHE_MISS = "miss";
+  }
+
+  public static class HttpClient {
+
+    /**
+     * Connections of the shared HTTP client pools, tagged by {@code state} ({@code leased}, {@code
+     * available} or {@code pending}). A sustained non-zero {@code pending} value means requests
+     * wait for a connection, see {@code CONNECTOR_HTTP_CLIENT_POOL_MAX_PER_ROUTE}.
+     */
+    public static final String METRIC_NAME_POOL_CONNECTIONS =
+        "camunda.connector.http-client.pool.connections";
+
+    /** Number of shared HTTP clients, i.e. distinct proxy/TLS/redirect/timeout settings. */
+    public static final String METRIC_NAME_POOL_CLIENTS =
+        "camunda.connector.http-client.pool.clients";
+
+    public static final String STATE_LEASED = "leased";
+    public static final String STATE_AVAILABLE = "available";
+    public static final String STATE_PENDING = "pending";
+  }
+
   public static CounterMetricsContext counter(ActivatedJob job) {
     Result result = Result.getResult(job);
     return new CounterMetricsContext(
@@ -20,9 +20,12 @@ import io.camunda.connector.runtime.core.inbound.InboundConnectorElement;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class ConnectorsInboundMetrics {
@@ -34,6 +37,8 @@ public class ConnectorsInboundMetrics {
   private final Counter processDefinitionCacheHitCounter;
   private final Counter processDefinitionCacheMissCounter;
   private final Counter processStateChangePublishFailureCounter;
+  private final AtomicInteger pendingRegistryEvents = new AtomicInteger();
+  private final Map<String, Timer> registryEventLatencyTimers = new ConcurrentHashMap<>();
 
   public ConnectorsInboundMetrics(MeterRegistry meterRegistry) {
     this.meterRegistry = meterRegistry;
@@ -48,6 +53,11 @@ public class ConnectorsInboundMetrics {
     this.processStateChangePublishFailureCounter =
         Counter.builder(ConnectorMetrics.Inbound.METRIC_NAME_PROCESS_STATE_CHANGE_PUBLISH_FAILURES)
             .register(meterRegistry);
+    Gauge.builder(
+            ConnectorMetrics.Inbound.METRIC_NAME_REGISTRY_EVENT_QUEUE_SIZE,
+            pendingRegistryEvents,
+            AtomicInteger::get)
+        .register(meterRegistry);
   }
 
   public void increaseActivation(InboundConnectorElement connectorElement) {
@@ -185,6 +195,29 @@ public class ConnectorsInboundMetrics {
     processStateChangePublishFailureCounter.increment();
   }
 
+  /** Records an event published to the inbound executable registry. */
+  public void registryEventQueued() {
+    pendingRegistryEvents.incrementAndGet();
+  }
+
+  /**
+   * Records an event of the inbound executable registry as handled.
+   *
+   * @param eventType value of the {@code eventType} tag
+   * @param latency time from publishing the event until it was handled
+   */
+  public void registryEventHandled(String eventType, Duration latency) {
+    pendingRegistryEvents.decrementAndGet();
+    registryEventLatencyTimers
+        .computeIfAbsent(
+            eventType,
+            t ->
+                Timer.builder(ConnectorMetrics.Inbound.METRIC_NAME_REGISTRY_EVENT_LATENCY)
+                    .tag(ConnectorMetrics.Tag.EVENT_TYPE, t)
+                    .register(meterRegistry))
+        .record(latency);
+  }
+
   private void recordLastActivated(String type, String physicalTenantId) {
     lastActivatedGauges
         .computeIfAbsent(
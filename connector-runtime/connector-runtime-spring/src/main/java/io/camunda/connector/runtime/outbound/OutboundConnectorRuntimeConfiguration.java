@@ -54,6 +54,7 @@ import io.camunda.connector.runtime.instances.service.OutboundConnectorsService;
 import io.camunda.connector.runtime.outbound.controller.OutboundConnectorsRestController;
 import io.camunda.connector.runtime.outbound.job.ConfigurableSecretFilterFactory;
 import io.camunda.connector.runtime.outbound.job.ConfigurableSecretFilterFactory.SecretFilterMode;
+import io.camunda.connector.runtime.outbound.job.ParkedJobScheduler;
 import io.camunda.connector.runtime.outbound.jobstream.BrokerJobStreamClient;
 import io.camunda.connector.runtime.outbound.lifecycle.OutboundConnectorManager;
 import io.camunda.connector.runtime.outbound.secret.ProcessDefinitionSecretKeyCache;
@@ -493,6 +494,17 @@ public class OutboundConnectorRuntimeConfiguration {
         registry, legacyCamundaClient, cacheManager, secretFilterMode);
   }
 
+  /**
+   * Shared by all outbound job workers; parks jobs whose connector returned a {@code
+   * PendingOperation} until the remote operation completes. Closed on shutdown, which leaves parked
+   * jobs to Zeebe's activation timeout.
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  public ParkedJobScheduler parkedJobScheduler(Optional<MeterRegistry> meterRegistry) {
+    return new ParkedJobScheduler(meterRegistry.orElse(null));
+  }
+
   /**
    * Builds the per-physical-tenant {@code documentFactory}/{@code secretFilterFactory} maps via the
    * plain (non-{@code @Bean}) {@code build*} helper methods rather than declaring {@code
@@ -520,7 +532,8 @@ public class OutboundConnectorRuntimeConfiguration {
           SecretFilterMode secretFilterMode,
       @Qualifier("secretKeyCacheManager") CacheManager secretKeyCacheManager,
       @OutboundConnectorObjectMapper ObjectMapper outboundConnectorObjectMapper,
-      Optional<MeterRegistry> meterRegistry) {
+      Optional<MeterRegistry> meterRegistry,
+      ParkedJobScheduler parkedJobScheduler) {
     var documentFactoriesByPhysicalTenantId =
         buildDocumentFactoriesByPhysicalTenantId(registry, legacyCamundaClient, documentFactory);
     var secretFilterFactoriesByPhysicalTenantId =
@@ -539,7 +552,8 @@ public class OutboundConnectorRuntimeConfiguration {
         objectMappersByPhysicalTenantId,
         metricsRecorder,
         secretFilterFactoriesByPhysicalTenantId,
-        meterRegistry.orElse(null));
+        meterRegistry.orElse(null),
+        parkedJobScheduler);
   }
 
   /**
@@ -0,0 +1,186 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.outbound.job;
+
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.api.outbound.PendingOperation;
+import io.camunda.connector.api.outbound.PendingOperation.PollResult;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Waits for {@link PendingOperation}s returned by outbound connectors without occupying job worker
+ * threads.
+ *
+ * <p>A single timer thread only schedules the next check; the checks themselves and the
+ * surrounding job timeout updates run on virtual threads, so a slow remote API never delays the
+ * timers of other parked jobs. The delay between two checks doubles from {@link
+ * PendingOperation#initialDelay()} up to {@link PendingOperation#maxDelay()}.
+ *
+ * <p>Closing the scheduler cancels all parked jobs. They are neither completed nor failed, so
+ * Zeebe's activation timeout hands them to another worker.
+ */
+public class ParkedJobScheduler implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ParkedJobScheduler.class);
+
+  private final ScheduledExecutorService timer;
+  private final ExecutorService pollExecutor;
+  private final Set<ParkedOperation> parkedOperations = ConcurrentHashMap.newKeySet();
+
+  public ParkedJobScheduler(@Nullable MeterRegistry meterRegistry) {
+    this.timer =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("parked-job-timer").daemon().factory());
+    this.pollExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    if (meterRegistry != null) {
+      Gauge.builder(ConnectorMetrics.Outbound.METRIC_NAME_PARKED_JOBS, parkedOperations, Set::size)
+          .register(meterRegistry);
+    }
+  }
+
+  /**
+   * Parks a pending operation until it completes.
+   *
+   * @param operation the operation to wait for, closed once the returned future is done
+   * @param beforeWait invoked with the delay before every check, e.g. to extend the job timeout;
+   *     an exception thrown here fails the returned future
+   * @return a future completed with the response value of the operation, completed exceptionally
+   *     if the operation failed or timed out, or cancelled if the scheduler was closed
+   */
+  public CompletableFuture<Object> park(
+      PendingOperation operation, Consumer<Duration> beforeWait) {
+    var parked = new ParkedOperation(operation, beforeWait);
+    parkedOperations.add(parked);
+    parked.submit(() -> parked.waitFor(operation.initialDelay()));
+    return parked.result;
+  }
+
+  /** Number of currently parked operations. */
+  int size() {
+    return parkedOperations.size();
+  }
+
+  @Override
+  public void close() {
+    timer.shutdownNow();
+    pollExecutor.shutdownNow();
+    parkedOperations.forEach(parked -> parked.finish(result -> result.cancel(false)));
+  }
+
+  private static void closeQuietly(PendingOperation operation) {
+    try {
+      operation.close();
+    } catch (Exception e) {
+      LOGGER.warn("Failed to close pending operation", e);
+    }
+  }
+
+  private static Duration min(Duration a, Duration b) {
+    return a.compareTo(b) <= 0 ? a : b;
+  }
+
+  private final class ParkedOperation {
+
+    private final PendingOperation operation;
+    private final Consumer<Duration> beforeWait;
+    private final CompletableFuture<Object> result = new CompletableFuture<>();
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private final long giveUpAt;
+    private Duration delay;
+
+    private ParkedOperation(PendingOperation operation, Consumer<Duration> beforeWait) {
+      this.operation = operation;
+      this.beforeWait = beforeWait;
+      this.giveUpAt = System.nanoTime() + operation.maxWaitTime().toNanos();
+      this.delay = operation.initialDelay();
+    }
+
+    /**
+     * Releases the operation before completing the future, so callers observing the outcome never
+     * see a parked operation that is still open.
+     */
+    private void finish(Consumer<CompletableFuture<Object>> completion) {
+      if (finished.compareAndSet(false, true)) {
+        parkedOperations.remove(this);
+        closeQuietly(operation);
+        completion.accept(result);
+      }
+    }
+
+    private void submit(Runnable task) {
+      try {
+        pollExecutor.execute(task);
+      } catch (RejectedExecutionException e) {
+        finish(future -> future.cancel(false));
+      }
+    }
+
+    private void waitFor(Duration nextDelay) {
+      try {
+        beforeWait.accept(nextDelay);
+        timer.schedule(() -> submit(this::poll), nextDelay.toMillis(), TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        finish(future -> future.cancel(false));
+      } catch (Exception e) {
+        finish(future -> future.completeExceptionally(e));
+      }
+    }
+
+    private void poll() {
+      if (finished.get()) {
+        return;
+      }
+      try {
+        switch (operation.poll()) {
+          case PollResult.Completed completed ->
+              finish(future -> future.complete(completed.responseValue()));
+          case PollResult.Pending pending -> {
+            long remaining = giveUpAt - System.nanoTime();
+            if (remaining <= 0) {
+              var timeout =
+                  new ConnectorException(
+                      "TIMEOUT",
+                      "Remote operation did not complete within " + operation.maxWaitTime());
+              finish(future -> future.completeExceptionally(timeout));
+              return;
+            }
+            delay = min(delay.multipliedBy(2), operation.maxDelay());
+            waitFor(min(delay, Duration.ofNanos(remaining)));
+          }
+        }
+      } catch (Exception e) {
+        finish(future -> future.completeExceptionally(e));
+      }
+    }
+  }
+}
@@ -51,6 +51,7 @@ import io.camunda.connector.api.outbound.JobCompletionFailure.JobErrorRaised;
 import io.camunda.connector.api.outbound.JobCompletionListener;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
+import io.camunda.connector.api.outbound.PendingOperation;
 import io.camunda.connector.api.secret.SecretProvider;
 import io.camunda.connector.api.validation.ValidationProvider;
 import io.camunda.connector.runtime.core.ConnectorResultHandler;
@@ -78,7 +79,10 @@ import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -93,6 +97,8 @@ public class SpringConnectorJobHandler implements JobHandler {
   static final int MAX_ERROR_MESSAGE_LENGTH = 6000;
   private static final Logger LOGGER = LoggerFactory.getLogger(SpringConnectorJobHandler.class);
   private static final int MAX_ZEEBE_COMMAND_RETRIES = 3;
+  // Headroom on top of the next poll delay when extending the timeout of a parked job
+  private static final Duration PARKED_JOB_TIMEOUT_MARGIN = Duration.ofMinutes(1);
   private final OutboundConnectorFunction call;
   private final JobCallbackCommandWrapperFactory jobCallbackCommandWrapperFactory;
   private final ConnectorOutboundMetrics connectorsOutboundMetrics;
@@ -105,6 +111,7 @@ public class SpringConnectorJobHandler implements JobHandler {
   private final SecretFilterFactory secretFilterFactory;
   private final DocumentReturnProcessor documentReturnProcessor;
   private final CamundaClient camundaClient;
+  private final ParkedJobScheduler parkedJobScheduler;
 
   public SpringConnectorJobHandler(
       MetricsRecorder outboundMetrics,
@@ -138,6 +145,30 @@ public class SpringConnectorJobHandler implements JobHandler {
       OutboundConnectorFunction connectorFunction,
       SecretFilterFactory secretFilterFactory,
       CamundaClient camundaClient) {
+    this(
+        outboundMetrics,
+        jobCallbackCommandWrapperFactory,
+        secretProviderAggregator,
+        validationProvider,
+        documentFactory,
+        objectMapper,
+        connectorFunction,
+        secretFilterFactory,
+        camundaClient,
+        DefaultParkedJobScheduler.INSTANCE);
+  }
+
+  public SpringConnectorJobHandler(
+      ConnectorOutboundMetrics outboundMetrics,
+      JobCallbackCommandWrapperFactory jobCallbackCommandWrapperFactory,
+      SecretProviderAggregator secretProviderAggregator,
+      ValidationProvider validationProvider,
+      DocumentFactory documentFactory,
+      ObjectMapper objectMapper,
+      OutboundConnectorFunction connectorFunction,
+      SecretFilterFactory secretFilterFactory,
+      CamundaClient camundaClient,
+      ParkedJobScheduler parkedJobScheduler) {
     this.call = connectorFunction;
     this.secretProvider = secretProviderAggregator;
     this.validationProvider = validationProvider;
@@ -151,6 +182,7 @@ public class SpringConnectorJobHandler implements JobHandler {
     this.jobCallbackCommandWrapperFactory = jobCallbackCommandWrapperFactory;
     this.connectorsOutboundMetrics = outboundMetrics;
     this.camundaClient = camundaClient;
+    this.parkedJobScheduler = parkedJobScheduler;
   }
 
   private SecretProvider getSecretProvider() {
@@ -206,26 +238,41 @@ public class SpringConnectorJobHandler implements JobHandler {
             documentFactory,
             objectMapper,
             secretFilter);
-    ResultWithDeadline resultWithDeadline = getConnectorResult(job, context, secretFilter);
-    processFinalResult(
-        client,
-        job,
-        context,
-        resultWithDeadline.result(),
-        counterMetricsContext,
-        secretFilter,
-        resultWithDeadline.deadline());
+    switch (getConnectorResult(job, context, secretFilter)) {
+      case ResultWithDeadline resultWithDeadline ->
+          processFinalResult(
+              client,
+              job,
+              context,
+              resultWithDeadline.result(),
+              counterMetricsContext,
+              secretFilter,
+              resultWithDeadline.deadline());
+      case PendingWithDeadline pendingWithDeadline ->
+          park(client, job, context, pendingWithDeadline, counterMetricsContext, secretFilter);
+    }
   }
 
+  /** Outcome of invoking the connector function, see {@link #getConnectorResult}. */
+  private sealed interface Invocation permits ResultWithDeadline, PendingWithDeadline {}
+
   /**
    * Pairs a {@link ConnectorResult} with the deadline that should be used for the completion
    * command that follows it — the job's original activation deadline, or an updated one if {@link
    * #updateJobTimeoutIfPresent} applied a {@code jobTimeout} header. The updated deadline is not
    * necessarily later: a short {@code jobTimeout} can move it earlier than the original.
    */
-  private record ResultWithDeadline(ConnectorResult result, long deadline) {}
+  private record ResultWithDeadline(ConnectorResult result, long deadline) implements Invocation {}
+
+  /**
+   * The connector function returned a {@link PendingOperation}; the job is parked in the {@link
+   * ParkedJobScheduler} instead of being completed right away. Carries the retry backoff and
+   * deadline the final result needs once the operation has completed.
+   */
+  private record PendingWithDeadline(
+      PendingOperation operation, Duration retryBackoff, long deadline) implements Invocation {}
 
-  private ResultWithDeadline getConnectorResult(
+  private Invocation getConnectorResult(
       ActivatedJob job, OutboundConnectorContext context, SecretFilter secretFilter) {
     Duration retryBackoff = null;
     long deadline = job.getDeadline();
@@ -246,26 +293,11 @@ public class SpringConnectorJobHandler implements JobHandler {
         }
       }
 
-      var connectorResponse = getConnectorResponse(context);
-
-      if (connectorResponse instanceof AdHocSubProcessConnectorResponse ahsp) {
-        InlineSizeGuard.check(objectMapper.writeValueAsBytes(ahsp.variables()).length);
-        // AHSP responses provide their own variables; skip result expression evaluation
-        return new ResultWithDeadline(
-            new ConnectorResult.SuccessResult(connectorResponse, Map.of()), deadline);
-      }
-
-      var responseVariables =
-          connectorResultHandler.createOutputVariables(
-              connectorResponse.responseValue(),
-              job.getCustomHeaders().get(Keywords.RESULT_VARIABLE_KEYWORD),
-              job.getCustomHeaders().get(Keywords.RESULT_EXPRESSION_KEYWORD),
-              job.getPhysicalTenantId());
-      if (!responseVariables.isEmpty()) {
-        InlineSizeGuard.check(objectMapper.writeValueAsBytes(responseVariables).length);
+      Object responseValue = call.execute(context);
+      if (responseValue instanceof PendingOperation operation) {
+        return new PendingWithDeadline(operation, retryBackoff, deadline);
       }
-      return new ResultWithDeadline(
-          new ConnectorResult.SuccessResult(connectorResponse, responseVariables), deadline);
+      return new ResultWithDeadline(toConnectorResult(job, context, responseValue), deadline);
     } catch (Exception e) {
       return new ResultWithDeadline(
           outboundConnectorExceptionHandler.manageConnectorJobHandlerException(
@@ -387,10 +419,141 @@ public class SpringConnectorJobHandler implements JobHandler {
     return false;
   }
 
-  private ConnectorResponse getConnectorResponse(OutboundConnectorContext context)
-      throws Exception {
-    Object responseValue = call.execute(context);
+  private ConnectorResult toConnectorResult(
+      ActivatedJob job, OutboundConnectorContext context, Object responseValue) throws Exception {
+    var connectorResponse = getConnectorResponse(context, responseValue);
+
+    if (connectorResponse instanceof AdHocSubProcessConnectorResponse ahsp) {
+      InlineSizeGuard.check(objectMapper.writeValueAsBytes(ahsp.variables()).length);
+      // AHSP responses provide their own variables; skip result expression evaluation
+      return new ConnectorResult.SuccessResult(connectorResponse, Map.of());
+    }
+
+    var responseVariables =
+        connectorResultHandler.createOutputVariables(
+            connectorResponse.responseValue(),
+            job.getCustomHeaders().get(Keywords.RESULT_VARIABLE_KEYWORD),
+            job.getCustomHeaders().get(Keywords.RESULT_EXPRESSION_KEYWORD),
+            job.getPhysicalTenantId());
+    if (!responseVariables.isEmpty()) {
+      InlineSizeGuard.check(objectMapper.writeValueAsBytes(responseVariables).length);
+    }
+    return new ConnectorResult.SuccessResult(connectorResponse, responseVariables);
+  }
+
+  /**
+   * Hands a {@link PendingOperation} to the {@link ParkedJobScheduler} and returns, releasing the
+   * worker thread. Once the operation is done, the job continues on a poll thread exactly as if the
+   * connector function had returned (or thrown) the outcome of the operation.
+   */
+  private void park(
+      JobClient client,
+      ActivatedJob job,
+      OutboundConnectorContext context,
+      PendingWithDeadline pending,
+      CounterMetricsContext counterMetricsContext,
+      SecretFilter secretFilter) {
+    LOGGER.info(
+        "Parking job: {} for tenant: {} until its remote operation completes",
+        job.getKey(),
+        job.getTenantId());
+    var deadline = new AtomicLong(pending.deadline());
+    parkedJobScheduler
+        .park(pending.operation(), delay -> extendParkedJobTimeout(job, delay, deadline))
+        .whenComplete(
+            (responseValue, error) ->
+                resumeParkedJob(
+                    client,
+                    job,
+                    context,
+                    pending.retryBackoff(),
+                    deadline.get(),
+                    responseValue,
+                    error,
+                    counterMetricsContext,
+                    secretFilter));
+  }
+
+  private void resumeParkedJob(
+      JobClient client,
+      ActivatedJob job,
+      OutboundConnectorContext context,
+      Duration retryBackoff,
+      long deadline,
+      Object responseValue,
+      Throwable error,
+      CounterMetricsContext counterMetricsContext,
+      SecretFilter secretFilter) {
+    if (error instanceof CancellationException) {
+      // the scheduler was closed (runtime shutdown); leave the job alone so Zeebe's activation
+      // timeout reassigns it, which starts the remote operation again on the next worker
+      LOGGER.warn(
+          "Abandoning parked job: {} for tenant: {} because the runtime is shutting down",
+          job.getKey(),
+          job.getTenantId());
+      return;
+    }
+    try {
+      ConnectorResult result;
+      try {
+        if (error != null) {
+          throw asException(error);
+        }
+        result = toConnectorResult(job, context, responseValue);
+      } catch (Exception e) {
+        result =
+            outboundConnectorExceptionHandler.manageConnectorJobHandlerException(
+                e, job, retryBackoff, secretFilter);
+      }
+      LOGGER.info("Resuming parked job: {} for tenant: {}", job.getKey(), job.getTenantId());
+      processFinalResult(
+          client, job, context, result, counterMetricsContext, secretFilter, deadline);
+    } catch (Exception e) {
+      connectorsOutboundMetrics.increaseFailed(counterMetricsContext);
+      connectorsOutboundMetrics.recordFailed(job.getType());
+      LOGGER.warn("Failed to resume parked job: {} of type: {}", job.getKey(), job.getType());
+    }
+  }
+
+  private static Exception asException(Throwable error) {
+    var cause =
+        error instanceof CompletionException && error.getCause() != null
+            ? error.getCause()
+            : error;
+    return cause instanceof Exception exception ? exception : new RuntimeException(cause);
+  }
+
+  /**
+   * Makes sure a parked job stays activated until shortly after its next poll, updating the job
+   * timeout only when the current deadline would expire before that. Failures are classified like
+   * in {@link #updateJobTimeoutIfPresent}: a transient transport failure is logged and the job
+   * keeps its current deadline, anything else fails the parked job as its lease may already be
+   * gone.
+   */
+  private void extendParkedJobTimeout(ActivatedJob job, Duration delay, AtomicLong deadline) {
+    var timeout = delay.plus(PARKED_JOB_TIMEOUT_MARGIN);
+    long requestTime = System.currentTimeMillis();
+    if (deadline.get() >= requestTime + timeout.toMillis()) {
+      return;
+    }
+    try {
+      camundaClient.newUpdateTimeoutCommand(job).timeout(timeout).execute();
+    } catch (Exception e) {
+      if (!isTransientTransportFailure(e)) {
+        throw e;
+      }
+      LOGGER.warn(
+          "Failed to extend timeout of parked job: {} of type: {}, keeping existing deadline",
+          job.getKey(),
+          job.getType(),
+          e);
+      return;
+    }
+    deadline.set(requestTime + timeout.toMillis());
+  }
 
+  private ConnectorResponse getConnectorResponse(
+      OutboundConnectorContext context, Object responseValue) throws Exception {
     if (responseValue instanceof DocumentReturn<?> documentReturn) {
       // Safety net: if process() throws before it reaches the convert() try-with-resources, the
       // payload stream still owns external resources (e.g. an open HTTP response / Apache client
@@ -837,4 +1000,12 @@ public class SpringConnectorJobHandler implements JobHandler {
       case CommandOutcome.Ignored i -> new CommandFailure.CommandIgnored(i.cause());
     };
   }
+
+  /**
+   * Scheduler shared by all handlers created without one, so they do not start a timer thread
+   * each. It is never closed and lives as long as the JVM.
+   */
+  private static final class DefaultParkedJobScheduler {
+    private static final ParkedJobScheduler INSTANCE = new ParkedJobScheduler(null);
+  }
 }
@@ -35,6 +35,7 @@ import io.camunda.connector.runtime.core.outbound.OutboundConnectorFactory;
 import io.camunda.connector.runtime.core.secret.SecretFilterFactory;
 import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
 import io.camunda.connector.runtime.metrics.ConnectorOutboundMetrics;
+import io.camunda.connector.runtime.outbound.job.ParkedJobScheduler;
 import io.camunda.connector.runtime.outbound.job.SpringConnectorJobHandler;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
@@ -59,6 +60,7 @@ public class OutboundConnectorManager implements CamundaClientLifecycleAware {
   private final MetricsRecorder metricsRecorder;
   private final Map<String, SecretFilterFactory> secretFilterFactoriesByPhysicalTenantId;
   private final MeterRegistry meterRegistry;
+  private final ParkedJobScheduler parkedJobScheduler;
 
   /**
    * One {@link OutboundConnectorFunction} instance per (physical tenant, connector type) pair —
@@ -83,7 +85,8 @@ public class OutboundConnectorManager implements CamundaClientLifecycleAware {
       Map<String, ObjectMapper> objectMappersByPhysicalTenantId,
       MetricsRecorder metricsRecorder,
       Map<String, SecretFilterFactory> secretFilterFactoriesByPhysicalTenantId,
-      MeterRegistry meterRegistry) {
+      MeterRegistry meterRegistry,
+      ParkedJobScheduler parkedJobScheduler) {
     this.jobWorkerManager = jobWorkerManager;
     this.connectorFactory = connectorFactory;
     this.jobCallbackCommandWrapperFactory = jobCallbackCommandWrapperFactory;
@@ -94,6 +97,7 @@ public class OutboundConnectorManager implements CamundaClientLifecycleAware {
     this.metricsRecorder = metricsRecorder;
     this.secretFilterFactoriesByPhysicalTenantId = secretFilterFactoriesByPhysicalTenantId;
     this.meterRegistry = meterRegistry;
+    this.parkedJobScheduler = parkedJobScheduler;
   }
 
   /**
@@ -210,7 +214,8 @@ public class OutboundConnectorManager implements CamundaClientLifecycleAware {
                 objectMapper,
                 connectorFunction,
                 secretFilterFactory,
-                client);
+                client,
+                parkedJobScheduler);
     jobWorkerManager.createJobWorker(
         client, new ManagedJobWorker(jobWorkerValue, jobHandlerFactory), this);
   }
@@ -0,0 +1,164 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.secret;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.camunda.connector.api.secret.SecretContext;
+import io.camunda.connector.api.secret.SecretProvider;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Secret provider decorator which caches the secrets resolved by another provider.
+ *
+ * <p>Resolved secrets are cached for the provider's TTL, names the provider does not know are
+ * cached for the (usually shorter) negative TTL. Accessing a secret within the refresh-ahead
+ * window before its expiry reloads it in the background while the cached value is still returned,
+ * so a slow secret backend does not delay jobs once a secret has been resolved. If the background
+ * reload fails, the cached value is kept until it expires.
+ */
+public class CachingSecretProvider implements SecretProvider {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CachingSecretProvider.class);
+
+  private final SecretProvider delegate;
+  private final LoadingCache<CacheKey, Optional<String>> cache;
+  private final Counter hits;
+  private final Counter misses;
+  private final Timer lookupTime;
+
+  public CachingSecretProvider(
+      SecretProvider delegate, CacheSettings settings, MeterRegistry meterRegistry) {
+    this(delegate, settings, meterRegistry, Ticker.systemTicker(), ForkJoinPool.commonPool());
+  }
+
+  CachingSecretProvider(
+      SecretProvider delegate,
+      CacheSettings settings,
+      MeterRegistry meterRegistry,
+      Ticker ticker,
+      Executor executor) {
+    this.delegate = delegate;
+    var providerName = providerName(delegate);
+    var ttl = settings.ttlFor(providerName);
+    var negativeTtl = settings.negativeTtl();
+
+    var builder =
+        Caffeine.newBuilder()
+            .ticker(ticker)
+            .executor(executor)
+            .maximumSize(settings.maxSize())
+            .expireAfter(
+                Expiry.<CacheKey, Optional<String>>writing(
+                    (key, value) -> value.isPresent() ? ttl : negativeTtl));
+    var refreshAfter = ttl.minus(settings.refreshAhead());
+    if (refreshAfter.isPositive() && refreshAfter.compareTo(ttl) < 0) {
+      builder.refreshAfterWrite(refreshAfter);
+    }
+    this.cache = builder.build(this::load);
+
+    this.hits =
+        Counter.builder(ConnectorMetrics.Secrets.METRIC_NAME_CACHE_ACCESSES)
+            .tag(ConnectorMetrics.Tag.PROVIDER, providerName)
+            .tag(ConnectorMetrics.Tag.RESULT, ConnectorMetrics.Secrets.RESULT_CACHE_HIT)
+            .register(meterRegistry);
+    this.misses =
+        Counter.builder(ConnectorMetrics.Secrets.METRIC_NAME_CACHE_ACCESSES)
+            .tag(ConnectorMetrics.Tag.PROVIDER, providerName)
+            .tag(ConnectorMetrics.Tag.RESULT, ConnectorMetrics.Secrets.RESULT_CACHE_MISS)
+            .register(meterRegistry);
+    this.lookupTime =
+        Timer.builder(ConnectorMetrics.Secrets.METRIC_NAME_LOOKUP_TIME)
+            .tag(ConnectorMetrics.Tag.PROVIDER, providerName)
+            .register(meterRegistry);
+  }
+
+  @Override
+  public String getSecret(String name, SecretContext context) {
+    var key = new CacheKey(name, context);
+    var cached = cache.getIfPresent(key);
+    if (cached != null) {
+      hits.increment();
+      return cached.orElse(null);
+    }
+    misses.increment();
+    return cache.get(key).orElse(null);
+  }
+
+  /** Drops all cached secrets, e.g. after secrets have been rotated. */
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  private Optional<String> load(CacheKey key) {
+    LOGGER.debug("Resolving secret '{}' from {}", key.name(), delegate.getClass().getName());
+    return lookupTime.record(
+        () -> Optional.ofNullable(delegate.getSecret(key.name(), key.context())));
+  }
+
+  private static String providerName(SecretProvider provider) {
+    return provider.getClass().getSimpleName();
+  }
+
+  private record CacheKey(String name, @Nullable SecretContext context) {}
+
+  /**
+   * Settings of the resolved-secret cache.
+   *
+   * @param ttl how long a resolved secret is cached
+   * @param negativeTtl how long a secret name unknown to the provider is cached
+   * @param refreshAhead how long before expiry an accessed secret is reloaded in the background
+   * @param maxSize maximum number of cached secrets per provider
+   * @param providerTtl TTL overrides keyed by the simple class name of the provider
+   */
+  public record CacheSettings(
+      Duration ttl,
+      Duration negativeTtl,
+      Duration refreshAhead,
+      long maxSize,
+      Map<String, Duration> providerTtl) {
+
+    public static final CacheSettings DEFAULT =
+        new CacheSettings(
+            Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ofMinutes(1), 10_000, Map.of());
+
+    public CacheSettings {
+      providerTtl = providerTtl == null ? Map.of() : Map.copyOf(providerTtl);
+    }
+
+    Duration ttlFor(String providerName) {
+      return providerTtl.entrySet().stream()
+          .filter(entry -> entry.getKey().equalsIgnoreCase(providerName))
+          .map(Map.Entry::getValue)
+          .findFirst()
+          .orElse(ttl);
+    }
+  }
+}
@@ -34,11 +34,14 @@ import io.camunda.connector.runtime.core.inbound.correlation.StartEventCorrelati
 import io.camunda.connector.runtime.core.inbound.details.InboundConnectorDetails;
 import io.camunda.connector.runtime.core.inbound.details.InboundConnectorDetails.ValidInboundConnectorDetails;
 import io.camunda.connector.runtime.inbound.executable.InboundExecutableEvent.ProcessStateChanged;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics;
 import io.camunda.connector.runtime.metrics.ConnectorsInboundMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import org.junit.jupiter.api.BeforeEach;
@@ -966,4 +969,114 @@ public class InboundExecutableRegistryTest {
         .anySatisfy(msg -> assertThat(msg).contains("Activated inbound connector"))
         .anySatisfy(msg -> assertThat(msg).isEqualTo("Custom connector log entry"));
   }
+
+  @Test
+  public void publishEvent_shouldHandleEventsOfDifferentProcessesWithoutPolling()
+      throws Exception {
+    // given
+    var meterRegistry = new SimpleMeterRegistry();
+    var localRegistry =
+        new InboundExecutableRegistryImpl(
+            factory,
+            batchProcessor,
+            activityLogRegistry,
+            new ConnectorsInboundMetrics(meterRegistry),
+            2);
+    var element1 =
+        new InboundConnectorElement(
+            Map.of(Keywords.INBOUND_TYPE_KEYWORD, "type1"),
+            new StartEventCorrelationPoint("process1", 0, 0),
+            new ProcessElementWithRuntimeData("process1", 1, 1, "element1", "tenant"));
+    var element2 =
+        new InboundConnectorElement(
+            Map.of(Keywords.INBOUND_TYPE_KEYWORD, "type1"),
+            new StartEventCorrelationPoint("process2", 0, 0),
+            new ProcessElementWithRuntimeData("process2", 2, 2, "element2", "tenant"));
+    var executable = mock(InboundConnectorExecutable.class);
+    var context = mock(InboundConnectorManagementContext.class);
+    when(context.getDefinition())
+        .thenReturn(new InboundConnectorDefinition("type1", "tenant", "id", null, null));
+    when(context.getHealth()).thenReturn(Health.up());
+    when(contextFactory.createContext(any(), any(), any(), any())).thenReturn(context);
+    when(factory.getInstance(any())).thenReturn(executable);
+
+    // when
+    localRegistry.publishEvent(
+        new ProcessStateChanged(
+            ProcessElementWithRuntimeData.DEFAULT_PHYSICAL_TENANT_ID,
+            "process1",
+            "tenant",
+            Map.of(1L, List.of(element1))));
+    localRegistry.publishEvent(
+        new ProcessStateChanged(
+            ProcessElementWithRuntimeData.DEFAULT_PHYSICAL_TENANT_ID,
+            "process2",
+            "tenant",
+            Map.of(2L, List.of(element2))));
+    localRegistry.awaitPublishedEvents();
+
+    // then
+    verify(executable, times(2)).activate(context);
+    assertThat(localRegistry.query(q -> {})).hasSize(2);
+    assertThat(
+            meterRegistry
+                .get(ConnectorMetrics.Inbound.METRIC_NAME_REGISTRY_EVENT_LATENCY)
+                .timer()
+                .count())
+        .isEqualTo(2);
+    assertThat(
+            meterRegistry
+                .get(ConnectorMetrics.Inbound.METRIC_NAME_REGISTRY_EVENT_QUEUE_SIZE)
+                .gauge()
+                .value())
+        .isZero();
+    localRegistry.shutdown();
+  }
+
+  @Test
+  public void publishEvent_shouldHandleEventsOfOneProcessInPublishingOrder() {
+    // given
+    var handledVersions = new CopyOnWriteArrayList<Long>();
+    var localRegistry =
+        new InboundExecutableRegistryImpl(
+            factory,
+            batchProcessor,
+            activityLogRegistry,
+            new ConnectorsInboundMetrics(new SimpleMeterRegistry()),
+            4) {
+          @Override
+          void handleEvent(InboundExecutableEvent event) {
+            long processDefinitionKey =
+                ((ProcessStateChanged) event)
+                    .elementsByProcessDefinitionKey()
+                    .keySet()
+                    .iterator()
+                    .next();
+            if (processDefinitionKey == 1L) {
+              // the first event is slow, later events of the process must still wait for it
+              try {
+                Thread.sleep(200);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            }
+            handledVersions.add(processDefinitionKey);
+          }
+        };
+
+    // when
+    for (long processDefinitionKey = 1; processDefinitionKey <= 5; processDefinitionKey++) {
+      localRegistry.publishEvent(
+          new ProcessStateChanged(
+              ProcessElementWithRuntimeData.DEFAULT_PHYSICAL_TENANT_ID,
+              "process1",
+              "tenant",
+              Map.of(processDefinitionKey, List.of())));
+    }
+    localRegistry.awaitPublishedEvents();
+
+    // then
+    assertThat(handledVersions).containsExactly(1L, 2L, 3L, 4L, 5L);
+    localRegistry.shutdown();
+  }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.inbound.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.client.api.search.response.ElementInstance;
+import io.camunda.client.api.search.response.SearchResponse;
+import io.camunda.client.impl.search.response.ElementInstanceImpl;
+import io.camunda.client.impl.search.response.SearchResponseImpl;
+import io.camunda.client.impl.search.response.SearchResponsePageImpl;
+import io.camunda.client.protocol.rest.ElementInstanceResult;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveElementInstanceIndexTest {
+
+  private static final long PROCESS_DEFINITION_KEY = 123L;
+
+  @Mock private SearchQueryClient searchQueryClient;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private ActiveElementInstanceIndex index;
+
+  @BeforeEach
+  void createIndex() {
+    // the background refresh does not run within a test, tests call refresh() instead
+    index =
+        new ActiveElementInstanceIndex(
+            searchQueryClient, Duration.ofMinutes(1), meterRegistry, "default");
+  }
+
+  @AfterEach
+  void closeIndex() {
+    index.close();
+  }
+
+  @Test
+  void shouldPageThroughActiveInstancesWithCursor() {
+    when(searchQueryClient.queryActiveElementInstances(PROCESS_DEFINITION_KEY, null))
+        .thenReturn(searchResult("cursor-1", instance("1", "task"), instance("2", "other")));
+    when(searchQueryClient.queryActiveElementInstances(PROCESS_DEFINITION_KEY, "cursor-1"))
+        .thenReturn(searchResult("cursor-2", instance("3", "task")));
+    when(searchQueryClient.queryActiveElementInstances(PROCESS_DEFINITION_KEY, "cursor-2"))
+        .thenReturn(searchResult(null));
+
+    var result = index.getActiveElementInstances(PROCESS_DEFINITION_KEY, "task");
+
+    assertThat(result)
+        .extracting(ElementInstance::getElementInstanceKey)
+        .containsExactly(1L, 3L);
+  }
+
+  @Test
+  void shouldServeLatestSnapshot_betweenRefreshes() {
+    when(searchQueryClient.queryActiveElementInstances(PROCESS_DEFINITION_KEY, null))
+        .thenReturn(searchResult(null));
+
+    index.getActiveElementInstances(PROCESS_DEFINITION_KEY, "task");
+    index.getActiveElementInstances(PROCESS_DEFINITION_KEY, "task");
+
+    verify(searchQueryClient, times(1)).queryActiveElementInstances(PROCESS_DEFINITION_KEY, null);
+    assertThat(
+            meterRegistry
+                .get(ConnectorMetrics.Inbound.METRIC_NAME_ACTIVE_INSTANCE_INDEX_SIZE)
+                .gauge()
+                .value())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldRefreshAllElementsOfAProcessWithOneSearch() {
+    when(searchQueryClient.queryActiveElementInstances(PROCESS_DEFINITION_KEY, null))
+        .thenReturn(searchResult(null))
+        .thenReturn(searchResult(null))
+        .thenReturn(searchResult("cursor", instance("1", "task-a"), instance("2", "task-b")));
+    when(searchQueryClient.queryActiveElementInstances(PROCESS_DEFINITION_KEY, "cursor"))
+        .thenReturn(searchResult(null));
+
+    // the first read of each element is fetched right away
+    assertThat(index.getActiveElementInstances(PROCESS_DEFINITION_KEY, "task-a")).isEmpty();
+    assertThat(index.getActiveElementInstances(PROCESS_DEFINITION_KEY, "task-b")).isEmpty();
+
+    index.refresh();
+
+    assertThat(index.getActiveElementInstances(PROCESS_DEFINITION_KEY, "task-a"))
+        .extracting(ElementInstance::getElementInstanceKey)
+        .containsExactly(1L);
+    assertThat(index.getActiveElementInstances(PROCESS_DEFINITION_KEY, "task-b"))
+        .extracting(ElementInstance::getElementInstanceKey)
+        .containsExactly(2L);
+    verify(searchQueryClient, times(3)).queryActiveElementInstances(PROCESS_DEFINITION_KEY, null);
+  }
+
+  @Test
+  void shouldKeepLatestSnapshot_whenRefreshFails() {
+    when(searchQueryClient.queryActiveElementInstances(PROCESS_DEFINITION_KEY, null))
+        .thenReturn(searchResult("cursor", instance("1", "task")))
+        .thenThrow(new IllegalStateException("Search unavailable"));
+    when(searchQueryClient.queryActiveElementInstances(PROCESS_DEFINITION_KEY, "cursor"))
+        .thenReturn(searchResult(null));
+
+    assertThat(index.getActiveElementInstances(PROCESS_DEFINITION_KEY, "task")).hasSize(1);
+    index.refresh();
+
+    assertThat(index.getActiveElementInstances(PROCESS_DEFINITION_KEY, "task")).hasSize(1);
+  }
+
+  private static ElementInstance instance(String key, String elementId) {
+    final var item = new ElementInstanceResult();
+    item.setElementInstanceKey(key);
+    item.setProcessInstanceKey("100" + key);
+    item.setProcessDefinitionKey(String.valueOf(PROCESS_DEFINITION_KEY));
+    item.setElementId(elementId);
+    return new ElementInstanceImpl(item);
+  }
+
+  private static SearchResponse<ElementInstance> searchResult(
+      String endCursor, ElementInstance... items) {
+    final var page = new SearchResponsePageImpl((long) items.length, null, endCursor);
+    return new SearchResponseImpl<>(Arrays.asList(items), page);
+  }
+}
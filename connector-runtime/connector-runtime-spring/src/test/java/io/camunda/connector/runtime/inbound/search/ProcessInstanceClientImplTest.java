@@ -49,15 +49,15 @@ class ProcessInstanceClientImplTest {
     Long processDefinitionKey = 123L;
     String elementId = "task1";
     ElementInstance flownodeInstance1 =
-        createFlownodeInstance("456", "123456", "187", "flowNodeName1", "tenantId1");
+        createFlownodeInstance("456", "123456", "187", "task1", "tenantId1");
     ElementInstance flownodeInstance2 =
-        createFlownodeInstance("789", "234567", "203", "flowNodeName2", "tenantId2");
+        createFlownodeInstance("789", "234567", "203", "task1", "tenantId2");
 
     SearchResponse<ElementInstance> flownodeInstanceSearchResult =
         createSearchResult(flownodeInstance1, flownodeInstance2);
     SearchResponse<ElementInstance> flownodeInstanceEmptySearchResult = createEmptySearchResult();
 
-    when(searchQueryClient.queryActiveFlowNodes(anyLong(), any(), any()))
+    when(searchQueryClient.queryActiveElementInstances(anyLong(), any()))
         .thenReturn(flownodeInstanceSearchResult)
         .thenReturn(flownodeInstanceEmptySearchResult);
 
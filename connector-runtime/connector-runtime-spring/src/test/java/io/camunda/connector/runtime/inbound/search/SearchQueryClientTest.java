@@ -19,6 +19,7 @@ package io.camunda.connector.runtime.inbound.search;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.client.CamundaClient;
+import io.camunda.client.api.search.response.ElementInstance;
 import io.camunda.connector.runtime.inbound.EmptyConfiguration;
 import io.camunda.connector.test.utils.annotation.SlowTest;
 import io.camunda.process.test.api.CamundaSpringProcessTest;
@@ -234,6 +235,51 @@ public class SearchQueryClientTest {
     assertThat(activeNode.getElementId()).isEqualTo("task1");
   }
 
+  @Test
+  public void shouldFetchActiveElementInstancesOfAllElements() {
+    // Given
+    BpmnModelInstance modelInstance =
+        Bpmn.createExecutableProcess("elementInstancesProcess")
+            .startEvent()
+            .parallelGateway("fork")
+            .serviceTask("taskA")
+            .zeebeJobType("jobA")
+            .endEvent()
+            .moveToNode("fork")
+            .serviceTask("taskB")
+            .zeebeJobType("jobB")
+            .endEvent()
+            .done();
+
+    var deployment =
+        camundaClient
+            .newDeployResourceCommand()
+            .addProcessModel(modelInstance, "elementInstancesProcess.bpmn")
+            .send()
+            .join();
+
+    long processDefinitionKey = deployment.getProcesses().getFirst().getProcessDefinitionKey();
+
+    camundaClient
+        .newCreateInstanceCommand()
+        .bpmnProcessId("elementInstancesProcess")
+        .latestVersion()
+        .send()
+        .join();
+
+    waitForActiveElement(processDefinitionKey, "taskA");
+    waitForActiveElement(processDefinitionKey, "taskB");
+
+    // When
+    SearchQueryClientImpl searchClient = new SearchQueryClientImpl(camundaClient, 200);
+    var result = searchClient.queryActiveElementInstances(processDefinitionKey, null);
+
+    // Then
+    assertThat(result.items())
+        .extracting(ElementInstance::getElementId)
+        .contains("taskA", "taskB");
+  }
+
   @Test
   public void shouldFetchActiveFlowNodes_whenPaginated() {
     // Given - create multiple active instances
@@ -20,6 +20,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -42,19 +44,23 @@ import io.camunda.connector.runtime.core.inbound.correlation.InboundCorrelationH
 import io.camunda.connector.runtime.core.inbound.correlation.StartEventCorrelationPoint;
 import io.camunda.connector.runtime.core.inbound.details.InboundConnectorDetails;
 import io.camunda.connector.runtime.inbound.executable.RegisteredExecutable;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics;
 import io.camunda.connector.validation.impl.DefaultValidationProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.mock.web.MockMultipartHttpServletRequest;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
 
 class InboundWebhookRestControllerTest {
 
@@ -219,6 +225,109 @@ class InboundWebhookRestControllerTest {
     mockMvc.perform(post("/inbound/myPath")).andExpect(status().isNotFound());
   }
 
+  @Test
+  void shouldPassBodyAboveStreamThresholdAsPart() throws Exception {
+    var rawBodyCaptor = new AtomicReference<byte[]>();
+    var partCaptor = new AtomicReference<String>();
+    var executable = mock(WebhookConnectorExecutable.class);
+    var webhookResult = mock(WebhookResult.class);
+    when(webhookResult.request()).thenReturn(new MappedHttpRequest(Map.of(), Map.of(), Map.of()));
+    when(executable.triggerWebhook(any(WebhookProcessingPayload.class)))
+        .thenAnswer(
+            inv -> {
+              WebhookProcessingPayload payload = inv.getArgument(0);
+              rawBodyCaptor.set(payload.rawBody());
+              var part = payload.parts().iterator().next();
+              partCaptor.set(
+                  part.name()
+                      + ":"
+                      + part.contentType()
+                      + ":"
+                      + new String(part.inputStream().readAllBytes(), StandardCharsets.UTF_8));
+              return webhookResult;
+            });
+    var registry = registryWith(executable);
+    var controller =
+        new InboundWebhookRestController(
+            registry, DataSize.ofBytes(8), DataSize.ofBytes(64), new SimpleMeterRegistry());
+
+    var request = new MockHttpServletRequest("POST", "/inbound/myPath");
+    request.setContentType("application/octet-stream");
+    request.setContent("a large binary body".getBytes(StandardCharsets.UTF_8));
+    controller.inbound("myPath", new HashMap<>(), request);
+
+    assertThat(rawBodyCaptor.get()).isEmpty();
+    assertThat(partCaptor.get()).isEqualTo("body:application/octet-stream:a large binary body");
+  }
+
+  @Test
+  void shouldPassLargeBodyAsRawBody_whenStreamThresholdIsNotSet() throws Exception {
+    var payloadCaptor = new AtomicReference<WebhookProcessingPayload>();
+    var executable = mock(WebhookConnectorExecutable.class);
+    var webhookResult = mock(WebhookResult.class);
+    when(webhookResult.request()).thenReturn(new MappedHttpRequest(Map.of(), Map.of(), Map.of()));
+    when(executable.triggerWebhook(any(WebhookProcessingPayload.class)))
+        .thenAnswer(
+            inv -> {
+              payloadCaptor.set(inv.getArgument(0));
+              return webhookResult;
+            });
+    var controller =
+        new InboundWebhookRestController(
+            registryWith(executable), null, DataSize.ofBytes(64), new SimpleMeterRegistry());
+
+    var request = new MockHttpServletRequest("POST", "/inbound/myPath");
+    request.setContentType("application/octet-stream");
+    request.setContent("a large binary body".getBytes(StandardCharsets.UTF_8));
+    controller.inbound("myPath", new HashMap<>(), request);
+
+    assertThat(new String(payloadCaptor.get().rawBody(), StandardCharsets.UTF_8))
+        .isEqualTo("a large binary body");
+    assertThat(payloadCaptor.get().parts()).isEmpty();
+  }
+
+  @Test
+  void shouldRejectBodyAboveMaxSizeWithoutTriggeringConnector() throws Exception {
+    var executable = mock(WebhookConnectorExecutable.class);
+    var registry = registryWith(executable);
+    var meterRegistry = new SimpleMeterRegistry();
+    var controller =
+        new InboundWebhookRestController(
+            registry, DataSize.ofBytes(8), DataSize.ofBytes(16), meterRegistry);
+
+    var request = new MockHttpServletRequest("POST", "/inbound/myPath");
+    request.setContent("a body that is far too large".getBytes(StandardCharsets.UTF_8));
+    var response = controller.inbound("myPath", new HashMap<>(), request);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONTENT_TOO_LARGE);
+    verify(executable, never()).triggerWebhook(any());
+    var rejected =
+        meterRegistry
+            .get(ConnectorMetrics.Inbound.METRIC_NAME_WEBHOOK_REJECTED_REQUESTS)
+            .tag(ConnectorMetrics.Tag.REASON, ConnectorMetrics.Inbound.REJECTED_PAYLOAD_TOO_LARGE)
+            .counter();
+    assertThat(rejected.count()).isEqualTo(1);
+  }
+
+  private static WebhookConnectorRegistry registryWith(WebhookConnectorExecutable executable) {
+    var details = webhookDefinition("processA", 1, "myPath");
+    var context =
+        new InboundConnectorContextImpl(
+            new NullSecretProvider(),
+            new DefaultValidationProvider(),
+            details,
+            mock(InboundCorrelationHandler.class),
+            e -> {},
+            ConnectorsObjectMapperSupplier.getCopy(),
+            new ActivityLogRegistry(),
+            mock(CamundaClient.class));
+    var registry = new WebhookConnectorRegistry();
+    registry.register(
+        new RegisteredExecutable.Activated(
+            executable, context, ExecutableId.fromDeduplicationId(details.deduplicationId())));
+    return registry;
+  }
+
   private static io.camunda.connector.api.inbound.Activity latestActivity(
       ActivityLogRegistry registry, ExecutableId executableId) {
     return registry.getLogs(executableId).stream().reduce((first, second) -> second).orElseThrow();
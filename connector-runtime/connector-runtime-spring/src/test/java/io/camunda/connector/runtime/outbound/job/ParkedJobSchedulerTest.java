@@ -0,0 +1,181 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.outbound.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.connector.api.error.ConnectorException;
+import io.camunda.connector.api.outbound.PendingOperation;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ParkedJobSchedulerTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ParkedJobScheduler scheduler = new ParkedJobScheduler(meterRegistry);
+
+  @AfterEach
+  void closeScheduler() {
+    scheduler.close();
+  }
+
+  @Test
+  void shouldCompleteWithResponseValue_onceOperationCompletes() throws Exception {
+    var polls = new AtomicInteger();
+    var operation =
+        new TestOperation(
+            Duration.ofHours(1),
+            () -> polls.incrementAndGet() < 3 ? PendingOperation.pending() : completed("done"));
+
+    var result = scheduler.park(operation, delay -> {});
+
+    assertThat(result.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isEqualTo("done");
+    assertThat(polls).hasValue(3);
+    assertThat(operation.closed).isTrue();
+    assertThat(scheduler.size()).isZero();
+  }
+
+  @Test
+  void shouldDoubleDelayBetweenPolls_upToMaxDelay() throws Exception {
+    var polls = new AtomicInteger();
+    List<Duration> delays = new CopyOnWriteArrayList<>();
+    var operation =
+        new TestOperation(
+            Duration.ofHours(1),
+            () -> polls.incrementAndGet() < 4 ? PendingOperation.pending() : completed("done"));
+
+    scheduler.park(operation, delays::add).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+    assertThat(delays)
+        .containsExactly(
+            Duration.ofMillis(1), Duration.ofMillis(2), Duration.ofMillis(3), Duration.ofMillis(3));
+  }
+
+  @Test
+  void shouldFail_whenPollThrows() {
+    var operation =
+        new TestOperation(
+            Duration.ofHours(1),
+            () -> {
+              throw new IllegalStateException("remote job failed");
+            });
+
+    var result = scheduler.park(operation, delay -> {});
+
+    assertThatThrownBy(() -> result.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(IllegalStateException.class);
+    assertThat(operation.closed).isTrue();
+  }
+
+  @Test
+  void shouldFail_whenTimeoutCannotBeExtended() {
+    var operation = new TestOperation(Duration.ofHours(1), PendingOperation::pending);
+
+    var result =
+        scheduler.park(
+            operation,
+            delay -> {
+              throw new IllegalStateException("job not found");
+            });
+
+    assertThatThrownBy(() -> result.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS))
+        .hasCauseInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void shouldFailWithTimeout_whenOperationDoesNotCompleteInTime() {
+    var operation = new TestOperation(Duration.ofMillis(20), PendingOperation::pending);
+
+    var result = scheduler.park(operation, delay -> {});
+
+    assertThatThrownBy(() -> result.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS))
+        .cause()
+        .isInstanceOf(ConnectorException.class)
+        .hasFieldOrPropertyWithValue("errorCode", "TIMEOUT");
+  }
+
+  @Test
+  void shouldCancelParkedOperations_whenClosed() {
+    var operation = new TestOperation(Duration.ofHours(1), PendingOperation::pending);
+    var result = scheduler.park(operation, delay -> {});
+    assertThat(
+            meterRegistry.get(ConnectorMetrics.Outbound.METRIC_NAME_PARKED_JOBS).gauge().value())
+        .isEqualTo(1);
+
+    scheduler.close();
+
+    assertThat(result).isCancelled();
+    assertThatThrownBy(result::join).isInstanceOf(CancellationException.class);
+    assertThat(operation.closed).isTrue();
+  }
+
+  private static PendingOperation.PollResult completed(Object value) {
+    return PendingOperation.completed(value);
+  }
+
+  private static final class TestOperation implements PendingOperation {
+
+    private final Duration maxWaitTime;
+    private final Callable<PollResult> poller;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private TestOperation(Duration maxWaitTime, Callable<PollResult> poller) {
+      this.maxWaitTime = maxWaitTime;
+      this.poller = poller;
+    }
+
+    @Override
+    public PollResult poll() throws Exception {
+      return poller.call();
+    }
+
+    @Override
+    public Duration initialDelay() {
+      return Duration.ofMillis(1);
+    }
+
+    @Override
+    public Duration maxDelay() {
+      return Duration.ofMillis(3);
+    }
+
+    @Override
+    public Duration maxWaitTime() {
+      return maxWaitTime;
+    }
+
+    @Override
+    public void close() {
+      closed.set(true);
+    }
+  }
+}
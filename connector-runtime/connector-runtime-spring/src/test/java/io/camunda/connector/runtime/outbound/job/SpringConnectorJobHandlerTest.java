@@ -64,6 +64,7 @@ import io.camunda.connector.api.outbound.JobCompletionFailure.ExecutionFailed;
 import io.camunda.connector.api.outbound.JobCompletionListener;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
+import io.camunda.connector.api.outbound.PendingOperation;
 import io.camunda.connector.api.secret.SecretContext;
 import io.camunda.connector.runtime.JobBuilder;
 import io.camunda.connector.runtime.TestObjectMapperSupplier;
@@ -73,6 +74,7 @@ import io.camunda.connector.runtime.core.document.DocumentFactoryImpl;
 import io.camunda.connector.runtime.core.document.store.InMemoryDocumentStore;
 import io.camunda.connector.runtime.core.secret.SecretFilter;
 import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
+import io.camunda.connector.runtime.metrics.ConnectorOutboundMetrics;
 import io.camunda.connector.runtime.secret.FooBarSecretProvider;
 import io.camunda.connector.validation.impl.DefaultValidationProvider;
 import io.grpc.Status;
@@ -90,6 +92,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -1194,6 +1197,102 @@ class SpringConnectorJobHandlerTest {
     }
   }
 
+  @Nested
+  class ParkingTests {
+
+    private final ParkedJobScheduler parkedJobScheduler = mock(ParkedJobScheduler.class);
+    private final PendingOperation operation = mock(PendingOperation.class);
+
+    private SpringConnectorJobHandler newParkingJobHandler(CamundaClient camundaClient) {
+      var metricsRecorder = new MicrometerMetricsRecorder(new SimpleMeterRegistry());
+      return new SpringConnectorJobHandler(
+          new ConnectorOutboundMetrics(metricsRecorder, null),
+          new JobCallbackCommandWrapperFactory(
+              BackoffSupplier.newBackoffBuilder().build(), commandScheduler, metricsRecorder),
+          new SecretProviderAggregator(List.of(new FooBarSecretProvider())),
+          new DefaultValidationProvider(),
+          mock(DocumentFactory.class),
+          TestObjectMapperSupplier.INSTANCE,
+          context -> operation,
+          job -> SecretFilter.allowAll(),
+          camundaClient,
+          parkedJobScheduler);
+    }
+
+    @Test
+    void shouldCompleteParkedJob_withResultOfPendingOperation() throws Exception {
+      // given
+      when(parkedJobScheduler.park(eq(operation), any()))
+          .thenReturn(CompletableFuture.completedFuture(Map.of("status", "SUCCEEDED")));
+      var jobHandler = newParkingJobHandler(mock(CamundaClient.class));
+
+      // when
+      var result =
+          JobBuilder.create()
+              .withResultVariableHeader("result")
+              .executeAndCaptureResult(jobHandler);
+
+      // then
+      assertThat(result.getVariable("result")).isEqualTo(Map.of("status", "SUCCEEDED"));
+    }
+
+    @Test
+    void shouldFailParkedJob_whenPendingOperationFails() throws Exception {
+      // given
+      when(parkedJobScheduler.park(eq(operation), any()))
+          .thenReturn(CompletableFuture.failedFuture(new ConnectorException("remote job failed")));
+      var jobHandler = newParkingJobHandler(mock(CamundaClient.class));
+
+      // when
+      var result = JobBuilder.create().withRetries(3).executeAndCaptureResult(jobHandler, false);
+
+      // then
+      assertThat(result.getErrorMessage()).startsWith("remote job failed");
+      assertThat(result.getRetries()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldLeaveParkedJobAlone_whenSchedulerIsClosed() throws Exception {
+      // given
+      var cancelled = new CompletableFuture<Object>();
+      cancelled.cancel(false);
+      when(parkedJobScheduler.park(eq(operation), any())).thenReturn(cancelled);
+      var jobClient = mock(JobClient.class);
+
+      // when
+      JobBuilder.create().useJobClient(jobClient).execute(newParkingJobHandler(null));
+
+      // then
+      verifyNoInteractions(jobClient);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldExtendJobTimeout_onlyWhenDeadlineExpiresBeforeNextPoll() throws Exception {
+      // given
+      var camundaClient = mock(CamundaClient.class);
+      var updateTimeoutStep1 = mock(UpdateTimeoutJobCommandStep1.class);
+      when(camundaClient.newUpdateTimeoutCommand(any(ActivatedJob.class)))
+          .thenReturn(updateTimeoutStep1);
+      when(updateTimeoutStep1.timeout(any(Duration.class)))
+          .thenReturn(mock(UpdateTimeoutJobCommandStep2.class));
+      ArgumentCaptor<Consumer<Duration>> beforeWait = ArgumentCaptor.forClass(Consumer.class);
+      when(parkedJobScheduler.park(eq(operation), beforeWait.capture()))
+          .thenReturn(new CompletableFuture<>());
+      JobBuilder.create()
+          .withDeadline(System.currentTimeMillis() + Duration.ofSeconds(30).toMillis())
+          .execute(newParkingJobHandler(camundaClient));
+
+      // when
+      beforeWait.getValue().accept(Duration.ofMinutes(5));
+      beforeWait.getValue().accept(Duration.ofMinutes(4));
+
+      // then
+      verify(updateTimeoutStep1, times(1)).timeout(Duration.ofMinutes(6));
+      verify(camundaClient, times(1)).newUpdateTimeoutCommand(any(ActivatedJob.class));
+    }
+  }
+
   @Nested
   class ConnectorRetryExceptionTests {
     @Test
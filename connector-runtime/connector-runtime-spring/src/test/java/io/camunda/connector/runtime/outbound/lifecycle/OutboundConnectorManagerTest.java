@@ -41,6 +41,7 @@ import io.camunda.connector.runtime.core.config.OutboundConnectorConfiguration;
 import io.camunda.connector.runtime.core.outbound.OutboundConnectorFactory;
 import io.camunda.connector.runtime.core.secret.SecretFilterFactory;
 import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
+import io.camunda.connector.runtime.outbound.job.ParkedJobScheduler;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -85,7 +86,8 @@ class OutboundConnectorManagerTest {
         objectMappersByPhysicalTenantId,
         mock(MetricsRecorder.class),
         secretFilterFactoriesByPhysicalTenantId,
-        null);
+        null,
+        mock(ParkedJobScheduler.class));
   }
 
   @Test
@@ -0,0 +1,145 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.runtime.secret;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.connector.api.secret.SecretContext;
+import io.camunda.connector.api.secret.SecretProvider;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CachingSecretProviderTest {
+
+  private static final CachingSecretProvider.CacheSettings SETTINGS =
+      new CachingSecretProvider.CacheSettings(
+          Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ofMinutes(1), 100, Map.of());
+
+  private final CountingSecretProvider delegate = new CountingSecretProvider();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicLong nanos = new AtomicLong();
+
+  @Test
+  void shouldResolveSecretOnlyOnce_whileCached() {
+    delegate.secrets.put("FOO", "foo");
+    var provider = provider(SETTINGS);
+
+    assertThat(provider.getSecret("FOO", null)).isEqualTo("foo");
+    assertThat(provider.getSecret("FOO", null)).isEqualTo("foo");
+
+    assertThat(delegate.lookups).hasValue(1);
+    assertThat(accesses(ConnectorMetrics.Secrets.RESULT_CACHE_HIT)).isEqualTo(1);
+    assertThat(accesses(ConnectorMetrics.Secrets.RESULT_CACHE_MISS)).isEqualTo(1);
+    assertThat(
+            meterRegistry.get(ConnectorMetrics.Secrets.METRIC_NAME_LOOKUP_TIME).timer().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldCacheSecretsPerContext() {
+    delegate.secrets.put("FOO", "foo");
+    var provider = provider(SETTINGS);
+
+    provider.getSecret("FOO", new SecretContext("tenant-a", "process"));
+    provider.getSecret("FOO", new SecretContext("tenant-b", "process"));
+
+    assertThat(delegate.lookups).hasValue(2);
+  }
+
+  @Test
+  void shouldCacheUnknownSecret_untilNegativeTtlExpires() {
+    var provider = provider(SETTINGS);
+
+    assertThat(provider.getSecret("UNKNOWN", null)).isNull();
+    assertThat(provider.getSecret("UNKNOWN", null)).isNull();
+    assertThat(delegate.lookups).hasValue(1);
+
+    delegate.secrets.put("UNKNOWN", "now-known");
+    advance(Duration.ofSeconds(31));
+
+    assertThat(provider.getSecret("UNKNOWN", null)).isEqualTo("now-known");
+    assertThat(delegate.lookups).hasValue(2);
+  }
+
+  @Test
+  void shouldRefreshSecret_whenAccessedShortlyBeforeExpiry() {
+    delegate.secrets.put("FOO", "foo");
+    var provider = provider(SETTINGS);
+    provider.getSecret("FOO", null);
+
+    delegate.secrets.put("FOO", "rotated");
+    advance(Duration.ofMinutes(4).plusSeconds(10));
+    provider.getSecret("FOO", null);
+
+    assertThat(delegate.lookups).hasValue(2);
+    assertThat(provider.getSecret("FOO", null)).isEqualTo("rotated");
+    assertThat(delegate.lookups).hasValue(2);
+  }
+
+  @Test
+  void shouldApplyProviderSpecificTtl() {
+    delegate.secrets.put("FOO", "foo");
+    var provider =
+        provider(
+            new CachingSecretProvider.CacheSettings(
+                Duration.ofMinutes(5),
+                Duration.ofSeconds(30),
+                Duration.ZERO,
+                100,
+                Map.of("CountingSecretProvider", Duration.ofSeconds(10))));
+    provider.getSecret("FOO", null);
+
+    advance(Duration.ofSeconds(11));
+    provider.getSecret("FOO", null);
+
+    assertThat(delegate.lookups).hasValue(2);
+  }
+
+  private CachingSecretProvider provider(CachingSecretProvider.CacheSettings settings) {
+    return new CachingSecretProvider(delegate, settings, meterRegistry, nanos::get, Runnable::run);
+  }
+
+  private void advance(Duration duration) {
+    nanos.addAndGet(duration.toNanos());
+  }
+
+  private double accesses(String result) {
+    return meterRegistry
+        .get(ConnectorMetrics.Secrets.METRIC_NAME_CACHE_ACCESSES)
+        .tag(ConnectorMetrics.Tag.RESULT, result)
+        .counter()
+        .count();
+  }
+
+  static class CountingSecretProvider implements SecretProvider {
+
+    private final Map<String, String> secrets = new HashMap<>();
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    @Override
+    public String getSecret(String name, SecretContext context) {
+      lookups.incrementAndGet();
+      return secrets.get(name);
+    }
+  }
+}
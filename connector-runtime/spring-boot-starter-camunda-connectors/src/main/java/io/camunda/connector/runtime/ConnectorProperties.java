@@ -18,7 +18,9 @@ package io.camunda.connector.runtime;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /** Configuration properties for Camunda Connectors. */
 @ConfigurationProperties(prefix = "camunda.connector")
@@ -34,7 +36,16 @@ public record ConnectorProperties(
   // configuration annotation processor to generate the configuration properties metadata
 
   /** Configuration for the inbound webhook connector. */
-  public record Webhook(boolean enabled, boolean appendPhysicalTenantAndTenantToPath) {}
+  public record Webhook(boolean enabled, boolean appendPhysicalTenantAndTenantToPath, Body body) {}
+
+  /**
+   * Limits for webhook request bodies. Bodies above {@code maxSize} (default 100MB) are rejected
+   * with {@code 413}. If {@code streamThreshold} is set (not set by default), bodies above it are
+   * spooled to disk and passed to the connector as a part instead of the raw body. Signature (HMAC)
+   * and API key checks that need the raw body then reject such requests, and FEEL expressions on
+   * {@code request.body} see an empty body.
+   */
+  public record Body(DataSize streamThreshold, DataSize maxSize) {}
 
   /** Configuration for Operate polling that enables inbound Connectors. */
   public record Polling(
@@ -43,7 +54,10 @@ public record ConnectorProperties(
   public record VirtualThreads(boolean enabled) {}
 
   public record SecretProvider(
-      Discovery discovery, Environment environment, ConsoleSecretProvider console) {}
+      Discovery discovery,
+      Environment environment,
+      ConsoleSecretProvider console,
+      SecretCache cache) {}
 
   /** Configuration for the secret provider lookup */
   public record Discovery(boolean enabled) {}
@@ -56,8 +70,43 @@ public record ConnectorProperties(
 
   public record ConsoleSecretProvider(boolean enabled, String endpoint, String audience) {}
 
+  /**
+   * Configuration for caching the secrets resolved by each secret provider. The console secret
+   * provider is never wrapped, as it already caches all secrets. Providers that reload their
+   * secrets on their own schedule should not be cached either, as a rotated secret would only show
+   * up once both the provider and the cache have refreshed.
+   *
+   * @param enabled Whether resolved secrets are cached. Default is false.
+   * @param ttl How long a resolved secret is cached. Default is 5 minutes.
+   * @param negativeTtl How long a secret name unknown to a provider is cached. Default is 30
+   *     seconds.
+   * @param refreshAhead How long before expiry an accessed secret is reloaded in the background.
+   *     Default is 1 minute.
+   * @param maxSize Maximum number of cached secrets per provider. Default is 10000.
+   * @param providerTtl TTL overrides keyed by the simple class name of the secret provider, e.g.
+   *     {@code EnvironmentSecretProvider}.
+   */
+  public record SecretCache(
+      Boolean enabled,
+      Duration ttl,
+      Duration negativeTtl,
+      Duration refreshAhead,
+      Long maxSize,
+      Map<String, Duration> providerTtl) {}
+
   /** Configuration for inbound connector processing. */
-  public record Inbound(ProcessDefinitionCache processDefinitionCache) {}
+  public record Inbound(
+      ProcessDefinitionCache processDefinitionCache, ActiveInstanceIndex activeInstanceIndex) {}
+
+  /**
+   * Configuration for the index of active element instances shared by intermediate inbound
+   * connectors, e.g. the HTTP polling connector.
+   *
+   * @param refreshInterval Interval in which the indexed instances are refreshed in the
+   *     background. Should not exceed the polling interval of the connectors. Default is 5
+   *     seconds.
+   */
+  public record ActiveInstanceIndex(Duration refreshInterval) {}
 
   /**
    * Configuration for the process definition cache used when parsing inbound connector elements.
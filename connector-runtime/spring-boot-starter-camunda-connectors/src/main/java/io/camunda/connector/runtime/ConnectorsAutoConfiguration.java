@@ -42,11 +42,14 @@ import io.camunda.connector.runtime.core.intrinsic.DefaultIntrinsicFunctionExecu
 import io.camunda.connector.runtime.core.secret.SecretProviderAggregator;
 import io.camunda.connector.runtime.core.secret.SecretProviderDiscovery;
 import io.camunda.connector.runtime.inbound.PhysicalTenantIds;
+import io.camunda.connector.runtime.secret.CachingSecretProvider;
 import io.camunda.connector.runtime.secret.ConsoleSecretProvider;
 import io.camunda.connector.runtime.secret.EnvironmentSecretProvider;
 import io.camunda.connector.runtime.secret.console.ConsoleSecretApiClient;
 import io.camunda.connector.runtime.secret.console.JwtCredential;
 import io.camunda.connector.validation.impl.DefaultValidationProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.validation.ConstraintValidatorFactory;
 import jakarta.validation.Validation;
 import java.net.URL;
@@ -150,7 +153,9 @@ public class ConnectorsAutoConfiguration {
   @Bean
   @ConditionalOnMissingBean
   public SecretProviderAggregator springSecretProviderAggregator(
-      Optional<List<SecretProvider>> secretProviderBeans) {
+      Optional<List<SecretProvider>> secretProviderBeans,
+      ConnectorProperties properties,
+      @Autowired(required = false) MeterRegistry meterRegistry) {
     var secretProviders = secretProviderBeans.orElseGet(LinkedList::new);
     LOG.debug("Using secret providers discovered as Spring beans: {}", secretProviderBeans);
     if (secretProviderLookupEnabled != Boolean.FALSE) {
@@ -158,7 +163,36 @@ public class ConnectorsAutoConfiguration {
       LOG.debug("Using secret providers discovered by lookup: {}", discoveredSecretProviders);
       secretProviders.addAll(discoveredSecretProviders);
     }
-    return new SecretProviderAggregator(secretProviders);
+    var cacheProps =
+        properties.secretProvider() != null ? properties.secretProvider().cache() : null;
+    if (cacheProps == null || cacheProps.enabled() != Boolean.TRUE) {
+      return new SecretProviderAggregator(secretProviders);
+    }
+    var cacheSettings = secretCacheSettings(cacheProps);
+    var registry = meterRegistry != null ? meterRegistry : new SimpleMeterRegistry();
+    return new SecretProviderAggregator(
+        secretProviders.stream()
+            .<SecretProvider>map(
+                provider ->
+                    // the console provider already caches all secrets and refreshes them itself
+                    provider instanceof ConsoleSecretProvider
+                        ? provider
+                        : new CachingSecretProvider(provider, cacheSettings, registry))
+            .toList());
+  }
+
+  private static CachingSecretProvider.CacheSettings secretCacheSettings(
+      ConnectorProperties.SecretCache cacheProps) {
+    var defaults = CachingSecretProvider.CacheSettings.DEFAULT;
+    if (cacheProps == null) {
+      return defaults;
+    }
+    return new CachingSecretProvider.CacheSettings(
+        Optional.ofNullable(cacheProps.ttl()).orElse(defaults.ttl()),
+        Optional.ofNullable(cacheProps.negativeTtl()).orElse(defaults.negativeTtl()),
+        Optional.ofNullable(cacheProps.refreshAhead()).orElse(defaults.refreshAhead()),
+        Optional.ofNullable(cacheProps.maxSize()).orElse(defaults.maxSize()),
+        cacheProps.providerTtl());
   }
 
   @Bean
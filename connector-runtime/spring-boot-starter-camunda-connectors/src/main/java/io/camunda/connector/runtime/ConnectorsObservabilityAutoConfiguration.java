@@ -17,9 +17,18 @@
 package io.camunda.connector.runtime;
 
 import io.camunda.client.CamundaClient;
+import io.camunda.connector.feel.ParsedExpressionCache;
+import io.camunda.connector.http.client.client.apache.ApacheHttpClientRegistry;
+import io.camunda.connector.http.client.client.apache.ApacheHttpClientRegistry.Stats;
 import io.camunda.connector.runtime.inbound.importer.ImportSchedulers;
+import io.camunda.connector.runtime.metrics.ConnectorMetrics;
 import io.camunda.connector.runtime.metrics.ContextAwareLogbackMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.micrometer.core.instrument.binder.logging.LogbackMetrics;
+import java.util.function.ToDoubleFunction;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
@@ -37,6 +46,63 @@ public class ConnectorsObservabilityAutoConfiguration {
     return new ContextAwareLogbackMetrics();
   }
 
+  /** Exposes the connection pool usage of the HTTP clients shared by the REST-based connectors. */
+  @Bean
+  public MeterBinder httpClientPoolMetrics() {
+    return registry -> {
+      var clientRegistry = ApacheHttpClientRegistry.getDefault();
+      Gauge.builder(
+              ConnectorMetrics.HttpClient.METRIC_NAME_POOL_CLIENTS,
+              clientRegistry,
+              r -> r.getStats().clients())
+          .register(registry);
+      registerPoolGauge(
+          registry, clientRegistry, ConnectorMetrics.HttpClient.STATE_LEASED, Stats::leased);
+      registerPoolGauge(
+          registry, clientRegistry, ConnectorMetrics.HttpClient.STATE_AVAILABLE, Stats::available);
+      registerPoolGauge(
+          registry, clientRegistry, ConnectorMetrics.HttpClient.STATE_PENDING, Stats::pending);
+    };
+  }
+
+  /** Exposes the hit/miss counts of the parsed-expression cache of local FEEL evaluation. */
+  @Bean
+  public MeterBinder feelExpressionCacheMetrics() {
+    return registry -> {
+      var cache = ParsedExpressionCache.shared();
+      FunctionCounter.builder(
+              ConnectorMetrics.Feel.METRIC_NAME_EXPRESSION_CACHE_ACCESSES,
+              cache,
+              c -> c.getStats().hitCount())
+          .tag(ConnectorMetrics.Tag.RESULT, ConnectorMetrics.Inbound.RESULT_CACHE_HIT)
+          .register(registry);
+      FunctionCounter.builder(
+              ConnectorMetrics.Feel.METRIC_NAME_EXPRESSION_CACHE_ACCESSES,
+              cache,
+              c -> c.getStats().missCount())
+          .tag(ConnectorMetrics.Tag.RESULT, ConnectorMetrics.Inbound.RESULT_CACHE_MISS)
+          .register(registry);
+      Gauge.builder(
+              ConnectorMetrics.Feel.METRIC_NAME_EXPRESSION_CACHE_SIZE,
+              cache,
+              c -> c.getStats().estimatedSize())
+          .register(registry);
+    };
+  }
+
+  private static void registerPoolGauge(
+      MeterRegistry registry,
+      ApacheHttpClientRegistry clientRegistry,
+      String state,
+      ToDoubleFunction<Stats> value) {
+    Gauge.builder(
+            ConnectorMetrics.HttpClient.METRIC_NAME_POOL_CONNECTIONS,
+            clientRegistry,
+            r -> value.applyAsDouble(r.getStats()))
+        .tag(ConnectorMetrics.Tag.STATE, state)
+        .register(registry);
+  }
+
   @Bean(name = "zeebeClientHealthIndicator") // overrides the health indicator from Spring Zeebe
   public ZeebeHealthIndicator zeebeClientHealthIndicator(CamundaClient camundaClient) {
     return new ZeebeHealthIndicator(camundaClient);
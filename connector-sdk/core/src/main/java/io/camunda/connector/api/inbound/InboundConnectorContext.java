@@ -18,6 +18,7 @@ package io.camunda.connector.api.inbound;
 
 import io.camunda.connector.api.document.DocumentFactory;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 /**
@@ -82,6 +83,28 @@ public interface InboundConnectorContext extends DocumentFactory {
    */
   CorrelationResult correlate(CorrelationRequest correlationRequest);
 
+  /**
+   * Non-blocking variant of {@link #correlate(CorrelationRequest)}. The returned future completes
+   * once the runtime has received the response of the Camunda gateway, so the calling thread (e.g.
+   * a consumer loop) is free to correlate further events in the meantime.
+   *
+   * <p>Like {@link #correlate(CorrelationRequest)}, the returned future does not complete
+   * exceptionally: failures are returned as a {@link CorrelationResult.Failure}. The runtime does
+   * not limit the number of correlations in flight, connectors should bound it (e.g. with a {@link
+   * java.util.concurrent.Semaphore}) to apply backpressure to the upstream system.
+   *
+   * <p>The default implementation correlates synchronously and returns a completed future.
+   *
+   * @param correlationRequest - an object containing the inbound connector variables and message ID
+   * @return a future of the correlation result that should be interpreted by the Connector
+   *     implementation
+   * @see #correlate(CorrelationRequest)
+   */
+  default CompletableFuture<CorrelationResult> correlateAsync(
+      CorrelationRequest correlationRequest) {
+    return CompletableFuture.completedFuture(correlate(correlationRequest));
+  }
+
   /**
    * /** Signals to the Connector runtime that inbound Connector execution was interrupted. As a
    * result of this call, the runtime may attempt to retry the execution or provide the user with an
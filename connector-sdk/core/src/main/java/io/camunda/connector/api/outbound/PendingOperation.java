@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.api.outbound;
+
+import java.time.Duration;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Handle to a long-running remote operation (e.g. an asynchronous cloud job) that an {@link
+ * OutboundConnectorFunction} can return from {@link OutboundConnectorFunction#execute} instead of
+ * waiting for the operation on the job worker thread.
+ *
+ * <p>The runtime parks the job: it releases the worker thread, calls {@link #poll()} on a timer
+ * with exponential backoff between {@link #initialDelay()} and {@link #maxDelay()}, and extends
+ * the job timeout while the operation is pending. Once {@link #poll()} returns {@link
+ * #completed(Object)}, the job continues as if {@code execute} had returned the given response
+ * value. If {@link #poll()} throws, the exception is handled like one thrown by {@code execute}.
+ *
+ * <p>The runtime calls {@link #close()} exactly once after the operation has completed, failed or
+ * was abandoned, so the handle may own resources such as SDK clients.
+ */
+public interface PendingOperation extends AutoCloseable {
+
+  /**
+   * Checks once whether the remote operation has finished. Must not wait for the operation itself.
+   *
+   * @return {@link #pending()} while the operation is running, {@link #completed(Object)} when done
+   * @throws Exception if the operation failed or its state could not be checked
+   */
+  PollResult poll() throws Exception;
+
+  /**
+   * Delay before the first {@link #poll()}. The default implementation returns 5 seconds.
+   *
+   * @return the initial delay
+   */
+  default Duration initialDelay() {
+    return Duration.ofSeconds(5);
+  }
+
+  /**
+   * Upper bound for the delay between two polls. The default implementation returns 1 minute.
+   *
+   * @return the maximum delay
+   */
+  default Duration maxDelay() {
+    return Duration.ofMinutes(1);
+  }
+
+  /**
+   * Time after which the job fails if the operation is still pending. The default implementation
+   * returns 1 hour.
+   *
+   * @return the maximum time to wait for the operation
+   */
+  default Duration maxWaitTime() {
+    return Duration.ofHours(1);
+  }
+
+  /** Releases resources held by this handle. The default implementation does nothing. */
+  @Override
+  default void close() throws Exception {}
+
+  /**
+   * Result of a {@link #poll()} signalling that the operation is still running.
+   *
+   * @return the pending result
+   */
+  static PollResult pending() {
+    return PollResult.Pending.INSTANCE;
+  }
+
+  /**
+   * Result of a {@link #poll()} signalling that the operation has finished.
+   *
+   * @param responseValue the response value to continue the job with, as returned by {@code
+   *     execute}
+   * @return the completed result
+   */
+  static PollResult completed(@Nullable Object responseValue) {
+    return new PollResult.Completed(responseValue);
+  }
+
+  /** Outcome of a single {@link #poll()}. */
+  sealed interface PollResult {
+
+    /** The operation is still running. */
+    enum Pending implements PollResult {
+      INSTANCE
+    }
+
+    /**
+     * The operation has finished.
+     *
+     * @param responseValue the response value to continue the job with
+     */
+    record Completed(@Nullable Object responseValue) implements PollResult {}
+  }
+}
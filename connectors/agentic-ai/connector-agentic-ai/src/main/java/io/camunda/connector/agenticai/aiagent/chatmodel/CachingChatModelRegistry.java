@@ -0,0 +1,186 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.agenticai.aiagent.chatmodel;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.camunda.connector.util.cache.CacheKeys;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link ChatModelRegistry} decorator which reuses chat models (and with them their HTTP clients
+ * and connection pools) across AI Agent jobs using the same provider configuration.
+ *
+ * <p>Models are cached by a SHA-256 hash of the full configuration including credentials, so the
+ * cache never keeps secrets in plain text and a rotated credential results in a new model. As
+ * callers close the resolved model after every job, the registry hands out leases: closing a
+ * lease only releases it, while the shared model is closed once it has been evicted and the last
+ * lease has been released.
+ */
+public class CachingChatModelRegistry implements ChatModelRegistry, AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CachingChatModelRegistry.class);
+
+  private final ChatModelRegistry delegate;
+  private final ObjectMapper objectMapper;
+  private final Cache<@NonNull String, SharedChatModel> cache;
+
+  public CachingChatModelRegistry(
+      ChatModelRegistry delegate,
+      ObjectMapper objectMapper,
+      CacheConfiguration cacheConfiguration) {
+    this.delegate = delegate;
+    this.objectMapper = objectMapper.copy().enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    this.cache = buildCache(cacheConfiguration);
+  }
+
+  private Cache<@NonNull String, SharedChatModel> buildCache(CacheConfiguration config) {
+    // configured via camunda.connector.agenticai.aiagent.chat-model.cache.*
+    // see AgenticAiConnectorsConfigurationProperties for default values
+    return Caffeine.newBuilder()
+        .scheduler(Scheduler.systemScheduler())
+        .maximumSize(config.maximumSize())
+        .expireAfterAccess(config.expireAfterAccess())
+        .recordStats()
+        .evictionListener(
+            (key, value, cause) -> {
+              LOGGER.debug("Evicting cached chat model (removal cause: {})", cause);
+              if (value != null) {
+                ((SharedChatModel) value).retire();
+              }
+            })
+        .build();
+  }
+
+  @Override
+  public ChatModel resolve(ChatModelConfiguration configuration) {
+    final var cacheKey = cacheKey(configuration);
+    if (cacheKey == null) {
+      return delegate.resolve(configuration);
+    }
+
+    while (true) {
+      final var shared =
+          cache.get(cacheKey, key -> new SharedChatModel(delegate.resolve(configuration)));
+      final var lease = shared.lease();
+      if (lease != null) {
+        return lease;
+      }
+
+      // the model was evicted between lookup and lease - drop the stale entry and retry
+      cache.asMap().remove(cacheKey, shared);
+    }
+  }
+
+  /** Hit, miss and eviction counts of the chat model cache. */
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  /** Runs pending cache maintenance, evicting expired or surplus entries right away. */
+  void cleanUp() {
+    cache.cleanUp();
+  }
+
+  @Override
+  public void close() {
+    final var models = cache.asMap();
+    models.values().forEach(SharedChatModel::retire);
+    models.clear();
+  }
+
+  private @Nullable String cacheKey(ChatModelConfiguration configuration) {
+    try {
+      return CacheKeys.sha256(
+          configuration.getClass().getName(), objectMapper.writeValueAsString(configuration));
+    } catch (JsonProcessingException e) {
+      LOGGER.warn(
+          "Failed to compute cache key for chat model configuration (provider={}, model={}), not caching model",
+          configuration.provider(),
+          configuration.model(),
+          e);
+      return null;
+    }
+  }
+
+  /** A cached chat model shared by all jobs holding a lease on it. */
+  private static final class SharedChatModel {
+
+    private final ChatModel chatModel;
+    private int leases;
+    private boolean retired;
+    private boolean closed;
+
+    private SharedChatModel(ChatModel chatModel) {
+      this.chatModel = chatModel;
+    }
+
+    private synchronized @Nullable ChatModel lease() {
+      if (retired) {
+        return null;
+      }
+
+      leases++;
+      return new LeasedChatModel(this);
+    }
+
+    private synchronized void release() {
+      leases--;
+      closeIfUnused();
+    }
+
+    private synchronized void retire() {
+      retired = true;
+      closeIfUnused();
+    }
+
+    private void closeIfUnused() {
+      if (retired && leases == 0 && !closed) {
+        closed = true;
+        try {
+          chatModel.close();
+        } catch (Exception e) {
+          LOGGER.warn("Failed to close evicted chat model", e);
+        }
+      }
+    }
+  }
+
+  private static final class LeasedChatModel implements ChatModel {
+
+    private final SharedChatModel shared;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private LeasedChatModel(SharedChatModel shared) {
+      this.shared = shared;
+    }
+
+    @Override
+    public ChatResult execute(ChatRequest request) {
+      return shared.chatModel.execute(request);
+    }
+
+    @Override
+    public void close() {
+      if (released.compareAndSet(false, true)) {
+        shared.release();
+      }
+    }
+  }
+
+  public record CacheConfiguration(long maximumSize, Duration expireAfterAccess) {}
+}
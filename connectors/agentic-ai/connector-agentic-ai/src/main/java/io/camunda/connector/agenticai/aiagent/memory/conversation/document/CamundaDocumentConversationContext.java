@@ -15,13 +15,23 @@ import io.camunda.connector.agenticai.common.AgenticAiRecord;
 import io.camunda.connector.api.document.Document;
 import java.util.List;
 
+/**
+ * Pointer to a conversation stored in Camunda documents.
+ *
+ * <p>The conversation consists of the {@code document} snapshot followed by the delta {@code
+ * segments} appended on later turns, in order. {@code previousDocuments} tracks documents which
+ * are no longer part of the conversation and are purged over time.
+ */
 @AgenticAiRecord
 @JsonDeserialize(
     builder =
         CamundaDocumentConversationContext.CamundaDocumentConversationContextJacksonProxyBuilder
             .class)
 public record CamundaDocumentConversationContext(
-    String conversationId, Document document, List<Document> previousDocuments)
+    String conversationId,
+    Document document,
+    List<Document> segments,
+    List<Document> previousDocuments)
     implements ConversationContext, CamundaDocumentConversationContextBuilder.With {
 
   public static CamundaDocumentConversationContextBuilder builder() {
@@ -34,12 +34,23 @@ import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Stores the conversation as a chain of immutable documents: a snapshot containing the full
+ * message list, followed by one delta segment per turn containing only the messages appended in
+ * that turn. Once the number of segments exceeds the configured maximum, the conversation is
+ * compacted into a new snapshot and the superseded documents are purged over time.
+ *
+ * <p>Whenever the stored messages are not an extension of the loaded ones (e.g. a changed system
+ * prompt), a new snapshot is written instead of a segment. Segments are computed relative to the
+ * loaded messages, so {@link #loadMessages} has to be called before {@link #storeMessages}.
+ */
 public class CamundaDocumentConversationSession implements ConversationSession {
 
   private static final Logger LOGGER =
       LoggerFactory.getLogger(CamundaDocumentConversationSession.class);
 
   private static final int DEFAULT_PREVIOUS_DOCUMENTS_RETENTION_SIZE = 2;
+  private static final int DEFAULT_MAX_SEGMENTS = 10;
 
   private final CamundaDocumentMemoryStorageConfiguration config;
   private final DocumentFactory documentFactory;
@@ -47,8 +58,11 @@ public class CamundaDocumentConversationSession implements ConversationSession {
   private final CamundaDocumentConversationSerializer conversationSerializer;
   private final AgentExecutionContext executionContext;
   private final int previousDocumentsRetentionSize;
+  private final int maxSegments;
 
   private @Nullable CamundaDocumentConversationContext previousConversationContext;
+  private List<Message> previousMessages = List.of();
+  private boolean loaded;
 
   public CamundaDocumentConversationSession(
       CamundaDocumentMemoryStorageConfiguration config,
@@ -62,7 +76,8 @@ public class CamundaDocumentConversationSession implements ConversationSession {
         documentStore,
         conversationSerializer,
         executionContext,
-        DEFAULT_PREVIOUS_DOCUMENTS_RETENTION_SIZE);
+        DEFAULT_PREVIOUS_DOCUMENTS_RETENTION_SIZE,
+        DEFAULT_MAX_SEGMENTS);
   }
 
   public CamundaDocumentConversationSession(
@@ -71,13 +86,15 @@ public class CamundaDocumentConversationSession implements ConversationSession {
       CamundaDocumentStore documentStore,
       CamundaDocumentConversationSerializer conversationSerializer,
       AgentExecutionContext executionContext,
-      int previousDocumentsRetentionSize) {
+      int previousDocumentsRetentionSize,
+      int maxSegments) {
     this.config = config;
     this.documentFactory = documentFactory;
     this.documentStore = documentStore;
     this.conversationSerializer = conversationSerializer;
     this.executionContext = executionContext;
     this.previousDocumentsRetentionSize = previousDocumentsRetentionSize;
+    this.maxSegments = maxSegments;
   }
 
   @Override
@@ -85,45 +102,96 @@ public class CamundaDocumentConversationSession implements ConversationSession {
     previousConversationContext =
         loadConversationContext(agentContext, CamundaDocumentConversationContext.class);
     if (previousConversationContext == null) {
+      loaded = true;
       return ConversationLoadResult.empty();
     }
 
+    final var messages = new ArrayList<Message>();
     try {
-      final var content =
-          conversationSerializer.readDocumentContent(previousConversationContext.document());
-      return ConversationLoadResult.of(content.messages());
+      for (Document document : conversationDocuments(previousConversationContext)) {
+        messages.addAll(conversationSerializer.readDocumentContent(document).messages());
+      }
     } catch (IOException e) {
       throw new RuntimeException("Failed to load conversation from documentReference", e);
     }
+
+    previousMessages = List.copyOf(messages);
+    loaded = true;
+    return ConversationLoadResult.of(messages);
   }
 
   @Override
   public ConversationContext storeMessages(
       AgentContext agentContext, ConversationStoreRequest request) {
+    if (!loaded) {
+      throw new IllegalStateException("Conversation messages must be loaded before storing them");
+    }
+
     final var conversationContextBuilder =
         previousConversationContext != null
             ? previousConversationContext.with()
             : CamundaDocumentConversationContext.builder()
                 .conversationId(UUID.randomUUID().toString());
 
-    final var updatedDocument =
-        createUpdatedDocument(request.messages(), conversationContextBuilder.conversationId());
-    conversationContextBuilder.document(updatedDocument);
+    final var messages = request.messages();
+    final var conversationId = conversationContextBuilder.conversationId();
+
+    final var previousContext = previousConversationContext;
+    if (previousContext != null && canAppendSegment(previousContext, messages)) {
+      final var segment =
+          createDocument(
+              messages.subList(previousMessages.size(), messages.size()), conversationId);
+      final var segments = new ArrayList<>(previousContext.segments());
+      segments.add(segment);
+
+      LOGGER.debug(
+          "Appended {} messages as conversation segment {}",
+          messages.size() - previousMessages.size(),
+          segments.size());
+      return conversationContextBuilder.segments(segments).build();
+    }
+
+    final var snapshot = createDocument(messages, conversationId);
+    conversationContextBuilder.document(snapshot).segments(List.of());
 
     // after write succeeded, try to purge previous documents, but keep at least the last
-    // two documents in case of errors in order to allow recovering the agent state
-    if (previousConversationContext != null) {
-      List<Document> previousDocuments =
-          new ArrayList<>(previousConversationContext.previousDocuments());
-      previousDocuments.add(previousConversationContext.document());
-
-      conversationContextBuilder.previousDocuments(purgePreviousDocuments(previousDocuments));
+    // two documents (and all documents of the previous conversation state) in case of errors
+    // in order to allow recovering the agent state
+    if (previousContext != null) {
+      final var supersededDocuments = conversationDocuments(previousContext);
+      List<Document> previousDocuments = new ArrayList<>(previousContext.previousDocuments());
+      previousDocuments.addAll(supersededDocuments);
+
+      conversationContextBuilder.previousDocuments(
+          purgePreviousDocuments(
+              previousDocuments,
+              Math.max(previousDocumentsRetentionSize, supersededDocuments.size())));
     }
 
     return conversationContextBuilder.build();
   }
 
-  private Document createUpdatedDocument(List<Message> messages, String conversationId) {
+  /**
+   * A segment can only be appended when the stored messages extend the loaded conversation
+   * unchanged and the maximum number of segments is not yet reached. Otherwise, the conversation
+   * is compacted into a new snapshot document.
+   */
+  private boolean canAppendSegment(
+      CamundaDocumentConversationContext previousContext, List<Message> messages) {
+    return previousContext.segments().size() < maxSegments
+        && messages.size() >= previousMessages.size()
+        && messages.subList(0, previousMessages.size()).equals(previousMessages);
+  }
+
+  /** Returns the snapshot document followed by all segments in the order they were appended. */
+  static List<Document> conversationDocuments(CamundaDocumentConversationContext context) {
+    final var documents = new ArrayList<Document>();
+    documents.add(context.document());
+    documents.addAll(context.segments());
+    return documents;
+  }
+
+  private Document createDocument(List<Message> messages, String conversationId) {
     final var content = new CamundaDocumentConversationContext.DocumentContent(messages);
 
     String serialized;
@@ -152,16 +220,16 @@ public class CamundaDocumentConversationSession implements ConversationSession {
     return documentFactory.create(documentCreationRequestBuilder.build());
   }
 
-  private List<Document> purgePreviousDocuments(List<Document> previousDocuments) {
-    if (previousDocuments.size() <= previousDocumentsRetentionSize) {
+  private List<Document> purgePreviousDocuments(
+      List<Document> previousDocuments, int retentionSize) {
+    if (previousDocuments.size() <= retentionSize) {
       return previousDocuments;
     }
 
     final var updatedPreviousDocuments = new ArrayList<>(previousDocuments);
     final var removalCandidates =
         new ArrayList<>(
-            updatedPreviousDocuments.subList(
-                0, updatedPreviousDocuments.size() - previousDocumentsRetentionSize));
+            updatedPreviousDocuments.subList(0, updatedPreviousDocuments.size() - retentionSize));
 
     for (Document removalCandidate : removalCandidates) {
       if (removalCandidate.reference()
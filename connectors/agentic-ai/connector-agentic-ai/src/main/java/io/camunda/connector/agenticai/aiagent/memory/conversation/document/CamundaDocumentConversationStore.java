@@ -76,9 +76,11 @@ public class CamundaDocumentConversationStore implements ConversationStore {
       return;
     }
 
-    // ctx.document() is the document written by storeMessages during this job — it became
-    // orphaned because Zeebe rejected the job completion, so no pointer will ever reference it
-    var document = ctx.document();
+    // the last document of the conversation (the appended segment or the new snapshot) is the
+    // one written by storeMessages during this job — it became orphaned because Zeebe rejected
+    // the job completion, so no pointer will ever reference it. Earlier documents are still
+    // referenced by the previous conversation state and must be kept.
+    var document = ctx.segments().isEmpty() ? ctx.document() : ctx.segments().getLast();
     if (document.reference() instanceof CamundaDocumentReference camundaDocumentReference) {
       try {
         documentStore.deleteDocument(camundaDocumentReference);
@@ -44,6 +44,7 @@ import io.camunda.connector.agenticai.aiagent.agentinstance.AgentInstanceClient;
 import io.camunda.connector.agenticai.aiagent.agentinstance.AgentInstanceHistoryMapper;
 import io.camunda.connector.agenticai.aiagent.agentinstance.AgentInstanceToolMapper;
 import io.camunda.connector.agenticai.aiagent.agentinstance.CamundaAgentInstanceClient;
+import io.camunda.connector.agenticai.aiagent.chatmodel.CachingChatModelRegistry;
 import io.camunda.connector.agenticai.aiagent.chatmodel.ChatModelFactory;
 import io.camunda.connector.agenticai.aiagent.chatmodel.ChatModelRegistry;
 import io.camunda.connector.agenticai.aiagent.chatmodel.ChatModelRegistryImpl;
@@ -293,8 +294,22 @@ public class AgenticAiConnectorsAutoConfiguration {
 
   @Bean
   @ConditionalOnMissingBean
-  public ChatModelRegistry aiAgentChatModelRegistry(List<ChatModelFactory> factories) {
-    return new ChatModelRegistryImpl(factories);
+  public ChatModelRegistry aiAgentChatModelRegistry(
+      AgenticAiConnectorsConfigurationProperties configuration,
+      @ConnectorsObjectMapper ObjectMapper objectMapper,
+      List<ChatModelFactory> factories) {
+    final var registry = new ChatModelRegistryImpl(factories);
+
+    final var cacheConfiguration = configuration.aiagent().chatModel().cache();
+    if (cacheConfiguration.enabled()) {
+      return new CachingChatModelRegistry(
+          registry,
+          objectMapper,
+          new CachingChatModelRegistry.CacheConfiguration(
+              cacheConfiguration.maximumSize(), cacheConfiguration.expireAfterAccess()));
+    }
+
+    return registry;
   }
 
   @Bean
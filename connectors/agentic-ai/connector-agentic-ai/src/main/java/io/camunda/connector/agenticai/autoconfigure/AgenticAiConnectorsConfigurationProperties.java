@@ -32,8 +32,14 @@ public record AgenticAiConnectorsConfigurationProperties(
     public record AgentInstanceProperties(@Valid @DefaultValue RetriesProperties retries) {}
   }
 
-  public record ChatModelProperties(@Valid @DefaultValue ApiProperties api) {
+  public record ChatModelProperties(
+      @Valid @DefaultValue ApiProperties api, @Valid @DefaultValue CacheProperties cache) {
     public record ApiProperties(@DefaultValue("PT3M") Duration defaultTimeout) {}
+
+    public record CacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("50") @PositiveOrZero Long maximumSize,
+        @DefaultValue("PT10M") Duration expireAfterAccess) {}
   }
 
   public record HttpProperties(@Valid @DefaultValue ProxySupportProperties proxySupport) {
@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.agenticai.aiagent.chatmodel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CachingChatModelRegistryTest {
+
+  private final ChatModelRegistry delegate = mock(ChatModelRegistry.class);
+  private final ChatModel chatModel = mock(ChatModel.class);
+  private final ChatModel otherChatModel = mock(ChatModel.class);
+
+  private CachingChatModelRegistry registry = registry(10);
+
+  @AfterEach
+  void closeRegistry() {
+    registry.close();
+  }
+
+  @Test
+  void reusesChatModelForEqualConfigurations() {
+    when(delegate.resolve(any())).thenReturn(chatModel);
+
+    try (var first = registry.resolve(configuration("secret"));
+        var second = registry.resolve(configuration("secret"))) {
+      final var request = mock(ChatRequest.class);
+      first.execute(request);
+      second.execute(request);
+      verify(chatModel, times(2)).execute(request);
+    }
+
+    verify(delegate, times(1)).resolve(any());
+    assertThat(registry.stats().hitCount()).isEqualTo(1);
+    assertThat(registry.stats().missCount()).isEqualTo(1);
+  }
+
+  @Test
+  void createsSeparateChatModelsForDifferentCredentials() {
+    when(delegate.resolve(configuration("secret"))).thenReturn(chatModel);
+    when(delegate.resolve(configuration("rotated"))).thenReturn(otherChatModel);
+
+    final var request = mock(ChatRequest.class);
+    try (var first = registry.resolve(configuration("secret"));
+        var second = registry.resolve(configuration("rotated"))) {
+      first.execute(request);
+      second.execute(request);
+    }
+
+    verify(chatModel).execute(request);
+    verify(otherChatModel).execute(request);
+  }
+
+  @Test
+  void doesNotCloseCachedChatModelWhenLeaseIsClosed() {
+    when(delegate.resolve(any())).thenReturn(chatModel);
+
+    registry.resolve(configuration("secret")).close();
+
+    verify(chatModel, never()).close();
+  }
+
+  @Test
+  void closesEvictedChatModelOnceLastLeaseIsReleased() {
+    registry = registry(0);
+    when(delegate.resolve(configuration("secret"))).thenReturn(chatModel);
+
+    final var lease = registry.resolve(configuration("secret"));
+    registry.cleanUp();
+    verify(chatModel, never()).close();
+
+    lease.close();
+    lease.close();
+    verify(chatModel, times(1)).close();
+  }
+
+  @Test
+  void closesCachedChatModelsWhenClosed() {
+    when(delegate.resolve(any())).thenReturn(chatModel);
+    registry.resolve(configuration("secret")).close();
+
+    registry.close();
+
+    verify(chatModel).close();
+  }
+
+  private CachingChatModelRegistry registry(long maximumSize) {
+    return new CachingChatModelRegistry(
+        delegate,
+        new ObjectMapper(),
+        new CachingChatModelRegistry.CacheConfiguration(maximumSize, Duration.ofMinutes(10)));
+  }
+
+  private static TestChatModelConfiguration configuration(String apiKey) {
+    return new TestChatModelConfiguration("acme-provider", "acme-model", apiKey);
+  }
+
+  record TestChatModelConfiguration(String provider, String model, String apiKey)
+      implements ChatModelConfiguration {}
+}
@@ -73,6 +73,11 @@ class CamundaDocumentConversationStoreTest {
   private static final String ELEMENT_ID = "AI_Agent";
 
   private static final int PREVIOUS_DOCUMENTS_RETENTION_SIZE = 2;
+  private static final int MAX_SEGMENTS = 10;
+
+  // not an extension of TEST_MESSAGES, so storing it always results in a new snapshot
+  private static final List<Message> REWRITTEN_MESSAGES =
+      List.of(userMessage("Rewritten history"));
 
   @Mock private DocumentFactory documentFactory;
   @Mock private CamundaDocumentStore documentStore;
@@ -240,6 +245,21 @@ class CamundaDocumentConversationStoreTest {
     }
   }
 
+  @Test
+  void throwsExceptionWhenStoringMessagesWithoutLoadingThem() {
+    final var agentContext = AgentContext.empty();
+
+    try (var session = store.createSession(executionContext, agentContext)) {
+      assertThatThrownBy(
+              () ->
+                  session.storeMessages(agentContext, ConversationStoreRequest.of(TEST_MESSAGES)))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("Conversation messages must be loaded before storing them");
+    }
+
+    verifyNoInteractions(documentFactory);
+  }
+
   @Test
   void storesMessagesIntoConversationContext_withEmptyPreviousConversation() throws Exception {
     mockJobContext();
@@ -311,17 +331,146 @@ class CamundaDocumentConversationStoreTest {
         .satisfies(
             conversation -> {
               assertThat(conversation.conversationId()).isNotEmpty();
+              assertThat(conversation.document()).isEqualTo(previousDocument);
+              assertThat(conversation.segments()).containsExactly(newDocument);
+              assertThat(conversation.previousDocuments()).isEmpty();
+            });
+
+    // only the appended message is written as a segment
+    final var creationRequest = documentCreationRequestCaptor.getValue();
+    assertDocumentCreationRequest(creationRequest, updatedAgentContext);
+    JSONAssert.assertEquals(
+        new String(creationRequest.content().readAllBytes()),
+        documentContentAsString(new DocumentContent(List.of(userMessage))),
+        true);
+  }
+
+  @Test
+  void loadsSnapshotFollowedBySegments() throws Exception {
+    final var userMessage = userMessage("User message");
+
+    final var snapshot = mock(Document.class);
+    when(snapshot.asInputStream())
+        .thenReturn(documentContentAsInputStream(EXPECTED_DOCUMENT_CONTENT));
+    final var segment = mock(Document.class);
+    when(segment.asInputStream())
+        .thenReturn(documentContentAsInputStream(new DocumentContent(List.of(userMessage))));
+
+    final var previousConversationContext =
+        CamundaDocumentConversationContext.builder("test-conversation")
+            .document(snapshot)
+            .segments(List.of(segment))
+            .build();
+
+    final var agentContext = AgentContext.empty().withConversation(previousConversationContext);
+
+    try (var session = store.createSession(executionContext, agentContext)) {
+      var loadResult = session.loadMessages(agentContext);
+
+      final var expectedMessages = new ArrayList<>(TEST_MESSAGES);
+      expectedMessages.add(userMessage);
+      assertThat(loadResult.messages()).containsExactlyElementsOf(expectedMessages);
+    }
+  }
+
+  @Test
+  void storesSnapshot_whenMessagesDoNotExtendPreviousConversation() throws Exception {
+    final var previousDocument = mock(Document.class);
+    when(previousDocument.asInputStream())
+        .thenReturn(documentContentAsInputStream(EXPECTED_DOCUMENT_CONTENT));
+
+    final var previousConversationContext =
+        CamundaDocumentConversationContext.builder("test-conversation")
+            .document(previousDocument)
+            .build();
+
+    final var newDocument = mock(Document.class);
+    when(documentFactory.create(documentCreationRequestCaptor.capture())).thenReturn(newDocument);
+
+    final var rewrittenMessages = List.<Message>of(userMessage("Rewritten history"));
+    final var agentContext = AgentContext.empty().withConversation(previousConversationContext);
+
+    AgentContext updatedAgentContext;
+    try (var session = store.createSession(executionContext, agentContext)) {
+      session.loadMessages(agentContext);
+      var updatedConversation =
+          session.storeMessages(agentContext, ConversationStoreRequest.of(rewrittenMessages));
+      updatedAgentContext = agentContext.withConversation(updatedConversation);
+    }
+
+    assertThat(updatedAgentContext.conversation())
+        .asInstanceOf(InstanceOfAssertFactories.type(CamundaDocumentConversationContext.class))
+        .satisfies(
+            conversation -> {
               assertThat(conversation.document()).isEqualTo(newDocument);
+              assertThat(conversation.segments()).isEmpty();
               assertThat(conversation.previousDocuments()).containsExactly(previousDocument);
             });
 
+    JSONAssert.assertEquals(
+        new String(documentCreationRequestCaptor.getValue().content().readAllBytes()),
+        documentContentAsString(new DocumentContent(rewrittenMessages)),
+        true);
+  }
+
+  @Test
+  void compactsSegmentsIntoSnapshot_whenMaximumSegmentCountIsReached() throws Exception {
+    final var snapshot = mock(Document.class);
+    when(snapshot.asInputStream())
+        .thenReturn(documentContentAsInputStream(EXPECTED_DOCUMENT_CONTENT));
+
+    final var segments = new ArrayList<Document>();
+    for (int i = 0; i < MAX_SEGMENTS; i++) {
+      final var segment = mock(Document.class);
+      when(segment.asInputStream())
+          .thenReturn(documentContentAsInputStream(new DocumentContent(List.of())));
+      segments.add(segment);
+    }
+
+    final var previousConversationContext =
+        CamundaDocumentConversationContext.builder("test-conversation")
+            .document(snapshot)
+            .segments(segments)
+            .build();
+
+    final var newDocument = mock(Document.class);
+    when(documentFactory.create(documentCreationRequestCaptor.capture())).thenReturn(newDocument);
+
+    final var userMessage = userMessage("User message");
+    final var agentContext = AgentContext.empty().withConversation(previousConversationContext);
+
+    AgentContext updatedAgentContext;
+    try (var session = store.createSession(executionContext, agentContext)) {
+      var loadResult = session.loadMessages(agentContext);
+
+      final var allMessages = new ArrayList<>(loadResult.messages());
+      allMessages.add(userMessage);
+
+      var updatedConversation =
+          session.storeMessages(agentContext, ConversationStoreRequest.of(allMessages));
+      updatedAgentContext = agentContext.withConversation(updatedConversation);
+    }
+
+    final var expectedPreviousDocuments = new ArrayList<Document>();
+    expectedPreviousDocuments.add(snapshot);
+    expectedPreviousDocuments.addAll(segments);
+
+    // documents of the previous state are retained to allow recovering it
+    assertThat(updatedAgentContext.conversation())
+        .asInstanceOf(InstanceOfAssertFactories.type(CamundaDocumentConversationContext.class))
+        .satisfies(
+            conversation -> {
+              assertThat(conversation.document()).isEqualTo(newDocument);
+              assertThat(conversation.segments()).isEmpty();
+              assertThat(conversation.previousDocuments())
+                  .containsExactlyElementsOf(expectedPreviousDocuments);
+            });
+    verify(documentStore, never()).deleteDocument(any());
+
     final var expectedMessages = new ArrayList<>(TEST_MESSAGES);
     expectedMessages.add(userMessage);
-
-    final var creationRequest = documentCreationRequestCaptor.getValue();
-    assertDocumentCreationRequest(creationRequest, updatedAgentContext);
     JSONAssert.assertEquals(
-        new String(creationRequest.content().readAllBytes()),
+        new String(documentCreationRequestCaptor.getValue().content().readAllBytes()),
         documentContentAsString(new DocumentContent(expectedMessages)),
         true);
   }
@@ -362,9 +511,9 @@ class CamundaDocumentConversationStoreTest {
 
     AgentContext updatedAgentContext;
     try (var session = store.createSession(executionContext, agentContext)) {
-      var loadResult = session.loadMessages(agentContext);
+      session.loadMessages(agentContext);
       var updatedConversation =
-          session.storeMessages(agentContext, ConversationStoreRequest.of(loadResult.messages()));
+          session.storeMessages(agentContext, ConversationStoreRequest.of(REWRITTEN_MESSAGES));
       updatedAgentContext = agentContext.withConversation(updatedConversation);
     }
 
@@ -414,9 +563,9 @@ class CamundaDocumentConversationStoreTest {
 
     AgentContext updatedAgentContext;
     try (var session = store.createSession(executionContext, agentContext)) {
-      var loadResult = session.loadMessages(agentContext);
+      session.loadMessages(agentContext);
       var updatedConversation =
-          session.storeMessages(agentContext, ConversationStoreRequest.of(loadResult.messages()));
+          session.storeMessages(agentContext, ConversationStoreRequest.of(REWRITTEN_MESSAGES));
       updatedAgentContext = agentContext.withConversation(updatedConversation);
     }
 
@@ -452,6 +601,29 @@ class CamundaDocumentConversationStoreTest {
     verify(documentStore).deleteDocument(documentReference);
   }
 
+  @Test
+  void onJobCompletionFailed_deletesOrphanedSegmentButKeepsSnapshot() {
+    var snapshot = mock(Document.class);
+    var segmentReference = mock(CamundaDocumentReference.class);
+    var segment = mock(Document.class);
+    when(segment.reference()).thenReturn(segmentReference);
+
+    var conversationContext =
+        CamundaDocumentConversationContext.builder("test-conversation")
+            .document(snapshot)
+            .segments(List.of(mock(Document.class), segment))
+            .build();
+    var agentContext = AgentContext.empty().withConversation(conversationContext);
+
+    store.onJobCompletionFailed(
+        executionContext,
+        agentContext,
+        new JobCompletionFailure.CommandFailure.CommandFailed(new RuntimeException("test")));
+
+    verify(documentStore).deleteDocument(segmentReference);
+    verify(snapshot, never()).reference();
+  }
+
   @Test
   void onJobCompletionFailed_swallowsDeleteFailure() {
     var documentReference = mock(CamundaDocumentReference.class);
@@ -29,7 +29,9 @@ import io.camunda.connector.agenticai.aiagent.agent.AgentSubProcessRequestHandle
 import io.camunda.connector.agenticai.aiagent.agent.AgentTaskRequestHandler;
 import io.camunda.connector.agenticai.aiagent.agent.AgentToolsResolver;
 import io.camunda.connector.agenticai.aiagent.agentinstance.AgentInstanceClient;
+import io.camunda.connector.agenticai.aiagent.chatmodel.CachingChatModelRegistry;
 import io.camunda.connector.agenticai.aiagent.chatmodel.ChatModelRegistry;
+import io.camunda.connector.agenticai.aiagent.chatmodel.ChatModelRegistryImpl;
 import io.camunda.connector.agenticai.aiagent.chatmodel.provider.langchain4j.ChatMessageConverter;
 import io.camunda.connector.agenticai.aiagent.chatmodel.provider.langchain4j.ChatModelHttpProxySupport;
 import io.camunda.connector.agenticai.aiagent.chatmodel.provider.langchain4j.CloseableChatModel;
@@ -228,6 +230,28 @@ class AgenticAiConnectorsAutoConfigurationTest {
                     .isInstanceOf(CachingProcessDefinitionAdHocToolElementsResolver.class));
   }
 
+  @Test
+  void whenChatModelCachingDisabled_thenConfiguresDefaultChatModelRegistry() {
+    contextRunner
+        .withPropertyValues("camunda.connector.agenticai.aiagent.chat-model.cache.enabled=false")
+        .run(
+            context ->
+                assertThat(context)
+                    .getBean(ChatModelRegistry.class)
+                    .isInstanceOf(ChatModelRegistryImpl.class));
+  }
+
+  @Test
+  void whenChatModelCachingEnabled_thenConfiguresCachingChatModelRegistry() {
+    contextRunner
+        .withPropertyValues("camunda.connector.agenticai.aiagent.chat-model.cache.enabled=true")
+        .run(
+            context ->
+                assertThat(context)
+                    .getBean(ChatModelRegistry.class)
+                    .isInstanceOf(CachingChatModelRegistry.class));
+  }
+
   @Test
   void whenToolsCachingMaximumSizeIsNegative_thenFailsValidation() {
     contextRunner
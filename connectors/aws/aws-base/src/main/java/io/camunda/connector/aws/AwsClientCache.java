@@ -0,0 +1,258 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.aws;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import io.camunda.connector.aws.model.impl.AwsAuthentication;
+import io.camunda.connector.util.cache.CacheKeys;
+import io.camunda.connector.util.env.EnvironmentSettings;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+
+/**
+ * Process-wide cache of AWS SDK clients, so that AWS connectors reuse clients (and with them their
+ * credentials providers, region resolution and connection pools) across jobs using the same
+ * service, region, endpoint and credentials.
+ *
+ * <p>Callers close the client after every job, so the cache hands out leases: closing a lease only
+ * releases it, while the shared client is closed once it has been evicted and the last lease has
+ * been released. Sync clients additionally share one HTTP client with a bounded connection pool.
+ */
+public final class AwsClientCache {
+
+  static final String ENABLED_ENV = "CONNECTOR_AWS_CLIENT_CACHE_ENABLED";
+  static final String MAX_SIZE_ENV = "CONNECTOR_AWS_CLIENT_CACHE_MAX_SIZE";
+  static final String IDLE_TIMEOUT_ENV = "CONNECTOR_AWS_CLIENT_CACHE_IDLE_TIMEOUT";
+  static final String MAX_CONNECTIONS_ENV = "CONNECTOR_AWS_HTTP_MAX_CONNECTIONS";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AwsClientCache.class);
+
+  private static final AwsClientCache SHARED = new AwsClientCache(Settings.fromEnvironment());
+
+  private final Settings settings;
+  private final Cache<ClientKey, SharedClient> cache;
+  private volatile SdkHttpClient httpClient;
+
+  AwsClientCache(Settings settings) {
+    this.settings = settings;
+    this.cache =
+        Caffeine.newBuilder()
+            .scheduler(Scheduler.systemScheduler())
+            .maximumSize(settings.maxSize())
+            .expireAfterAccess(settings.idleTimeout())
+            .evictionListener(
+                (key, value, cause) -> {
+                  LOGGER.debug("Evicting cached AWS client (removal cause: {})", cause);
+                  if (value != null) {
+                    ((SharedClient) value).retire();
+                  }
+                })
+            .build();
+  }
+
+  /** Returns the cache shared by all AWS connectors of this runtime. */
+  public static AwsClientCache shared() {
+    return SHARED;
+  }
+
+  public boolean isEnabled() {
+    return settings.enabled();
+  }
+
+  /**
+   * Returns the HTTP client shared by all cached sync clients. It is never closed, as it lives as
+   * long as the runtime.
+   */
+  SdkHttpClient httpClient() {
+    var client = httpClient;
+    if (client == null) {
+      synchronized (this) {
+        client = httpClient;
+        if (client == null) {
+          client = ApacheHttpClient.builder().maxConnections(settings.maxConnections()).build();
+          httpClient = client;
+        }
+      }
+    }
+    return client;
+  }
+
+  /**
+   * Returns a lease on the cached client for the given key, building the client if there is none.
+   * The returned client must be closed to release the lease.
+   */
+  @SuppressWarnings("unchecked")
+  public <C extends AutoCloseable> C getOrCreate(ClientKey key, Supplier<C> factory) {
+    while (true) {
+      final var shared = cache.get(key, k -> new SharedClient(factory.get()));
+      final var lease = shared.lease();
+      if (lease != null) {
+        return (C) lease;
+      }
+
+      // the client was evicted between lookup and lease - drop the stale entry and retry
+      cache.asMap().remove(key, shared);
+    }
+  }
+
+  /** Runs pending cache maintenance, evicting expired or surplus clients right away. */
+  void cleanUp() {
+    cache.cleanUp();
+  }
+
+  /**
+   * Identifies a cached client.
+   *
+   * @param service the client builder type, distinguishing services and sync from async clients
+   * @param region the configured region, or {@code null} if resolved by the SDK
+   * @param endpoint the endpoint override, or {@code null}
+   * @param credentials fingerprint of the credentials, see {@link #fingerprint(AwsAuthentication)}
+   */
+  public record ClientKey(String service, String region, String endpoint, String credentials) {}
+
+  /**
+   * Returns a SHA-256 fingerprint of static credentials, so the cache never keeps secrets in plain
+   * text and rotated credentials result in a new client.
+   */
+  public static String fingerprint(AwsAuthentication authentication) {
+    if (authentication instanceof AwsAuthentication.AwsStaticCredentialsAuthentication sca) {
+      return CacheKeys.sha256(String.valueOf(sca.accessKey()), String.valueOf(sca.secretKey()));
+    }
+    return "default-credentials-chain";
+  }
+
+  /**
+   * Settings of the AWS client cache.
+   *
+   * @param enabled whether clients are cached at all
+   * @param maxSize maximum number of cached clients
+   * @param idleTimeout time after which an unused client is evicted and closed
+   * @param maxConnections maximum number of connections of the shared HTTP client
+   */
+  record Settings(boolean enabled, long maxSize, Duration idleTimeout, int maxConnections) {
+
+    static final long DEFAULT_MAX_SIZE = 100;
+    static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+    static final int DEFAULT_MAX_CONNECTIONS = 200;
+
+    static Settings fromEnvironment() {
+      return new Settings(
+          EnvironmentSettings.getBoolean(ENABLED_ENV, true),
+          EnvironmentSettings.getLong(MAX_SIZE_ENV, DEFAULT_MAX_SIZE, 1),
+          EnvironmentSettings.getDuration(IDLE_TIMEOUT_ENV, DEFAULT_IDLE_TIMEOUT),
+          EnvironmentSettings.getInt(MAX_CONNECTIONS_ENV, DEFAULT_MAX_CONNECTIONS, 1));
+    }
+  }
+
+  /** A cached client shared by all jobs holding a lease on it. */
+  private static final class SharedClient {
+
+    private final AutoCloseable client;
+    private final Class<?>[] interfaces;
+    private int leases;
+    private boolean retired;
+    private boolean closed;
+
+    private SharedClient(AutoCloseable client) {
+      this.client = client;
+      this.interfaces = interfacesOf(client.getClass());
+    }
+
+    private synchronized Object lease() {
+      if (retired) {
+        return null;
+      }
+
+      leases++;
+      return Proxy.newProxyInstance(
+          client.getClass().getClassLoader(), interfaces, new LeaseHandler(this));
+    }
+
+    private synchronized void release() {
+      leases--;
+      closeIfUnused();
+    }
+
+    private synchronized void retire() {
+      retired = true;
+      closeIfUnused();
+    }
+
+    private void closeIfUnused() {
+      if (retired && leases == 0 && !closed) {
+        closed = true;
+        try {
+          client.close();
+        } catch (Exception e) {
+          LOGGER.warn("Failed to close evicted AWS client", e);
+        }
+      }
+    }
+
+    private static Class<?>[] interfacesOf(Class<?> type) {
+      var interfaces = new LinkedHashSet<Class<?>>();
+      for (var current = type; current != null; current = current.getSuperclass()) {
+        interfaces.addAll(List.of(current.getInterfaces()));
+      }
+      return interfaces.toArray(Class<?>[]::new);
+    }
+  }
+
+  /** Delegates all calls to the shared client, except {@code close()} which releases the lease. */
+  private static final class LeaseHandler implements InvocationHandler {
+
+    private final SharedClient shared;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private LeaseHandler(SharedClient shared) {
+      this.shared = shared;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      switch (method.getName()) {
+        case "close" -> {
+          if (method.getParameterCount() == 0) {
+            if (released.compareAndSet(false, true)) {
+              shared.release();
+            }
+            return null;
+          }
+        }
+        case "equals" -> {
+          if (method.getParameterCount() == 1) {
+            return proxy == args[0];
+          }
+        }
+        case "hashCode" -> {
+          if (method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+          }
+        }
+        default -> {}
+      }
+      try {
+        return method.invoke(shared.client, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+  }
+}
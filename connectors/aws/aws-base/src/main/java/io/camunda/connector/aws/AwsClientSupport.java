@@ -9,13 +9,48 @@ package io.camunda.connector.aws;
 import io.camunda.connector.aws.model.impl.AwsBaseRequest;
 import java.net.URI;
 import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
+import software.amazon.awssdk.core.client.builder.SdkSyncClientBuilder;
 import software.amazon.awssdk.regions.Region;
 
 public class AwsClientSupport {
 
+  /**
+   * Returns a client configured from the request. Unless disabled, the client is shared with other
+   * jobs using the same service, region, endpoint and credentials, see {@link AwsClientCache}.
+   * Callers still close the returned client once done with it.
+   */
   public static <B extends AwsClientBuilder<B, C>, C extends AutoCloseable> C createClient(
       B builder, AwsBaseRequest request) {
-    return configureClient(builder, request).build();
+    return createClient(builder, request, null);
+  }
+
+  /**
+   * Like {@link #createClient(AwsClientBuilder, AwsBaseRequest)}, but with a region resolved by
+   * the caller overriding the one of the request configuration.
+   */
+  public static <B extends AwsClientBuilder<B, C>, C extends AutoCloseable> C createClient(
+      B builder, AwsBaseRequest request, String region) {
+    configureClient(builder, request);
+    if (region != null) {
+      builder.region(Region.of(region));
+    }
+    var cache = AwsClientCache.shared();
+    if (!cache.isEnabled()) {
+      return builder.build();
+    }
+    if (builder instanceof SdkSyncClientBuilder<?, ?> syncBuilder) {
+      syncBuilder.httpClient(cache.httpClient());
+    }
+    var config = request.getConfiguration();
+    var key =
+        new AwsClientCache.ClientKey(
+            builder.getClass().getName(),
+            region != null ? region : config != null ? config.region() : null,
+            config != null && config.endpoint() != null && !config.endpoint().isBlank()
+                ? config.endpoint()
+                : null,
+            AwsClientCache.fingerprint(request.getAuthentication()));
+    return cache.getOrCreate(key, builder::build);
   }
 
   public static <B extends AwsClientBuilder<B, C>, C extends AutoCloseable> B configureClient(
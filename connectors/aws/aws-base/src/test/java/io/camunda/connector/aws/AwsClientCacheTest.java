@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.aws;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.connector.aws.model.impl.AwsAuthentication.AwsDefaultCredentialsChainAuthentication;
+import io.camunda.connector.aws.model.impl.AwsAuthentication.AwsStaticCredentialsAuthentication;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class AwsClientCacheTest {
+
+  private static final AwsClientCache.ClientKey KEY =
+      new AwsClientCache.ClientKey("TestClientBuilder", "eu-central-1", null, "fingerprint");
+
+  private final AtomicInteger created = new AtomicInteger();
+
+  interface TestClient extends AutoCloseable {
+    String call();
+
+    boolean isClosed();
+
+    @Override
+    void close();
+  }
+
+  private TestClient newClient() {
+    created.incrementAndGet();
+    return new TestClient() {
+      private boolean closed;
+
+      @Override
+      public String call() {
+        return "result";
+      }
+
+      @Override
+      public boolean isClosed() {
+        return closed;
+      }
+
+      @Override
+      public void close() {
+        closed = true;
+      }
+    };
+  }
+
+  private static AwsClientCache cache(long maxSize) {
+    return new AwsClientCache(
+        new AwsClientCache.Settings(true, maxSize, Duration.ofMinutes(10), 10));
+  }
+
+  @Test
+  void reusesClientForEqualKeys() {
+    var cache = cache(10);
+
+    try (var first = cache.getOrCreate(KEY, this::newClient);
+        var second = cache.getOrCreate(KEY, this::newClient)) {
+      assertThat(first.call()).isEqualTo("result");
+      assertThat(second.call()).isEqualTo("result");
+    }
+
+    assertThat(created).hasValue(1);
+  }
+
+  @Test
+  void doesNotCloseCachedClientWhenLeaseIsClosed() {
+    var cache = cache(10);
+
+    var lease = cache.getOrCreate(KEY, this::newClient);
+    lease.close();
+
+    try (var next = cache.getOrCreate(KEY, this::newClient)) {
+      assertThat(next.isClosed()).isFalse();
+    }
+    assertThat(created).hasValue(1);
+  }
+
+  @Test
+  void closesEvictedClientOnceLastLeaseIsReleased() {
+    var cache = cache(0);
+
+    var lease = cache.getOrCreate(KEY, this::newClient);
+    cache.cleanUp();
+    assertThat(lease.isClosed()).isFalse();
+
+    lease.close();
+    lease.close();
+    assertThat(lease.isClosed()).isTrue();
+  }
+
+  @Test
+  void fingerprintDependsOnStaticCredentials() {
+    var fingerprint =
+        AwsClientCache.fingerprint(new AwsStaticCredentialsAuthentication("key", "secret"));
+
+    assertThat(fingerprint)
+        .isEqualTo(
+            AwsClientCache.fingerprint(new AwsStaticCredentialsAuthentication("key", "secret")))
+        .isNotEqualTo(
+            AwsClientCache.fingerprint(new AwsStaticCredentialsAuthentication("key", "rotated")))
+        .doesNotContain("secret");
+    assertThat(AwsClientCache.fingerprint(new AwsDefaultCredentialsChainAuthentication()))
+        .isNotEqualTo(fingerprint);
+  }
+}
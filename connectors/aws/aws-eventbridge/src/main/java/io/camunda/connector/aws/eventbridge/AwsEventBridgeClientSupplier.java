@@ -7,7 +7,6 @@
 package io.camunda.connector.aws.eventbridge;
 
 import io.camunda.connector.aws.AwsClientSupport;
-import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
 
 public class AwsEventBridgeClientSupplier {
@@ -16,8 +15,6 @@ public class AwsEventBridgeClientSupplier {
   // with lambda/sns, which do have a real per-resource fallback to apply.
   public EventBridgeClient getAmazonEventBridgeClient(
       final AwsEventBridgeRequest request, final String region) {
-    return AwsClientSupport.configureClient(EventBridgeClient.builder(), request)
-        .region(Region.of(region))
-        .build();
+    return AwsClientSupport.createClient(EventBridgeClient.builder(), request, region);
   }
 }
@@ -8,7 +8,6 @@ package io.camunda.connector.awslambda;
 
 import io.camunda.connector.aws.AwsClientSupport;
 import io.camunda.connector.awslambda.model.AwsLambdaRequest;
-import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.lambda.LambdaClient;
 
 public class AwsLambdaSupplier {
@@ -16,8 +15,6 @@ public class AwsLambdaSupplier {
   // Delegates to AwsClientSupport (issue #7083); region is passed explicitly since the caller
   // resolves the deprecated per-function fallback itself.
   public LambdaClient awsLambdaService(final AwsLambdaRequest request, final String region) {
-    return AwsClientSupport.configureClient(LambdaClient.builder(), request)
-        .region(Region.of(region))
-        .build();
+    return AwsClientSupport.createClient(LambdaClient.builder(), request, region);
   }
 }
@@ -9,7 +9,6 @@ package io.camunda.connector.sns.suppliers;
 import com.amazonaws.services.sns.message.SnsMessageManager;
 import io.camunda.connector.aws.AwsClientSupport;
 import io.camunda.connector.sns.outbound.model.SnsConnectorRequest;
-import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.sns.SnsClient;
 
 public class SnsClientSupplier {
@@ -18,9 +17,7 @@ public class SnsClientSupplier {
   // resolves the deprecated per-topic fallback itself. A blank endpoint is now a no-op instead
   // of failing at construction time.
   public SnsClient getSnsClient(final SnsConnectorRequest request, final String region) {
-    return AwsClientSupport.configureClient(SnsClient.builder(), request)
-        .region(Region.of(region))
-        .build();
+    return AwsClientSupport.createClient(SnsClient.builder(), request, region);
   }
 
   // TODO: SnsMessageManager is from AWS SDK v1 and has no equivalent in v2.
@@ -8,7 +8,6 @@ package io.camunda.connector.common.suppliers;
 
 import io.camunda.connector.aws.AwsClientSupport;
 import io.camunda.connector.aws.model.impl.AwsBaseRequest;
-import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.sqs.SqsClient;
 
 public class DefaultAmazonSQSClientSupplier implements AmazonSQSClientSupplier {
@@ -17,8 +16,6 @@ public class DefaultAmazonSQSClientSupplier implements AmazonSQSClientSupplier {
   // failing, and the inbound path now honors a custom endpoint (previously unreachable).
   @Override
   public SqsClient sqsClient(final AwsBaseRequest request, final String region) {
-    return AwsClientSupport.configureClient(SqsClient.builder(), request)
-        .region(Region.of(region))
-        .build();
+    return AwsClientSupport.createClient(SqsClient.builder(), request, region);
   }
 }
@@ -12,37 +12,114 @@ import io.camunda.connector.api.inbound.CorrelationFailureHandlingStrategy.Ignor
 import io.camunda.connector.api.inbound.CorrelationResult.Failure;
 import io.camunda.connector.api.inbound.CorrelationResult.Success;
 import io.camunda.connector.inbound.model.SqsInboundProperties;
+import io.camunda.connector.util.env.EnvironmentSettings;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.sqs.SqsClient;
-import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
 import software.amazon.awssdk.services.sqs.model.Message;
 import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
 
+/**
+ * Receives messages of an SQS queue in batches and correlates the messages of a batch
+ * concurrently, up to {@link Settings#maxConcurrentCorrelations()}. Correlated and ignored
+ * messages are acknowledged with a single {@code DeleteMessageBatch} call per batch. While
+ * correlations are running, the visibility timeout of pending messages that is about to expire is
+ * extended with {@code ChangeMessageVisibilityBatch}, so that slow messages are not redelivered in
+ * the meantime. The visibility is never set below the {@code VisibilityTimeout} of the queue.
+ */
 public class SqsQueueConsumer implements Runnable {
 
+  static final String MAX_CONCURRENT_CORRELATIONS_ENV =
+      "CONNECTOR_SQS_INBOUND_MAX_CONCURRENT_CORRELATIONS";
+  static final String VISIBILITY_EXTENSION_ENV =
+      "CONNECTOR_SQS_INBOUND_VISIBILITY_EXTENSION_SECONDS";
+
   private static final Logger LOGGER = LoggerFactory.getLogger(SqsQueueConsumer.class);
 
   private static final List<MessageSystemAttributeName> ALL_SYSTEM_ATTRIBUTES =
       List.of(MessageSystemAttributeName.ALL);
   private static final List<String> ALL_ATTRIBUTES_KEY = List.of("All");
 
+  /** Maximum number of entries SQS accepts in one receive or batch request. */
+  private static final int MAX_BATCH_SIZE = 10;
+
   private final SqsClient sqsClient;
   private final SqsInboundProperties properties;
   private final InboundConnectorContext context;
   private final AtomicBoolean queueConsumerActive;
+  private final Settings settings;
+  private final Semaphore correlationPermits;
+  private Duration queueVisibilityTimeout = Duration.ZERO;
+
+  /**
+   * Settings of the consumer.
+   *
+   * @param maxConcurrentCorrelations maximum number of messages correlated at the same time
+   * @param visibilityExtension minimum visibility timeout set on messages that are still being
+   *     correlated once their visibility expires within this duration; the {@code
+   *     VisibilityTimeout} of the queue is used instead if it is longer
+   */
+  public record Settings(int maxConcurrentCorrelations, Duration visibilityExtension) {
+
+    public static final Settings DEFAULT = new Settings(MAX_BATCH_SIZE, Duration.ofSeconds(30));
+
+    public Settings {
+      if (maxConcurrentCorrelations < 1) {
+        throw new IllegalArgumentException(
+            "maxConcurrentCorrelations must be at least 1, got " + maxConcurrentCorrelations);
+      }
+      if (visibilityExtension.toSeconds() < 1) {
+        throw new IllegalArgumentException(
+            "visibilityExtension must be at least one second, got " + visibilityExtension);
+      }
+    }
+
+    /** Reads the settings from the {@code CONNECTOR_SQS_INBOUND_*} environment variables. */
+    public static Settings fromEnvironment() {
+      return new Settings(
+          EnvironmentSettings.getInt(
+              MAX_CONCURRENT_CORRELATIONS_ENV, DEFAULT.maxConcurrentCorrelations(), 1),
+          EnvironmentSettings.getSeconds(
+              VISIBILITY_EXTENSION_ENV, DEFAULT.visibilityExtension(), false));
+    }
+  }
 
   public SqsQueueConsumer(
       SqsClient sqsClient, SqsInboundProperties properties, InboundConnectorContext context) {
+    this(sqsClient, properties, context, Settings.fromEnvironment());
+  }
+
+  public SqsQueueConsumer(
+      SqsClient sqsClient,
+      SqsInboundProperties properties,
+      InboundConnectorContext context,
+      Settings settings) {
     this.sqsClient = sqsClient;
     this.properties = properties;
     this.context = context;
     this.queueConsumerActive = new AtomicBoolean(true);
+    this.settings = settings;
+    this.correlationPermits = new Semaphore(settings.maxConcurrentCorrelations());
   }
 
   @Override
@@ -50,9 +127,12 @@ public class SqsQueueConsumer implements Runnable {
     LOGGER.info("Started SQS consumer for queue {}", properties.getQueue().url());
 
     final ReceiveMessageRequest receiveMessageRequest = createReceiveMessageRequest();
+    queueVisibilityTimeout = readQueueVisibilityTimeout();
     ReceiveMessageResponse receiveMessageResponse;
+    long receivedAtNanos;
     do {
       try {
+        receivedAtNanos = System.nanoTime();
         receiveMessageResponse = sqsClient.receiveMessage(receiveMessageRequest);
       } catch (Exception e) {
         LOGGER.error("Failed to receive messages from SQS queue", e);
@@ -60,21 +140,13 @@ public class SqsQueueConsumer implements Runnable {
       }
       try {
         List<Message> messages = receiveMessageResponse.messages();
-        for (Message message : messages) {
-          context.log(
-              activity ->
-                  activity
-                      .withSeverity(Severity.INFO)
-                      .withTag(ActivityLogTag.MESSAGE)
-                      .withMessage("Received SQS Message with ID " + message.messageId()));
-          var result =
-              context.correlate(
-                  CorrelationRequest.builder()
-                      .variables(MessageMapper.toSqsInboundMessage(message))
-                      .messageId(message.messageId())
-                      .build());
-          handleCorrelationResult(message, result);
+        if (!messages.isEmpty()) {
+          processBatch(messages, receivedAtNanos);
         }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        LOGGER.debug("Interrupted while correlating messages, stopping consumer");
+        queueConsumerActive.set(false);
       } catch (Exception e) {
         LOGGER.debug("NACK - unhandled exception", e);
         context.log(
@@ -89,15 +161,80 @@ public class SqsQueueConsumer implements Runnable {
     context.reportHealth(Health.down());
   }
 
-  private void handleCorrelationResult(Message message, CorrelationResult result) {
-    switch (result) {
+  /**
+   * Correlates the messages of a batch concurrently and acknowledges the messages that must not be
+   * redelivered once all correlations are done.
+   */
+  private void processBatch(List<Message> messages, long receivedAtNanos)
+      throws InterruptedException {
+    Map<Message, CompletableFuture<CorrelationResult>> correlations = new LinkedHashMap<>();
+    var visibility = new BatchVisibility(receivedAtNanos);
+    long extensionIntervalMillis = Math.max(settings.visibilityExtension().toMillis() / 2, 1);
+    for (Message message : messages) {
+      while (!correlationPermits.tryAcquire(extensionIntervalMillis, TimeUnit.MILLISECONDS)) {
+        visibility.extendIfExpiring(pendingMessages(messages, correlations));
+      }
+      correlations.put(
+          message, correlate(message).whenComplete((result, e) -> correlationPermits.release()));
+    }
+
+    var allCorrelations =
+        CompletableFuture.allOf(correlations.values().toArray(CompletableFuture[]::new));
+    while (true) {
+      try {
+        allCorrelations.get(extensionIntervalMillis, TimeUnit.MILLISECONDS);
+        break;
+      } catch (TimeoutException e) {
+        visibility.extendIfExpiring(pendingMessages(messages, correlations));
+      } catch (ExecutionException e) {
+        // failures are handled per message below
+        break;
+      }
+    }
+
+    List<Message> toAcknowledge = new ArrayList<>();
+    correlations.forEach(
+        (message, correlation) -> {
+          try {
+            if (shouldAcknowledge(correlation.join())) {
+              toAcknowledge.add(message);
+            }
+          } catch (Exception e) {
+            LOGGER.debug("NACK - unhandled exception", e);
+            context.log(
+                activity ->
+                    activity
+                        .withSeverity(Severity.WARNING)
+                        .withTag(ActivityLogTag.MESSAGE)
+                        .withMessage("NACK - failed to correlate event", e));
+          }
+        });
+    acknowledge(toAcknowledge);
+  }
+
+  private CompletableFuture<CorrelationResult> correlate(Message message) {
+    context.log(
+        activity ->
+            activity
+                .withSeverity(Severity.INFO)
+                .withTag(ActivityLogTag.MESSAGE)
+                .withMessage("Received SQS Message with ID " + message.messageId()));
+    try {
+      return context.correlateAsync(
+          CorrelationRequest.builder()
+              .variables(MessageMapper.toSqsInboundMessage(message))
+              .messageId(message.messageId())
+              .build());
+    } catch (Exception e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  private boolean shouldAcknowledge(CorrelationResult result) {
+    return switch (result) {
       case Success ignored -> {
         LOGGER.debug("ACK - message correlated successfully");
-        sqsClient.deleteMessage(
-            DeleteMessageRequest.builder()
-                .queueUrl(properties.getQueue().url())
-                .receiptHandle(message.receiptHandle())
-                .build());
+        yield true;
       }
 
       case Failure failure -> {
@@ -107,26 +244,151 @@ public class SqsQueueConsumer implements Runnable {
                     .withSeverity(Severity.WARNING)
                     .withTag(ActivityLogTag.MESSAGE)
                     .withMessage(failure.message()));
-        switch (failure.handlingStrategy()) {
+        yield switch (failure.handlingStrategy()) {
           case ForwardErrorToUpstream ignored1 -> {
             LOGGER.debug("NACK (requeue) - message not correlated");
+            yield false;
           }
           case Ignore ignored -> {
             LOGGER.debug("ACK - message ignored");
-            sqsClient.deleteMessage(
-                DeleteMessageRequest.builder()
+            yield true;
+          }
+        };
+      }
+    };
+  }
+
+  private static List<Message> pendingMessages(
+      List<Message> messages, Map<Message, CompletableFuture<CorrelationResult>> correlations) {
+    return messages.stream()
+        .filter(
+            message -> {
+              var correlation = correlations.get(message);
+              return correlation == null || !correlation.isDone();
+            })
+        .toList();
+  }
+
+  private void acknowledge(List<Message> messages) {
+    for (List<Message> chunk : chunks(messages)) {
+      List<DeleteMessageBatchRequestEntry> entries = new ArrayList<>();
+      for (int i = 0; i < chunk.size(); i++) {
+        entries.add(
+            DeleteMessageBatchRequestEntry.builder()
+                .id(String.valueOf(i))
+                .receiptHandle(chunk.get(i).receiptHandle())
+                .build());
+      }
+      try {
+        var response =
+            sqsClient.deleteMessageBatch(
+                DeleteMessageBatchRequest.builder()
                     .queueUrl(properties.getQueue().url())
-                    .receiptHandle(message.receiptHandle())
+                    .entries(entries)
                     .build());
-          }
+        if (response != null && !response.failed().isEmpty()) {
+          LOGGER.warn(
+              "Failed to delete {} SQS messages, they will be redelivered: {}",
+              response.failed().size(),
+              response.failed());
         }
+      } catch (Exception e) {
+        LOGGER.warn("Failed to delete SQS messages, they will be redelivered", e);
       }
     }
   }
 
+  private boolean extendVisibility(List<Message> messages, Duration visibility) {
+    int visibilityTimeout = (int) visibility.toSeconds();
+    boolean extended = true;
+    for (List<Message> chunk : chunks(messages)) {
+      List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<>();
+      for (int i = 0; i < chunk.size(); i++) {
+        entries.add(
+            ChangeMessageVisibilityBatchRequestEntry.builder()
+                .id(String.valueOf(i))
+                .receiptHandle(chunk.get(i).receiptHandle())
+                .visibilityTimeout(visibilityTimeout)
+                .build());
+      }
+      LOGGER.debug("Extending visibility timeout of {} pending SQS messages", entries.size());
+      try {
+        sqsClient.changeMessageVisibilityBatch(
+            ChangeMessageVisibilityBatchRequest.builder()
+                .queueUrl(properties.getQueue().url())
+                .entries(entries)
+                .build());
+      } catch (Exception e) {
+        LOGGER.warn("Failed to extend the visibility timeout of pending SQS messages", e);
+        extended = false;
+      }
+    }
+    return extended;
+  }
+
+  private Duration readQueueVisibilityTimeout() {
+    try {
+      var attributes =
+          sqsClient
+              .getQueueAttributes(
+                  GetQueueAttributesRequest.builder()
+                      .queueUrl(properties.getQueue().url())
+                      .attributeNames(QueueAttributeName.VISIBILITY_TIMEOUT)
+                      .build())
+              .attributes();
+      return Duration.ofSeconds(
+          Long.parseLong(attributes.get(QueueAttributeName.VISIBILITY_TIMEOUT)));
+    } catch (Exception e) {
+      LOGGER.warn(
+          "Failed to read the visibility timeout of SQS queue {}, extending the visibility of"
+              + " pending messages by {}",
+          properties.getQueue().url(),
+          settings.visibilityExtension(),
+          e);
+      return Duration.ZERO;
+    }
+  }
+
+  /**
+   * Tracks until when the messages of a batch are hidden from other consumers, so that their
+   * visibility is only extended when it is about to expire.
+   */
+  private final class BatchVisibility {
+
+    private long visibleAtNanos;
+
+    private BatchVisibility(long receivedAtNanos) {
+      this.visibleAtNanos = receivedAtNanos + queueVisibilityTimeout.toNanos();
+    }
+
+    private void extendIfExpiring(List<Message> pendingMessages) {
+      long now = System.nanoTime();
+      if (pendingMessages.isEmpty()
+          || visibleAtNanos - now > settings.visibilityExtension().toNanos()) {
+        return;
+      }
+      Duration extension =
+          queueVisibilityTimeout.compareTo(settings.visibilityExtension()) > 0
+              ? queueVisibilityTimeout
+              : settings.visibilityExtension();
+      if (extendVisibility(pendingMessages, extension)) {
+        visibleAtNanos = now + extension.toNanos();
+      }
+    }
+  }
+
+  private static List<List<Message>> chunks(List<Message> messages) {
+    List<List<Message>> chunks = new ArrayList<>();
+    for (int i = 0; i < messages.size(); i += MAX_BATCH_SIZE) {
+      chunks.add(messages.subList(i, Math.min(i + MAX_BATCH_SIZE, messages.size())));
+    }
+    return chunks;
+  }
+
   private ReceiveMessageRequest createReceiveMessageRequest() {
     return ReceiveMessageRequest.builder()
         .waitTimeSeconds(Math.max(Integer.parseInt(properties.getQueue().pollingWaitTime()), 1))
+        .maxNumberOfMessages(MAX_BATCH_SIZE)
         .queueUrl(properties.getQueue().url())
         .messageAttributeNames(
             Optional.ofNullable(properties.getQueue().messageAttributeNames())
@@ -9,6 +9,7 @@ package io.camunda.connector.inbound;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -21,8 +22,12 @@ import io.camunda.connector.api.inbound.Health;
 import io.camunda.connector.api.inbound.InboundConnectorContext;
 import io.camunda.connector.inbound.model.SqsInboundProperties;
 import io.camunda.connector.inbound.model.SqsInboundQueueProperties;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,9 +36,15 @@ import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.sqs.SqsClient;
-import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
 import software.amazon.awssdk.services.sqs.model.Message;
 import software.amazon.awssdk.services.sqs.model.MessageSystemAttributeName;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
 import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
 
@@ -46,6 +57,7 @@ public class SqsQueueConsumerTest {
   @Mock private InboundConnectorContext context;
   private Message message;
   @Captor private ArgumentCaptor<ReceiveMessageRequest> requestArgumentCaptor;
+  @Captor private ArgumentCaptor<DeleteMessageBatchRequest> deleteRequestCaptor;
 
   private SqsQueueConsumer consumer;
 
@@ -69,8 +81,8 @@ public class SqsQueueConsumerTest {
         .thenReturn(ReceiveMessageResponse.builder().messages(message).build())
         .thenReturn(
             ReceiveMessageResponse.builder().messages(Collections.<Message>emptyList()).build());
-    when(context.correlate(any(CorrelationRequest.class)))
-        .thenReturn(new MessagePublished(null, 1L, null));
+    when(context.correlateAsync(any(CorrelationRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(new MessagePublished(null, 1L, null)));
     // when
     Thread thread = new Thread(() -> consumer.run());
     consumer.setQueueConsumerActive(false);
@@ -78,8 +90,8 @@ public class SqsQueueConsumerTest {
     thread.join();
     // then
     verify(sqsClient, atLeast(1)).receiveMessage(any(ReceiveMessageRequest.class));
-    verify(context).correlate(any(CorrelationRequest.class));
-    verify(sqsClient).deleteMessage(any(DeleteMessageRequest.class));
+    verify(context).correlateAsync(any(CorrelationRequest.class));
+    verify(sqsClient).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
 
     ReceiveMessageRequest receiveMessageRequest = requestArgumentCaptor.getValue();
     assertThat(receiveMessageRequest.messageSystemAttributeNames())
@@ -101,8 +113,8 @@ public class SqsQueueConsumerTest {
         .thenReturn(ReceiveMessageResponse.builder().messages(message).build())
         .thenReturn(
             ReceiveMessageResponse.builder().messages(Collections.<Message>emptyList()).build());
-    when(context.correlate(any(CorrelationRequest.class)))
-        .thenReturn(new MessagePublished(null, 1L, null));
+    when(context.correlateAsync(any(CorrelationRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(new MessagePublished(null, 1L, null)));
 
     // when
     Thread thread =
@@ -116,7 +128,7 @@ public class SqsQueueConsumerTest {
     // then
     verify(sqsClient, atLeast(1)).receiveMessage(any(ReceiveMessageRequest.class));
     verify(context)
-        .correlate(
+        .correlateAsync(
             CorrelationRequest.builder()
                 .variables(MessageMapper.toSqsInboundMessage(message))
                 .messageId(message.messageId())
@@ -125,7 +137,7 @@ public class SqsQueueConsumerTest {
     assertThat(receiveMessageRequest.messageSystemAttributeNames())
         .isEqualTo(attributeNames.stream().map(MessageSystemAttributeName::fromValue).toList());
     assertThat(receiveMessageRequest.messageAttributeNames()).isEqualTo(messageAttributeNames);
-    verify(sqsClient).deleteMessage(any(DeleteMessageRequest.class));
+    verify(sqsClient).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
   }
 
   @Test
@@ -135,8 +147,8 @@ public class SqsQueueConsumerTest {
         .thenReturn(ReceiveMessageResponse.builder().messages(message).build())
         .thenReturn(
             ReceiveMessageResponse.builder().messages(Collections.<Message>emptyList()).build());
-    when(context.correlate(any(CorrelationRequest.class)))
-        .thenReturn(new Other(new RuntimeException()));
+    when(context.correlateAsync(any(CorrelationRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(new Other(new RuntimeException())));
     // when
     Thread thread =
         new Thread(
@@ -148,7 +160,7 @@ public class SqsQueueConsumerTest {
     thread.join();
     // then
     verify(sqsClient).receiveMessage(any(ReceiveMessageRequest.class));
-    verify(context).correlate(any(CorrelationRequest.class));
+    verify(context).correlateAsync(any(CorrelationRequest.class));
     verifyNoMoreInteractions(sqsClient);
   }
 
@@ -159,8 +171,8 @@ public class SqsQueueConsumerTest {
         .thenReturn(ReceiveMessageResponse.builder().messages(message).build())
         .thenReturn(
             ReceiveMessageResponse.builder().messages(Collections.<Message>emptyList()).build());
-    when(context.correlate(any(CorrelationRequest.class)))
-        .thenReturn(new ActivationConditionNotMet(true));
+    when(context.correlateAsync(any(CorrelationRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(new ActivationConditionNotMet(true)));
     // when
     Thread thread =
         new Thread(
@@ -172,8 +184,8 @@ public class SqsQueueConsumerTest {
     thread.join();
     // then
     verify(sqsClient).receiveMessage(any(ReceiveMessageRequest.class));
-    verify(context).correlate(any(CorrelationRequest.class));
-    verify(sqsClient).deleteMessage(any(DeleteMessageRequest.class));
+    verify(context).correlateAsync(any(CorrelationRequest.class));
+    verify(sqsClient).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
   }
 
   @Test
@@ -196,4 +208,128 @@ public class SqsQueueConsumerTest {
     verify(context).reportHealth(Health.down());
     verifyNoMoreInteractions(context);
   }
+
+  @Test
+  void run_shouldAcknowledgeBatchWithSingleRequest() throws InterruptedException {
+    // given
+    var first = Message.builder().messageId("1").body("a").receiptHandle("handle-1").build();
+    var second = Message.builder().messageId("2").body("b").receiptHandle("handle-2").build();
+    var third = Message.builder().messageId("3").body("c").receiptHandle("handle-3").build();
+    when(sqsClient.receiveMessage(requestArgumentCaptor.capture()))
+        .thenReturn(ReceiveMessageResponse.builder().messages(first, second, third).build());
+    when(context.correlateAsync(any(CorrelationRequest.class)))
+        .thenReturn(CompletableFuture.completedFuture(new MessagePublished(null, 1L, null)))
+        .thenReturn(CompletableFuture.completedFuture(new Other(new RuntimeException())))
+        .thenReturn(CompletableFuture.completedFuture(new ActivationConditionNotMet(true)));
+    // when
+    Thread thread = new Thread(() -> consumer.run());
+    consumer.setQueueConsumerActive(false);
+    thread.start();
+    thread.join();
+    // then
+    verify(sqsClient).deleteMessageBatch(deleteRequestCaptor.capture());
+    assertThat(deleteRequestCaptor.getValue().entries())
+        .extracting(DeleteMessageBatchRequestEntry::receiptHandle)
+        .containsExactly("handle-1", "handle-3");
+    assertThat(requestArgumentCaptor.getValue().maxNumberOfMessages()).isEqualTo(10);
+    verify(sqsClient, never())
+        .changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class));
+  }
+
+  @Test
+  void run_shouldExtendVisibility_whenCorrelationIsSlow() throws InterruptedException {
+    // given
+    consumer =
+        new SqsQueueConsumer(
+            sqsClient,
+            properties,
+            context,
+            new SqsQueueConsumer.Settings(10, Duration.ofSeconds(1)));
+    var slowMessage = Message.builder().messageId("1").body("a").receiptHandle("handle").build();
+    when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class)))
+        .thenReturn(ReceiveMessageResponse.builder().messages(slowMessage).build());
+    when(context.correlateAsync(any(CorrelationRequest.class)))
+        .thenReturn(
+            CompletableFuture.supplyAsync(
+                () -> new MessagePublished(null, 1L, null),
+                CompletableFuture.delayedExecutor(1200, TimeUnit.MILLISECONDS)));
+    // when
+    Thread thread = new Thread(() -> consumer.run());
+    consumer.setQueueConsumerActive(false);
+    thread.start();
+    thread.join();
+    // then
+    verify(sqsClient, atLeast(1))
+        .changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class));
+    verify(sqsClient).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+  }
+
+  @Test
+  void run_shouldNotExtendVisibility_whileQueueVisibilityTimeoutIsLonger()
+      throws InterruptedException {
+    // given
+    consumer =
+        new SqsQueueConsumer(
+            sqsClient,
+            properties,
+            context,
+            new SqsQueueConsumer.Settings(10, Duration.ofSeconds(1)));
+    givenQueueVisibilityTimeout("60");
+    givenSlowCorrelation();
+    // when
+    Thread thread = new Thread(() -> consumer.run());
+    consumer.setQueueConsumerActive(false);
+    thread.start();
+    thread.join();
+    // then
+    verify(sqsClient, never())
+        .changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class));
+    verify(sqsClient).deleteMessageBatch(any(DeleteMessageBatchRequest.class));
+  }
+
+  @Test
+  void run_shouldNotShortenQueueVisibilityTimeout_whenExtendingVisibility()
+      throws InterruptedException {
+    // given
+    consumer =
+        new SqsQueueConsumer(
+            sqsClient,
+            properties,
+            context,
+            new SqsQueueConsumer.Settings(10, Duration.ofSeconds(1)));
+    givenQueueVisibilityTimeout("2");
+    givenSlowCorrelation();
+    ArgumentCaptor<ChangeMessageVisibilityBatchRequest> visibilityCaptor =
+        ArgumentCaptor.forClass(ChangeMessageVisibilityBatchRequest.class);
+    // when
+    Thread thread = new Thread(() -> consumer.run());
+    consumer.setQueueConsumerActive(false);
+    thread.start();
+    thread.join();
+    // then
+    verify(sqsClient, atLeast(1)).changeMessageVisibilityBatch(visibilityCaptor.capture());
+    assertThat(visibilityCaptor.getAllValues())
+        .flatExtracting(ChangeMessageVisibilityBatchRequest::entries)
+        .extracting(ChangeMessageVisibilityBatchRequestEntry::visibilityTimeout)
+        .containsOnly(2);
+  }
+
+  private void givenQueueVisibilityTimeout(String seconds) {
+    when(sqsClient.getQueueAttributes(any(GetQueueAttributesRequest.class)))
+        .thenReturn(
+            GetQueueAttributesResponse.builder()
+                .attributes(Map.of(QueueAttributeName.VISIBILITY_TIMEOUT, seconds))
+                .build());
+  }
+
+  private void givenSlowCorrelation() {
+    var slowMessage = Message.builder().messageId("1").body("a").receiptHandle("handle").build();
+    when(sqsClient.receiveMessage(any(ReceiveMessageRequest.class)))
+        .thenReturn(ReceiveMessageResponse.builder().messages(slowMessage).build());
+    when(context.correlateAsync(any(CorrelationRequest.class)))
+        .thenReturn(
+            CompletableFuture.supplyAsync(
+                () -> new MessagePublished(null, 1L, null),
+                CompletableFuture.delayedExecutor(1700, TimeUnit.MILLISECONDS)));
+  }
 }
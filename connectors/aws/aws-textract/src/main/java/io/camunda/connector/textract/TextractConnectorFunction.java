@@ -99,8 +99,13 @@ public class TextractConnectorFunction implements OutboundConnectorFunction {
         }
       }
       case POLLING -> {
-        try (TextractAsyncClient client = clientSupplier.getAsyncTextractClient(request)) {
+        // parked in the runtime instead of waiting here; the pending operation owns the client
+        TextractAsyncClient client = clientSupplier.getAsyncTextractClient(request);
+        try {
           yield pollingTextractCaller.call(request.getInput(), client);
+        } catch (Exception e) {
+          client.close();
+          throw e;
         }
       }
       case ASYNC -> {
@@ -6,16 +6,13 @@
  */
 package io.camunda.connector.textract.caller;
 
-import dev.failsafe.Failsafe;
-import dev.failsafe.RetryPolicy;
-import io.camunda.connector.api.error.ConnectorException;
 import io.camunda.connector.api.error.ConnectorInputException;
+import io.camunda.connector.api.outbound.PendingOperation;
 import io.camunda.connector.textract.model.TextractRequestData;
 import io.camunda.connector.textract.model.result.GetDocumentAnalysisResult;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,8 +24,12 @@ import software.amazon.awssdk.services.textract.model.JobStatus;
 import software.amazon.awssdk.services.textract.model.StartDocumentAnalysisRequest;
 import software.amazon.awssdk.services.textract.model.StartDocumentAnalysisResponse;
 
+/**
+ * Starts a Textract document analysis and hands it to the connector runtime as a {@link
+ * PendingOperation}, so waiting for the analysis does not block a job worker thread.
+ */
 public class PollingTextractCaller
-    implements TextractCaller<GetDocumentAnalysisResult, TextractAsyncClient> {
+    implements TextractCaller<PendingOperation, TextractAsyncClient> {
 
   public static final int MAX_RESULT = 1000;
 
@@ -45,19 +46,28 @@ public class PollingTextractCaller
   }
 
   /**
-   * Visible for tests: lets the "polling window exhausted while still IN_PROGRESS" path (see {@link
-   * #call}) be exercised without waiting out the real {@code maxAttempts * pollDelay} window (~9
-   * minutes with the production defaults).
+   * Visible for tests: the runtime gives up on the analysis after {@code maxAttempts * pollDelay}
+   * (10 minutes with the production defaults) and polls at most every {@code pollDelay}.
    */
   PollingTextractCaller(int maxAttempts, Duration pollDelay) {
     this.maxAttempts = maxAttempts;
     this.pollDelay = pollDelay;
   }
 
+  /**
+   * Starts the document analysis and returns a handle the runtime polls without blocking a job
+   * worker thread. The handle takes ownership of the client and closes it once the analysis has
+   * finished, failed or was abandoned.
+   */
   @Override
-  public GetDocumentAnalysisResult call(
-      TextractRequestData requestData, TextractAsyncClient textractClient) throws Exception {
+  public PendingOperation call(
+      TextractRequestData requestData, TextractAsyncClient textractClient) {
+    final String jobId = startDocumentAnalysis(requestData, textractClient);
+    return new PendingDocumentAnalysis(jobId, textractClient);
+  }
 
+  private String startDocumentAnalysis(
+      TextractRequestData requestData, TextractAsyncClient textractClient) {
     final StartDocumentAnalysisRequest startDocReq =
         StartDocumentAnalysisRequest.builder()
             .featureTypesWithStrings(this.prepareFeatureTypes(requestData))
@@ -70,9 +80,11 @@ public class PollingTextractCaller
     final String jobId = result.jobId();
 
     LOGGER.debug("Started document analysis with jobId: {}", jobId);
+    return jobId;
+  }
 
-    GetDocumentAnalysisResponse firstResult = pollUntilComplete(jobId, textractClient);
-
+  private static GetDocumentAnalysisResult collectResult(
+      String jobId, GetDocumentAnalysisResponse firstResult, TextractAsyncClient textractClient) {
     List<Block> allBlocks = new ArrayList<>(firstResult.blocks());
     GetDocumentAnalysisResponse lastResult = firstResult;
     String nextToken = firstResult.nextToken();
@@ -101,77 +113,69 @@ public class PollingTextractCaller
     return GetDocumentAnalysisResult.from(mergedResult);
   }
 
-  private GetDocumentAnalysisResponse pollUntilComplete(
+  private static GetDocumentAnalysisResponse getFirstPage(
       String jobId, TextractAsyncClient textractClient) {
+    return textractClient
+        .getDocumentAnalysis(
+            GetDocumentAnalysisRequest.builder().jobId(jobId).maxResults(MAX_RESULT).build())
+        .join();
+  }
 
-    RetryPolicy<GetDocumentAnalysisResponse> retryPolicy =
-        RetryPolicy.<GetDocumentAnalysisResponse>builder()
-            .handle(Exception.class)
-            // Defect fix: a FAILED job status is signalled below as a ConnectorInputException.
-            // Without excluding it here, `.handle(Exception.class)` would also catch and retry
-            // it up to maxAttempts times, wasting the full polling window (~9 minutes with the
-            // production defaults) retrying a job that will never succeed. Genuine
-            // transient/technical errors (e.g. wrapped in CompletionException by `.join()`) are
-            // still retried as before.
-            .abortOn(ConnectorInputException.class)
-            .handleResultIf(Objects::isNull)
-            .withDelay(pollDelay)
-            .withMaxAttempts(maxAttempts)
-            .onRetry(
-                ev ->
-                    LOGGER.debug(
-                        "Polling Textract job {} attempt {} started.", jobId, ev.getAttemptCount()))
-            .onFailure(
-                ev ->
-                    LOGGER.warn(
-                        "Textract job {} not completed after {} attempts.",
-                        jobId,
-                        ev.getAttemptCount()))
-            .build();
+  private static boolean isComplete(GetDocumentAnalysisResponse response) {
+    // PARTIAL_SUCCESS is a terminal status too: the job finished but some pages could not be
+    // analyzed. It still carries usable blocks (plus warnings), so it must be treated as complete -
+    // otherwise the connector would poll a job that will never reach SUCCEEDED until the polling
+    // window times out, discarding the partial result.
+    return response.jobStatus() == JobStatus.SUCCEEDED
+        || response.jobStatus() == JobStatus.PARTIAL_SUCCESS;
+  }
+
+  /**
+   * Document analysis parked in the connector runtime. Each {@link #poll()} issues a single
+   * GetDocumentAnalysis request; the runtime spaces the polls out up to {@code pollDelay} and gives
+   * up after {@code maxAttempts * pollDelay}.
+   */
+  private final class PendingDocumentAnalysis implements PendingOperation {
+
+    private final String jobId;
+    private final TextractAsyncClient textractClient;
+
+    private PendingDocumentAnalysis(String jobId, TextractAsyncClient textractClient) {
+      this.jobId = jobId;
+      this.textractClient = textractClient;
+    }
+
+    @Override
+    public PollResult poll() {
+      GetDocumentAnalysisResponse polled;
+      try {
+        polled = getFirstPage(jobId, textractClient);
+      } catch (Exception e) {
+        // transient/technical errors are retried on the next poll
+        LOGGER.debug("Polling Textract job {} failed, retrying on next poll", jobId, e);
+        return PendingOperation.pending();
+      }
+      if (isComplete(polled)) {
+        return PendingOperation.completed(collectResult(jobId, polled, textractClient));
+      } else if (polled.jobStatus() == JobStatus.FAILED) {
+        throw new ConnectorInputException("Textract polling job: " + polled);
+      }
+      return PendingOperation.pending();
+    }
+
+    @Override
+    public Duration maxDelay() {
+      return pollDelay;
+    }
+
+    @Override
+    public Duration maxWaitTime() {
+      return pollDelay.multipliedBy(maxAttempts);
+    }
 
-    GetDocumentAnalysisResponse response =
-        Failsafe.with(retryPolicy)
-            .get(
-                () -> {
-                  LOGGER.debug("Textract polling job {} started", jobId);
-                  GetDocumentAnalysisResponse polled =
-                      textractClient
-                          .getDocumentAnalysis(
-                              GetDocumentAnalysisRequest.builder()
-                                  .jobId(jobId)
-                                  .maxResults(MAX_RESULT)
-                                  .build())
-                          .join();
-
-                  JobStatus status = polled.jobStatus();
-
-                  if (status == JobStatus.SUCCEEDED || status == JobStatus.PARTIAL_SUCCESS) {
-                    // PARTIAL_SUCCESS is a terminal status too: the job finished but some pages
-                    // could not be analyzed. It still carries usable blocks (plus warnings), so it
-                    // must be treated as complete - otherwise the connector would poll a job that
-                    // will never reach SUCCEEDED until the polling window times out, discarding
-                    // the partial result.
-                    return polled;
-                  } else if (status == JobStatus.FAILED) {
-                    throw new ConnectorInputException("Textract polling job: " + polled);
-                  }
-                  return null;
-                });
-
-    // Defect fix: when every attempt is exhausted while the job is still IN_PROGRESS,
-    // `handleResultIf(Objects::isNull)` matched a RESULT (not an exception) on every attempt, so
-    // Failsafe.get() returns null instead of throwing. The caller then dereferenced that null
-    // (`firstResult.getBlocks()`), producing an NPE. Fail with a clear, typed exception instead.
-    if (response == null) {
-      throw new ConnectorException(
-          "Textract job "
-              + jobId
-              + " did not complete within the polling window ("
-              + maxAttempts
-              + " attempts, "
-              + pollDelay
-              + " delay each)");
+    @Override
+    public void close() {
+      textractClient.close();
     }
-    return response;
   }
 }
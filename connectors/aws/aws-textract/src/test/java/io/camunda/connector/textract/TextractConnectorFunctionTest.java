@@ -11,17 +11,19 @@ import static io.camunda.connector.textract.util.TextractTestUtils.ASYNC_EXECUTI
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.camunda.connector.api.error.ConnectorInputException;
+import io.camunda.connector.api.outbound.PendingOperation;
 import io.camunda.connector.runtime.test.outbound.OutboundConnectorContextBuilder;
 import io.camunda.connector.textract.caller.AsyncTextractCaller;
 import io.camunda.connector.textract.caller.PollingTextractCaller;
 import io.camunda.connector.textract.caller.SyncTextractCaller;
 import io.camunda.connector.textract.model.result.AnalyzeDocumentResult;
-import io.camunda.connector.textract.model.result.GetDocumentAnalysisResult;
 import io.camunda.connector.textract.model.result.StartDocumentAnalysisResult;
 import io.camunda.connector.textract.suppliers.AmazonTextractClientSupplier;
 import io.camunda.connector.textract.util.TextractTestUtils;
@@ -78,12 +80,10 @@ class TextractConnectorFunctionTest {
     var outBounderContext = prepareConnectorContext(TextractTestUtils.POLLING_EXECUTION_JSON);
 
     when(clientSupplier.getAsyncTextractClient(any())).thenCallRealMethod();
-    when(pollingCaller.call(any(), any()))
-        .thenReturn(
-            new GetDocumentAnalysisResult(null, null, null, null, null, null, null, null, null));
+    when(pollingCaller.call(any(), any())).thenReturn(mock(PendingOperation.class));
 
     var result = textractConnectorFunction.execute(outBounderContext);
-    assertThat(result).isInstanceOf(GetDocumentAnalysisResult.class);
+    assertThat(result).isInstanceOf(PendingOperation.class);
   }
 
   @Test
@@ -100,17 +100,16 @@ class TextractConnectorFunctionTest {
   }
 
   @Test
-  void executePollingReq_closesClientOnSuccess() throws Exception {
+  void executePollingReq_handsClientOverToPendingOperation() throws Exception {
     var outBounderContext = prepareConnectorContext(TextractTestUtils.POLLING_EXECUTION_JSON);
 
     when(clientSupplier.getAsyncTextractClient(any())).thenReturn(asyncClient);
-    when(pollingCaller.call(any(), any()))
-        .thenReturn(
-            new GetDocumentAnalysisResult(null, null, null, null, null, null, null, null, null));
+    when(pollingCaller.call(any(), any())).thenReturn(mock(PendingOperation.class));
 
     textractConnectorFunction.execute(outBounderContext);
 
-    verify(asyncClient, times(1)).close();
+    // the pending operation closes the client once the parked analysis has finished
+    verify(asyncClient, never()).close();
   }
 
   @Test
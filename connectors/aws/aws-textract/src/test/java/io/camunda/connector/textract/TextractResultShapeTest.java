@@ -16,6 +16,7 @@ import static org.mockito.Mockito.when;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.api.outbound.PendingOperation.PollResult;
 import io.camunda.connector.jackson.ConnectorsObjectMapperSupplier;
 import io.camunda.connector.textract.caller.AsyncTextractCaller;
 import io.camunda.connector.textract.caller.PollingTextractCaller;
@@ -454,8 +455,10 @@ class TextractResultShapeTest {
     when(asyncClient.getDocumentAnalysis(secondRequest))
         .thenReturn(CompletableFuture.completedFuture(secondPageResult));
 
+    var completed =
+        new PollingTextractCaller().call(FULL_FILLED_ASYNC_TEXTRACT_DATA, asyncClient).poll();
     GetDocumentAnalysisResult mergedResult =
-        new PollingTextractCaller().call(FULL_FILLED_ASYNC_TEXTRACT_DATA, asyncClient);
+        (GetDocumentAnalysisResult) ((PollResult.Completed) completed).responseValue();
     JsonNode actual = treeOf(mergedResult);
 
     String expectedJson =
@@ -16,8 +16,9 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import io.camunda.connector.api.error.ConnectorException;
 import io.camunda.connector.api.error.ConnectorInputException;
+import io.camunda.connector.api.outbound.PendingOperation;
+import io.camunda.connector.api.outbound.PendingOperation.PollResult;
 import io.camunda.connector.textract.model.result.GetDocumentAnalysisResult;
 import java.time.Duration;
 import java.util.List;
@@ -40,7 +41,7 @@ import software.amazon.awssdk.services.textract.model.StartDocumentAnalysisRespo
 class PollingTextractCallerTest {
 
   @Test
-  void callUtilDocumentAnalysisResultNextTokenEqNull() throws Exception {
+  void callUntilDocumentAnalysisResultNextTokenEqNull() throws Exception {
     List<Pair<GetDocumentAnalysisRequest, GetDocumentAnalysisResponse>> callSequence =
         getRequestResponseSequence();
     Pair<GetDocumentAnalysisRequest, GetDocumentAnalysisResponse> firstRequestResp =
@@ -66,7 +67,8 @@ class PollingTextractCallerTest {
             firstRequestResp.getRight().blocks(), secondRequestResp.getRight().blocks());
 
     GetDocumentAnalysisResult result =
-        new PollingTextractCaller().call(FULL_FILLED_ASYNC_TEXTRACT_DATA, asyncClient);
+        completedResult(
+            new PollingTextractCaller().call(FULL_FILLED_ASYNC_TEXTRACT_DATA, asyncClient));
 
     verify(asyncClient).getDocumentAnalysis(firstRequestResp.getLeft());
     verify(asyncClient).getDocumentAnalysis(secondRequestResp.getLeft());
@@ -82,8 +84,8 @@ class PollingTextractCallerTest {
   }
 
   /**
-   * Defect (b): a FAILED job status must fail fast (abort retries), not exhaust the whole polling
-   * window retrying an outcome that will never succeed.
+   * Defect (b): a FAILED job status must fail the poll, not keep polling for the whole window a job
+   * that will never succeed.
    */
   @Test
   void failedJobStatus_failsFastWithoutRetrying() {
@@ -102,53 +104,45 @@ class PollingTextractCallerTest {
     when(asyncClient.getDocumentAnalysis(any(GetDocumentAnalysisRequest.class)))
         .thenReturn(CompletableFuture.completedFuture(failedResponse));
 
-    // maxAttempts is intentionally large here: if the abort-on-failure fix regresses, this test
-    // must fail fast (wrong exception / too many invocations) rather than hang for minutes.
-    PollingTextractCaller caller = new PollingTextractCaller(10, Duration.ofMillis(1));
+    PendingOperation operation =
+        new PollingTextractCaller(10, Duration.ofMillis(1))
+            .call(FULL_FILLED_ASYNC_TEXTRACT_DATA, asyncClient);
 
-    assertThrows(
-        ConnectorInputException.class,
-        () -> caller.call(FULL_FILLED_ASYNC_TEXTRACT_DATA, asyncClient));
+    assertThrows(ConnectorInputException.class, operation::poll);
 
     verify(asyncClient, times(1)).getDocumentAnalysis(any(GetDocumentAnalysisRequest.class));
   }
 
   /**
-   * Defect (c): exhausting every polling attempt while the job is still IN_PROGRESS must throw a
-   * clean, typed exception - not NPE on a null result.
+   * Defect (c): a job still IN_PROGRESS stays pending. The runtime gives up once the polling window
+   * of {@code maxAttempts * pollDelay} is exhausted.
    */
   @Test
-  void exhaustingAttemptsWhileInProgress_throwsInsteadOfNpe() {
-    String jobId = "job-in-progress";
+  void inProgressJob_staysPendingWithinPollingWindow() throws Exception {
     TextractAsyncClient asyncClient = mock(TextractAsyncClient.class);
     when(asyncClient.startDocumentAnalysis(any(StartDocumentAnalysisRequest.class)))
         .thenReturn(
             CompletableFuture.completedFuture(
-                StartDocumentAnalysisResponse.builder().jobId(jobId).build()));
-
-    GetDocumentAnalysisResponse inProgressResponse =
-        GetDocumentAnalysisResponse.builder().jobStatus(JobStatus.IN_PROGRESS).build();
+                StartDocumentAnalysisResponse.builder().jobId("job-in-progress").build()));
     when(asyncClient.getDocumentAnalysis(any(GetDocumentAnalysisRequest.class)))
-        .thenReturn(CompletableFuture.completedFuture(inProgressResponse));
-
-    int maxAttempts = 2;
-    PollingTextractCaller caller = new PollingTextractCaller(maxAttempts, Duration.ofMillis(1));
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                GetDocumentAnalysisResponse.builder().jobStatus(JobStatus.IN_PROGRESS).build()));
 
-    ConnectorException exception =
-        assertThrows(
-            ConnectorException.class,
-            () -> caller.call(FULL_FILLED_ASYNC_TEXTRACT_DATA, asyncClient));
+    PendingOperation operation =
+        new PollingTextractCaller(2, Duration.ofMillis(1))
+            .call(FULL_FILLED_ASYNC_TEXTRACT_DATA, asyncClient);
 
-    assertThat(exception.getMessage()).contains(jobId);
-    verify(asyncClient, times(maxAttempts))
-        .getDocumentAnalysis(any(GetDocumentAnalysisRequest.class));
+    assertThat(operation.poll()).isEqualTo(PendingOperation.pending());
+    assertThat(operation.poll()).isEqualTo(PendingOperation.pending());
+    assertThat(operation.maxWaitTime()).isEqualTo(Duration.ofMillis(2));
   }
 
   /**
    * The migration requirement preserves retries for transient/technical failures (e.g. throttling
    * or network errors surfaced via {@code CompletionException} from {@code .join()}). Only a
-   * genuine FAILED job status should abort retries early; any other exception must still be retried
-   * up to {@code maxAttempts}.
+   * genuine FAILED job status should fail the poll; any other exception leaves the operation
+   * pending until the next poll.
    */
   @Test
   void transientFailureThenSuccess_retriesAndReturnsResult() throws Exception {
@@ -169,9 +163,12 @@ class PollingTextractCallerTest {
         .thenReturn(transientFailure)
         .thenReturn(CompletableFuture.completedFuture(succeededResponse));
 
-    PollingTextractCaller caller = new PollingTextractCaller(3, Duration.ofMillis(1));
+    PendingOperation operation =
+        new PollingTextractCaller(3, Duration.ofMillis(1))
+            .call(FULL_FILLED_ASYNC_TEXTRACT_DATA, asyncClient);
 
-    GetDocumentAnalysisResult result = caller.call(FULL_FILLED_ASYNC_TEXTRACT_DATA, asyncClient);
+    assertThat(operation.poll()).isEqualTo(PendingOperation.pending());
+    GetDocumentAnalysisResult result = completedResult(operation);
 
     assertThat(result.jobStatus()).isEqualTo(succeededResponse.jobStatusAsString());
     verify(asyncClient, times(2)).getDocumentAnalysis(any(GetDocumentAnalysisRequest.class));
@@ -200,17 +197,89 @@ class PollingTextractCallerTest {
     when(asyncClient.getDocumentAnalysis(any(GetDocumentAnalysisRequest.class)))
         .thenReturn(CompletableFuture.completedFuture(partialSuccessResponse));
 
-    // maxAttempts is intentionally larger than 1: if PARTIAL_SUCCESS regresses to being treated
-    // as still-in-progress, this test observes more than a single poll (or ultimately a
-    // ConnectorException once the window is exhausted) instead of an immediate result.
-    PollingTextractCaller caller = new PollingTextractCaller(2, Duration.ofMillis(1));
-
-    GetDocumentAnalysisResult result = caller.call(FULL_FILLED_ASYNC_TEXTRACT_DATA, asyncClient);
+    // if PARTIAL_SUCCESS regresses to being treated as still-in-progress, the first poll returns
+    // pending instead of the result
+    GetDocumentAnalysisResult result =
+        completedResult(
+            new PollingTextractCaller(2, Duration.ofMillis(1))
+                .call(FULL_FILLED_ASYNC_TEXTRACT_DATA, asyncClient));
 
     assertThat(result.jobStatus()).isEqualTo(partialSuccessResponse.jobStatusAsString());
     verify(asyncClient, times(1)).getDocumentAnalysis(any(GetDocumentAnalysisRequest.class));
   }
 
+  @Test
+  void call_returnsPendingOperationThatCompletesWithMergedPages() throws Exception {
+    List<Pair<GetDocumentAnalysisRequest, GetDocumentAnalysisResponse>> callSequence =
+        getRequestResponseSequence();
+    Pair<GetDocumentAnalysisRequest, GetDocumentAnalysisResponse> firstRequestResp =
+        callSequence.getFirst();
+    Pair<GetDocumentAnalysisRequest, GetDocumentAnalysisResponse> secondRequestResp =
+        callSequence.getLast();
+
+    TextractAsyncClient asyncClient = mock(TextractAsyncClient.class);
+    when(asyncClient.startDocumentAnalysis(any(StartDocumentAnalysisRequest.class)))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                StartDocumentAnalysisResponse.builder()
+                    .jobId(firstRequestResp.getLeft().jobId())
+                    .build()));
+    when(asyncClient.getDocumentAnalysis(firstRequestResp.getLeft()))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                GetDocumentAnalysisResponse.builder().jobStatus(JobStatus.IN_PROGRESS).build()))
+        .thenReturn(CompletableFuture.completedFuture(firstRequestResp.getRight()));
+    when(asyncClient.getDocumentAnalysis(secondRequestResp.getLeft()))
+        .thenReturn(CompletableFuture.completedFuture(secondRequestResp.getRight()));
+
+    PendingOperation operation =
+        new PollingTextractCaller(10, Duration.ofSeconds(30))
+            .call(FULL_FILLED_ASYNC_TEXTRACT_DATA, asyncClient);
+
+    assertThat(operation.poll()).isEqualTo(PendingOperation.pending());
+    PollResult completed = operation.poll();
+
+    assertThat(completed).isInstanceOf(PollResult.Completed.class);
+    GetDocumentAnalysisResult result =
+        (GetDocumentAnalysisResult) ((PollResult.Completed) completed).responseValue();
+    assertThat(result.blocks()).hasSize(4);
+    assertThat(operation.maxDelay()).isEqualTo(Duration.ofSeconds(30));
+    assertThat(operation.maxWaitTime()).isEqualTo(Duration.ofMinutes(5));
+  }
+
+  @Test
+  void call_pendingOperationKeepsPollingOnTransientFailure_andFailsOnFailedJob()
+      throws Exception {
+    TextractAsyncClient asyncClient = mock(TextractAsyncClient.class);
+    when(asyncClient.startDocumentAnalysis(any(StartDocumentAnalysisRequest.class)))
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                StartDocumentAnalysisResponse.builder().jobId("job-parked").build()));
+    CompletableFuture<GetDocumentAnalysisResponse> transientFailure = new CompletableFuture<>();
+    transientFailure.completeExceptionally(new RuntimeException("transient network error"));
+    when(asyncClient.getDocumentAnalysis(any(GetDocumentAnalysisRequest.class)))
+        .thenReturn(transientFailure)
+        .thenReturn(
+            CompletableFuture.completedFuture(
+                GetDocumentAnalysisResponse.builder().jobStatus(JobStatus.FAILED).build()));
+
+    PendingOperation operation =
+        new PollingTextractCaller().call(FULL_FILLED_ASYNC_TEXTRACT_DATA, asyncClient);
+
+    assertThat(operation.poll()).isEqualTo(PendingOperation.pending());
+    assertThrows(ConnectorInputException.class, operation::poll);
+
+    operation.close();
+    verify(asyncClient).close();
+  }
+
+  private static GetDocumentAnalysisResult completedResult(PendingOperation operation)
+      throws Exception {
+    PollResult result = operation.poll();
+    assertThat(result).isInstanceOf(PollResult.Completed.class);
+    return (GetDocumentAnalysisResult) ((PollResult.Completed) result).responseValue();
+  }
+
   private List<Pair<GetDocumentAnalysisRequest, GetDocumentAnalysisResponse>>
       getRequestResponseSequence() {
     String jobId = "1";
@@ -7,6 +7,7 @@
 package io.camunda.connector.csv;
 
 import static io.camunda.connector.csv.CsvUtils.createCsv;
+import static io.camunda.connector.csv.CsvUtils.readCsvRecords;
 import static io.camunda.connector.csv.CsvUtils.readCsvRequest;
 
 import io.camunda.connector.api.annotation.Header;
@@ -22,6 +23,7 @@ import io.camunda.connector.api.error.ConnectorRetryException;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.api.outbound.OutboundConnectorProvider;
 import io.camunda.connector.csv.model.*;
+import io.camunda.connector.csv.model.ReadCsvRequest.Output;
 import io.camunda.connector.csv.model.ReadCsvRequest.RowType;
 import io.camunda.connector.generator.java.annotation.ElementTemplate;
 import io.camunda.connector.generator.java.annotation.FeelMode;
@@ -44,7 +46,7 @@ import java.util.function.Function;
     id = "io.camunda.connectors.csv",
     description =
         "Read or write CSV documents — parse a CSV into structured records or render rows back into CSV.",
-    version = 3,
+    version = 4,
     engineVersion = "^8.10",
     keywords = {
       "read CSV",
@@ -72,11 +74,17 @@ public class CsvConnector implements OutboundConnectorProvider {
               tooltip =
                   "<a href=\"https://docs.camunda.io/docs/components/modeler/feel/what-is-feel/\">FEEL</a> function that allows to map each <code>record</code>. Returning <code>null</code> will exclude a record from the final results.",
               feel = FeelMode.required)
-          Function<Map<String, Object>, Object> mapper) {
+          Function<Map<String, Object>, Object> mapper,
+      OutboundConnectorContext context) {
     var rowType = Optional.ofNullable(request.rowType()).orElse(RowType.Object);
+    var output = Optional.ofNullable(request.output()).orElse(Output.Records);
+    var offset = Optional.ofNullable(request.offset()).orElse(0);
     try (InputStream in = openStream(request);
         Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
-      return readCsvRequest(reader, request.format(), rowType, mapper);
+      if (output == Output.Records) {
+        return readCsvRequest(reader, request.format(), rowType, mapper, offset, request.limit());
+      }
+      return readCsvToDocument(reader, request, rowType, mapper, offset, output, context);
     } catch (IOException | UncheckedIOException e) {
       throw ConnectorRetryException.builder()
           .message("Failed to read CSV input: " + e.getMessage())
@@ -85,6 +93,27 @@ public class CsvConnector implements OutboundConnectorProvider {
     }
   }
 
+  /**
+   * Streams the mapped records into a temporary file and stores it as a document, so only a single
+   * record is held in memory at a time regardless of the CSV size.
+   */
+  private static ReadCsvResult readCsvToDocument(
+      Reader reader,
+      ReadCsvRequest request,
+      RowType rowType,
+      Function<Map<String, Object>, Object> mapper,
+      int offset,
+      Output output,
+      OutboundConnectorContext context)
+      throws IOException {
+    try (var writer = RecordDocumentWriter.create(output, request.format(), mapper != null)) {
+      var nextOffset =
+          readCsvRecords(
+              reader, request.format(), rowType, mapper, offset, request.limit(), writer);
+      return new ReadCsvResult(null, writer.createDocument(context), nextOffset);
+    }
+  }
+
   private static InputStream openStream(ReadCsvRequest request) {
     if (request.document() != null) {
       return request.document().asInputStream();
@@ -13,9 +13,9 @@ import io.camunda.connector.csv.model.ReadCsvResult;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.function.Function;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
@@ -29,14 +29,69 @@ public class CsvUtils {
       ReadCsvRequest.RowType rowType,
       Function<Map<String, Object>, Object> mapper)
       throws IOException {
+    return readCsvRequest(csvReader, format, rowType, mapper, 0, null);
+  }
+
+  static ReadCsvResult readCsvRequest(
+      Reader csvReader,
+      CsvFormat format,
+      ReadCsvRequest.RowType rowType,
+      Function<Map<String, Object>, Object> mapper,
+      int offset,
+      Integer limit)
+      throws IOException {
+    var records = new ArrayList<>();
+    var nextOffset =
+        readCsvRecords(csvReader, format, rowType, mapper, offset, limit, records::add);
+    return new ReadCsvResult(records, null, nextOffset);
+  }
+
+  /**
+   * Parses the CSV record by record and passes every mapped record to the {@code sink}, so only the
+   * record currently processed is held in memory. The first {@code offset} records are skipped;
+   * records the mapper maps to {@code null} are filtered out and do not count towards the {@code
+   * limit}.
+   *
+   * @return the offset of the first record not read because the {@code limit} was reached, or
+   *     {@code null} if the end of the CSV was reached
+   */
+  static Integer readCsvRecords(
+      Reader csvReader,
+      CsvFormat format,
+      ReadCsvRequest.RowType rowType,
+      Function<Map<String, Object>, Object> mapper,
+      int offset,
+      Integer limit,
+      RecordSink sink)
+      throws IOException {
     var csvFormat = CsvUtils.buildFrom(format, rowType);
     var csvParser = csvFormat.parse(csvReader);
-    return new ReadCsvResult(
-        csvParser.stream()
-            .map(record -> mapToRowType(record, rowType))
-            .map(row -> mapRecord(row, mapper))
-            .filter(Objects::nonNull)
-            .toList());
+    sink.header(csvParser.getHeaderNames());
+    int index = 0;
+    int read = 0;
+    for (CSVRecord record : csvParser) {
+      if (index >= offset) {
+        if (limit != null && read >= limit) {
+          return index;
+        }
+        var mapped = mapRecord(mapToRowType(record, rowType), mapper);
+        if (mapped != null) {
+          sink.accept(mapped);
+          read++;
+        }
+      }
+      index++;
+    }
+    return null;
+  }
+
+  /** Receives the mapped records of {@link #readCsvRecords}. */
+  @FunctionalInterface
+  interface RecordSink {
+    void accept(Object record) throws IOException;
+
+    /** Receives the header of the CSV that is read, before any record. */
+    default void header(List<String> headerNames) throws IOException {}
   }
 
   private static Object mapToRowType(CSVRecord record, ReadCsvRequest.RowType rowType) {
@@ -81,11 +136,7 @@ public class CsvUtils {
   }
 
   static CSVFormat buildFrom(CsvFormat format, ReadCsvRequest.RowType rowType) {
-    CSVFormat.Builder builder =
-        CSVFormat.Builder.create().setSkipHeaderRecord(format.skipHeaderRecord());
-    if (format.delimiter() != null) {
-      builder.setDelimiter(format.delimiter().trim());
-    }
+    CSVFormat.Builder builder = builderFrom(format).setSkipHeaderRecord(format.skipHeaderRecord());
     if (headersDefined(format)) {
       String[] headers = format.headers().toArray(new String[0]);
       builder.setHeader(headers);
@@ -99,6 +150,15 @@ public class CsvUtils {
     return builder.get();
   }
 
+  /** Returns a builder of a CSV format using the configured delimiter. */
+  static CSVFormat.Builder builderFrom(CsvFormat format) {
+    CSVFormat.Builder builder = CSVFormat.Builder.create();
+    if (format.delimiter() != null) {
+      builder.setDelimiter(format.delimiter().trim());
+    }
+    return builder;
+  }
+
   private static boolean isObjectTypeRow(ReadCsvRequest.RowType rowType) {
     return rowType == ReadCsvRequest.RowType.Object;
   }
@@ -0,0 +1,156 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.csv;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.camunda.connector.api.document.Document;
+import io.camunda.connector.api.document.DocumentCreationRequest;
+import io.camunda.connector.api.outbound.OutboundConnectorContext;
+import io.camunda.connector.csv.model.CsvFormat;
+import io.camunda.connector.csv.model.ReadCsvRequest.Output;
+import io.camunda.connector.jackson.ConnectorsObjectMapperSupplier;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.csv.CSVPrinter;
+
+/**
+ * Writes mapped CSV records to a temporary file as CSV or NDJSON and uploads it as a document, so
+ * that large results never have to be held in memory or stored as process variables.
+ */
+final class RecordDocumentWriter implements CsvUtils.RecordSink, Closeable {
+
+  private static final ObjectWriter JSON_WRITER = ConnectorsObjectMapperSupplier.getCopy().writer();
+
+  private final Output output;
+  private final CsvFormat format;
+  private final boolean mapped;
+  private final Path file;
+  private final Writer writer;
+  private List<String> headerNames = List.of();
+  private CSVPrinter printer;
+  private List<String> columns;
+
+  private RecordDocumentWriter(Output output, CsvFormat format, boolean mapped, Path file)
+      throws IOException {
+    this.output = output;
+    this.format = format;
+    this.mapped = mapped;
+    this.file = file;
+    this.writer =
+        new BufferedWriter(
+            new OutputStreamWriter(Files.newOutputStream(file), StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @param mapped whether the records are produced by a record mapper, in which case their columns
+   *     can differ from the columns of the CSV that is read
+   */
+  static RecordDocumentWriter create(Output output, CsvFormat format, boolean mapped)
+      throws IOException {
+    var file = Files.createTempFile("csv-connector-", "." + extension(output));
+    try {
+      return new RecordDocumentWriter(output, format, mapped, file);
+    } catch (IOException e) {
+      Files.deleteIfExists(file);
+      throw e;
+    }
+  }
+
+  @Override
+  public void header(List<String> headerNames) {
+    this.headerNames = headerNames;
+  }
+
+  @Override
+  public void accept(Object record) throws IOException {
+    switch (output) {
+      case Ndjson -> {
+        writer.write(JSON_WRITER.writeValueAsString(record));
+        writer.write('\n');
+      }
+      case Csv -> writeCsv(record);
+      case Records -> throw new IllegalStateException("Records are not written to a document");
+    }
+  }
+
+  /**
+   * The columns are taken from the keys of the first record if it is an object. Otherwise the
+   * header of the CSV that is read is used, unless the records are mapped.
+   */
+  private void writeCsv(Object record) throws IOException {
+    if (printer == null) {
+      columns =
+          switch (record) {
+            case Map<?, ?> values -> values.keySet().stream().map(String::valueOf).toList();
+            default -> mapped ? List.of() : headerNames;
+          };
+      printer = printer();
+    }
+    switch (record) {
+      case List<?> values -> printer.printRecord(values);
+      case Map<?, ?> values -> printer.printRecord(columns.stream().map(values::get).toList());
+      default -> printer.printRecord(record);
+    }
+  }
+
+  private CSVPrinter printer() throws IOException {
+    var builder = CsvUtils.builderFrom(format);
+    if (!columns.isEmpty()) {
+      builder.setHeader(columns.toArray(new String[0]));
+    }
+    return builder.get().print(writer);
+  }
+
+  /**
+   * Finishes the file and uploads it as a new document. A CSV without any records still contains
+   * the header row of the CSV that is read, unless the records are mapped, as the columns of mapped
+   * records are only known from the records themselves.
+   */
+  Document createDocument(OutboundConnectorContext context) throws IOException {
+    if (output == Output.Csv && printer == null && !mapped) {
+      columns = headerNames;
+      printer = printer();
+    }
+    if (printer != null) {
+      printer.flush();
+    }
+    writer.close();
+    try (InputStream content = Files.newInputStream(file)) {
+      return context.create(
+          DocumentCreationRequest.from(content)
+              .contentType(contentType(output))
+              .fileName("records." + extension(output))
+              .build());
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      writer.close();
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static String extension(Output output) {
+    return output == Output.Csv ? "csv" : "ndjson";
+  }
+
+  private static String contentType(Output output) {
+    return output == Output.Csv ? "text/csv" : "application/x-ndjson";
+  }
+}
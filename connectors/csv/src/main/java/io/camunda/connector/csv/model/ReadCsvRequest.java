@@ -7,8 +7,11 @@
 package io.camunda.connector.csv.model;
 
 import io.camunda.connector.api.document.Document;
+import io.camunda.connector.generator.java.annotation.FeelMode;
 import io.camunda.connector.generator.java.annotation.TemplateDocumentProperty;
 import io.camunda.connector.generator.java.annotation.TemplateProperty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 
 public record ReadCsvRequest(
     @TemplateProperty(ignore = true) Object data,
@@ -22,9 +25,42 @@ public record ReadCsvRequest(
             label = "Row Type",
             tooltip = "Type of the row in the CSV file, either Object or Array",
             defaultValue = "Object")
-        RowType rowType) {
+        RowType rowType,
+    @PositiveOrZero
+        @TemplateProperty(
+            label = "Offset",
+            tooltip =
+                "Number of records to skip before reading, e.g. the <code>nextOffset</code> of the previous page.",
+            optional = true,
+            feel = FeelMode.optional)
+        Integer offset,
+    @Positive
+        @TemplateProperty(
+            label = "Limit",
+            tooltip =
+                "Maximum number of records to return. If more records follow, the result contains the <code>nextOffset</code> to continue with.",
+            optional = true,
+            feel = FeelMode.optional)
+        Integer limit,
+    @TemplateProperty(
+            label = "Output",
+            tooltip =
+                "Return the records as a process variable, or write them to a new CSV or NDJSON document. Use a document for large files.",
+            defaultValue = "Records")
+        Output output) {
+
+  public ReadCsvRequest(Object data, Document document, CsvFormat format, RowType rowType) {
+    this(data, document, format, rowType, null, null, null);
+  }
+
   public enum RowType {
     Object,
     Array
   }
+
+  public enum Output {
+    Records,
+    Csv,
+    Ndjson
+  }
 }
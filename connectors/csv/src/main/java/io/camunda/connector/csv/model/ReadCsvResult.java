@@ -6,6 +6,19 @@
  */
 package io.camunda.connector.csv.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.camunda.connector.api.document.Document;
 import java.util.List;
 
-public record ReadCsvResult(List<?> records) {}
+/**
+ * Result of reading a CSV document. Either holds the {@code records} or, when the records were
+ * written to a new document, that {@code document}. {@code nextOffset} is only set if a {@code
+ * limit} was reached before the end of the CSV document.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ReadCsvResult(List<?> records, Document document, Integer nextOffset) {
+
+  public ReadCsvResult(List<?> records) {
+    this(records, null, null);
+  }
+}
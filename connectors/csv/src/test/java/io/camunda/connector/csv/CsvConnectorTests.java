@@ -15,6 +15,7 @@ import io.camunda.connector.api.document.DocumentReturn;
 import io.camunda.connector.api.document.DocumentReturnChoice;
 import io.camunda.connector.api.error.ConnectorInputException;
 import io.camunda.connector.csv.model.*;
+import io.camunda.connector.csv.model.ReadCsvRequest.Output;
 import io.camunda.connector.csv.model.ReadCsvRequest.RowType;
 import io.camunda.connector.runtime.test.document.TestDocument;
 import io.camunda.connector.runtime.test.outbound.OutboundConnectorContextBuilder;
@@ -42,7 +43,7 @@ public class CsvConnectorTests {
   public void testReadCsv() {
     var request =
         new ReadCsvRequest(null, doc(csv), new CsvFormat(",", true, null), RowType.Object);
-    ReadCsvResult result = connector.readCsv(request, null);
+    ReadCsvResult result = connector.readCsv(request, null, null);
 
     var records = toList(result);
     assertNotNull(records);
@@ -73,7 +74,7 @@ public class CsvConnectorTests {
               return Map.of(
                   "product", record.get("name"), "price", Integer.parseInt(record.get("price")));
             };
-    ReadCsvResult result = connector.readCsv(request, mapper);
+    ReadCsvResult result = connector.readCsv(request, mapper, null);
 
     var records = toList(result);
     assertNotNull(records);
@@ -98,7 +99,7 @@ public class CsvConnectorTests {
                 return Map.of("product", record.get("name"), "price", price);
               }
             };
-    ReadCsvResult result = connector.readCsv(request, mapper);
+    ReadCsvResult result = connector.readCsv(request, mapper, null);
 
     var records = toList(result);
     assertNotNull(records);
@@ -110,7 +111,7 @@ public class CsvConnectorTests {
   @Test
   public void testReadCsvWithArrayType() {
     var request = new ReadCsvRequest(null, doc(csv), new CsvFormat(",", true, null), RowType.Array);
-    ReadCsvResult result = connector.readCsv(request, null);
+    ReadCsvResult result = connector.readCsv(request, null, null);
 
     var records = result.records();
     assertNotNull(records);
@@ -125,7 +126,7 @@ public class CsvConnectorTests {
   public void testReadCsvWithObjectsType() {
     var request =
         new ReadCsvRequest(null, doc(csv), new CsvFormat(",", true, null), RowType.Object);
-    ReadCsvResult result = connector.readCsv(request, null);
+    ReadCsvResult result = connector.readCsv(request, null, null);
 
     var records = toList(result);
     assertNotNull(records);
@@ -142,7 +143,7 @@ public class CsvConnectorTests {
             doc(csv),
             new CsvFormat(",", true, List.of("the_name", "the_role")),
             RowType.Object);
-    ReadCsvResult result = connector.readCsv(request, null);
+    ReadCsvResult result = connector.readCsv(request, null, null);
 
     var records = toList(result);
     assertNotNull(records);
@@ -160,7 +161,7 @@ public class CsvConnectorTests {
   public void testReadCSVWithoutHeadersAndSkipHeaderRecord() {
     var request =
         new ReadCsvRequest(null, doc(csv), new CsvFormat(",", false, null), RowType.Object);
-    assertThatRuntimeException().isThrownBy(() -> connector.readCsv(request, null));
+    assertThatRuntimeException().isThrownBy(() -> connector.readCsv(request, null, null));
   }
 
   @Test
@@ -276,7 +277,7 @@ public class CsvConnectorTests {
   public void testReadCsvLegacyRawText() {
     // element-template <= v2 bound raw CSV text to `data`; new runtime must still accept it
     var request = new ReadCsvRequest(csv, null, new CsvFormat(",", true, null), RowType.Object);
-    ReadCsvResult result = connector.readCsv(request, null);
+    ReadCsvResult result = connector.readCsv(request, null, null);
 
     var records = toList(result);
     assertEquals(4, records.size());
@@ -288,7 +289,7 @@ public class CsvConnectorTests {
     // element-template <= v2 bound a document reference to `data`; still supported
     var request =
         new ReadCsvRequest(doc(csv), null, new CsvFormat(",", true, null), RowType.Object);
-    ReadCsvResult result = connector.readCsv(request, null);
+    ReadCsvResult result = connector.readCsv(request, null, null);
 
     assertEquals(4, toList(result).size());
   }
@@ -299,7 +300,7 @@ public class CsvConnectorTests {
     var request =
         new ReadCsvRequest(
             "ignored,legacy", doc(csv), new CsvFormat(",", true, null), RowType.Object);
-    ReadCsvResult result = connector.readCsv(request, null);
+    ReadCsvResult result = connector.readCsv(request, null, null);
 
     assertEquals(4, toList(result).size());
   }
@@ -307,11 +308,129 @@ public class CsvConnectorTests {
   @Test
   public void testReadCsvNoDataThrows() {
     var request = new ReadCsvRequest(null, null, new CsvFormat(",", true, null), RowType.Object);
-    assertThatThrownBy(() -> connector.readCsv(request, null))
+    assertThatThrownBy(() -> connector.readCsv(request, null, null))
         .isInstanceOf(ConnectorInputException.class)
         .hasMessageContaining("No CSV data provided");
   }
 
+  @Test
+  public void testReadCsvPage() {
+    var request =
+        new ReadCsvRequest(
+            null, doc(csv), new CsvFormat(",", true, null), RowType.Object, 1, 2, null);
+    ReadCsvResult result = connector.readCsv(request, null, null);
+
+    assertThat(toList(result))
+        .containsExactly(
+            Map.of("name", "Nico", "role", "Principal Engineer"),
+            Map.of("name", "Mathias", "role", "Backend Engineer"));
+    assertEquals(3, result.nextOffset());
+  }
+
+  @Test
+  public void testReadCsvLastPageHasNoNextOffset() {
+    var request =
+        new ReadCsvRequest(
+            null, doc(csv), new CsvFormat(",", true, null), RowType.Object, 3, 2, null);
+    ReadCsvResult result = connector.readCsv(request, null, null);
+
+    assertThat(toList(result)).containsExactly(Map.of("name", "Kalina", "role", "Product Manager"));
+    assertNull(result.nextOffset());
+  }
+
+  @Test
+  public void testReadCsvPageSkipsFilteredRecords() {
+    var request =
+        new ReadCsvRequest(
+            null, doc(productsCsv), new CsvFormat(",", true, null), RowType.Object, 0, 1, null);
+    var mapper =
+        (Function<Map<String, Object>, Object>)
+            context -> {
+              var record = (Map<String, String>) context.get("record");
+              return Integer.parseInt(record.get("price")) > 500 ? record : null;
+            };
+    ReadCsvResult result = connector.readCsv(request, mapper, null);
+
+    assertThat(toList(result)).containsExactly(Map.of("name", "Macbook", "price", "1200"));
+    assertEquals(2, result.nextOffset());
+  }
+
+  @Test
+  public void testReadCsvAsNdjsonDocument() {
+    var context = OutboundConnectorContextBuilder.create().build();
+    var request =
+        new ReadCsvRequest(
+            null, doc(csv), new CsvFormat(",", true, null), RowType.Array, 0, 2, Output.Ndjson);
+    ReadCsvResult result = connector.readCsv(request, null, context);
+
+    assertNull(result.records());
+    assertEquals(2, result.nextOffset());
+    assertEquals(
+        "[\"Simon\",\"Engineering Manager\"]\n[\"Nico\",\"Principal Engineer\"]\n",
+        new String(result.document().asByteArray(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testReadCsvAsCsvDocument() {
+    var context = OutboundConnectorContextBuilder.create().build();
+    var request =
+        new ReadCsvRequest(
+            null,
+            doc(csv),
+            new CsvFormat(",", true, asList("name", "role")),
+            RowType.Object,
+            3,
+            null,
+            Output.Csv);
+    ReadCsvResult result = connector.readCsv(request, null, context);
+
+    assertNull(result.records());
+    assertNull(result.nextOffset());
+    assertEquals(
+        "name,role\r\nKalina,Product Manager\r\n",
+        new String(result.document().asByteArray(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testReadCsvAsCsvDocumentWithMapper() {
+    var context = OutboundConnectorContextBuilder.create().build();
+    var request =
+        new ReadCsvRequest(
+            null,
+            doc(productsCsv),
+            new CsvFormat(",", true, asList("name", "price")),
+            RowType.Object,
+            null,
+            null,
+            Output.Csv);
+    var mapper =
+        (Function<Map<String, Object>, Object>)
+            context -> {
+              var record = (Map<String, String>) context.get("record");
+              return Integer.parseInt(record.get("price")) > 100
+                  ? Map.of("product", record.get("name"))
+                  : null;
+            };
+    ReadCsvResult result = connector.readCsv(request, mapper, context);
+
+    assertEquals(
+        "product\r\nMonitor\r\nMacbook\r\n",
+        new String(result.document().asByteArray(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testReadCsvAsCsvDocumentWithoutRecordsKeepsHeader() {
+    var context = OutboundConnectorContextBuilder.create().build();
+    var request =
+        new ReadCsvRequest(
+            null, doc(csv), new CsvFormat(",", true, null), RowType.Object, 10, null, Output.Csv);
+    ReadCsvResult result = connector.readCsv(request, null, context);
+
+    assertNull(result.nextOffset());
+    assertEquals(
+        "name,role\r\n", new String(result.document().asByteArray(), StandardCharsets.UTF_8));
+  }
+
   private static Document doc(String content) {
     return new TestDocument(content.getBytes(StandardCharsets.UTF_8), null, null, null);
   }
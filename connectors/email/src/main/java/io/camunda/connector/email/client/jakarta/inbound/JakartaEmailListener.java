@@ -14,19 +14,38 @@ import io.camunda.connector.api.inbound.Severity;
 import io.camunda.connector.email.client.EmailListener;
 import io.camunda.connector.email.client.jakarta.utils.JakartaUtils;
 import io.camunda.connector.email.exception.EmailConnectorException;
+import io.camunda.connector.util.env.EnvironmentSettings;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.concurrent.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class JakartaEmailListener implements EmailListener {
 
+  static final String IDLE_ENABLED_ENV = "CONNECTOR_EMAIL_IMAP_IDLE_ENABLED";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(JakartaEmailListener.class);
   private static final int INFINITE_RETRIES = -1;
+  // servers end IDLE after 30 minutes at the latest, re-issue it well before
+  private static final Duration MAX_IDLE_DURATION = Duration.ofMinutes(10);
+
   private final ScheduledExecutorService scheduledExecutorService =
       Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "Jakarta Email Listener"));
+  private final ExecutorService idleExecutorService =
+      Executors.newSingleThreadExecutor(r -> new Thread(r, "Jakarta Email IDLE Listener"));
+  private final boolean idleEnabled;
+  private volatile boolean stopped;
   private CompletableFuture<PollingManager> pollingManagerFuture;
-  private CompletableFuture<ScheduledFuture<?>> scheduledPollingManagerFuture;
+  private CompletableFuture<Future<?>> scheduledPollingManagerFuture;
+
+  public JakartaEmailListener() {
+    this(EnvironmentSettings.getBoolean(IDLE_ENABLED_ENV, true));
+  }
 
-  public JakartaEmailListener() {}
+  JakartaEmailListener(boolean idleEnabled) {
+    this.idleEnabled = idleEnabled;
+  }
 
   public static JakartaEmailListener create() {
     return new JakartaEmailListener();
@@ -58,9 +77,13 @@ public class JakartaEmailListener implements EmailListener {
             .getAsync(() -> PollingManager.create(context, new JakartaUtils()));
     this.scheduledPollingManagerFuture =
         this.pollingManagerFuture.thenApply(
-            pollingManager ->
-                scheduledExecutorService.scheduleWithFixedDelay(
-                    pollingManager::poll, 0, pollingManager.delay(), TimeUnit.SECONDS));
+            pollingManager -> {
+              if (idleEnabled && pollingManager.supportsIdle()) {
+                return idleExecutorService.submit(() -> listen(pollingManager));
+              }
+              return scheduledExecutorService.scheduleWithFixedDelay(
+                  pollingManager::poll, 0, pollingManager.delay(), TimeUnit.SECONDS);
+            });
     this.scheduledPollingManagerFuture.whenComplete(
         (pollingManager, throwable) -> {
           if (throwable != null) {
@@ -75,9 +98,31 @@ public class JakartaEmailListener implements EmailListener {
         });
   }
 
+  /**
+   * Push mode: processes the folder whenever the server signals a change via IMAP IDLE. If IDLE
+   * fails, e.g. because the connection dropped, the folder is polled after the regular polling
+   * delay instead, which also reconnects.
+   */
+  private void listen(PollingManager pollingManager) {
+    LOGGER.debug("Mail server supports IMAP IDLE, listening for new messages");
+    while (!stopped && !Thread.currentThread().isInterrupted()) {
+      pollingManager.poll();
+      if (stopped || pollingManager.idle(MAX_IDLE_DURATION, scheduledExecutorService)) {
+        continue;
+      }
+      try {
+        TimeUnit.SECONDS.sleep(pollingManager.delay());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
   @Override
   public void stopListener() {
+    stopped = true;
     scheduledExecutorService.shutdownNow();
+    idleExecutorService.shutdownNow();
     try {
       scheduledExecutorService.awaitTermination(5, TimeUnit.SECONDS);
     } catch (InterruptedException e) {
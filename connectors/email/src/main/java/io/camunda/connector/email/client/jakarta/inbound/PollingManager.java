@@ -17,11 +17,20 @@ import io.camunda.connector.email.inbound.model.*;
 import io.camunda.connector.email.response.ReadEmailResponse;
 import jakarta.mail.*;
 import jakarta.mail.search.FlagTerm;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.angus.mail.imap.IMAPFolder;
 import org.eclipse.angus.mail.imap.IMAPMessage;
+import org.eclipse.angus.mail.imap.IMAPStore;
 import org.eclipse.angus.mail.util.MailConnectException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +45,12 @@ public class PollingManager {
   private final Store store;
   private final Authentication authentication;
 
+  // UID tracking, only used if the folder is a UIDFolder: messages up to the high-water mark have
+  // been processed, except those in pendingUids which were not handled and are retried
+  private long uidValidity = -1;
+  private long uidHighWaterMark;
+  private final Set<Long> pendingUids = new LinkedHashSet<>();
+
   public PollingManager(
       InboundConnectorContext connectorContext,
       EmailListenerConfig emailListenerConfig,
@@ -222,18 +237,116 @@ public class PollingManager {
   }
 
   private void pollAllAndProcess(PollAll pollAll) throws MessagingException {
+    if (this.folder instanceof UIDFolder uidFolder) {
+      processNewMessages(uidFolder, pollAll, false);
+      return;
+    }
     Message[] messages = this.folder.getMessages();
+    prefetch(messages);
     Arrays.stream(messages).forEach(message -> this.processMail((IMAPMessage) message, pollAll));
   }
 
   private void pollUnseenAndProcess(PollUnseen pollUnseen) throws MessagingException {
+    if (this.folder instanceof UIDFolder uidFolder) {
+      processNewMessages(uidFolder, pollUnseen, true);
+      return;
+    }
     FlagTerm unseenFlagTerm = new FlagTerm(new Flags(Flags.Flag.SEEN), false);
     Message[] unseenMessages = this.folder.search(unseenFlagTerm, this.folder.getMessages());
+    prefetch(unseenMessages);
     Arrays.stream(unseenMessages)
         .forEach(message -> this.processMail((IMAPMessage) message, pollUnseen));
   }
 
-  private void processMail(IMAPMessage message, PollingConfig pollingConfig) {
+  /**
+   * Processes the messages received since the last cycle, i.e. with a UID above the high-water
+   * mark, and retries the messages which were not handled before. A changed UIDVALIDITY
+   * invalidates all known UIDs, in which case the whole folder is processed again.
+   */
+  private void processNewMessages(UIDFolder uidFolder, PollingConfig pollingConfig, boolean unseen)
+      throws MessagingException {
+    long currentUidValidity = uidFolder.getUIDValidity();
+    if (currentUidValidity != this.uidValidity) {
+      log.debug(
+          "UIDVALIDITY of folder changed from {} to {}, rescanning folder",
+          this.uidValidity,
+          currentUidValidity);
+      this.uidValidity = currentUidValidity;
+      this.uidHighWaterMark = 0;
+      this.pendingUids.clear();
+    }
+
+    List<Message> candidates = new ArrayList<>();
+    if (!this.pendingUids.isEmpty()) {
+      long[] retries = this.pendingUids.stream().mapToLong(Long::longValue).toArray();
+      Message[] pendingMessages = uidFolder.getMessagesByUID(retries);
+      for (int i = 0; i < retries.length; i++) {
+        if (pendingMessages[i] != null) {
+          candidates.add(pendingMessages[i]);
+        } else {
+          // the message has been removed from the folder in the meantime
+          this.pendingUids.remove(retries[i]);
+        }
+      }
+    }
+    // "n:*" always matches the last message, even if its UID is below n
+    Message[] newMessages = uidFolder.getMessagesByUID(this.uidHighWaterMark + 1, UIDFolder.MAXUID);
+    for (Message message : newMessages) {
+      if (message != null && uidFolder.getUID(message) > this.uidHighWaterMark) {
+        candidates.add(message);
+      }
+    }
+    if (candidates.isEmpty()) {
+      return;
+    }
+
+    Message[] messages = candidates.toArray(Message[]::new);
+    prefetch(messages);
+    if (unseen) {
+      messages = this.folder.search(new FlagTerm(new Flags(Flags.Flag.SEEN), false), messages);
+    }
+    Set<Message> toProcess = new HashSet<>(Arrays.asList(messages));
+    candidates.sort(Comparator.comparingLong(message -> uid(uidFolder, message)));
+    // a UID is only marked as handled once its message has been processed, so if processing
+    // fails with an exception, the remaining messages are retried in the next cycle
+    for (Message message : candidates) {
+      long uid = uidFolder.getUID(message);
+      if (!toProcess.contains(message) || this.processMail((IMAPMessage) message, pollingConfig)) {
+        this.pendingUids.remove(uid);
+      } else {
+        this.pendingUids.add(uid);
+      }
+      this.uidHighWaterMark = Math.max(this.uidHighWaterMark, uid);
+    }
+  }
+
+  private static long uid(UIDFolder uidFolder, Message message) {
+    try {
+      return uidFolder.getUID(message);
+    } catch (MessagingException e) {
+      throw new EmailConnectorException(e);
+    }
+  }
+
+  /** Fetches the envelopes, flags and UIDs of all messages in a single round trip. */
+  private void prefetch(Message[] messages) throws MessagingException {
+    if (messages.length == 0) {
+      return;
+    }
+    FetchProfile fetchProfile = new FetchProfile();
+    fetchProfile.add(FetchProfile.Item.ENVELOPE);
+    fetchProfile.add(FetchProfile.Item.FLAGS);
+    fetchProfile.add(FetchProfile.Item.CONTENT_INFO);
+    fetchProfile.add(UIDFolder.FetchProfileItem.UID);
+    this.folder.fetch(messages, fetchProfile);
+  }
+
+  /**
+   * Processes a message and applies the handling strategy.
+   *
+   * @return whether the message was handled, i.e. it does not need to be processed again
+   */
+  private boolean processMail(IMAPMessage message, PollingConfig pollingConfig) {
     // Setting `peek` to true prevents the library to trigger any side effects when reading the
     // message, such as marking it as read
     message.setPeek(true);
@@ -250,6 +363,7 @@ public class PollingManager {
         }
       }
     }
+    return markAsProcessed;
   }
 
   private boolean process(Email email) {
@@ -303,6 +417,53 @@ public class PollingManager {
     };
   }
 
+  /** Whether the server supports IMAP IDLE, i.e. new messages can be awaited via {@link #idle}. */
+  public boolean supportsIdle() {
+    try {
+      return this.folder instanceof IMAPFolder
+          && this.store instanceof IMAPStore imapStore
+          && imapStore.hasCapability("IDLE");
+    } catch (MessagingException e) {
+      log.debug("Could not determine IDLE capability of the mail server", e);
+      return false;
+    }
+  }
+
+  /**
+   * Waits until the folder changes, e.g. because a message has arrived, using IMAP IDLE. The wait
+   * is aborted after {@code maxWait} so that the folder is polled regularly even if a notification
+   * is lost.
+   *
+   * @return {@code false} if waiting failed, in which case the caller should fall back to polling
+   */
+  public boolean idle(Duration maxWait, ScheduledExecutorService scheduler) {
+    if (!(this.folder instanceof IMAPFolder imapFolder)) {
+      return false;
+    }
+    // any other command on the folder ends the IDLE command
+    var abort =
+        scheduler.schedule(
+            () -> {
+              try {
+                imapFolder.getMessageCount();
+              } catch (MessagingException e) {
+                log.debug("Could not abort IDLE", e);
+              }
+            },
+            maxWait.toMillis(),
+            TimeUnit.MILLISECONDS);
+    try {
+      this.prepareForPolling();
+      imapFolder.idle(true);
+      return true;
+    } catch (Exception e) {
+      log.debug("IMAP IDLE failed, falling back to polling", e);
+      return false;
+    } finally {
+      abort.cancel(false);
+    }
+  }
+
   public long delay() {
     return this.emailListenerConfig.pollingWaitTime().getSeconds();
   }
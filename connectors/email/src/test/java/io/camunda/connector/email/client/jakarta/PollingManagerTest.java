@@ -23,6 +23,7 @@ import io.camunda.connector.email.client.jakarta.utils.JakartaUtils;
 import io.camunda.connector.email.inbound.model.EmailInboundConnectorProperties;
 import io.camunda.connector.email.inbound.model.EmailListenerConfig;
 import io.camunda.connector.email.inbound.model.HandlingStrategy;
+import io.camunda.connector.email.inbound.model.PollAll;
 import io.camunda.connector.email.inbound.model.PollUnseen;
 import io.camunda.connector.email.response.ReadEmailResponse;
 import jakarta.activation.DataHandler;
@@ -33,9 +34,14 @@ import jakarta.mail.internet.MimeMultipart;
 import jakarta.mail.util.ByteArrayDataSource;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.eclipse.angus.mail.imap.IMAPFolder;
+import org.eclipse.angus.mail.imap.IMAPStore;
 import org.apache.hc.core5.http.ContentType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -202,4 +208,234 @@ class PollingManagerTest {
         response.errors().stream().anyMatch(e -> e.contains("large-file.pdf")),
         "Expected an error message referencing 'large-file.pdf' in the payload");
   }
+
+  @Test
+  void poll_processesOnlyMessagesAboveUidHighWaterMark() throws MessagingException {
+    InboundConnectorContext connectorContext = mock(InboundConnectorContext.class);
+    EmailListenerConfig emailListenerConfig = mock(EmailListenerConfig.class);
+    PollAll pollAll = mock(PollAll.class);
+    JakartaUtils jakartaUtils = mock(JakartaUtils.class);
+    Store store = mock(Store.class);
+    Folder folder = mock(Folder.class, withSettings().extraInterfaces(UIDFolder.class));
+    UIDFolder uidFolder = (UIDFolder) folder;
+
+    TestImapMessage first = testMessage("first");
+    TestImapMessage second = testMessage("second");
+
+    when(connectorContext.canActivate(any()))
+        .thenReturn(new ActivationCheckResult.Success.CanActivate(null));
+    when(connectorContext.correlate(any()))
+        .thenReturn(new CorrelationResult.Success.ProcessInstanceCreated(null, null, null));
+    when(emailListenerConfig.pollingConfig()).thenReturn(pollAll);
+    when(pollAll.handlingStrategy()).thenReturn(HandlingStrategy.READ);
+    when(store.isConnected()).thenReturn(true);
+    when(folder.isOpen()).thenReturn(true);
+    when(jakartaUtils.createEmail(any())).thenCallRealMethod();
+    when(jakartaUtils.createBodylessEmail(any())).thenCallRealMethod();
+    when(uidFolder.getUIDValidity()).thenReturn(42L);
+    when(uidFolder.getUID(first)).thenReturn(1L);
+    when(uidFolder.getUID(second)).thenReturn(2L);
+    // "n:*" also returns the last message if there is no message with a UID >= n
+    when(uidFolder.getMessagesByUID(1L, UIDFolder.MAXUID)).thenReturn(new Message[] {first});
+    when(uidFolder.getMessagesByUID(2L, UIDFolder.MAXUID))
+        .thenReturn(new Message[] {first})
+        .thenReturn(new Message[] {second});
+    when(uidFolder.getMessagesByUID(3L, UIDFolder.MAXUID)).thenReturn(new Message[] {second});
+
+    PollingManager pollingManager =
+        new PollingManager(
+            connectorContext,
+            emailListenerConfig,
+            mock(SimpleAuthentication.class),
+            jakartaUtils,
+            folder,
+            store);
+    pollingManager.poll();
+    pollingManager.poll();
+    pollingManager.poll();
+    pollingManager.poll();
+
+    verify(connectorContext, times(2)).correlate(any());
+    verify(folder, never()).getMessages();
+  }
+
+  @Test
+  void poll_rescansFolder_whenUidValidityChanges() throws MessagingException {
+    InboundConnectorContext connectorContext = mock(InboundConnectorContext.class);
+    JakartaUtils jakartaUtils = mock(JakartaUtils.class);
+    Folder folder = mock(Folder.class, withSettings().extraInterfaces(UIDFolder.class));
+    UIDFolder uidFolder = (UIDFolder) folder;
+
+    TestImapMessage first = testMessage("first");
+
+    when(connectorContext.canActivate(any()))
+        .thenReturn(new ActivationCheckResult.Success.CanActivate(null));
+    when(connectorContext.correlate(any()))
+        .thenReturn(new CorrelationResult.Success.ProcessInstanceCreated(null, null, null));
+    when(jakartaUtils.createEmail(any())).thenCallRealMethod();
+    when(jakartaUtils.createBodylessEmail(any())).thenCallRealMethod();
+    when(uidFolder.getUIDValidity()).thenReturn(42L).thenReturn(42L).thenReturn(43L);
+    when(uidFolder.getUID(first)).thenReturn(1L);
+    when(uidFolder.getMessagesByUID(1L, UIDFolder.MAXUID)).thenReturn(new Message[] {first});
+    when(uidFolder.getMessagesByUID(2L, UIDFolder.MAXUID)).thenReturn(new Message[] {first});
+
+    PollingManager pollingManager = uidPollingManager(connectorContext, jakartaUtils, folder);
+    pollingManager.poll();
+    pollingManager.poll();
+    // the UIDs are no longer valid, so the message is processed again
+    pollingManager.poll();
+
+    verify(connectorContext, times(2)).correlate(any());
+    verify(uidFolder, times(2)).getMessagesByUID(1L, UIDFolder.MAXUID);
+  }
+
+  @Test
+  void poll_retriesUnhandledMessages_untilHandled() throws MessagingException {
+    InboundConnectorContext connectorContext = mock(InboundConnectorContext.class);
+    JakartaUtils jakartaUtils = mock(JakartaUtils.class);
+    Folder folder = mock(Folder.class, withSettings().extraInterfaces(UIDFolder.class));
+    UIDFolder uidFolder = (UIDFolder) folder;
+
+    TestImapMessage first = testMessage("first");
+    TestImapMessage second = testMessage("second");
+    var notHandled = new ActivationCheckResult.Failure.NoMatchingElement(false);
+
+    when(connectorContext.canActivate(any()))
+        .thenReturn(notHandled)
+        .thenReturn(notHandled)
+        .thenReturn(new ActivationCheckResult.Success.CanActivate(null));
+    when(connectorContext.correlate(any()))
+        .thenReturn(new CorrelationResult.Success.ProcessInstanceCreated(null, null, null));
+    // the retry in the second cycle fails before any message is handled
+    when(jakartaUtils.createEmail(any()))
+        .thenCallRealMethod()
+        .thenCallRealMethod()
+        .thenThrow(new RuntimeException("connection lost"))
+        .thenCallRealMethod();
+    when(jakartaUtils.createBodylessEmail(any())).thenCallRealMethod();
+    when(uidFolder.getUIDValidity()).thenReturn(42L);
+    when(uidFolder.getUID(first)).thenReturn(1L);
+    when(uidFolder.getUID(second)).thenReturn(2L);
+    when(uidFolder.getMessagesByUID(1L, UIDFolder.MAXUID))
+        .thenReturn(new Message[] {first, second});
+    when(uidFolder.getMessagesByUID(3L, UIDFolder.MAXUID)).thenReturn(new Message[] {second});
+    when(uidFolder.getMessagesByUID(new long[] {1L, 2L})).thenReturn(new Message[] {first, second});
+
+    PollingManager pollingManager = uidPollingManager(connectorContext, jakartaUtils, folder);
+    pollingManager.poll();
+    pollingManager.poll();
+    pollingManager.poll();
+    // both messages have been handled, nothing left to retry
+    pollingManager.poll();
+
+    verify(connectorContext, times(2)).correlate(any());
+    verify(uidFolder, times(2)).getMessagesByUID(new long[] {1L, 2L});
+  }
+
+  @Test
+  void poll_stopsRetrying_whenUnhandledMessageWasRemoved() throws MessagingException {
+    InboundConnectorContext connectorContext = mock(InboundConnectorContext.class);
+    JakartaUtils jakartaUtils = mock(JakartaUtils.class);
+    Folder folder = mock(Folder.class, withSettings().extraInterfaces(UIDFolder.class));
+    UIDFolder uidFolder = (UIDFolder) folder;
+
+    TestImapMessage first = testMessage("first");
+
+    when(connectorContext.canActivate(any()))
+        .thenReturn(new ActivationCheckResult.Failure.NoMatchingElement(false));
+    when(jakartaUtils.createEmail(any())).thenCallRealMethod();
+    when(jakartaUtils.createBodylessEmail(any())).thenCallRealMethod();
+    when(uidFolder.getUIDValidity()).thenReturn(42L);
+    when(uidFolder.getUID(first)).thenReturn(1L);
+    when(uidFolder.getMessagesByUID(1L, UIDFolder.MAXUID)).thenReturn(new Message[] {first});
+    when(uidFolder.getMessagesByUID(2L, UIDFolder.MAXUID)).thenReturn(new Message[0]);
+    when(uidFolder.getMessagesByUID(new long[] {1L})).thenReturn(new Message[] {null});
+
+    PollingManager pollingManager = uidPollingManager(connectorContext, jakartaUtils, folder);
+    pollingManager.poll();
+    pollingManager.poll();
+    pollingManager.poll();
+
+    verify(connectorContext, times(1)).canActivate(any());
+    verify(uidFolder, times(1)).getMessagesByUID(new long[] {1L});
+  }
+
+  @Test
+  void idle_returnsFalseToFallBackToPolling_whenIdleFails() throws MessagingException {
+    IMAPFolder folder = mock(IMAPFolder.class);
+    IMAPStore store = mock(IMAPStore.class);
+    when(store.isConnected()).thenReturn(true);
+    when(folder.isOpen()).thenReturn(true);
+    when(store.hasCapability("IDLE")).thenReturn(true);
+    doNothing()
+        .doThrow(new FolderClosedException(folder, "connection lost"))
+        .when(folder)
+        .idle(true);
+
+    PollingManager pollingManager =
+        new PollingManager(
+            mock(InboundConnectorContext.class),
+            mock(EmailListenerConfig.class),
+            mock(SimpleAuthentication.class),
+            mock(JakartaUtils.class),
+            folder,
+            store);
+    ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    try {
+      Assertions.assertTrue(pollingManager.supportsIdle());
+      Assertions.assertTrue(pollingManager.idle(Duration.ofMinutes(1), scheduler));
+      Assertions.assertFalse(pollingManager.idle(Duration.ofMinutes(1), scheduler));
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+
+  @Test
+  void supportsIdle_isFalse_whenServerDoesNotAdvertiseIdle() throws MessagingException {
+    IMAPStore store = mock(IMAPStore.class);
+    when(store.hasCapability("IDLE")).thenReturn(false);
+
+    PollingManager pollingManager =
+        new PollingManager(
+            mock(InboundConnectorContext.class),
+            mock(EmailListenerConfig.class),
+            mock(SimpleAuthentication.class),
+            mock(JakartaUtils.class),
+            mock(IMAPFolder.class),
+            store);
+
+    Assertions.assertFalse(pollingManager.supportsIdle());
+  }
+
+  private static PollingManager uidPollingManager(
+      InboundConnectorContext connectorContext, JakartaUtils jakartaUtils, Folder folder) {
+    EmailListenerConfig emailListenerConfig = mock(EmailListenerConfig.class);
+    PollAll pollAll = mock(PollAll.class);
+    Store store = mock(Store.class);
+    when(emailListenerConfig.pollingConfig()).thenReturn(pollAll);
+    when(pollAll.handlingStrategy()).thenReturn(HandlingStrategy.READ);
+    when(store.isConnected()).thenReturn(true);
+    when(folder.isOpen()).thenReturn(true);
+    return new PollingManager(
+        connectorContext,
+        emailListenerConfig,
+        mock(SimpleAuthentication.class),
+        jakartaUtils,
+        folder,
+        store);
+  }
+
+  private static TestImapMessage testMessage(String messageId) throws MessagingException {
+    Multipart multipart = new MimeMultipart();
+    MimeBodyPart textContent = new MimeBodyPart();
+    textContent.setText("body");
+    multipart.addBodyPart(textContent);
+    return TestImapMessage.builder()
+        .setTo(List.of("recipient@example.com"))
+        .setMessageId(messageId)
+        .setFrom("sender")
+        .setSubject("subject")
+        .setBody(multipart)
+        .createTestMessage();
+  }
 }
@@ -6,21 +6,62 @@
  */
 package io.camunda.connector.action.embed;
 
+import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import io.camunda.connector.doc.parsing.DefaultTextSegmentExtractor;
+import io.camunda.connector.embeddingcache.EmbeddingCache;
 import io.camunda.connector.embeddingmodel.DefaultEmbeddingModelFactory;
 import io.camunda.connector.embeddingstore.ClosableEmbeddingStore;
 import io.camunda.connector.embeddingstore.DefaultEmbeddingStoreFactory;
 import io.camunda.connector.http.client.proxy.ProxyConfiguration;
 import io.camunda.connector.model.EmbeddingsVectorDBRequest;
+import io.camunda.connector.util.env.EnvironmentSettings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 public class DefaultEmbeddingActionProcessor implements EmbeddingActionProcessor {
 
+  /** Time spent per embedding stage, tagged by {@code stage}. */
+  public static final String METRIC_NAME_STAGE_TIME = "camunda.connector.embeddings.stage.time";
+
+  static final String BATCH_SIZE_ENV = "CONNECTOR_EMBEDDINGS_BATCH_SIZE";
+  static final String MAX_CONCURRENT_BATCHES_ENV = "CONNECTOR_EMBEDDINGS_MAX_CONCURRENT_BATCHES";
+  static final String CACHE_MAX_SIZE_ENV = "CONNECTOR_EMBEDDINGS_CACHE_MAX_SIZE";
+  static final String CACHE_DIRECTORY_ENV = "CONNECTOR_EMBEDDINGS_CACHE_DIRECTORY";
+  static final String CACHE_DISK_MAX_SIZE_ENV = "CONNECTOR_EMBEDDINGS_CACHE_DISK_MAX_SIZE";
+  static final String UPSERT_CHANGED_ONLY_ENV = "CONNECTOR_EMBEDDINGS_UPSERT_CHANGED_ONLY";
+  static final String SKIP_STORED_SEGMENTS_ENV = "CONNECTOR_EMBEDDINGS_SKIP_STORED_SEGMENTS";
+
+  /** Number of segments not written to the vector store because they did not change. */
+  public static final String METRIC_NAME_UNCHANGED_SEGMENTS =
+      "camunda.connector.embeddings.store.unchanged-segments";
+
+  private static final String STAGE_SPLIT = "split";
+  private static final String STAGE_EMBED = "embed";
+  private static final String STAGE_STORE = "store";
+
+  private static final Counter UNCHANGED_SEGMENTS =
+      Counter.builder(METRIC_NAME_UNCHANGED_SEGMENTS).register(Metrics.globalRegistry);
+
   private final DefaultEmbeddingModelFactory embeddingModelProvider;
   private final DefaultEmbeddingStoreFactory embeddingStoreProvider;
   private final DefaultTextSegmentExtractor textSegmentExtractor;
+  private final Settings settings;
+  private final EmbeddingCache embeddingCache;
 
   public DefaultEmbeddingActionProcessor(ProxyConfiguration proxyConfiguration) {
     this(
@@ -33,9 +74,77 @@ public class DefaultEmbeddingActionProcessor implements EmbeddingActionProcessor
       final DefaultEmbeddingModelFactory embeddingModelProvider,
       final DefaultEmbeddingStoreFactory embeddingStoreProvider,
       DefaultTextSegmentExtractor textSegmentExtractor) {
+    this(
+        embeddingModelProvider,
+        embeddingStoreProvider,
+        textSegmentExtractor,
+        Settings.fromEnvironment());
+  }
+
+  DefaultEmbeddingActionProcessor(
+      final DefaultEmbeddingModelFactory embeddingModelProvider,
+      final DefaultEmbeddingStoreFactory embeddingStoreProvider,
+      DefaultTextSegmentExtractor textSegmentExtractor,
+      Settings settings) {
     this.embeddingModelProvider = embeddingModelProvider;
     this.embeddingStoreProvider = embeddingStoreProvider;
     this.textSegmentExtractor = textSegmentExtractor;
+    this.settings = settings;
+    this.embeddingCache =
+        new EmbeddingCache(
+            settings.cacheMaxSize(), settings.cacheDirectory(), settings.cacheDiskMaxSize());
+  }
+
+  /**
+   * Settings of the embedding pipeline.
+   *
+   * @param batchSize maximum number of segments embedded and stored with one request
+   * @param maxConcurrentBatches maximum number of batches of one document processed at the same
+   *     time
+   * @param cacheMaxSize maximum number of embeddings cached in memory
+   * @param cacheDirectory directory embeddings are additionally cached in, or {@code null}
+   * @param cacheDiskMaxSize maximum number of embeddings cached in the directory; the least
+   *     recently used ones are deleted beyond it
+   * @param upsertChangedOnly whether segments are stored under an identifier derived from their
+   *     content and document, so storing an unchanged segment again overwrites it
+   * @param skipStoredSegments whether writes of segments this runtime already stored unchanged are
+   *     skipped; only safe as long as the vector store is not modified outside the runtime, e.g.
+   *     by dropping the index
+   */
+  record Settings(
+      int batchSize,
+      int maxConcurrentBatches,
+      long cacheMaxSize,
+      Path cacheDirectory,
+      long cacheDiskMaxSize,
+      boolean upsertChangedOnly,
+      boolean skipStoredSegments) {
+
+    static final int DEFAULT_BATCH_SIZE = 64;
+    static final int DEFAULT_MAX_CONCURRENT_BATCHES = 4;
+    static final long DEFAULT_CACHE_MAX_SIZE = 1_000;
+    static final long DEFAULT_CACHE_DISK_MAX_SIZE = 100_000;
+
+    Settings {
+      if (batchSize < 1 || maxConcurrentBatches < 1) {
+        throw new IllegalArgumentException(
+            "Embedding batch size and concurrency must be positive, got %d and %d"
+                .formatted(batchSize, maxConcurrentBatches));
+      }
+    }
+
+    static Settings fromEnvironment() {
+      var cacheDirectory = System.getenv(CACHE_DIRECTORY_ENV);
+      return new Settings(
+          EnvironmentSettings.getInt(BATCH_SIZE_ENV, DEFAULT_BATCH_SIZE, 1),
+          EnvironmentSettings.getInt(
+              MAX_CONCURRENT_BATCHES_ENV, DEFAULT_MAX_CONCURRENT_BATCHES, 1),
+          EnvironmentSettings.getLong(CACHE_MAX_SIZE_ENV, DEFAULT_CACHE_MAX_SIZE, 0),
+          cacheDirectory != null && !cacheDirectory.isBlank() ? Path.of(cacheDirectory) : null,
+          EnvironmentSettings.getLong(CACHE_DISK_MAX_SIZE_ENV, DEFAULT_CACHE_DISK_MAX_SIZE, 1),
+          EnvironmentSettings.getBoolean(UPSERT_CHANGED_ONLY_ENV, false),
+          EnvironmentSettings.getBoolean(SKIP_STORED_SEGMENTS_ENV, false));
+    }
   }
 
   @Override
@@ -48,13 +157,167 @@ public class DefaultEmbeddingActionProcessor implements EmbeddingActionProcessor
 
       // split incoming documents into chunks (segments) so that converting those
       // to vector-normal formal preserves maximum amount of properties.
-      final var segments = textSegmentExtractor.fromRequest(request);
+      final var segments = timed(STAGE_SPLIT, () -> textSegmentExtractor.fromRequest(request));
+
+      // convert chunks (segments) into vector form in batches, persist each batch
+      // in a vector DB with a single bulk write and return chunks identifiers
+      final var target =
+          new Target(
+              model,
+              EmbeddingCache.modelId(request.embeddingModelProvider()),
+              store,
+              EmbeddingCache.vectorStoreId(request.vectorStore()));
+      final var batches = partition(segments, settings.batchSize());
+      if (batches.size() <= 1 || settings.maxConcurrentBatches() == 1) {
+        return batches.stream().flatMap(batch -> embedAndStore(target, batch).stream()).toList();
+      }
+      return embedAndStoreConcurrently(target, batches);
+    }
+  }
 
-      // convert chunks (segments) into vector form, persist
-      // in a vector DB and return chunks identifiers
-      return segments.stream()
-          .map(segment -> store.add(model.embed(segment).content(), segment))
-          .toList();
+  private List<String> embedAndStoreConcurrently(Target target, List<List<TextSegment>> batches) {
+    final var permits = new Semaphore(settings.maxConcurrentBatches());
+    final var failed = new AtomicBoolean();
+    final var executor = Executors.newVirtualThreadPerTaskExecutor();
+    try {
+      final var futures = new ArrayList<Future<List<String>>>(batches.size());
+      for (var batch : batches) {
+        // batches are only submitted once a permit is free, so none start after a failure
+        permits.acquire();
+        if (failed.get()) {
+          break;
+        }
+        futures.add(
+            executor.submit(
+                () -> {
+                  try {
+                    return embedAndStore(target, batch);
+                  } catch (RuntimeException e) {
+                    failed.set(true);
+                    throw e;
+                  } finally {
+                    permits.release();
+                  }
+                }));
+      }
+
+      final var ids = new ArrayList<String>();
+      for (var future : futures) {
+        ids.addAll(future.get());
+      }
+      return ids;
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while embedding document segments", e);
+    } catch (ExecutionException e) {
+      // interrupt the batches still running, the document is reported as failed anyway
+      executor.shutdownNow();
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Failed to embed document segments", e.getCause());
+    } finally {
+      executor.close();
+    }
+  }
+
+  private List<String> embedAndStore(Target target, List<TextSegment> batch) {
+    final var keys =
+        batch.stream().map(segment -> EmbeddingCache.key(target.modelId(), segment)).toList();
+    final var embeddings = timed(STAGE_EMBED, () -> embeddings(target.model(), keys, batch));
+    if (!settings.upsertChangedOnly()) {
+      return timed(STAGE_STORE, () -> target.store().addAll(embeddings, batch));
+    }
+
+    // segments are stored under an identifier derived from their content and document, so writing
+    // a segment again overwrites it and segments this runtime already wrote can be skipped
+    final var ids = new ArrayList<String>(batch.size());
+    final var changedIds = new ArrayList<String>();
+    final var changedEmbeddings = new ArrayList<Embedding>();
+    final var changedSegments = new ArrayList<TextSegment>();
+    final var seen = new HashSet<String>();
+    for (int i = 0; i < batch.size(); i++) {
+      final var id = EmbeddingCache.segmentId(keys.get(i), batch.get(i));
+      ids.add(id);
+      if (seen.add(id) && !isStored(target, id)) {
+        changedIds.add(id);
+        changedEmbeddings.add(embeddings.get(i));
+        changedSegments.add(batch.get(i));
+      }
+    }
+    UNCHANGED_SEGMENTS.increment(batch.size() - changedIds.size());
+    if (!changedIds.isEmpty()) {
+      timed(
+          STAGE_STORE,
+          () -> {
+            target.store().addAll(changedIds, changedEmbeddings, changedSegments);
+            return null;
+          });
+      if (settings.skipStoredSegments()) {
+        changedIds.forEach(id -> embeddingCache.markStored(target.vectorStoreId(), id));
+      }
+    }
+    return ids;
+  }
+
+  private boolean isStored(Target target, String segmentId) {
+    return settings.skipStoredSegments()
+        && embeddingCache.isStored(target.vectorStoreId(), segmentId);
+  }
+
+  /**
+   * Returns the embeddings of the given segments, only sending segments to the model whose
+   * embedding is not cached yet. Segments with the same content are embedded once.
+   */
+  private List<Embedding> embeddings(
+      EmbeddingModel model, List<EmbeddingCache.SegmentKey> keys, List<TextSegment> batch) {
+    final var embeddings = new Embedding[batch.size()];
+    final var missing = new LinkedHashMap<EmbeddingCache.SegmentKey, TextSegment>();
+    for (int i = 0; i < batch.size(); i++) {
+      final var cached = embeddingCache.get(keys.get(i));
+      if (cached.isPresent()) {
+        embeddings[i] = cached.get();
+      } else {
+        missing.putIfAbsent(keys.get(i), batch.get(i));
+      }
+    }
+
+    if (!missing.isEmpty()) {
+      final var computed = model.embedAll(new ArrayList<>(missing.values())).content();
+      final var missingKeys = new ArrayList<>(missing.keySet());
+      final var byKey = new HashMap<EmbeddingCache.SegmentKey, Embedding>();
+      for (int i = 0; i < missingKeys.size(); i++) {
+        embeddingCache.put(missingKeys.get(i), computed.get(i));
+        byKey.put(missingKeys.get(i), computed.get(i));
+      }
+      for (int i = 0; i < batch.size(); i++) {
+        if (embeddings[i] == null) {
+          embeddings[i] = byKey.get(keys.get(i));
+        }
+      }
+    }
+    return List.of(embeddings);
+  }
+
+  private static List<List<TextSegment>> partition(List<TextSegment> segments, int batchSize) {
+    final var batches = new ArrayList<List<TextSegment>>();
+    for (int from = 0; from < segments.size(); from += batchSize) {
+      batches.add(segments.subList(from, Math.min(from + batchSize, segments.size())));
     }
+    return batches;
+  }
+
+  private record Target(
+      EmbeddingModel model,
+      String modelId,
+      ClosableEmbeddingStore<TextSegment> store,
+      String vectorStoreId) {}
+
+  private static <T> T timed(String stage, Supplier<T> action) {
+    return Timer.builder(METRIC_NAME_STAGE_TIME)
+        .tag("stage", stage)
+        .register(Metrics.globalRegistry)
+        .record(action);
   }
 }
@@ -0,0 +1,322 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.embeddingcache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import io.camunda.connector.model.embedding.models.AzureOpenAiEmbeddingModelProvider;
+import io.camunda.connector.model.embedding.models.BedrockEmbeddingModelProvider;
+import io.camunda.connector.model.embedding.models.EmbeddingModelProvider;
+import io.camunda.connector.model.embedding.models.GoogleVertexAiEmbeddingModelProvider;
+import io.camunda.connector.model.embedding.models.OpenAiEmbeddingModelProvider;
+import io.camunda.connector.model.embedding.vector.store.AmazonManagedOpenSearchVectorStore;
+import io.camunda.connector.model.embedding.vector.store.AzureAiSearchVectorStore;
+import io.camunda.connector.model.embedding.vector.store.AzureCosmosDbNoSqlVectorStore;
+import io.camunda.connector.model.embedding.vector.store.ElasticsearchVectorStore;
+import io.camunda.connector.model.embedding.vector.store.EmbeddingsVectorStore;
+import io.camunda.connector.model.embedding.vector.store.OpenSearchVectorStore;
+import io.camunda.connector.util.cache.CacheKeys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Content-addressed cache of embeddings, keyed by the embedding model and a SHA-256 hash of the
+ * segment text, so unchanged segments of a re-ingested document are not sent to the embedding
+ * provider again.
+ *
+ * <p>Embeddings are kept in an in-memory cache bounded by entry count. When a directory is
+ * configured, they are also written to disk and survive restarts of the runtime. The directory is
+ * bounded by entry count as well: once it holds more embeddings than allowed, the least recently
+ * used ones are deleted. The cache
+ * additionally remembers which segments this runtime wrote to which vector store, which allows
+ * skipping writes of segments that did not change. This bookkeeping is not aware of changes made
+ * to the vector store by anyone else, such as a dropped or recreated index.
+ */
+public class EmbeddingCache {
+
+  /** Number of embedding cache lookups, tagged by {@code result} ({@code hit} or {@code miss}). */
+  public static final String METRIC_NAME_ACCESSES = "camunda.connector.embeddings.cache.accesses";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(EmbeddingCache.class);
+
+  private static final Counter HITS =
+      Counter.builder(METRIC_NAME_ACCESSES).tag("result", "hit").register(Metrics.globalRegistry);
+  private static final Counter MISSES =
+      Counter.builder(METRIC_NAME_ACCESSES).tag("result", "miss").register(Metrics.globalRegistry);
+
+  private final Cache<String, Embedding> embeddings;
+  private final Cache<String, Boolean> storedSegments;
+  private final Path directory;
+  private final long diskMaxSize;
+  private final long diskCleanUpInterval;
+  private final AtomicLong writesSinceDiskCleanUp;
+  private final AtomicBoolean diskCleanUpRunning = new AtomicBoolean();
+
+  /**
+   * @param maxSize maximum number of embeddings kept in memory
+   * @param directory directory embeddings are additionally stored in, or {@code null} to only
+   *     cache in memory
+   * @param diskMaxSize maximum number of embeddings kept in the directory
+   */
+  public EmbeddingCache(long maxSize, Path directory, long diskMaxSize) {
+    this.embeddings = Caffeine.newBuilder().maximumSize(maxSize).build();
+    this.storedSegments = Caffeine.newBuilder().maximumSize(maxSize).build();
+    this.directory = directory;
+    this.diskMaxSize = diskMaxSize;
+    // the directory is scanned after every tenth of its capacity has been written, starting with
+    // the first write, which also removes the excess left behind by a previous runtime
+    this.diskCleanUpInterval = Math.max(diskMaxSize / 10, 1);
+    this.writesSinceDiskCleanUp = new AtomicLong(diskCleanUpInterval - 1);
+  }
+
+  /**
+   * Returns the cache key of a segment embedded with the given model. The key only depends on the
+   * segment text, so an identical chunk of different documents shares one cached embedding.
+   */
+  public static SegmentKey key(String modelId, TextSegment segment) {
+    return new SegmentKey(CacheKeys.sha256(modelId, segment.text()));
+  }
+
+  /**
+   * Returns a stable identifier of the segment in the vector store, derived from its cache key and
+   * its metadata. The metadata identifies the document the segment belongs to, so an identical
+   * chunk of two documents is stored as two entries, while re-ingesting an unchanged segment
+   * overwrites the existing entry instead of adding a duplicate.
+   */
+  public static String segmentId(SegmentKey key, TextSegment segment) {
+    var name = key.hash() + '\0' + new TreeMap<>(segment.metadata().toMap());
+    return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)).toString();
+  }
+
+  /**
+   * Identifies an embedding model by the configuration that affects the produced vectors.
+   * Credentials are left out, so rotating them keeps the cached embeddings valid.
+   */
+  public static String modelId(EmbeddingModelProvider provider) {
+    return switch (provider) {
+      case BedrockEmbeddingModelProvider bedrock ->
+          String.join(
+              ":",
+              "bedrock",
+              bedrock.bedrock().region(),
+              bedrock.bedrock().resolveSelectedModelName(),
+              String.valueOf(bedrock.bedrock().dimensions()),
+              String.valueOf(bedrock.bedrock().normalize()));
+      case OpenAiEmbeddingModelProvider openAi ->
+          String.join(
+              ":",
+              "openai",
+              String.valueOf(openAi.openAi().baseUrl()),
+              openAi.openAi().modelName(),
+              String.valueOf(openAi.openAi().dimensions()));
+      case AzureOpenAiEmbeddingModelProvider azureOpenAi ->
+          String.join(
+              ":",
+              "azure-openai",
+              azureOpenAi.azureOpenAi().endpoint(),
+              azureOpenAi.azureOpenAi().deploymentName(),
+              String.valueOf(azureOpenAi.azureOpenAi().dimensions()));
+      case GoogleVertexAiEmbeddingModelProvider vertexAi ->
+          String.join(
+              ":",
+              "vertex-ai",
+              vertexAi.googleVertexAi().projectId(),
+              vertexAi.googleVertexAi().region(),
+              String.valueOf(vertexAi.googleVertexAi().publisher()),
+              vertexAi.googleVertexAi().modelName(),
+              String.valueOf(vertexAi.googleVertexAi().dimensions()));
+    };
+  }
+
+  /** Identifies the index or container of a vector store segments are written to. */
+  public static String vectorStoreId(EmbeddingsVectorStore vectorStore) {
+    return switch (vectorStore) {
+      case ElasticsearchVectorStore elasticsearch ->
+          String.join(
+              ":",
+              "elasticsearch",
+              elasticsearch.elasticsearch().baseUrl(),
+              elasticsearch.elasticsearch().indexName());
+      case OpenSearchVectorStore openSearch ->
+          String.join(
+              ":",
+              "opensearch",
+              openSearch.openSearch().baseUrl(),
+              openSearch.openSearch().indexName());
+      case AmazonManagedOpenSearchVectorStore amazon ->
+          String.join(
+              ":",
+              "amazon-opensearch",
+              amazon.amazonManagedOpensearch().serverUrl(),
+              amazon.amazonManagedOpensearch().indexName());
+      case AzureAiSearchVectorStore aiSearch ->
+          String.join(
+              ":",
+              "azure-ai-search",
+              aiSearch.aiSearch().endpoint(),
+              aiSearch.aiSearch().indexName());
+      case AzureCosmosDbNoSqlVectorStore cosmosDb ->
+          String.join(
+              ":",
+              "azure-cosmos-db",
+              cosmosDb.azureCosmosDbNoSql().endpoint(),
+              cosmosDb.azureCosmosDbNoSql().databaseName(),
+              cosmosDb.azureCosmosDbNoSql().containerName());
+    };
+  }
+
+  public Optional<Embedding> get(SegmentKey key) {
+    var embedding = embeddings.getIfPresent(key.hash());
+    if (embedding == null && directory != null) {
+      embedding = readFromDisk(key);
+      if (embedding != null) {
+        embeddings.put(key.hash(), embedding);
+      }
+    }
+    (embedding != null ? HITS : MISSES).increment();
+    return Optional.ofNullable(embedding);
+  }
+
+  public void put(SegmentKey key, Embedding embedding) {
+    embeddings.put(key.hash(), embedding);
+    if (directory != null) {
+      writeToDisk(key, embedding);
+    }
+  }
+
+  /** Whether this runtime already wrote the segment with the given id to the vector store. */
+  public boolean isStored(String vectorStoreId, String segmentId) {
+    return storedSegments.getIfPresent(vectorStoreId + '\0' + segmentId) != null;
+  }
+
+  public void markStored(String vectorStoreId, String segmentId) {
+    storedSegments.put(vectorStoreId + '\0' + segmentId, Boolean.TRUE);
+  }
+
+  private Embedding readFromDisk(SegmentKey key) {
+    var file = file(key);
+    try (var in = new DataInputStream(Files.newInputStream(file))) {
+      var vector = new float[in.readInt()];
+      for (int i = 0; i < vector.length; i++) {
+        vector[i] = in.readFloat();
+      }
+      touch(file);
+      return new Embedding(vector);
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException e) {
+      LOGGER.warn("Failed to read cached embedding {}, ignoring it", key.hash(), e);
+      return null;
+    }
+  }
+
+  /** Updates the modification time, which tracks the last use of a cached embedding. */
+  private static void touch(Path file) {
+    try {
+      Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+    } catch (IOException e) {
+      LOGGER.debug("Failed to update the modification time of {}", file, e);
+    }
+  }
+
+  private void writeToDisk(SegmentKey key, Embedding embedding) {
+    var file = file(key);
+    try {
+      Files.createDirectories(file.getParent());
+      // write to a temporary file first, so concurrent readers never see a partial vector
+      var temporary = Files.createTempFile(file.getParent(), key.hash(), ".tmp");
+      try (var out = new DataOutputStream(Files.newOutputStream(temporary))) {
+        var vector = embedding.vector();
+        out.writeInt(vector.length);
+        for (float value : vector) {
+          out.writeFloat(value);
+        }
+      }
+      Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      LOGGER.warn("Failed to write cached embedding {} to disk", key.hash(), e);
+      return;
+    }
+    if (writesSinceDiskCleanUp.incrementAndGet() >= diskCleanUpInterval
+        && diskCleanUpRunning.compareAndSet(false, true)) {
+      try {
+        writesSinceDiskCleanUp.set(0);
+        cleanUpDisk();
+      } finally {
+        diskCleanUpRunning.set(false);
+      }
+    }
+  }
+
+  /** Deletes the least recently used embeddings exceeding the maximum size of the directory. */
+  private void cleanUpDisk() {
+    record CachedFile(Path path, FileTime lastModified) {}
+    List<CachedFile> files = new ArrayList<>();
+    try (var paths = Files.find(directory, 2, (path, attributes) -> attributes.isRegularFile())) {
+      paths
+          .filter(path -> !path.getFileName().toString().endsWith(".tmp"))
+          .forEach(
+              path -> {
+                try {
+                  var attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                  files.add(new CachedFile(path, attributes.lastModifiedTime()));
+                } catch (IOException e) {
+                  // deleted concurrently
+                }
+              });
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warn("Failed to clean up the embedding cache directory {}", directory, e);
+      return;
+    }
+    long excess = files.size() - diskMaxSize;
+    if (excess <= 0) {
+      return;
+    }
+    LOGGER.debug("Deleting {} least recently used embeddings from {}", excess, directory);
+    files.stream()
+        .sorted(Comparator.comparing(CachedFile::lastModified))
+        .limit(excess)
+        .forEach(
+            file -> {
+              try {
+                Files.deleteIfExists(file.path());
+              } catch (IOException e) {
+                LOGGER.debug("Failed to delete cached embedding {}", file.path(), e);
+              }
+            });
+  }
+
+  private Path file(SegmentKey key) {
+    return directory.resolve(key.hash().substring(0, 2)).resolve(key.hash());
+  }
+
+  /** Cache key of a segment, the SHA-256 hash of the model identifier and the segment text. */
+  public record SegmentKey(String hash) {}
+}
@@ -6,6 +6,7 @@
  */
 package io.camunda.connector.action.embed;
 
+import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
@@ -16,13 +17,31 @@ import io.camunda.connector.embeddingstore.ClosableEmbeddingStore;
 import io.camunda.connector.embeddingstore.DefaultEmbeddingStoreFactory;
 import io.camunda.connector.fixture.EmbeddingsVectorDBRequestFixture;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
 
 class DefaultEmbeddingActionProcessorTest {
 
+  private static final Answer<Response<List<Embedding>>> EMBED_ALL =
+      invocation -> {
+        List<TextSegment> segments = invocation.getArgument(0);
+        return new Response<>(
+            segments.stream().map(segment -> new Embedding(new float[] {0.1f, 0.2f})).toList());
+      };
+
+  // uses the segment text as the identifier, so tests can verify the order of the returned ids
+  private static final Answer<List<String>> ADD_ALL =
+      invocation -> {
+        List<TextSegment> segments = invocation.getArgument(1);
+        return segments.stream().map(TextSegment::text).toList();
+      };
+
   @Test
   void embed_HappyCase() {
     final var request = EmbeddingsVectorDBRequestFixture.createDefaultEmbedOperation();
@@ -31,11 +50,12 @@ class DefaultEmbeddingActionProcessorTest {
     final var model = Mockito.mock(EmbeddingModel.class);
     Mockito.when(embeddingModelProvider.createEmbeddingModel(request.embeddingModelProvider()))
         .thenReturn(model);
-    Mockito.when(model.embed((TextSegment) ArgumentMatchers.any()))
-        .thenReturn(new Response<>(new Embedding(new float[] {0.1f, 0.2f})));
+    Mockito.when(model.embedAll(ArgumentMatchers.anyList())).thenAnswer(EMBED_ALL);
 
     final var embeddingStoreProvider = Mockito.mock(DefaultEmbeddingStoreFactory.class);
     final var store = Mockito.mock(ClosableEmbeddingStore.class);
+    Mockito.when(store.addAll(ArgumentMatchers.anyList(), ArgumentMatchers.anyList()))
+        .thenAnswer(ADD_ALL);
     Mockito.when(
             embeddingStoreProvider.initializeVectorStore(
                 request.vectorStore(), model, request.vectorDatabaseConnectorOperation()))
@@ -51,6 +71,179 @@ class DefaultEmbeddingActionProcessorTest {
 
     final var result = testee.embed(request);
 
-    Assertions.assertThat(result).hasSize(2);
+    Assertions.assertThat(result).containsExactly("Document 1", "Document 2");
+  }
+
+  @Test
+  void embed_SplitsSegmentsIntoBatches_AndKeepsSegmentOrder() {
+    final var request = EmbeddingsVectorDBRequestFixture.createDefaultEmbedOperation();
+
+    final var embeddingModelProvider = Mockito.mock(DefaultEmbeddingModelFactory.class);
+    final var model = Mockito.mock(EmbeddingModel.class);
+    Mockito.when(embeddingModelProvider.createEmbeddingModel(request.embeddingModelProvider()))
+        .thenReturn(model);
+    Mockito.when(model.embedAll(ArgumentMatchers.anyList())).thenAnswer(EMBED_ALL);
+
+    final var embeddingStoreProvider = Mockito.mock(DefaultEmbeddingStoreFactory.class);
+    final var store = Mockito.mock(ClosableEmbeddingStore.class);
+    Mockito.when(store.addAll(ArgumentMatchers.anyList(), ArgumentMatchers.anyList()))
+        .thenAnswer(ADD_ALL);
+    Mockito.when(
+            embeddingStoreProvider.initializeVectorStore(
+                request.vectorStore(), model, request.vectorDatabaseConnectorOperation()))
+        .thenReturn(store);
+
+    final var segments =
+        IntStream.range(0, 5).mapToObj(i -> TextSegment.from("Document " + i)).toList();
+    final var textSegmentExtractor = Mockito.mock(DefaultTextSegmentExtractor.class);
+    Mockito.when(textSegmentExtractor.fromRequest(request)).thenReturn(segments);
+
+    final var testee =
+        new DefaultEmbeddingActionProcessor(
+            embeddingModelProvider,
+            embeddingStoreProvider,
+            textSegmentExtractor,
+            new DefaultEmbeddingActionProcessor.Settings(2, 2, 1_000, null, 1_000, false, false));
+
+    final var result = testee.embed(request);
+
+    Assertions.assertThat(result)
+        .containsExactly("Document 0", "Document 1", "Document 2", "Document 3", "Document 4");
+    Mockito.verify(model, Mockito.times(3)).embedAll(ArgumentMatchers.anyList());
+    Mockito.verify(store, Mockito.times(3))
+        .addAll(ArgumentMatchers.anyList(), ArgumentMatchers.anyList());
+  }
+
+  @Test
+  void embed_FailingBatch_DoesNotEmbedRemainingBatches() {
+    final var request = EmbeddingsVectorDBRequestFixture.createDefaultEmbedOperation();
+
+    final var embeddingModelProvider = Mockito.mock(DefaultEmbeddingModelFactory.class);
+    final var model = Mockito.mock(EmbeddingModel.class);
+    Mockito.when(embeddingModelProvider.createEmbeddingModel(request.embeddingModelProvider()))
+        .thenReturn(model);
+    // the first batch fails right away, the second one keeps running until it is interrupted
+    final var release = new CountDownLatch(1);
+    Mockito.when(model.embedAll(ArgumentMatchers.anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<TextSegment> segments = invocation.getArgument(0);
+              if (segments.getFirst().text().equals("Document 0")) {
+                throw new IllegalStateException("Embedding provider unavailable");
+              }
+              release.await(10, TimeUnit.SECONDS);
+              return EMBED_ALL.answer(invocation);
+            });
+
+    final var embeddingStoreProvider = Mockito.mock(DefaultEmbeddingStoreFactory.class);
+    final var store = Mockito.mock(ClosableEmbeddingStore.class);
+    Mockito.when(
+            embeddingStoreProvider.initializeVectorStore(
+                request.vectorStore(), model, request.vectorDatabaseConnectorOperation()))
+        .thenReturn(store);
+
+    final var segments =
+        IntStream.range(0, 5).mapToObj(i -> TextSegment.from("Document " + i)).toList();
+    final var textSegmentExtractor = Mockito.mock(DefaultTextSegmentExtractor.class);
+    Mockito.when(textSegmentExtractor.fromRequest(request)).thenReturn(segments);
+
+    final var testee =
+        new DefaultEmbeddingActionProcessor(
+            embeddingModelProvider,
+            embeddingStoreProvider,
+            textSegmentExtractor,
+            new DefaultEmbeddingActionProcessor.Settings(1, 2, 1_000, null, 1_000, false, false));
+
+    Assertions.assertThatThrownBy(() -> testee.embed(request))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Embedding provider unavailable");
+    // only the two batches holding a permit were started
+    Mockito.verify(model, Mockito.times(2)).embedAll(ArgumentMatchers.anyList());
+    Mockito.verify(store, Mockito.never())
+        .addAll(ArgumentMatchers.anyList(), ArgumentMatchers.anyList());
+  }
+
+  @Test
+  void embed_UpsertChangedOnly_SkipsUnchangedSegmentsOnReIngestion() {
+    final var request = EmbeddingsVectorDBRequestFixture.createDefaultEmbedOperation();
+
+    final var embeddingModelProvider = Mockito.mock(DefaultEmbeddingModelFactory.class);
+    final var model = Mockito.mock(EmbeddingModel.class);
+    Mockito.when(embeddingModelProvider.createEmbeddingModel(request.embeddingModelProvider()))
+        .thenReturn(model);
+    Mockito.when(model.embedAll(ArgumentMatchers.anyList())).thenAnswer(EMBED_ALL);
+
+    final var embeddingStoreProvider = Mockito.mock(DefaultEmbeddingStoreFactory.class);
+    final var store = Mockito.mock(ClosableEmbeddingStore.class);
+    Mockito.when(
+            embeddingStoreProvider.initializeVectorStore(
+                request.vectorStore(), model, request.vectorDatabaseConnectorOperation()))
+        .thenReturn(store);
+
+    final var textSegmentExtractor = Mockito.mock(DefaultTextSegmentExtractor.class);
+    Mockito.when(textSegmentExtractor.fromRequest(request))
+        .thenReturn(List.of(TextSegment.from("Document 1"), TextSegment.from("Document 2")))
+        .thenReturn(List.of(TextSegment.from("Document 1"), TextSegment.from("Document 3")));
+
+    final var testee =
+        new DefaultEmbeddingActionProcessor(
+            embeddingModelProvider,
+            embeddingStoreProvider,
+            textSegmentExtractor,
+            new DefaultEmbeddingActionProcessor.Settings(64, 1, 1_000, null, 1_000, true, true));
+
+    final var first = testee.embed(request);
+    final var second = testee.embed(request);
+
+    Assertions.assertThat(second.getFirst()).isEqualTo(first.getFirst());
+    Assertions.assertThat(second.get(1)).isNotEqualTo(first.get(1));
+    Mockito.verify(model).embedAll(List.of(TextSegment.from("Document 3")));
+    Mockito.verify(store)
+        .addAll(
+            List.of(second.get(1)),
+            List.of(new Embedding(new float[] {0.1f, 0.2f})),
+            List.of(TextSegment.from("Document 3")));
+  }
+
+  @Test
+  void embed_UpsertChangedOnly_StoresSharedChunkOfTwoDocumentsSeparately() {
+    final var request = EmbeddingsVectorDBRequestFixture.createDefaultEmbedOperation();
+
+    final var embeddingModelProvider = Mockito.mock(DefaultEmbeddingModelFactory.class);
+    final var model = Mockito.mock(EmbeddingModel.class);
+    Mockito.when(embeddingModelProvider.createEmbeddingModel(request.embeddingModelProvider()))
+        .thenReturn(model);
+    Mockito.when(model.embedAll(ArgumentMatchers.anyList())).thenAnswer(EMBED_ALL);
+
+    final var embeddingStoreProvider = Mockito.mock(DefaultEmbeddingStoreFactory.class);
+    final var store = Mockito.mock(ClosableEmbeddingStore.class);
+    Mockito.when(
+            embeddingStoreProvider.initializeVectorStore(
+                request.vectorStore(), model, request.vectorDatabaseConnectorOperation()))
+        .thenReturn(store);
+
+    final var chunkOfA = TextSegment.from("Shared chunk", Metadata.from("fileName", "a.pdf"));
+    final var chunkOfB = TextSegment.from("Shared chunk", Metadata.from("fileName", "b.pdf"));
+    final var textSegmentExtractor = Mockito.mock(DefaultTextSegmentExtractor.class);
+    Mockito.when(textSegmentExtractor.fromRequest(request))
+        .thenReturn(List.of(chunkOfA))
+        .thenReturn(List.of(chunkOfB));
+
+    final var testee =
+        new DefaultEmbeddingActionProcessor(
+            embeddingModelProvider,
+            embeddingStoreProvider,
+            textSegmentExtractor,
+            new DefaultEmbeddingActionProcessor.Settings(64, 1, 1_000, null, 1_000, true, true));
+
+    final var documentA = testee.embed(request);
+    final var documentB = testee.embed(request);
+
+    Assertions.assertThat(documentB).doesNotContainAnyElementsOf(documentA);
+    // the embedding is shared, but both documents get their own entry in the vector store
+    Mockito.verify(model).embedAll(List.of(chunkOfA));
+    final var embedding = new Embedding(new float[] {0.1f, 0.2f});
+    Mockito.verify(store).addAll(documentA, List.of(embedding), List.of(chunkOfA));
+    Mockito.verify(store).addAll(documentB, List.of(embedding), List.of(chunkOfB));
   }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.embeddingcache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import io.camunda.connector.fixture.EmbeddingModelProviderFixture;
+import io.camunda.connector.model.embedding.models.BedrockEmbeddingModelProvider;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmbeddingCacheTest {
+
+  private static final Embedding EMBEDDING = new Embedding(new float[] {0.1f, 0.2f, 0.3f});
+
+  @TempDir Path directory;
+
+  @Test
+  void keyDependsOnModelAndContent() {
+    var key = EmbeddingCache.key("model-a", TextSegment.from("text"));
+
+    assertThat(EmbeddingCache.key("model-a", TextSegment.from("text"))).isEqualTo(key);
+    assertThat(EmbeddingCache.key("model-b", TextSegment.from("text"))).isNotEqualTo(key);
+    assertThat(EmbeddingCache.key("model-a", TextSegment.from("other"))).isNotEqualTo(key);
+  }
+
+  @Test
+  void returnsCachedEmbedding() {
+    var cache = new EmbeddingCache(10, null, 10);
+    var key = EmbeddingCache.key("model", TextSegment.from("text"));
+
+    assertThat(cache.get(key)).isEmpty();
+    cache.put(key, EMBEDDING);
+
+    assertThat(cache.get(key)).contains(EMBEDDING);
+  }
+
+  @Test
+  void readsEmbeddingFromDisk_whenNotInMemory() {
+    var key = EmbeddingCache.key("model", TextSegment.from("text"));
+    new EmbeddingCache(10, directory, 10).put(key, EMBEDDING);
+
+    var restarted = new EmbeddingCache(10, directory, 10);
+
+    assertThat(restarted.get(key)).contains(EMBEDDING);
+  }
+
+  @Test
+  void deletesLeastRecentlyUsedEmbeddingsFromDisk_whenOverDiskMaxSize() throws Exception {
+    var cache = new EmbeddingCache(10, directory, 2);
+    var first = EmbeddingCache.key("model", TextSegment.from("first"));
+    var second = EmbeddingCache.key("model", TextSegment.from("second"));
+    var third = EmbeddingCache.key("model", TextSegment.from("third"));
+    cache.put(first, EMBEDDING);
+    cache.put(second, EMBEDDING);
+    Files.setLastModifiedTime(file(second), FileTime.from(Instant.now().minusSeconds(120)));
+    Files.setLastModifiedTime(file(first), FileTime.from(Instant.now().minusSeconds(60)));
+
+    cache.put(third, EMBEDDING);
+
+    var restarted = new EmbeddingCache(10, directory, 2);
+    assertThat(restarted.get(first)).contains(EMBEDDING);
+    assertThat(restarted.get(second)).isEmpty();
+    assertThat(restarted.get(third)).contains(EMBEDDING);
+  }
+
+  @Test
+  void modelIdDependsOnBedrockRegion() {
+    var provider = EmbeddingModelProviderFixture.createDefaultBedrockEmbeddingModel();
+    var otherRegion =
+        new BedrockEmbeddingModelProvider(
+            new BedrockEmbeddingModelProvider.Configuration(
+                provider.bedrock().accessKey(),
+                provider.bedrock().secretKey(),
+                "eu-central-1",
+                provider.bedrock().modelName(),
+                provider.bedrock().customModelName(),
+                provider.bedrock().dimensions(),
+                provider.bedrock().normalize(),
+                provider.bedrock().maxRetries()));
+
+    assertThat(EmbeddingCache.modelId(otherRegion))
+        .isNotEqualTo(EmbeddingCache.modelId(provider));
+  }
+
+  @Test
+  void tracksStoredSegmentsPerVectorStore() {
+    var cache = new EmbeddingCache(10, null, 10);
+    var key = EmbeddingCache.key("model", TextSegment.from("text"));
+
+    cache.markStored("store-a", "segment");
+
+    assertThat(cache.isStored("store-a", "segment")).isTrue();
+    assertThat(cache.isStored("store-b", "segment")).isFalse();
+  }
+
+  @Test
+  void segmentIdDependsOnDocumentOfSegment() {
+    var ofA = TextSegment.from("text", Metadata.from("fileName", "a.pdf"));
+    var ofB = TextSegment.from("text", Metadata.from("fileName", "b.pdf"));
+    var key = EmbeddingCache.key("model", ofA);
+
+    assertThat(EmbeddingCache.key("model", ofB)).isEqualTo(key);
+    assertThat(EmbeddingCache.segmentId(key, ofA))
+        .isEqualTo(EmbeddingCache.segmentId(key, TextSegment.from("text", ofA.metadata())))
+        .isNotEqualTo(EmbeddingCache.segmentId(key, ofB));
+  }
+
+  private Path file(EmbeddingCache.SegmentKey key) {
+    return directory.resolve(key.hash().substring(0, 2)).resolve(key.hash());
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.http.polling.service;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs a blocking polling task on a worker thread, timed by the {@link
+ * SharedExecutorService#getExecutorService() scheduler}.
+ *
+ * <p>The next run is scheduled once the previous run has finished on the worker thread, so the
+ * delay between two runs is measured from the end of the previous run, and runs never overlap. An
+ * optional semaphore caps the number of concurrently running tasks, e.g. of one connector.
+ *
+ * <p>{@link #cancel()} stops further runs and interrupts a run that is in progress.
+ */
+public class OffloadedPollingTask {
+
+  /** Time from a task being due until it actually starts, e.g. waiting for a concurrency permit. */
+  public static final String METRIC_NAME_LAG = "camunda.connector.http-polling.task.lag";
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(OffloadedPollingTask.class);
+
+  private static final Timer LAG = Timer.builder(METRIC_NAME_LAG).register(Metrics.globalRegistry);
+
+  private final Runnable task;
+  private final ScheduledExecutorService scheduler;
+  private final Executor workerExecutor;
+  private final Semaphore concurrencyLimit;
+  private volatile long delayMillis;
+  private volatile boolean cancelled;
+  private volatile Thread worker;
+  private volatile ScheduledFuture<?> nextRun;
+
+  public OffloadedPollingTask(
+      Runnable task,
+      ScheduledExecutorService scheduler,
+      Executor workerExecutor,
+      Semaphore concurrencyLimit) {
+    this.task = task;
+    this.scheduler = scheduler;
+    this.workerExecutor = workerExecutor;
+    this.concurrencyLimit = concurrencyLimit;
+  }
+
+  /**
+   * Schedules the first run after the initial delay and every further run the given delay after
+   * the previous run has finished.
+   */
+  public void start(Duration initialDelay, Duration delay) {
+    this.delayMillis = delay.toMillis();
+    schedule(initialDelay.toMillis());
+  }
+
+  /** Prevents further runs and interrupts the run in progress, if any. */
+  public void cancel() {
+    cancelled = true;
+    var scheduled = nextRun;
+    if (scheduled != null) {
+      scheduled.cancel(false);
+    }
+    var current = worker;
+    if (current != null) {
+      current.interrupt();
+    }
+  }
+
+  private void schedule(long delayMillis) {
+    if (cancelled) {
+      return;
+    }
+    try {
+      nextRun = scheduler.schedule(this::dispatch, delayMillis, TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      LOGGER.debug("Polling task not scheduled, scheduler is shutting down", e);
+    }
+  }
+
+  /** Runs on the scheduler thread and must not block. */
+  private void dispatch() {
+    if (cancelled) {
+      return;
+    }
+    final long dueNanos = System.nanoTime();
+    try {
+      workerExecutor.execute(() -> runTask(dueNanos));
+    } catch (RejectedExecutionException e) {
+      LOGGER.debug("Polling task rejected, executor is shutting down", e);
+    }
+  }
+
+  private void runTask(long dueNanos) {
+    boolean acquired = false;
+    worker = Thread.currentThread();
+    try {
+      if (cancelled) {
+        return;
+      }
+      if (concurrencyLimit != null) {
+        concurrencyLimit.acquire();
+        acquired = true;
+      }
+      LAG.record(System.nanoTime() - dueNanos, TimeUnit.NANOSECONDS);
+      task.run();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      if (acquired) {
+        concurrencyLimit.release();
+      }
+      worker = null;
+      schedule(delayMillis);
+    }
+  }
+}
@@ -6,21 +6,33 @@
  */
 package io.camunda.connector.http.polling.service;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Executors shared by all HTTP polling connectors.
+ *
+ * <p>Tasks are timed on a single scheduler thread, which must never block. Blocking work, i.e. the
+ * HTTP requests and process instance lookups, is handed over to virtual threads by wrapping it in
+ * an {@link OffloadedPollingTask}, so slow endpoints do not delay other polling tasks.
+ */
 public class SharedExecutorService {
   private static final Logger LOGGER = LoggerFactory.getLogger(SharedExecutorService.class);
 
   private static final SharedExecutorService INSTANCE = new SharedExecutorService();
-  private static final int THREAD_POOL_SIZE = 10;
 
   private final ScheduledExecutorService executorService;
+  private final ExecutorService workerExecutorService;
 
   private SharedExecutorService() {
-    this.executorService = Executors.newScheduledThreadPool(THREAD_POOL_SIZE);
+    this.executorService =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("http-polling-scheduler").daemon().factory());
+    this.workerExecutorService =
+        Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-polling-", 0).factory());
     addShutdownHook();
   }
 
@@ -34,12 +46,19 @@ public class SharedExecutorService {
             new Thread(
                 () -> {
                   executorService.shutdownNow();
+                  workerExecutorService.shutdownNow();
                   LOGGER.info("Shutdown hook activated, terminating executor service.");
                   Thread.currentThread().interrupt();
                 }));
   }
 
+  /** The scheduler used to time polling tasks. Tasks run on it must not block. */
   public ScheduledExecutorService getExecutorService() {
     return executorService;
   }
+
+  /** The virtual thread executor running the blocking part of polling tasks. */
+  public ExecutorService getWorkerExecutorService() {
+    return workerExecutorService;
+  }
 }
@@ -11,12 +11,15 @@ import io.camunda.connector.api.inbound.InboundIntermediateConnectorContext;
 import io.camunda.connector.api.inbound.ProcessInstanceContext;
 import io.camunda.connector.http.base.HttpService;
 import io.camunda.connector.http.polling.model.PollingActivationProperties;
+import io.camunda.connector.http.polling.service.OffloadedPollingTask;
 import io.camunda.connector.http.polling.service.SharedExecutorService;
+import io.camunda.connector.util.env.EnvironmentSettings;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,21 +31,69 @@ import org.slf4j.LoggerFactory;
 public class ProcessInstancesFetcherTask implements Runnable {
   private static final Logger LOGGER = LoggerFactory.getLogger(ProcessInstancesFetcherTask.class);
 
+  static final String MAX_CONCURRENT_REQUESTS_ENV =
+      "CONNECTOR_HTTP_POLLING_MAX_CONCURRENT_REQUESTS";
+
+  /**
+   * Upper bound of the random delay of the first request of a new process instance, so instances
+   * activated together do not poll in lockstep without postponing the first request by up to a
+   * full (possibly long) request interval.
+   */
+  static final Duration MAX_INITIAL_JITTER = Duration.ofSeconds(1);
+
   private final InboundIntermediateConnectorContext context;
   private final HttpService httpService;
   private final SharedExecutorService executorService;
   private final PollingActivationProperties config;
-  private final ConcurrentHashMap<String, ScheduledFuture<?>> runningHttpRequestTaskIds;
+  private final ConcurrentHashMap<String, OffloadedPollingTask> runningHttpRequestTaskIds;
+  private final Semaphore concurrentRequests;
+  private volatile OffloadedPollingTask fetcherTask;
 
   public ProcessInstancesFetcherTask(
       final InboundIntermediateConnectorContext context,
       final HttpService httpService,
       final SharedExecutorService executorService) {
+    this(context, httpService, executorService, Settings.fromEnvironment());
+  }
+
+  ProcessInstancesFetcherTask(
+      final InboundIntermediateConnectorContext context,
+      final HttpService httpService,
+      final SharedExecutorService executorService,
+      final Settings settings) {
     this.config = context.bindProperties(PollingActivationProperties.class);
     this.context = context;
     this.httpService = httpService;
     this.executorService = executorService;
     this.runningHttpRequestTaskIds = new ConcurrentHashMap<>();
+    this.concurrentRequests = new Semaphore(settings.maxConcurrentRequests());
+  }
+
+  /**
+   * Settings of the HTTP polling scheduler.
+   *
+   * @param maxConcurrentRequests maximum number of HTTP requests of one connector running at the
+   *     same time
+   */
+  record Settings(int maxConcurrentRequests) {
+
+    static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 50;
+
+    Settings {
+      if (maxConcurrentRequests < 1) {
+        throw new IllegalArgumentException(
+            "Maximum number of concurrent requests must be positive, got " + maxConcurrentRequests);
+      }
+    }
+
+    static Settings fromEnvironment() {
+      return new Settings(maxConcurrentRequests(System.getenv(MAX_CONCURRENT_REQUESTS_ENV)));
+    }
+
+    static int maxConcurrentRequests(String value) {
+      return EnvironmentSettings.parseInt(
+          MAX_CONCURRENT_REQUESTS_ENV, value, DEFAULT_MAX_CONCURRENT_REQUESTS, 1);
+    }
   }
 
   @Override
@@ -63,14 +114,14 @@ public class ProcessInstancesFetcherTask implements Runnable {
     List<String> activeTasks =
         processInstanceContexts.stream().map(p -> p.taskKey(prefix)).toList();
 
-    List<Map.Entry<String, ScheduledFuture<?>>> inactiveTasks =
+    List<Map.Entry<String, OffloadedPollingTask>> inactiveTasks =
         runningHttpRequestTaskIds.entrySet().stream()
             .filter(entry -> !activeTasks.contains(entry.getKey()))
             .toList();
 
     inactiveTasks.forEach(
         entry -> {
-          entry.getValue().cancel(true);
+          entry.getValue().cancel();
           runningHttpRequestTaskIds.remove(entry.getKey());
         });
   }
@@ -80,22 +131,39 @@ public class ProcessInstancesFetcherTask implements Runnable {
     runningHttpRequestTaskIds.computeIfAbsent(
         taskKey,
         (key) -> {
-          var task = new HttpRequestTask(httpService, processInstanceContext, context);
-          return this.executorService
-              .getExecutorService()
-              .scheduleWithFixedDelay(
-                  task, 0, config.getHttpRequestInterval().toMillis(), TimeUnit.MILLISECONDS);
+          var task =
+              new OffloadedPollingTask(
+                  new HttpRequestTask(httpService, processInstanceContext, context),
+                  executorService.getExecutorService(),
+                  executorService.getWorkerExecutorService(),
+                  concurrentRequests);
+          task.start(initialDelay(), config.getHttpRequestInterval());
+          return task;
         });
   }
 
+  private Duration initialDelay() {
+    long bound =
+        Math.min(config.getHttpRequestInterval().toMillis(), MAX_INITIAL_JITTER.toMillis());
+    return Duration.ofMillis(bound > 0 ? ThreadLocalRandom.current().nextLong(bound) : 0);
+  }
+
   public void start() {
-    executorService
-        .getExecutorService()
-        .scheduleWithFixedDelay(
-            this, 0, config.getProcessPollingInterval().toMillis(), TimeUnit.MILLISECONDS);
+    var task =
+        new OffloadedPollingTask(
+            this,
+            executorService.getExecutorService(),
+            executorService.getWorkerExecutorService(),
+            null);
+    fetcherTask = task;
+    task.start(Duration.ZERO, config.getProcessPollingInterval());
   }
 
   public void stop() {
-    runningHttpRequestTaskIds.values().forEach(task -> task.cancel(true));
+    var fetcher = fetcherTask;
+    if (fetcher != null) {
+      fetcher.cancel();
+    }
+    runningHttpRequestTaskIds.values().forEach(OffloadedPollingTask::cancel);
   }
 }
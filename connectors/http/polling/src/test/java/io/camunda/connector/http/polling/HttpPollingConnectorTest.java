@@ -14,7 +14,6 @@ import io.camunda.connector.api.inbound.InboundIntermediateConnectorContext;
 import io.camunda.connector.http.base.HttpService;
 import io.camunda.connector.http.polling.model.PollingActivationProperties;
 import io.camunda.connector.http.polling.service.SharedExecutorService;
-import io.camunda.connector.http.polling.task.ProcessInstancesFetcherTask;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,7 +25,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 public class HttpPollingConnectorTest {
 
-  private static final Long DEFAULT_PROCESS_POLLING_INTERVAL = 5000L;
   @Mock private HttpService httpService;
   @Mock private SharedExecutorService executorService;
   @Mock private InboundIntermediateConnectorContext context;
@@ -48,10 +46,6 @@ public class HttpPollingConnectorTest {
     httpPollingConnector.activate(context);
     // Then
     verify(mockScheduledExecutorService, times(1))
-        .scheduleWithFixedDelay(
-            any(ProcessInstancesFetcherTask.class),
-            eq(0L),
-            eq(DEFAULT_PROCESS_POLLING_INTERVAL),
-            eq(TimeUnit.MILLISECONDS));
+        .schedule(any(Runnable.class), eq(0L), eq(TimeUnit.MILLISECONDS));
   }
 }
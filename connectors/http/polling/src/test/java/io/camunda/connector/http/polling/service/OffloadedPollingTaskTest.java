@@ -0,0 +1,159 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.http.polling.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OffloadedPollingTaskTest {
+
+  private final List<Runnable> scheduled = new ArrayList<>();
+  private final List<Long> delays = new ArrayList<>();
+  private final List<Runnable> submitted = new ArrayList<>();
+  private final ScheduledFuture<?> future = mock(ScheduledFuture.class);
+  private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+
+  @BeforeEach
+  void setUp() {
+    doAnswer(
+            invocation -> {
+              scheduled.add(invocation.getArgument(0));
+              delays.add(invocation.getArgument(1));
+              return future;
+            })
+        .when(scheduler)
+        .schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  void shouldRunTaskOnWorkerExecutor() {
+    var runs = new AtomicInteger();
+    var task = new OffloadedPollingTask(runs::incrementAndGet, scheduler, submitted::add, null);
+
+    task.start(Duration.ofMillis(10), Duration.ofMillis(100));
+    runScheduled();
+
+    assertThat(runs).hasValue(0);
+    runSubmitted();
+    assertThat(runs).hasValue(1);
+    assertThat(delays).containsExactly(10L, 100L);
+  }
+
+  @Test
+  void shouldScheduleNextRun_onlyWhenPreviousRunHasFinished() {
+    var runs = new AtomicInteger();
+    var task = new OffloadedPollingTask(runs::incrementAndGet, scheduler, submitted::add, null);
+
+    task.start(Duration.ZERO, Duration.ofMillis(100));
+    runScheduled();
+
+    // the run is dispatched, but still waiting for a worker thread
+    assertThat(scheduled).isEmpty();
+    runSubmitted();
+    assertThat(scheduled).hasSize(1);
+    runScheduled();
+    runSubmitted();
+
+    assertThat(runs).hasValue(2);
+    assertThat(delays).containsExactly(0L, 100L, 100L);
+  }
+
+  @Test
+  void shouldReleaseConcurrencyPermit_whenTaskFails() {
+    var permits = new Semaphore(1);
+    var task =
+        new OffloadedPollingTask(
+            () -> {
+              throw new IllegalStateException("expected");
+            },
+            scheduler,
+            submitted::add,
+            permits);
+
+    task.start(Duration.ZERO, Duration.ofMillis(100));
+    runScheduled();
+    try {
+      runSubmitted();
+    } catch (IllegalStateException e) {
+      // expected
+    }
+
+    assertThat(permits.availablePermits()).isEqualTo(1);
+    assertThat(scheduled).hasSize(1);
+  }
+
+  @Test
+  void shouldInterruptRunInProgress_whenCancelled() throws Exception {
+    var started = new CountDownLatch(1);
+    var interrupted = new CountDownLatch(1);
+    var task =
+        new OffloadedPollingTask(
+            () -> {
+              started.countDown();
+              try {
+                Thread.sleep(Duration.ofMinutes(1));
+              } catch (InterruptedException e) {
+                interrupted.countDown();
+              }
+            },
+            scheduler,
+            command -> Thread.ofVirtual().start(command),
+            null);
+
+    task.start(Duration.ZERO, Duration.ofMillis(100));
+    runScheduled();
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    task.cancel();
+
+    assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shouldNotRunAgain_whenCancelled() {
+    var runs = new AtomicInteger();
+    var task = new OffloadedPollingTask(runs::incrementAndGet, scheduler, submitted::add, null);
+
+    task.start(Duration.ZERO, Duration.ofMillis(100));
+    runScheduled();
+    task.cancel();
+    runSubmitted();
+    runScheduled();
+    runSubmitted();
+
+    assertThat(runs).hasValue(0);
+    assertThat(scheduled).isEmpty();
+    verify(future).cancel(false);
+  }
+
+  private void runScheduled() {
+    var tasks = List.copyOf(scheduled);
+    scheduled.clear();
+    tasks.forEach(Runnable::run);
+  }
+
+  private void runSubmitted() {
+    var tasks = List.copyOf(submitted);
+    submitted.clear();
+    tasks.forEach(Runnable::run);
+  }
+}
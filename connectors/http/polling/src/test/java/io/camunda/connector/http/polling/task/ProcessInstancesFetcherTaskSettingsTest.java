@@ -0,0 +1,32 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.http.polling.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.connector.http.polling.task.ProcessInstancesFetcherTask.Settings;
+import org.junit.jupiter.api.Test;
+
+class ProcessInstancesFetcherTaskSettingsTest {
+
+  @Test
+  void shouldUseConfiguredConcurrency() {
+    assertThat(Settings.maxConcurrentRequests(" 5 ")).isEqualTo(5);
+  }
+
+  @Test
+  void shouldFallBackToDefaultConcurrency_whenNotConfiguredOrInvalid() {
+    assertThat(Settings.maxConcurrentRequests(null))
+        .isEqualTo(Settings.DEFAULT_MAX_CONCURRENT_REQUESTS);
+    assertThat(Settings.maxConcurrentRequests("0"))
+        .isEqualTo(Settings.DEFAULT_MAX_CONCURRENT_REQUESTS);
+    assertThat(Settings.maxConcurrentRequests("-1"))
+        .isEqualTo(Settings.DEFAULT_MAX_CONCURRENT_REQUESTS);
+    assertThat(Settings.maxConcurrentRequests("many"))
+        .isEqualTo(Settings.DEFAULT_MAX_CONCURRENT_REQUESTS);
+  }
+}
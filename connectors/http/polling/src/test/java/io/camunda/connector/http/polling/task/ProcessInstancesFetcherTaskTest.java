@@ -9,6 +9,7 @@ package io.camunda.connector.http.polling.task;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -76,12 +77,13 @@ public class ProcessInstancesFetcherTaskTest {
     when(mockContext.getProcessInstanceContexts()).thenReturn(List.of(mockProcessInstanceContext1));
     doReturn((ScheduledFuture<?>) mockScheduledFuture)
         .when(mockScheduledExecutorService)
-        .scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+        .schedule(any(Runnable.class), anyLong(), any());
     // when
     task.run();
     // then
     verify(mockScheduledExecutorService, times(1))
-        .scheduleWithFixedDelay(any(Runnable.class), eq(0L), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        .schedule(
+            any(Runnable.class), longThat(delay -> delay < 1000L), eq(TimeUnit.MILLISECONDS));
   }
 
   @Test
@@ -90,7 +92,7 @@ public class ProcessInstancesFetcherTaskTest {
     when(mockProcessInstanceContext1.getKey()).thenReturn(1L);
     doReturn((ScheduledFuture<?>) mockScheduledFuture)
         .when(mockScheduledExecutorService)
-        .scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+        .schedule(any(Runnable.class), anyLong(), any());
     when(mockContext.getProcessInstanceContexts())
         .thenReturn(Collections.singletonList(mockProcessInstanceContext1));
     // when run twice
@@ -99,7 +101,8 @@ public class ProcessInstancesFetcherTaskTest {
 
     // then schedule only once
     verify(mockScheduledExecutorService, times(1))
-        .scheduleWithFixedDelay(any(Runnable.class), eq(0L), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        .schedule(
+            any(Runnable.class), longThat(delay -> delay < 1000L), eq(TimeUnit.MILLISECONDS));
   }
 
   @Test
@@ -113,7 +116,7 @@ public class ProcessInstancesFetcherTaskTest {
 
     doReturn((ScheduledFuture<?>) mockScheduledFuture)
         .when(mockScheduledExecutorService)
-        .scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+        .schedule(any(Runnable.class), anyLong(), any());
 
     when(mockContext.getProcessInstanceContexts())
         .thenReturn(List.of(mockProcessInstanceContext1, mockProcessInstanceContext2));
@@ -123,7 +126,8 @@ public class ProcessInstancesFetcherTaskTest {
 
     // then: a distinct HTTP request task is scheduled per element instance
     verify(mockScheduledExecutorService, times(2))
-        .scheduleWithFixedDelay(any(Runnable.class), eq(0L), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        .schedule(
+            any(Runnable.class), longThat(delay -> delay < 1000L), eq(TimeUnit.MILLISECONDS));
   }
 
   @Test
@@ -136,7 +140,7 @@ public class ProcessInstancesFetcherTaskTest {
 
     doReturn((ScheduledFuture<?>) mockScheduledFuture)
         .when(mockScheduledExecutorService)
-        .scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+        .schedule(any(Runnable.class), anyLong(), any());
 
     // First tick has both tokens; second tick has only the surviving one
     when(mockContext.getProcessInstanceContexts())
@@ -148,7 +152,7 @@ public class ProcessInstancesFetcherTaskTest {
     task.run();
 
     // then: the completed token's task is cancelled exactly once
-    verify(mockScheduledFuture, times(1)).cancel(true);
+    verify(mockScheduledFuture, times(1)).cancel(false);
   }
 
   @Test
@@ -159,7 +163,7 @@ public class ProcessInstancesFetcherTaskTest {
 
     doReturn((ScheduledFuture<?>) mockScheduledFuture)
         .when(mockScheduledExecutorService)
-        .scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+        .schedule(any(Runnable.class), anyLong(), any());
 
     when(mockContext.getProcessInstanceContexts())
         .thenReturn(
@@ -180,7 +184,7 @@ public class ProcessInstancesFetcherTaskTest {
     task.run();
 
     // Then verify that the task was canceled
-    verify(mockScheduledFuture, times(1)).cancel(true);
+    verify(mockScheduledFuture, times(1)).cancel(false);
   }
 
   @Test
@@ -192,7 +196,7 @@ public class ProcessInstancesFetcherTaskTest {
         .thenReturn(List.of(mockProcessInstanceContext1, mockProcessInstanceContext2));
     doReturn((ScheduledFuture<?>) mockScheduledFuture)
         .when(mockScheduledExecutorService)
-        .scheduleWithFixedDelay(any(), anyLong(), anyLong(), any());
+        .schedule(any(Runnable.class), anyLong(), any());
 
     // Run task to add new tasks
     task.run();
@@ -201,6 +205,6 @@ public class ProcessInstancesFetcherTaskTest {
     task.stop();
 
     // then
-    verify(mockScheduledFuture, times(2)).cancel(true);
+    verify(mockScheduledFuture, times(2)).cancel(false);
   }
 }
@@ -6,12 +6,12 @@
  */
 package io.camunda.connector.jdbc.utils;
 
+import com.zaxxer.hikari.pool.HikariPool.PoolInitializationException;
 import io.camunda.connector.api.error.ConnectorException;
 import io.camunda.connector.jdbc.model.request.JdbcRequest;
 import io.camunda.connector.jdbc.model.request.SupportedDatabase;
 import io.camunda.connector.jdbc.model.request.connection.JdbcConnection;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,7 +20,15 @@ public class ConnectionHelper {
 
   private static final Logger LOG = LoggerFactory.getLogger(ConnectionHelper.class);
 
+  /**
+   * Borrows a connection for the given request from the {@link JdbcDataSourceRegistry#getDefault()
+   * shared pool}. Closing the connection returns it to the pool.
+   */
   public static Connection openConnection(JdbcRequest request) {
+    return openConnection(request, JdbcDataSourceRegistry.getDefault());
+  }
+
+  public static Connection openConnection(JdbcRequest request, JdbcDataSourceRegistry registry) {
     SupportedDatabase database = request.database();
     String driverClassName = database.getDriverClassName();
     try {
@@ -29,7 +37,8 @@ public class ConnectionHelper {
       Class.forName(driverClassName);
       JdbcConnection connection = resolveConnection(request);
       Connection conn =
-          DriverManager.getConnection(
+          registry.getConnection(
+              database,
               ensureMySQLCompatibleUrl(connection.getConnectionString(database), database),
               connection.getProperties());
       LOG.debug("Connection established for Database {}: {}", database, conn);
@@ -38,6 +47,9 @@ public class ConnectionHelper {
       throw new ConnectorException("Cannot find class: " + driverClassName);
     } catch (SQLException e) {
       throw new ConnectorException("Cannot create the Database connection: " + e.getMessage());
+    } catch (PoolInitializationException e) {
+      var cause = e.getCause() != null ? e.getCause() : e;
+      throw new ConnectorException("Cannot create the Database connection: " + cause.getMessage());
     }
   }
 
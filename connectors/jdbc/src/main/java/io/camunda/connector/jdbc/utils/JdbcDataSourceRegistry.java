@@ -0,0 +1,197 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.jdbc.utils;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.camunda.connector.jdbc.model.request.SupportedDatabase;
+import io.camunda.connector.util.cache.CacheKeys;
+import io.camunda.connector.util.cache.KeyedResourceCache;
+import io.camunda.connector.util.env.EnvironmentSettings;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps one pooled {@link HikariDataSource} per database, connection string and connection
+ * properties (including the credentials), so that SQL jobs against the same database reuse open
+ * connections instead of paying for TCP, TLS and authentication on every job.
+ *
+ * <p>Pools are created lazily, do not keep idle connections open and are closed once they have not
+ * been used for {@link Settings#poolExpiry()}. Pool metrics are exposed via JMX and {@link
+ * #getStats()}. This class is thread-safe.
+ */
+public class JdbcDataSourceRegistry {
+
+  static final String MAX_POOL_SIZE_ENV = "CONNECTOR_JDBC_POOL_MAX_SIZE";
+  static final String IDLE_TIMEOUT_ENV = "CONNECTOR_JDBC_POOL_IDLE_TIMEOUT_SECONDS";
+  static final String LEAK_DETECTION_THRESHOLD_ENV =
+      "CONNECTOR_JDBC_POOL_LEAK_DETECTION_THRESHOLD_SECONDS";
+
+  private static final Logger LOG = LoggerFactory.getLogger(JdbcDataSourceRegistry.class);
+  private static final int MAX_POOLS = 100;
+
+  /** Delay between two attempts to close an evicted pool that still has active connections. */
+  private static final Duration CLOSE_RETRY_DELAY = Duration.ofSeconds(30);
+
+  private final Settings settings;
+  private final KeyedResourceCache<HikariDataSource> dataSources;
+
+  /**
+   * Settings applied to every pool of the registry.
+   *
+   * @param maxPoolSize maximum number of connections of one pool, at least 1
+   * @param idleTimeout time after which an idle connection is closed
+   * @param leakDetectionThreshold time a connection may be leased before a leak is logged, {@link
+   *     Duration#ZERO} to disable leak detection
+   * @param poolExpiry time after which an unused pool is closed
+   */
+  public record Settings(
+      int maxPoolSize, Duration idleTimeout, Duration leakDetectionThreshold, Duration poolExpiry) {
+
+    public static final Settings DEFAULT =
+        new Settings(10, Duration.ofMinutes(5), Duration.ZERO, Duration.ofMinutes(30));
+
+    /** Reads the settings from the {@code CONNECTOR_JDBC_POOL_*} environment variables. */
+    public static Settings fromEnvironment() {
+      return new Settings(
+          EnvironmentSettings.getInt(MAX_POOL_SIZE_ENV, DEFAULT.maxPoolSize(), 1),
+          EnvironmentSettings.getSeconds(IDLE_TIMEOUT_ENV, DEFAULT.idleTimeout(), true),
+          EnvironmentSettings.getSeconds(
+              LEAK_DETECTION_THRESHOLD_ENV, DEFAULT.leakDetectionThreshold(), true),
+          DEFAULT.poolExpiry());
+    }
+  }
+
+  /** Aggregated statistics of all pools in the registry. */
+  public record Stats(long pools, int active, int idle, int pending, int total) {}
+
+  public JdbcDataSourceRegistry(Settings settings) {
+    this.settings = settings;
+    this.dataSources =
+        new KeyedResourceCache<>(
+            "JDBC pool",
+            MAX_POOLS,
+            settings.poolExpiry(),
+            JdbcDataSourceRegistry::closeWhenReleased,
+            JdbcDataSourceRegistry::closeQuietly);
+  }
+
+  /** Returns the registry shared by all JDBC connectors of this JVM. */
+  public static JdbcDataSourceRegistry getDefault() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  /**
+   * Borrows a connection from the pool for the given database, connection string and properties,
+   * creating the pool on first use. The caller must close the connection to return it to the pool.
+   *
+   * @throws SQLException if no connection could be established
+   */
+  public Connection getConnection(
+      SupportedDatabase database, String connectionString, Properties properties)
+      throws SQLException {
+    var key = cacheKey(database, connectionString, properties);
+    var dataSource =
+        dataSources.get(key, k -> createDataSource(k, database, connectionString, properties));
+    return dataSource.getConnection();
+  }
+
+  /** Returns the aggregated pool statistics, e.g. for diagnostics. */
+  public Stats getStats() {
+    int active = 0;
+    int idle = 0;
+    int pending = 0;
+    int total = 0;
+    for (HikariDataSource dataSource : dataSources.values()) {
+      var pool = dataSource.getHikariPoolMXBean();
+      if (pool != null) {
+        active += pool.getActiveConnections();
+        idle += pool.getIdleConnections();
+        pending += pool.getThreadsAwaitingConnection();
+        total += pool.getTotalConnections();
+      }
+    }
+    return new Stats(dataSources.estimatedSize(), active, idle, pending, total);
+  }
+
+  /** Closes all pools. */
+  public void closeAll() {
+    dataSources.closeAll();
+  }
+
+  private HikariDataSource createDataSource(
+      String key, SupportedDatabase database, String connectionString, Properties properties) {
+    var config = new HikariConfig();
+    // the key is a hash, so the pool name does not leak the connection string or credentials
+    config.setPoolName("connector-jdbc-" + key.substring(0, 12));
+    // the driver is resolved via DriverManager, it has been loaded by ConnectionHelper
+    config.setJdbcUrl(connectionString);
+    config.setDataSourceProperties(properties);
+    config.setMaximumPoolSize(settings.maxPoolSize());
+    config.setMinimumIdle(0);
+    config.setIdleTimeout(settings.idleTimeout().toMillis());
+    config.setLeakDetectionThreshold(settings.leakDetectionThreshold().toMillis());
+    config.setRegisterMbeans(true);
+    LOG.debug("Creating JDBC pool {} for database {}", config.getPoolName(), database);
+    return new HikariDataSource(config);
+  }
+
+  /**
+   * Closes an evicted pool once no connection is leased anymore, so that running queries are not
+   * cut off.
+   */
+  private static void closeWhenReleased(HikariDataSource dataSource) {
+    var pool = dataSource.getHikariPoolMXBean();
+    if (pool != null && pool.getActiveConnections() > 0) {
+      CompletableFuture.runAsync(
+          () -> closeWhenReleased(dataSource),
+          CompletableFuture.delayedExecutor(CLOSE_RETRY_DELAY.toSeconds(), TimeUnit.SECONDS));
+      return;
+    }
+    closeQuietly(dataSource);
+  }
+
+  private static void closeQuietly(HikariDataSource dataSource) {
+    try {
+      dataSource.close();
+    } catch (Exception e) {
+      LOG.warn("Failed to close JDBC pool {}", dataSource.getPoolName(), e);
+    }
+  }
+
+  /**
+   * Computes a SHA-256 hash of the database, connection string and sorted connection properties to
+   * use as the cache key. This ensures that credentials are never kept in plain text by the
+   * registry.
+   */
+  static String cacheKey(
+      SupportedDatabase database, String connectionString, Properties properties) {
+    var parts = new ArrayList<String>();
+    parts.add(database.name());
+    parts.add(connectionString);
+    parts.addAll(CacheKeys.sortedEntries(properties));
+    return CacheKeys.sha256(parts);
+  }
+
+  private static final class DefaultHolder {
+    private static final JdbcDataSourceRegistry INSTANCE = createDefault();
+
+    private static JdbcDataSourceRegistry createDefault() {
+      var registry = new JdbcDataSourceRegistry(Settings.fromEnvironment());
+      Runtime.getRuntime()
+          .addShutdownHook(new Thread(registry::closeAll, "jdbc-pool-registry-shutdown"));
+      return registry;
+    }
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.jdbc.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.connector.jdbc.model.request.SupportedDatabase;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class JdbcDataSourceRegistryTest {
+
+  private static final String URL = "jdbc:postgresql://localhost:5432/db";
+  private static final String FAKE_URL = "jdbc:fake://localhost/db";
+  private static final FakeDriver DRIVER = new FakeDriver();
+
+  @BeforeAll
+  static void registerDriver() throws SQLException {
+    DriverManager.registerDriver(DRIVER);
+  }
+
+  @AfterAll
+  static void deregisterDriver() throws SQLException {
+    DriverManager.deregisterDriver(DRIVER);
+  }
+
+  private static Properties credentials(String password) {
+    var properties = new Properties();
+    properties.put("user", "user");
+    properties.put("password", password);
+    return properties;
+  }
+
+  @Test
+  void shouldComputeSameKey_whenConnectionIsEqual() {
+    var first =
+        JdbcDataSourceRegistry.cacheKey(SupportedDatabase.POSTGRESQL, URL, credentials("a"));
+    var second =
+        JdbcDataSourceRegistry.cacheKey(SupportedDatabase.POSTGRESQL, URL, credentials("a"));
+
+    assertThat(second).isEqualTo(first);
+  }
+
+  @Test
+  void shouldComputeDifferentKeys_whenCredentialsOrDatabaseDiffer() {
+    var key = JdbcDataSourceRegistry.cacheKey(SupportedDatabase.POSTGRESQL, URL, credentials("a"));
+
+    assertThat(JdbcDataSourceRegistry.cacheKey(SupportedDatabase.POSTGRESQL, URL, credentials("b")))
+        .isNotEqualTo(key);
+    assertThat(JdbcDataSourceRegistry.cacheKey(SupportedDatabase.MYSQL, URL, credentials("a")))
+        .isNotEqualTo(key);
+  }
+
+  @Test
+  void shouldNotExposeCredentials_inCacheKey() {
+    var key =
+        JdbcDataSourceRegistry.cacheKey(SupportedDatabase.POSTGRESQL, URL, credentials("secret"));
+
+    assertThat(key).doesNotContain("secret").hasSize(64);
+  }
+
+  @Test
+  void shouldReportNoPools_whenUnused() {
+    var registry = new JdbcDataSourceRegistry(JdbcDataSourceRegistry.Settings.DEFAULT);
+
+    assertThat(registry.getStats().pools()).isZero();
+  }
+
+  @Test
+  void shouldReusePool_whenConfigurationIsEqual_andCreatePoolPerCredentials() throws Exception {
+    var registry = new JdbcDataSourceRegistry(JdbcDataSourceRegistry.Settings.DEFAULT);
+    try {
+      registry.getConnection(SupportedDatabase.POSTGRESQL, FAKE_URL, credentials("a")).close();
+      registry.getConnection(SupportedDatabase.POSTGRESQL, FAKE_URL, credentials("a")).close();
+
+      assertThat(registry.getStats().pools()).isEqualTo(1);
+
+      registry.getConnection(SupportedDatabase.POSTGRESQL, FAKE_URL, credentials("b")).close();
+
+      assertThat(registry.getStats().pools()).isEqualTo(2);
+      assertThat(DRIVER.passwords).contains("a", "b");
+    } finally {
+      registry.closeAll();
+    }
+  }
+
+  /** Driver handing out mocked connections, so pools can be created without a database. */
+  private static final class FakeDriver implements Driver {
+
+    private final List<String> passwords = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Connection connect(String url, Properties info) throws SQLException {
+      if (!acceptsURL(url)) {
+        return null;
+      }
+      passwords.add(info.getProperty("password"));
+      var connection = mock(Connection.class);
+      when(connection.isValid(anyInt())).thenReturn(true);
+      when(connection.getAutoCommit()).thenReturn(true);
+      return connection;
+    }
+
+    @Override
+    public boolean acceptsURL(String url) {
+      return url.startsWith("jdbc:fake:");
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+      return new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion() {
+      return 1;
+    }
+
+    @Override
+    public int getMinorVersion() {
+      return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+      return false;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+      throw new SQLFeatureNotSupportedException();
+    }
+  }
+}
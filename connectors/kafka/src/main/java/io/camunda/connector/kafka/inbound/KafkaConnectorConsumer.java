@@ -37,6 +37,7 @@ import java.util.concurrent.*;
 import java.util.function.Function;
 import org.apache.avro.Schema;
 import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.slf4j.Logger;
@@ -45,6 +46,7 @@ import org.slf4j.LoggerFactory;
 public class KafkaConnectorConsumer {
 
   private static final Logger LOG = LoggerFactory.getLogger(KafkaConnectorConsumer.class);
+  private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(10);
   public static ObjectMapper objectMapper =
       new ObjectMapper()
           .registerModule(new Jdk8Module())
@@ -59,6 +61,7 @@ public class KafkaConnectorConsumer {
   private final ExecutorService executorService;
   private final RetryPolicy<Object> retryPolicy;
   private final Function<Properties, Consumer<Object, Object>> consumerCreatorFunction;
+  private final PartitionedRecordProcessor.Settings parallelSettings;
   public CompletableFuture<?> future;
   KafkaConnectorProperties elementProps;
   boolean shouldLoop = true;
@@ -70,11 +73,26 @@ public class KafkaConnectorConsumer {
       final InboundConnectorContext connectorContext,
       final KafkaConnectorProperties elementProps,
       final RetryPolicy<Object> retryPolicy) {
+    this(
+        consumerCreatorFunction,
+        connectorContext,
+        elementProps,
+        retryPolicy,
+        PartitionedRecordProcessor.Settings.fromEnvironment());
+  }
+
+  KafkaConnectorConsumer(
+      final Function<Properties, Consumer<Object, Object>> consumerCreatorFunction,
+      final InboundConnectorContext connectorContext,
+      final KafkaConnectorProperties elementProps,
+      final RetryPolicy<Object> retryPolicy,
+      final PartitionedRecordProcessor.Settings parallelSettings) {
     this.consumerCreatorFunction = consumerCreatorFunction;
     this.context = connectorContext;
     this.elementProps = elementProps;
     this.executorService = Executors.newSingleThreadExecutor();
     this.retryPolicy = retryPolicy;
+    this.parallelSettings = parallelSettings;
   }
 
   public void startConsumer() {
@@ -87,8 +105,9 @@ public class KafkaConnectorConsumer {
 
     CheckedSupplier<Void> retryableFutureSupplier =
         () -> {
-          try (Consumer<Object, Object> consumer = prepareConsumer()) {
-            consume(consumer);
+          try (var processor = createPartitionedProcessor();
+              Consumer<Object, Object> consumer = prepareConsumer(processor)) {
+            consume(consumer, processor);
             return null;
           } catch (Exception ex) {
             LOG.warn("Consumer loop failure, retry pending: {}", ex.getMessage(), ex);
@@ -108,13 +127,24 @@ public class KafkaConnectorConsumer {
                 });
   }
 
-  private Consumer<Object, Object> prepareConsumer() {
+  private PartitionedRecordProcessor createPartitionedProcessor() {
+    if (!parallelSettings.enabled()) {
+      return null;
+    }
+    return new PartitionedRecordProcessor(
+        this::handleMessage, parallelSettings.maxPendingRecords());
+  }
+
+  private Consumer<Object, Object> prepareConsumer(PartitionedRecordProcessor processor) {
     try {
       var consumer = consumerCreatorFunction.apply(getKafkaProperties(elementProps, context));
       String topicName = elementProps.topic().topicName();
-      consumer.subscribe(
-          List.of(topicName),
-          new OffsetUpdateRequiredListener(topicName, consumer, elementProps.offsets()));
+      ConsumerRebalanceListener listener =
+          new OffsetUpdateRequiredListener(topicName, consumer, elementProps.offsets());
+      if (processor != null) {
+        listener = processor.rebalanceListener(consumer, listener, DRAIN_TIMEOUT);
+      }
+      consumer.subscribe(List.of(topicName), listener);
       reportUp(consumer);
 
       return consumer;
@@ -131,15 +161,26 @@ public class KafkaConnectorConsumer {
   }
 
   public void consume(Consumer<Object, Object> consumer) {
+    consume(consumer, null);
+  }
+
+  void consume(Consumer<Object, Object> consumer, PartitionedRecordProcessor processor) {
     while (shouldLoop) {
       try {
-        pollAndPublish(consumer);
+        if (processor != null) {
+          pollAndSubmit(consumer, processor);
+        } else {
+          pollAndPublish(consumer);
+        }
         reportUp(consumer);
       } catch (Exception ex) {
         reportDown(ex);
         throw ex;
       }
     }
+    if (processor != null) {
+      processor.drain(consumer, DRAIN_TIMEOUT);
+    }
     LOG.debug("Kafka inbound loop finished");
   }
 
@@ -154,6 +195,20 @@ public class KafkaConnectorConsumer {
     }
   }
 
+  /**
+   * Hands the polled records to the partitioned processor instead of correlating them on the
+   * consumer thread. Offsets are committed as records complete, and partitions with too many
+   * pending records are paused.
+   */
+  private void pollAndSubmit(
+      Consumer<Object, Object> consumer, PartitionedRecordProcessor processor) {
+    LOG.trace("Polling the topics: {}", consumer.assignment());
+    processor.submit(consumer.poll(Duration.ofMillis(500)));
+    processor.commitCompleted(consumer);
+    processor.throwIfFailed();
+    processor.applyBackpressure(consumer);
+  }
+
   private void handleMessage(ConsumerRecord<Object, Object> record) {
     LOG.trace("Kafka message received: key = {}, value = {}", record.key(), record.value());
     context.log(
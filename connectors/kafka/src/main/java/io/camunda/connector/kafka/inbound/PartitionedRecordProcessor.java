@@ -0,0 +1,255 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.kafka.inbound;
+
+import io.camunda.connector.util.env.EnvironmentSettings;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes polled records of different partitions in parallel on virtual threads, while the
+ * records of one partition are processed one after another in offset order.
+ *
+ * <p>All methods except the record handler are called from the consumer thread, as the Kafka
+ * {@link Consumer} is not thread-safe. The offsets of completed records are committed per
+ * partition, and partitions with too many pending records are paused until their backlog has been
+ * halved. If a record fails, the following records of its partition are skipped and the failure is
+ * rethrown on the consumer thread after the completed offsets have been committed, so the consumer
+ * restarts from the failed record.
+ */
+class PartitionedRecordProcessor implements AutoCloseable {
+
+  static final String ENABLED_ENV = "CONNECTOR_KAFKA_INBOUND_PARALLEL_PARTITIONS_ENABLED";
+  static final String MAX_PENDING_RECORDS_ENV =
+      "CONNECTOR_KAFKA_INBOUND_MAX_PENDING_RECORDS_PER_PARTITION";
+
+  /** Time records in progress are given to finish when the processor is closed. */
+  static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
+
+  private static final Logger LOG = LoggerFactory.getLogger(PartitionedRecordProcessor.class);
+
+  private final java.util.function.Consumer<ConsumerRecord<Object, Object>> recordHandler;
+  private final int maxPendingRecords;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final Map<TopicPartition, PartitionState> partitions = new HashMap<>();
+  private final Set<TopicPartition> pausedPartitions = new HashSet<>();
+
+  /**
+   * Settings of the parallel processing mode.
+   *
+   * @param enabled whether partitions are processed in parallel
+   * @param maxPendingRecords number of pending records after which a partition is paused, at
+   *     least 1
+   */
+  record Settings(boolean enabled, int maxPendingRecords) {
+
+    static final int DEFAULT_MAX_PENDING_RECORDS = 500;
+
+    static Settings fromEnvironment() {
+      return new Settings(
+          EnvironmentSettings.getBoolean(ENABLED_ENV, false),
+          EnvironmentSettings.getInt(MAX_PENDING_RECORDS_ENV, DEFAULT_MAX_PENDING_RECORDS, 1));
+    }
+  }
+
+  private static final class PartitionState {
+    private final AtomicInteger pendingRecords = new AtomicInteger();
+    private final AtomicReference<OffsetAndMetadata> completedOffset = new AtomicReference<>();
+    private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+    private OffsetAndMetadata committedOffset;
+  }
+
+  PartitionedRecordProcessor(
+      java.util.function.Consumer<ConsumerRecord<Object, Object>> recordHandler,
+      int maxPendingRecords) {
+    this.recordHandler = recordHandler;
+    this.maxPendingRecords = maxPendingRecords;
+  }
+
+  /** Schedules the records of a poll, appending them to the queue of their partition. */
+  void submit(ConsumerRecords<Object, Object> records) {
+    for (TopicPartition partition : records.partitions()) {
+      var state = partitions.computeIfAbsent(partition, p -> new PartitionState());
+      for (ConsumerRecord<Object, Object> record : records.records(partition)) {
+        state.pendingRecords.incrementAndGet();
+        state.tail =
+            state.tail.thenRunAsync(
+                () -> {
+                  recordHandler.accept(record);
+                  state.completedOffset.set(new OffsetAndMetadata(record.offset() + 1));
+                  state.pendingRecords.decrementAndGet();
+                },
+                executor);
+      }
+    }
+  }
+
+  /** Commits the offsets of all records that completed since the last commit. */
+  void commitCompleted(Consumer<Object, Object> consumer) {
+    var offsets = new HashMap<TopicPartition, OffsetAndMetadata>();
+    partitions.forEach(
+        (partition, state) -> {
+          var completed = state.completedOffset.get();
+          if (completed != null && !completed.equals(state.committedOffset)) {
+            offsets.put(partition, completed);
+          }
+        });
+    if (!offsets.isEmpty()) {
+      consumer.commitSync(offsets);
+      offsets.forEach((partition, offset) -> partitions.get(partition).committedOffset = offset);
+    }
+  }
+
+  /** Rethrows the failure of a record, if processing of any partition failed. */
+  void throwIfFailed() {
+    for (PartitionState state : partitions.values()) {
+      if (state.tail.isCompletedExceptionally()) {
+        try {
+          state.tail.join();
+        } catch (CompletionException e) {
+          if (e.getCause() instanceof RuntimeException cause) {
+            throw cause;
+          }
+          throw e;
+        }
+      }
+    }
+  }
+
+  /** Pauses partitions with too many pending records and resumes them once they caught up. */
+  void applyBackpressure(Consumer<Object, Object> consumer) {
+    List<TopicPartition> toPause = new ArrayList<>();
+    List<TopicPartition> toResume = new ArrayList<>();
+    partitions.forEach(
+        (partition, state) -> {
+          int pending = state.pendingRecords.get();
+          if (pending >= maxPendingRecords && pausedPartitions.add(partition)) {
+            toPause.add(partition);
+          } else if (pending <= maxPendingRecords / 2 && pausedPartitions.remove(partition)) {
+            toResume.add(partition);
+          }
+        });
+    if (!toPause.isEmpty()) {
+      LOG.debug("Pausing partitions {} until pending records are processed", toPause);
+      consumer.pause(toPause);
+    }
+    if (!toResume.isEmpty()) {
+      LOG.debug("Resuming partitions {}", toResume);
+      consumer.resume(toResume);
+    }
+  }
+
+  /**
+   * Waits for the pending records of all partitions and commits their offsets, e.g. before the
+   * consumer is closed.
+   */
+  void drain(Consumer<Object, Object> consumer, Duration timeout) {
+    awaitPartitions(partitions.keySet(), timeout);
+    commitCompleted(consumer);
+  }
+
+  /**
+   * Wraps the given listener so that, before partitions are revoked, their pending records are
+   * processed and their offsets committed. Lost partitions are dropped without committing, as
+   * their new owner continues from the last committed offset.
+   */
+  ConsumerRebalanceListener rebalanceListener(
+      Consumer<Object, Object> consumer, ConsumerRebalanceListener delegate, Duration timeout) {
+    return new ConsumerRebalanceListener() {
+      @Override
+      public void onPartitionsRevoked(Collection<TopicPartition> revoked) {
+        awaitPartitions(revoked, timeout);
+        try {
+          commitCompleted(consumer);
+        } catch (Exception e) {
+          LOG.warn("Failed to commit offsets of revoked partitions {}", revoked, e);
+        }
+        forget(revoked);
+        delegate.onPartitionsRevoked(revoked);
+      }
+
+      @Override
+      public void onPartitionsLost(Collection<TopicPartition> lost) {
+        forget(lost);
+        delegate.onPartitionsLost(lost);
+      }
+
+      @Override
+      public void onPartitionsAssigned(Collection<TopicPartition> assigned) {
+        delegate.onPartitionsAssigned(assigned);
+      }
+    };
+  }
+
+  /**
+   * Stops processing further records and waits up to {@link #CLOSE_TIMEOUT} for the records in
+   * progress, so a failure of one partition does not interrupt the records of other partitions.
+   * Records still running after the timeout are interrupted.
+   */
+  @Override
+  public void close() {
+    executor.shutdown();
+    try {
+      if (!executor.awaitTermination(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+        LOG.warn("Records in progress not processed within {}, interrupting them", CLOSE_TIMEOUT);
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  int pendingRecords(TopicPartition partition) {
+    var state = partitions.get(partition);
+    return state != null ? state.pendingRecords.get() : 0;
+  }
+
+  private void awaitPartitions(Collection<TopicPartition> toAwait, Duration timeout) {
+    var tails =
+        toAwait.stream()
+            .map(partitions::get)
+            .filter(Objects::nonNull)
+            // failures are handled by throwIfFailed, only wait for completion here
+            .map(state -> state.tail.exceptionally(e -> null))
+            .toArray(CompletableFuture[]::new);
+    try {
+      CompletableFuture.allOf(tails).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      LOG.warn("Pending records of partitions {} not processed within {}", toAwait, timeout);
+    }
+  }
+
+  private void forget(Collection<TopicPartition> removed) {
+    removed.forEach(partitions::remove);
+    pausedPartitions.removeAll(removed);
+  }
+}
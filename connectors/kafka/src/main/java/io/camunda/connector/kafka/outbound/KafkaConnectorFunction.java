@@ -16,13 +16,16 @@ import io.camunda.connector.kafka.outbound.model.KafkaConnectorRequest;
 import io.camunda.connector.kafka.outbound.model.KafkaConnectorResponse;
 import io.camunda.connector.kafka.outbound.model.ProducerRecordFactory;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
-import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.errors.AuthenticationException;
+import org.apache.kafka.common.errors.AuthorizationException;
+import org.apache.kafka.common.errors.ProducerFencedException;
 
 @OutboundConnector(
     name = "Kafka Producer",
@@ -62,17 +65,21 @@ import org.apache.kafka.clients.producer.RecordMetadata;
     icon = "icon.svg")
 public class KafkaConnectorFunction implements OutboundConnectorFunction {
 
-  private final Function<Properties, Producer<String, Object>> producerCreatorFunction;
+  private final KafkaProducerCache producerCache;
 
   private final ProducerRecordFactory producerRecordFactory = new ProducerRecordFactory();
 
   public KafkaConnectorFunction() {
-    this(KafkaProducer::new);
+    this(KafkaProducerCache.getDefault());
   }
 
   public KafkaConnectorFunction(
       final Function<Properties, Producer<String, Object>> producerCreatorFunction) {
-    this.producerCreatorFunction = producerCreatorFunction;
+    this(new KafkaProducerCache(producerCreatorFunction, KafkaProducerCache.DEFAULT_IDLE_TIMEOUT));
+  }
+
+  public KafkaConnectorFunction(final KafkaProducerCache producerCache) {
+    this.producerCache = producerCache;
   }
 
   @Override
@@ -83,12 +90,18 @@ public class KafkaConnectorFunction implements OutboundConnectorFunction {
 
   private KafkaConnectorResponse executeConnector(final KafkaConnectorRequest request) {
     Properties props = KafkaPropertiesUtil.assembleKafkaClientProperties(request);
-    try (Producer<String, Object> producer = producerCreatorFunction.apply(props)) {
+    try {
+      // the producer is shared with other jobs using the same properties, so concurrent jobs
+      // reuse its broker connections and are batched according to linger.ms / batch.size
+      Producer<String, Object> producer = producerCache.get(props);
       ProducerRecord<String, Object> producerRecord =
           producerRecordFactory.createProducerRecord(request);
       Future<RecordMetadata> kafkaResponse = producer.send(producerRecord);
       return constructKafkaConnectorResponse(kafkaResponse.get(45, TimeUnit.SECONDS));
     } catch (Exception e) {
+      if (isProducerUnusable(e)) {
+        producerCache.invalidate(props);
+      }
       throw new ConnectorException(
           "FAIL",
           "Error during Kafka Producer execution; error message: [" + e.getMessage() + "]",
@@ -96,6 +109,19 @@ public class KafkaConnectorFunction implements OutboundConnectorFunction {
     }
   }
 
+  /**
+   * A producer that has been closed or fenced, or whose credentials were rejected, must not be
+   * reused by subsequent jobs. Other errors, e.g. a record that cannot be serialized or is too
+   * large, only affect the current record; the shared producer is kept for the other jobs.
+   */
+  private static boolean isProducerUnusable(Exception e) {
+    Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+    return cause instanceof IllegalStateException
+        || cause instanceof ProducerFencedException
+        || cause instanceof AuthenticationException
+        || cause instanceof AuthorizationException;
+  }
+
   private KafkaConnectorResponse constructKafkaConnectorResponse(RecordMetadata recordMetadata) {
     return new KafkaConnectorResponse(
         recordMetadata.topic(),
@@ -0,0 +1,90 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.kafka.outbound;
+
+import io.camunda.connector.util.cache.CacheKeys;
+import io.camunda.connector.util.cache.KeyedResourceCache;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.function.Function;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+
+/**
+ * Keeps long-lived Kafka producers, keyed by their normalized client properties. A {@link
+ * KafkaProducer} is thread-safe and holds the cluster metadata and broker connections, so jobs that
+ * publish to the same cluster with the same settings share one producer and its record batches.
+ *
+ * <p>Producers that have not been used for {@link #DEFAULT_IDLE_TIMEOUT} are closed. All remaining
+ * producers are flushed and closed when the JVM shuts down.
+ */
+public class KafkaProducerCache {
+
+  static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(10);
+  static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+  private static final int MAX_PRODUCERS = 100;
+
+  private final Function<Properties, Producer<String, Object>> producerCreatorFunction;
+  private final KeyedResourceCache<Producer<String, Object>> producers;
+
+  public KafkaProducerCache(
+      Function<Properties, Producer<String, Object>> producerCreatorFunction,
+      Duration idleTimeout) {
+    this.producerCreatorFunction = producerCreatorFunction;
+    this.producers =
+        new KeyedResourceCache<>(
+            "Kafka producer",
+            MAX_PRODUCERS,
+            idleTimeout,
+            producer -> producer.close(CLOSE_TIMEOUT));
+  }
+
+  /** Returns the cache shared by all Kafka outbound connectors of this JVM. */
+  public static KafkaProducerCache getDefault() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  /**
+   * Returns the producer for the given client properties, creating it on first use. The returned
+   * producer must not be closed by the caller.
+   */
+  public Producer<String, Object> get(Properties properties) {
+    return producers.get(cacheKey(properties), k -> producerCreatorFunction.apply(properties));
+  }
+
+  /**
+   * Closes and removes the producer for the given client properties, e.g. after it failed with a
+   * non-retriable error. The next call to {@link #get(Properties)} creates a new producer.
+   */
+  public void invalidate(Properties properties) {
+    producers.invalidate(cacheKey(properties));
+  }
+
+  /** Closes all producers, flushing records that have not been sent yet. */
+  public void closeAll() {
+    producers.closeAll();
+  }
+
+  /**
+   * Computes a SHA-256 hash of the sorted client properties to use as the cache key. This ensures
+   * that credentials (e.g. {@code sasl.jaas.config}) are never kept in plain text by the cache.
+   */
+  static String cacheKey(Properties properties) {
+    return CacheKeys.sha256(CacheKeys.sortedEntries(properties));
+  }
+
+  private static final class DefaultHolder {
+    private static final KafkaProducerCache INSTANCE = createDefault();
+
+    private static KafkaProducerCache createDefault() {
+      var cache = new KafkaProducerCache(KafkaProducer::new, DEFAULT_IDLE_TIMEOUT);
+      Runtime.getRuntime()
+          .addShutdownHook(new Thread(cache::closeAll, "kafka-producer-cache-shutdown"));
+      return cache;
+    }
+  }
+}
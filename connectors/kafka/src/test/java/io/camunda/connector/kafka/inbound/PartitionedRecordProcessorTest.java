@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.kafka.inbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+class PartitionedRecordProcessorTest {
+
+  private static final String TOPIC = "my-topic";
+  private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+  private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC, 1);
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  @SuppressWarnings("unchecked")
+  private final Consumer<Object, Object> consumer = mock(Consumer.class);
+
+  private static ConsumerRecords<Object, Object> records(TopicPartition partition, int count) {
+    List<ConsumerRecord<Object, Object>> records = new ArrayList<>();
+    for (int offset = 0; offset < count; offset++) {
+      records.add(new ConsumerRecord<>(TOPIC, partition.partition(), offset, "key", offset));
+    }
+    return new ConsumerRecords<>(Map.of(partition, records));
+  }
+
+  @Test
+  void shouldProcessRecordsOfPartitionInOrder_andCommitCompletedOffset() {
+    var processed = Collections.synchronizedList(new ArrayList<Object>());
+    try (var processor = new PartitionedRecordProcessor(r -> processed.add(r.value()), 100)) {
+      processor.submit(records(PARTITION_0, 5));
+      processor.drain(consumer, TIMEOUT);
+    }
+
+    assertThat(processed).containsExactly(0, 1, 2, 3, 4);
+    verify(consumer).commitSync(Map.of(PARTITION_0, new OffsetAndMetadata(5)));
+  }
+
+  @Test
+  void shouldPauseAndResumePartition_whenTooManyRecordsArePending() throws Exception {
+    var release = new CountDownLatch(1);
+    try (var processor =
+        new PartitionedRecordProcessor(
+            r -> {
+              try {
+                release.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            },
+            2)) {
+      processor.submit(records(PARTITION_0, 3));
+      processor.applyBackpressure(consumer);
+      verify(consumer).pause(List.of(PARTITION_0));
+
+      release.countDown();
+      processor.drain(consumer, TIMEOUT);
+      assertThat(processor.pendingRecords(PARTITION_0)).isZero();
+      processor.applyBackpressure(consumer);
+      verify(consumer).resume(List.of(PARTITION_0));
+    }
+  }
+
+  @Test
+  void shouldRethrowFailure_andOnlyCommitRecordsBeforeIt() {
+    try (var processor =
+        new PartitionedRecordProcessor(
+            r -> {
+              if (r.partition() == 1 && r.offset() == 1) {
+                throw new IllegalStateException("correlation failed");
+              }
+            },
+            100)) {
+      processor.submit(records(PARTITION_1, 3));
+      processor.drain(consumer, TIMEOUT);
+
+      verify(consumer).commitSync(Map.of(PARTITION_1, new OffsetAndMetadata(1)));
+      assertThrows(IllegalStateException.class, processor::throwIfFailed);
+    }
+  }
+
+  @Test
+  void shouldNotCommit_whenNothingCompleted() {
+    try (var processor = new PartitionedRecordProcessor(r -> {}, 100)) {
+      processor.commitCompleted(consumer);
+    }
+
+    verify(consumer, never()).commitSync(anyMap());
+  }
+
+  @Test
+  void shouldLetRecordsInProgressFinish_whenClosed() throws Exception {
+    var started = new CountDownLatch(1);
+    var interrupted = new AtomicBoolean();
+    var processed = Collections.synchronizedList(new ArrayList<Object>());
+    var processor =
+        new PartitionedRecordProcessor(
+            r -> {
+              started.countDown();
+              try {
+                Thread.sleep(200);
+                processed.add(r.value());
+              } catch (InterruptedException e) {
+                interrupted.set(true);
+              }
+            },
+            100);
+    processor.submit(records(PARTITION_0, 2));
+    assertThat(started.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+
+    processor.close();
+
+    assertThat(interrupted).isFalse();
+    // the record in progress completes, the following record of the partition is not started
+    assertThat(processed).containsExactly(0);
+  }
+}
@@ -12,6 +12,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.connector.api.error.ConnectorException;
 import io.camunda.connector.api.error.ConnectorInputException;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.kafka.outbound.model.KafkaConnectorRequest;
@@ -22,16 +23,25 @@ import java.io.File;
 import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.KafkaException;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.AuthenticationException;
+import org.apache.kafka.common.errors.InvalidTopicException;
+import org.apache.kafka.common.errors.ProducerFencedException;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.errors.TopicAuthorizationException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
@@ -61,6 +71,22 @@ class KafkaConnectorFunctionTest {
   private static final String SECRET_TOPIC_KEY = "TOPIC_NAME";
   private static final String SECRET_TOPIC_NAME = "some-awesome-topic";
 
+  private static final String NO_AUTH_REQUEST =
+      """
+          {
+              "topic":{
+                "bootstrapServers":"kafka-stub.kafka.cloud:1234",
+                "topicName":"some-awesome-topic"
+              },
+              "message":{
+                "key":"Happy",
+                "value":"Case"
+              },
+              "schemaStrategy":{
+                "type":"noSchema"
+              }
+            }""";
+
   @Mock private KafkaProducer<String, Object> producer;
   @Captor private ArgumentCaptor<ProducerRecord<String, Object>> producerRecordCaptor;
   private KafkaConnectorFunction objectUnderTest;
@@ -142,21 +168,7 @@ class KafkaConnectorFunctionTest {
   @Test
   void execute_NoCredProvided_ShouldPass() {
     // given
-    final String noAuthRequest =
-        """
-                    {
-                        "topic":{
-                          "bootstrapServers":"kafka-stub.kafka.cloud:1234",
-                          "topicName":"some-awesome-topic"
-                        },
-                        "message":{
-                          "key":"Happy",
-                          "value":"Case"
-                        },
-                        "schemaStrategy":{
-                          "type":"noSchema"
-                        }
-                      }""";
+    final String noAuthRequest = NO_AUTH_REQUEST;
     CompletableFuture<RecordMetadata> completedKafkaResult = new CompletableFuture<>();
     RecordMetadata kafkaResponse =
         new RecordMetadata(new TopicPartition(SECRET_TOPIC_NAME, 1), 1, 1, 1, 1, 1);
@@ -181,4 +193,65 @@ class KafkaConnectorFunctionTest {
     assertThat(req.topic().bootstrapServers()).isEqualTo(SECRET_BOOTSTRAP_SERVER);
     assertThat(req.topic().topicName()).isEqualTo(SECRET_TOPIC_NAME);
   }
+
+  private static Stream<Arguments> recordErrors() {
+    return Stream.of(
+        Arguments.of(new SerializationException("cannot serialize value")),
+        Arguments.of(new RecordTooLargeException("record too large")),
+        Arguments.of(new InvalidTopicException("invalid topic")));
+  }
+
+  @ParameterizedTest
+  @MethodSource("recordErrors")
+  void execute_RecordError_ShouldKeepSharedProducer(final KafkaException error) {
+    // given
+    final var createdProducers = new AtomicInteger();
+    objectUnderTest =
+        new KafkaConnectorFunction(
+            properties -> {
+              createdProducers.incrementAndGet();
+              return producer;
+            });
+    Mockito.when(producer.send(ArgumentMatchers.any())).thenThrow(error);
+    OutboundConnectorContext ctx =
+        OutboundConnectorContextBuilder.create().variables(NO_AUTH_REQUEST).build();
+
+    // when
+    Assertions.assertThrows(ConnectorException.class, () -> objectUnderTest.execute(ctx));
+    Assertions.assertThrows(ConnectorException.class, () -> objectUnderTest.execute(ctx));
+
+    // then
+    assertThat(createdProducers).hasValue(1);
+  }
+
+  private static Stream<Arguments> producerErrors() {
+    return Stream.of(
+        Arguments.of(new ProducerFencedException("fenced")),
+        Arguments.of(new AuthenticationException("invalid credentials")),
+        Arguments.of(new TopicAuthorizationException("not authorized")));
+  }
+
+  @ParameterizedTest
+  @MethodSource("producerErrors")
+  void execute_ProducerError_ShouldEvictSharedProducer(final KafkaException error) {
+    // given
+    final var createdProducers = new AtomicInteger();
+    objectUnderTest =
+        new KafkaConnectorFunction(
+            properties -> {
+              createdProducers.incrementAndGet();
+              return producer;
+            });
+    Mockito.when(producer.send(ArgumentMatchers.any()))
+        .thenReturn(CompletableFuture.failedFuture(error));
+    OutboundConnectorContext ctx =
+        OutboundConnectorContextBuilder.create().variables(NO_AUTH_REQUEST).build();
+
+    // when
+    Assertions.assertThrows(ConnectorException.class, () -> objectUnderTest.execute(ctx));
+    Assertions.assertThrows(ConnectorException.class, () -> objectUnderTest.execute(ctx));
+
+    // then
+    assertThat(createdProducers).hasValue(2);
+  }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.kafka.outbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.kafka.clients.producer.Producer;
+import org.junit.jupiter.api.Test;
+
+class KafkaProducerCacheTest {
+
+  private final AtomicInteger createdProducers = new AtomicInteger();
+
+  @SuppressWarnings("unchecked")
+  private final KafkaProducerCache cache =
+      new KafkaProducerCache(
+          properties -> {
+            createdProducers.incrementAndGet();
+            return mock(Producer.class);
+          },
+          Duration.ofMinutes(1));
+
+  private static Properties properties(String bootstrapServers, String password) {
+    var properties = new Properties();
+    properties.put("bootstrap.servers", bootstrapServers);
+    properties.put("sasl.jaas.config", "username='user' password='" + password + "';");
+    return properties;
+  }
+
+  @Test
+  void shouldReuseProducer_whenPropertiesAreEqual() {
+    var first = cache.get(properties("kafka:9092", "secret"));
+    var second = cache.get(properties("kafka:9092", "secret"));
+
+    assertThat(second).isSameAs(first);
+    assertThat(createdProducers).hasValue(1);
+  }
+
+  @Test
+  void shouldCreateSeparateProducers_whenCredentialsDiffer() {
+    var first = cache.get(properties("kafka:9092", "secret"));
+    var second = cache.get(properties("kafka:9092", "other-secret"));
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(createdProducers).hasValue(2);
+  }
+
+  @Test
+  void shouldCloseProducer_whenAllClosed() {
+    var producer = cache.get(properties("kafka:9092", "secret"));
+
+    cache.closeAll();
+
+    verify(producer, atLeastOnce()).close(any(Duration.class));
+    assertThat(cache.get(properties("kafka:9092", "secret"))).isNotSameAs(producer);
+  }
+
+  @Test
+  void shouldNotExposeCredentials_inCacheKey() {
+    var key = KafkaProducerCache.cacheKey(properties("kafka:9092", "secret"));
+
+    assertThat(key).doesNotContain("secret").hasSize(64);
+  }
+}
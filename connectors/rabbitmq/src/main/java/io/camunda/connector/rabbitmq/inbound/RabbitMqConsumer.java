@@ -23,20 +23,89 @@ import io.camunda.connector.api.inbound.CorrelationResult.Success;
 import io.camunda.connector.rabbitmq.inbound.model.RabbitMqInboundResult;
 import io.camunda.connector.rabbitmq.inbound.model.RabbitMqInboundResult.RabbitMqInboundMessage;
 import io.camunda.connector.rabbitmq.supplier.ObjectMapperSupplier;
+import io.camunda.connector.util.env.EnvironmentSettings;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class RabbitMqConsumer extends DefaultConsumer {
+/**
+ * Correlates the deliveries of a RabbitMQ queue.
+ *
+ * <p>With a {@link Settings#concurrency()} greater than 1, deliveries are correlated on a worker
+ * pool instead of the dispatch thread of the AMQP client, so that a slow correlation does not
+ * stall the queue. The number of unacknowledged deliveries is bounded by the prefetch count that
+ * the caller configures on the channel. Acknowledgements are sent cumulatively with {@code
+ * multiple=true} once all earlier deliveries have been settled, so that a delivery is never
+ * acknowledged before it was correlated and unsettled deliveries are redelivered by the broker if
+ * the channel closes.
+ */
+public class RabbitMqConsumer extends DefaultConsumer implements AutoCloseable {
+
+  static final String PREFETCH_COUNT_ENV = "CONNECTOR_RABBITMQ_INBOUND_PREFETCH_COUNT";
+  static final String CONCURRENCY_ENV = "CONNECTOR_RABBITMQ_INBOUND_CONCURRENCY";
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RabbitMqConsumer.class);
+  private static final long CLOSE_TIMEOUT_MILLIS = 3000;
 
   private final InboundConnectorContext context;
+  private final Settings settings;
+  private final ExecutorService workers;
+
+  /** Deliveries that have not been acknowledged yet, by delivery tag. Guarded by itself. */
+  private final NavigableMap<Long, Settlement> outstanding = new TreeMap<>();
+
+  private enum Settlement {
+    PENDING,
+    ACK,
+    SETTLED
+  }
+
+  /**
+   * Settings of the consumer.
+   *
+   * @param prefetchCount maximum number of unacknowledged deliveries, 0 for unlimited
+   * @param concurrency number of deliveries that are correlated concurrently
+   */
+  public record Settings(int prefetchCount, int concurrency) {
+
+    public static final Settings DEFAULT = new Settings(100, 1);
+
+    public Settings {
+      if (prefetchCount < 0) {
+        throw new IllegalArgumentException(
+            "prefetchCount must not be negative, got " + prefetchCount);
+      }
+      if (concurrency < 1) {
+        throw new IllegalArgumentException("concurrency must be at least 1, got " + concurrency);
+      }
+    }
+
+    /** Reads the settings from the {@code CONNECTOR_RABBITMQ_INBOUND_*} environment variables. */
+    public static Settings fromEnvironment() {
+      return new Settings(
+          EnvironmentSettings.getInt(PREFETCH_COUNT_ENV, DEFAULT.prefetchCount(), 0),
+          EnvironmentSettings.getInt(CONCURRENCY_ENV, DEFAULT.concurrency(), 1));
+    }
+  }
 
   public RabbitMqConsumer(Channel channel, InboundConnectorContext context) {
+    this(channel, context, Settings.fromEnvironment());
+  }
+
+  public RabbitMqConsumer(Channel channel, InboundConnectorContext context, Settings settings) {
     super(channel);
     this.context = context;
+    this.settings = settings;
+    this.workers =
+        settings.concurrency() > 1 ? Executors.newFixedThreadPool(settings.concurrency()) : null;
   }
 
   @Override
@@ -52,6 +121,52 @@ public class RabbitMqConsumer extends DefaultConsumer {
                 .withMessage(
                     "Received AMQP message with delivery tag " + envelope.getDeliveryTag()));
 
+    synchronized (outstanding) {
+      outstanding.put(envelope.getDeliveryTag(), Settlement.PENDING);
+    }
+    if (workers == null) {
+      correlate(consumerTag, envelope, properties, body);
+      return;
+    }
+    try {
+      workers.execute(
+          () -> {
+            try {
+              correlate(consumerTag, envelope, properties, body);
+            } catch (Exception e) {
+              LOGGER.warn(
+                  "Failed to settle AMQP message with delivery tag {}",
+                  envelope.getDeliveryTag(),
+                  e);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      // the consumer is closing, requeue the delivery so that it does not hold back later acks
+      LOGGER.debug("Consumer closed, requeueing delivery {}", envelope.getDeliveryTag());
+      reject(envelope.getDeliveryTag(), true);
+    }
+  }
+
+  /** Stops the worker pool, waiting a short time for running correlations to finish. */
+  @Override
+  public void close() {
+    if (workers == null) {
+      return;
+    }
+    workers.shutdown();
+    try {
+      if (!workers.awaitTermination(CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+        workers.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      workers.shutdownNow();
+    }
+  }
+
+  private void correlate(
+      String consumerTag, Envelope envelope, BasicProperties properties, byte[] body)
+      throws IOException {
     try {
       RabbitMqInboundResult variables = prepareVariables(consumerTag, properties, body);
       var result =
@@ -68,7 +183,7 @@ public class RabbitMqConsumer extends DefaultConsumer {
                   .withSeverity(Severity.ERROR)
                   .withTag(ActivityLogTag.MESSAGE)
                   .withMessage("NACK (requeue) - failed to correlate event", e));
-      getChannel().basicReject(envelope.getDeliveryTag(), true);
+      reject(envelope.getDeliveryTag(), true);
     }
   }
 
@@ -83,7 +198,7 @@ public class RabbitMqConsumer extends DefaultConsumer {
                     .withSeverity(Severity.INFO)
                     .withTag(ActivityLogTag.MESSAGE)
                     .withMessage("Message correlated successfully"));
-        getChannel().basicAck(envelope.getDeliveryTag(), false);
+        ack(envelope.getDeliveryTag());
       }
 
       case Failure failure -> {
@@ -102,7 +217,7 @@ public class RabbitMqConsumer extends DefaultConsumer {
                           .withSeverity(Severity.WARNING)
                           .withTag(ActivityLogTag.MESSAGE)
                           .withMessage(errorLogMessage + ". Message will be requeued."));
-              getChannel().basicReject(envelope.getDeliveryTag(), true);
+              reject(envelope.getDeliveryTag(), true);
             } else {
               context.log(
                   activity ->
@@ -110,7 +225,7 @@ public class RabbitMqConsumer extends DefaultConsumer {
                           .withSeverity(Severity.WARNING)
                           .withTag(ActivityLogTag.MESSAGE)
                           .withMessage(errorLogMessage + ". Message will be dropped."));
-              getChannel().basicReject(envelope.getDeliveryTag(), false);
+              reject(envelope.getDeliveryTag(), false);
             }
           }
           case Ignore ignored -> {
@@ -120,13 +235,59 @@ public class RabbitMqConsumer extends DefaultConsumer {
                         .withSeverity(Severity.WARNING)
                         .withTag(ActivityLogTag.MESSAGE)
                         .withMessage(errorLogMessage + ". Message will be acknowledged."));
-            getChannel().basicAck(envelope.getDeliveryTag(), false);
+            ack(envelope.getDeliveryTag());
           }
         }
       }
     }
   }
 
+  private void ack(long deliveryTag) throws IOException {
+    synchronized (outstanding) {
+      outstanding.put(deliveryTag, Settlement.ACK);
+      flushAcks();
+    }
+  }
+
+  private void reject(long deliveryTag, boolean requeue) throws IOException {
+    synchronized (outstanding) {
+      outstanding.put(deliveryTag, Settlement.SETTLED);
+      getChannel().basicReject(deliveryTag, requeue);
+      flushAcks();
+    }
+  }
+
+  /**
+   * Acknowledges the settled deliveries at the head of the outstanding deliveries with a single
+   * cumulative ack. If a slow delivery holds back too many acks, the held back deliveries are
+   * acknowledged one by one, so that they do not use up the prefetch window.
+   */
+  private void flushAcks() throws IOException {
+    long lastAck = -1;
+    int acks = 0;
+    while (!outstanding.isEmpty() && outstanding.firstEntry().getValue() != Settlement.PENDING) {
+      var settled = outstanding.pollFirstEntry();
+      if (settled.getValue() == Settlement.ACK) {
+        lastAck = settled.getKey();
+        acks++;
+      }
+    }
+    if (acks > 0) {
+      getChannel().basicAck(lastAck, acks > 1);
+    }
+
+    int maxHeldAcks = Math.max(settings.prefetchCount() / 2, 1);
+    if (settings.prefetchCount() > 0
+        && outstanding.values().stream().filter(Settlement.ACK::equals).count() >= maxHeldAcks) {
+      for (Map.Entry<Long, Settlement> entry : outstanding.entrySet()) {
+        if (entry.getValue() == Settlement.ACK) {
+          getChannel().basicAck(entry.getKey(), false);
+          entry.setValue(Settlement.SETTLED);
+        }
+      }
+    }
+  }
+
   @Override
   public void handleCancel(String consumerTag) {
     try {
@@ -146,6 +307,10 @@ public class RabbitMqConsumer extends DefaultConsumer {
   @Override
   public void handleShutdownSignal(String consumerTag, ShutdownSignalException sig) {
     LOGGER.error("Consumer shutdown: {}", consumerTag, sig);
+    synchronized (outstanding) {
+      // unacknowledged deliveries are redelivered by the broker, their tags are no longer valid
+      outstanding.clear();
+    }
     context.log(
         activity ->
             activity
@@ -81,17 +81,26 @@ public class RabbitMqExecutable implements InboundConnectorExecutable<InboundCon
   private static final Logger LOGGER = LoggerFactory.getLogger(RabbitMqExecutable.class);
   private static final int CLOSE_TIMEOUT_MILLIS = 3000;
   private final ConnectionFactorySupplier connectionFactorySupplier;
+  private final RabbitMqConsumer.Settings consumerSettings;
   private Connection connection;
   private Channel channel;
+  private RabbitMqConsumer consumer;
   private String consumerTag; // either provided in properties or generated by RabbitMQ server
   private RecoveryListener recoveryListener;
 
   public RabbitMqExecutable() {
-    this.connectionFactorySupplier = new ConnectionFactorySupplier();
+    this(new ConnectionFactorySupplier());
   }
 
   public RabbitMqExecutable(final ConnectionFactorySupplier connectionFactorySupplier) {
+    this(connectionFactorySupplier, RabbitMqConsumer.Settings.fromEnvironment());
+  }
+
+  public RabbitMqExecutable(
+      final ConnectionFactorySupplier connectionFactorySupplier,
+      final RabbitMqConsumer.Settings consumerSettings) {
     this.connectionFactorySupplier = connectionFactorySupplier;
+    this.consumerSettings = consumerSettings;
   }
 
   @Override
@@ -126,6 +135,9 @@ public class RabbitMqExecutable implements InboundConnectorExecutable<InboundCon
       LOGGER.warn("Failed to cancel consumer", e);
     } finally {
       recoveryListener = null;
+      if (consumer != null) {
+        consumer.close();
+      }
       if (connection != null) {
         connection.close(CLOSE_TIMEOUT_MILLIS);
       }
@@ -166,7 +178,10 @@ public class RabbitMqExecutable implements InboundConnectorExecutable<InboundCon
     }
 
     channel = connection.createChannel();
-    Consumer consumer = new RabbitMqConsumer(channel, context);
+    if (consumerSettings.prefetchCount() > 0) {
+      channel.basicQos(consumerSettings.prefetchCount());
+    }
+    consumer = new RabbitMqConsumer(channel, context, consumerSettings);
 
     var data = new HashMap<String, Object>();
     data.put("connection-id", connection.getId());
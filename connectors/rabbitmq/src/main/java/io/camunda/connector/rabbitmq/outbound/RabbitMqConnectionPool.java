@@ -0,0 +1,372 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.rabbitmq.outbound;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ConfirmListener;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ShutdownSignalException;
+import io.camunda.connector.rabbitmq.common.model.CredentialsAuthentication;
+import io.camunda.connector.rabbitmq.common.model.FactoryRoutingData;
+import io.camunda.connector.rabbitmq.common.model.RabbitMqAuthentication;
+import io.camunda.connector.rabbitmq.common.model.UriAuthentication;
+import io.camunda.connector.rabbitmq.supplier.ConnectionFactorySupplier;
+import io.camunda.connector.util.cache.CacheKeys;
+import io.camunda.connector.util.cache.KeyedResourceCache;
+import io.camunda.connector.util.env.EnvironmentSettings;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps long-lived AMQP connections, keyed by authentication and routing data, each with a bounded
+ * pool of channels. Publishing jobs that target the same broker share one socket instead of doing a
+ * full AMQP handshake per message.
+ *
+ * <p>With publisher confirms enabled, pooled channels are put into confirm mode and a job waits for
+ * the broker acknowledgement of its message only after the channel has been returned to the pool,
+ * so jobs publishing concurrently on the same channel share the (batched) confirms of the broker.
+ *
+ * <p>Connections that have not been used for {@link Settings#idleTimeout()} are closed. Closed
+ * connections and channels are replaced on the next use. This class is thread-safe.
+ */
+public class RabbitMqConnectionPool {
+
+  static final String PUBLISHER_CONFIRMS_ENV = "CONNECTOR_RABBITMQ_PUBLISHER_CONFIRMS_ENABLED";
+  static final String MAX_CHANNELS_ENV = "CONNECTOR_RABBITMQ_MAX_CHANNELS_PER_CONNECTION";
+
+  private static final Logger LOG = LoggerFactory.getLogger(RabbitMqConnectionPool.class);
+  private static final int MAX_CONNECTIONS = 100;
+
+  private final ConnectionFactorySupplier connectionFactorySupplier;
+  private final Settings settings;
+  private final KeyedResourceCache<PooledConnection> connections;
+
+  /**
+   * Settings of the pool.
+   *
+   * @param maxChannelsPerConnection maximum number of channels opened on one connection, at least 1
+   * @param publisherConfirms whether to wait for publisher confirms of the broker
+   * @param confirmTimeout maximum time to wait for a channel or a publisher confirm
+   * @param idleTimeout time after which an unused connection is closed
+   */
+  public record Settings(
+      int maxChannelsPerConnection,
+      boolean publisherConfirms,
+      Duration confirmTimeout,
+      Duration idleTimeout) {
+
+    public static final Settings DEFAULT =
+        new Settings(32, false, Duration.ofSeconds(30), Duration.ofMinutes(10));
+
+    public Settings {
+      if (maxChannelsPerConnection < 1) {
+        throw new IllegalArgumentException(
+            "maxChannelsPerConnection must be at least 1, got " + maxChannelsPerConnection);
+      }
+    }
+
+    /** Reads the settings from the {@code CONNECTOR_RABBITMQ_*} environment variables. */
+    public static Settings fromEnvironment() {
+      return new Settings(
+          EnvironmentSettings.getInt(MAX_CHANNELS_ENV, DEFAULT.maxChannelsPerConnection(), 1),
+          EnvironmentSettings.getBoolean(PUBLISHER_CONFIRMS_ENV, DEFAULT.publisherConfirms()),
+          DEFAULT.confirmTimeout(),
+          DEFAULT.idleTimeout());
+    }
+  }
+
+  public RabbitMqConnectionPool(
+      ConnectionFactorySupplier connectionFactorySupplier, Settings settings) {
+    this.connectionFactorySupplier = connectionFactorySupplier;
+    this.settings = settings;
+    this.connections =
+        new KeyedResourceCache<>(
+            "RabbitMQ connection",
+            MAX_CONNECTIONS,
+            settings.idleTimeout(),
+            PooledConnection::close);
+  }
+
+  /** Returns the pool shared by all RabbitMQ outbound connectors of this JVM. */
+  public static RabbitMqConnectionPool getDefault() {
+    return DefaultHolder.INSTANCE;
+  }
+
+  /**
+   * Publishes a message on a pooled channel of the connection for the given authentication and
+   * routing data, opening the connection on first use. If publisher confirms are enabled, this
+   * method returns once the broker has confirmed the message.
+   *
+   * @throws IOException if the message could not be published or was rejected by the broker
+   * @throws TimeoutException if no channel became available or the confirm did not arrive in time
+   */
+  public void publish(
+      RabbitMqAuthentication authentication,
+      FactoryRoutingData routing,
+      String exchange,
+      String routingKey,
+      AMQP.BasicProperties properties,
+      byte[] body)
+      throws Exception {
+    var key = cacheKey(authentication, routing);
+    var connection = getConnection(key, authentication, routing);
+    CompletableFuture<Void> confirmation;
+    try {
+      confirmation = connection.publish(exchange, routingKey, properties, body);
+    } catch (ShutdownSignalException e) {
+      // the broker closed the connection since it was last used, retry once on a new one
+      LOG.debug("Pooled RabbitMQ connection was closed, reconnecting", e);
+      connections.asMap().remove(key, connection);
+      connection = getConnection(key, authentication, routing);
+      confirmation = connection.publish(exchange, routingKey, properties, body);
+    }
+    awaitConfirmation(confirmation);
+  }
+
+  /** Closes all pooled connections. */
+  public void closeAll() {
+    connections.closeAll();
+  }
+
+  private PooledConnection getConnection(
+      String key, RabbitMqAuthentication authentication, FactoryRoutingData routing)
+      throws Exception {
+    var existing = connections.getIfPresent(key);
+    if (existing != null && existing.isOpen()) {
+      return existing;
+    }
+    try {
+      return connections
+          .asMap()
+          .compute(
+              key,
+              (k, current) -> {
+                if (current != null && current.isOpen()) {
+                  return current;
+                }
+                try {
+                  return new PooledConnection(
+                      connectionFactorySupplier
+                          .createFactory(authentication, routing)
+                          .newConnection(),
+                      settings);
+                } catch (Exception e) {
+                  throw new ConnectionFailedException(e);
+                }
+              });
+    } catch (ConnectionFailedException e) {
+      throw (Exception) e.getCause();
+    }
+  }
+
+  private void awaitConfirmation(CompletableFuture<Void> confirmation) throws Exception {
+    try {
+      confirmation.get(settings.confirmTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof Exception cause) {
+        throw cause;
+      }
+      throw e;
+    } catch (TimeoutException e) {
+      throw new TimeoutException(
+          "No publisher confirm received from RabbitMQ within " + settings.confirmTimeout());
+    }
+  }
+
+  /**
+   * Computes a SHA-256 hash of the authentication and routing data to use as the cache key. This
+   * ensures that credentials are never kept in plain text by the pool.
+   */
+  static String cacheKey(RabbitMqAuthentication authentication, FactoryRoutingData routing) {
+    return switch (authentication) {
+      case UriAuthentication uri -> CacheKeys.sha256("uri", uri.uri());
+      case CredentialsAuthentication credentials ->
+          CacheKeys.sha256(
+              "credentials",
+              credentials.userName(),
+              credentials.password(),
+              routing.virtualHost(),
+              routing.hostName(),
+              routing.port());
+    };
+  }
+
+  /** A connection with a bounded pool of (optionally confirm-mode) channels. */
+  static final class PooledConnection {
+
+    private final Connection connection;
+    private final Settings settings;
+    private final Semaphore channelPermits;
+    private final BlockingQueue<PublishingChannel> idleChannels = new LinkedBlockingQueue<>();
+
+    PooledConnection(Connection connection, Settings settings) {
+      this.connection = connection;
+      this.settings = settings;
+      this.channelPermits = new Semaphore(settings.maxChannelsPerConnection());
+    }
+
+    boolean isOpen() {
+      return connection.isOpen();
+    }
+
+    CompletableFuture<Void> publish(
+        String exchange, String routingKey, AMQP.BasicProperties properties, byte[] body)
+        throws IOException, InterruptedException, TimeoutException {
+      if (!channelPermits.tryAcquire(
+          settings.confirmTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+        throw new TimeoutException(
+            "No RabbitMQ channel available within " + settings.confirmTimeout());
+      }
+      try {
+        var channel = borrowChannel();
+        try {
+          return channel.publish(exchange, routingKey, properties, body);
+        } finally {
+          // return the channel before the caller waits for the confirm, so others can publish
+          releaseChannel(channel);
+        }
+      } finally {
+        channelPermits.release();
+      }
+    }
+
+    void close() {
+      idleChannels.clear();
+      try {
+        if (connection.isOpen()) {
+          connection.close();
+        }
+      } catch (Exception e) {
+        LOG.warn("Failed to close RabbitMQ connection", e);
+      }
+    }
+
+    private PublishingChannel borrowChannel() throws IOException {
+      PublishingChannel channel;
+      while ((channel = idleChannels.poll()) != null) {
+        if (channel.isOpen()) {
+          return channel;
+        }
+      }
+      return new PublishingChannel(connection.createChannel(), settings.publisherConfirms());
+    }
+
+    private void releaseChannel(PublishingChannel channel) {
+      if (channel.isOpen()) {
+        idleChannels.offer(channel);
+      } else {
+        channel.failOutstanding(new IOException("RabbitMQ channel was closed"));
+      }
+    }
+  }
+
+  /**
+   * A channel that tracks the publisher confirms of its outstanding messages. The broker may
+   * acknowledge several messages at once, completing all outstanding confirms up to the given
+   * delivery tag.
+   */
+  private static final class PublishingChannel implements ConfirmListener {
+
+    private final Channel channel;
+    private final boolean publisherConfirms;
+    private final ConcurrentNavigableMap<Long, CompletableFuture<Void>> outstandingConfirms =
+        new ConcurrentSkipListMap<>();
+
+    PublishingChannel(Channel channel, boolean publisherConfirms) throws IOException {
+      this.channel = channel;
+      this.publisherConfirms = publisherConfirms;
+      if (publisherConfirms) {
+        channel.confirmSelect();
+        channel.addConfirmListener(this);
+        channel.addShutdownListener(
+            cause -> failOutstanding(new IOException("RabbitMQ channel was closed", cause)));
+      }
+    }
+
+    boolean isOpen() {
+      return channel.isOpen();
+    }
+
+    CompletableFuture<Void> publish(
+        String exchange, String routingKey, AMQP.BasicProperties properties, byte[] body)
+        throws IOException {
+      if (!publisherConfirms) {
+        channel.basicPublish(exchange, routingKey, properties, body);
+        return CompletableFuture.completedFuture(null);
+      }
+      var confirmation = new CompletableFuture<Void>();
+      long sequenceNumber = channel.getNextPublishSeqNo();
+      outstandingConfirms.put(sequenceNumber, confirmation);
+      try {
+        channel.basicPublish(exchange, routingKey, properties, body);
+      } catch (IOException | RuntimeException e) {
+        outstandingConfirms.remove(sequenceNumber);
+        throw e;
+      }
+      return confirmation;
+    }
+
+    @Override
+    public void handleAck(long deliveryTag, boolean multiple) {
+      confirmed(deliveryTag, multiple).forEach(confirmation -> confirmation.complete(null));
+    }
+
+    @Override
+    public void handleNack(long deliveryTag, boolean multiple) {
+      var rejected = new IOException("Message was rejected by RabbitMQ (nack)");
+      confirmed(deliveryTag, multiple)
+          .forEach(confirmation -> confirmation.completeExceptionally(rejected));
+    }
+
+    void failOutstanding(Exception cause) {
+      outstandingConfirms.values().forEach(c -> c.completeExceptionally(cause));
+      outstandingConfirms.clear();
+    }
+
+    private List<CompletableFuture<Void>> confirmed(long deliveryTag, boolean multiple) {
+      if (!multiple) {
+        var confirmation = outstandingConfirms.remove(deliveryTag);
+        return confirmation != null ? List.of(confirmation) : List.of();
+      }
+      var confirmed = outstandingConfirms.headMap(deliveryTag, true);
+      var result = List.copyOf(confirmed.values());
+      confirmed.clear();
+      return result;
+    }
+  }
+
+  private static final class ConnectionFailedException extends RuntimeException {
+    ConnectionFailedException(Exception cause) {
+      super(cause);
+    }
+  }
+
+  private static final class DefaultHolder {
+    private static final RabbitMqConnectionPool INSTANCE = createDefault();
+
+    private static RabbitMqConnectionPool createDefault() {
+      var pool =
+          new RabbitMqConnectionPool(new ConnectionFactorySupplier(), Settings.fromEnvironment());
+      Runtime.getRuntime()
+          .addShutdownHook(new Thread(pool::closeAll, "rabbitmq-connection-pool-shutdown"));
+      return pool;
+    }
+  }
+}
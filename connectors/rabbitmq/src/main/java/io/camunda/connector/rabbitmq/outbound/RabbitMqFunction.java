@@ -6,7 +6,6 @@
  */
 package io.camunda.connector.rabbitmq.outbound;
 
-import com.rabbitmq.client.Connection;
 import io.camunda.connector.api.annotation.OutboundConnector;
 import io.camunda.connector.api.outbound.OutboundConnectorContext;
 import io.camunda.connector.api.outbound.OutboundConnectorFunction;
@@ -44,14 +43,20 @@ import io.camunda.connector.rabbitmq.supplier.ConnectionFactorySupplier;
     icon = "icon.svg")
 public class RabbitMqFunction implements OutboundConnectorFunction {
 
-  private final ConnectionFactorySupplier connectionFactorySupplier;
+  private final RabbitMqConnectionPool connectionPool;
 
   public RabbitMqFunction() {
-    this.connectionFactorySupplier = new ConnectionFactorySupplier();
+    this.connectionPool = RabbitMqConnectionPool.getDefault();
   }
 
   public RabbitMqFunction(final ConnectionFactorySupplier connectionFactorySupplier) {
-    this.connectionFactorySupplier = connectionFactorySupplier;
+    this(
+        new RabbitMqConnectionPool(
+            connectionFactorySupplier, RabbitMqConnectionPool.Settings.DEFAULT));
+  }
+
+  public RabbitMqFunction(final RabbitMqConnectionPool connectionPool) {
+    this.connectionPool = connectionPool;
   }
 
   @Override
@@ -62,24 +67,17 @@ public class RabbitMqFunction implements OutboundConnectorFunction {
 
   private RabbitMqResult executeConnector(final RabbitMqRequest request) throws Exception {
 
-    // Getting properties and body before open new connection, because methods can throw exception
+    // Getting properties and body before borrowing a channel, because methods can throw exception
     final var messageProperties = MessageUtil.toAmqpBasicProperties(request.message().properties());
     final var messageInByteArray = MessageUtil.getBodyAsByteArray(request.message().body());
 
-    try (Connection connection = openConnection(request)) {
-      final var channel = connection.createChannel();
-      channel.basicPublish(
-          request.routing().exchange(),
-          request.routing().routingKey(),
-          messageProperties,
-          messageInByteArray);
-      return RabbitMqResult.success();
-    }
-  }
-
-  private Connection openConnection(RabbitMqRequest request) throws Exception {
-    return connectionFactorySupplier
-        .createFactory(request.authentication(), request.routing().routingData())
-        .newConnection();
+    connectionPool.publish(
+        request.authentication(),
+        request.routing().routingData(),
+        request.routing().exchange(),
+        request.routing().routingKey(),
+        messageProperties,
+        messageInByteArray);
+    return RabbitMqResult.success();
   }
 }
@@ -8,8 +8,14 @@ package io.camunda.connector.rabbitmq.inbound;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -21,12 +27,15 @@ import io.camunda.connector.api.inbound.CorrelationRequest;
 import io.camunda.connector.api.inbound.CorrelationResult.Failure.ActivationConditionNotMet;
 import io.camunda.connector.api.inbound.CorrelationResult.Failure.InvalidInput;
 import io.camunda.connector.api.inbound.CorrelationResult.Failure.ZeebeClientStatus;
+import io.camunda.connector.api.inbound.CorrelationResult.Success.MessagePublished;
 import io.camunda.connector.api.inbound.InboundConnectorContext;
 import io.camunda.connector.rabbitmq.inbound.model.RabbitMqInboundResult;
 import io.camunda.connector.rabbitmq.inbound.model.RabbitMqInboundResult.RabbitMqInboundMessage;
 import io.camunda.connector.runtime.test.inbound.InboundConnectorContextBuilder.TestInboundConnectorContext;
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -342,4 +351,90 @@ public class RabbitMqConsumerTest extends InboundBaseTest {
       verify(mockChannel, times(1)).basicAck(1, false);
     }
   }
+
+  @Nested
+  class ConcurrentDelivery {
+
+    private static final byte[] BODY = "plaintext".getBytes();
+
+    @Test
+    void consumer_shouldAckCumulatively_whenEarlierDeliveriesAreSettled() throws Exception {
+      // Given that the first delivery is correlated slower than the following ones
+      var mockContext = mock(InboundConnectorContext.class);
+      var slowCorrelation = new CountDownLatch(1);
+      doReturn(new MessagePublished(null, 1L, null))
+          .when(mockContext)
+          .correlate(argThat(request -> !"slow".equals(request.getMessageId())));
+      doAnswer(
+              invocation -> {
+                slowCorrelation.await(5, TimeUnit.SECONDS);
+                return new MessagePublished(null, 1L, null);
+              })
+          .when(mockContext)
+          .correlate(argThat(request -> "slow".equals(request.getMessageId())));
+      var consumer =
+          new RabbitMqConsumer(mockChannel, mockContext, new RabbitMqConsumer.Settings(10, 4));
+
+      // When
+      consumer.handleDelivery("consumerTag", envelope(1), messageWithId("slow"), BODY);
+      consumer.handleDelivery("consumerTag", envelope(2), messageWithId("fast-1"), BODY);
+      consumer.handleDelivery("consumerTag", envelope(3), messageWithId("fast-2"), BODY);
+
+      // Then nothing is acknowledged before the first delivery has been correlated
+      verify(mockContext, timeout(1000).times(3)).correlate(any(CorrelationRequest.class));
+      verify(mockChannel, never()).basicAck(anyLong(), anyBoolean());
+
+      slowCorrelation.countDown();
+      verify(mockChannel, timeout(1000)).basicAck(3, true);
+      consumer.close();
+      verify(mockChannel, never()).basicAck(1, false);
+      verify(mockChannel, never()).basicAck(2, false);
+    }
+
+    @Test
+    void consumer_shouldRejectAndAckRemaining_whenDeliveryFails() throws Exception {
+      // Given that the first delivery fails with a retryable error
+      var mockContext = mock(InboundConnectorContext.class);
+      doReturn(new ZeebeClientStatus("BAD STATUS", "Meh, Zeebe is broken"))
+          .when(mockContext)
+          .correlate(argThat(request -> "failing".equals(request.getMessageId())));
+      doReturn(new MessagePublished(null, 1L, null))
+          .when(mockContext)
+          .correlate(argThat(request -> !"failing".equals(request.getMessageId())));
+      var consumer =
+          new RabbitMqConsumer(mockChannel, mockContext, new RabbitMqConsumer.Settings(10, 1));
+
+      // When
+      consumer.handleDelivery("consumerTag", envelope(1), messageWithId("failing"), BODY);
+      consumer.handleDelivery("consumerTag", envelope(2), messageWithId("ok"), BODY);
+
+      // Then the failed delivery is requeued and the following one acknowledged
+      verify(mockChannel).basicReject(1, true);
+      verify(mockChannel).basicAck(2, false);
+    }
+
+    @Test
+    void consumer_shouldRequeueDelivery_whenClosed() throws Exception {
+      // Given a closed consumer
+      var mockContext = mock(InboundConnectorContext.class);
+      var consumer =
+          new RabbitMqConsumer(mockChannel, mockContext, new RabbitMqConsumer.Settings(10, 4));
+      consumer.close();
+
+      // When
+      consumer.handleDelivery("consumerTag", envelope(1), messageWithId("late"), BODY);
+
+      // Then the delivery is requeued without being correlated
+      verify(mockChannel).basicReject(1, true);
+      verify(mockContext, never()).correlate(any(CorrelationRequest.class));
+    }
+
+    private static Envelope envelope(long deliveryTag) {
+      return new Envelope(deliveryTag, false, "exchange", "routingKey");
+    }
+
+    private static BasicProperties messageWithId(String messageId) {
+      return new BasicProperties.Builder().messageId(messageId).build();
+    }
+  }
 }
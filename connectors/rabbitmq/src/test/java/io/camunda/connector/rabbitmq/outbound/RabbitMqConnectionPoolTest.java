@@ -0,0 +1,169 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. Licensed under a proprietary license.
+ * See the License.txt file for more information. You may not use this file
+ * except in compliance with the proprietary license.
+ */
+package io.camunda.connector.rabbitmq.outbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ConfirmListener;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.ConnectionFactory;
+import io.camunda.connector.rabbitmq.common.model.CredentialsAuthentication;
+import io.camunda.connector.rabbitmq.common.model.FactoryRoutingData;
+import io.camunda.connector.rabbitmq.supplier.ConnectionFactorySupplier;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RabbitMqConnectionPoolTest {
+
+  private static final FactoryRoutingData ROUTING =
+      new FactoryRoutingData("/", "localhost", "5672");
+  private static final byte[] BODY = "message".getBytes(StandardCharsets.UTF_8);
+
+  @Mock private ConnectionFactorySupplier connectionFactorySupplier;
+  @Mock private ConnectionFactory connectionFactory;
+  @Mock private Connection connection;
+  @Mock private Channel channel;
+
+  @BeforeEach
+  void init() throws Exception {
+    when(connectionFactorySupplier.createFactory(any(), any())).thenReturn(connectionFactory);
+    when(connectionFactory.newConnection()).thenReturn(connection);
+    when(connection.createChannel()).thenReturn(channel);
+    when(connection.isOpen()).thenReturn(true);
+    when(channel.isOpen()).thenReturn(true);
+  }
+
+  private RabbitMqConnectionPool pool(boolean publisherConfirms) {
+    return new RabbitMqConnectionPool(
+        connectionFactorySupplier,
+        new RabbitMqConnectionPool.Settings(
+            4, publisherConfirms, Duration.ofSeconds(1), Duration.ofMinutes(1)));
+  }
+
+  private static void publish(RabbitMqConnectionPool pool, String password) throws Exception {
+    pool.publish(
+        new CredentialsAuthentication("user", password),
+        ROUTING,
+        "exchange",
+        "key",
+        new AMQP.BasicProperties(),
+        BODY);
+  }
+
+  @Test
+  void shouldReuseConnectionAndChannel_whenPublishingRepeatedly() throws Exception {
+    var pool = pool(false);
+
+    publish(pool, "secret");
+    publish(pool, "secret");
+
+    verify(connectionFactory, times(1)).newConnection();
+    verify(connection, times(1)).createChannel();
+    verify(channel, times(2)).basicPublish(eq("exchange"), eq("key"), any(), eq(BODY));
+  }
+
+  @Test
+  void shouldOpenSeparateConnections_whenCredentialsDiffer() throws Exception {
+    var pool = pool(false);
+
+    publish(pool, "secret");
+    publish(pool, "other-secret");
+
+    verify(connectionFactory, times(2)).newConnection();
+  }
+
+  @Test
+  void shouldReconnect_whenConnectionWasClosed() throws Exception {
+    var pool = pool(false);
+    publish(pool, "secret");
+
+    when(connection.isOpen()).thenReturn(false);
+    publish(pool, "secret");
+
+    verify(connectionFactory, times(2)).newConnection();
+  }
+
+  @Test
+  void shouldCompletePublish_whenBrokerAcknowledgesMessage() throws Exception {
+    var listener = new AtomicReference<ConfirmListener>();
+    doAnswer(invocation -> {
+          listener.set(invocation.getArgument(0));
+          return null;
+        })
+        .when(channel)
+        .addConfirmListener(any(ConfirmListener.class));
+    when(channel.getNextPublishSeqNo()).thenReturn(1L);
+    doAnswer(invocation -> {
+          listener.get().handleAck(1L, true);
+          return null;
+        })
+        .when(channel)
+        .basicPublish(any(), any(), any(), any());
+
+    publish(pool(true), "secret");
+
+    verify(channel).confirmSelect();
+  }
+
+  @Test
+  void shouldFailPublish_whenBrokerRejectsMessage() throws Exception {
+    var listener = new AtomicReference<ConfirmListener>();
+    doAnswer(invocation -> {
+          listener.set(invocation.getArgument(0));
+          return null;
+        })
+        .when(channel)
+        .addConfirmListener(any(ConfirmListener.class));
+    when(channel.getNextPublishSeqNo()).thenReturn(1L);
+    doAnswer(invocation -> {
+          listener.get().handleNack(1L, false);
+          return null;
+        })
+        .when(channel)
+        .basicPublish(any(), any(), any(), any());
+
+    var pool = pool(true);
+    assertThrows(IOException.class, () -> publish(pool, "secret"));
+  }
+
+  @Test
+  void shouldRejectSettings_withoutChannels() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new RabbitMqConnectionPool.Settings(
+                0, false, Duration.ofSeconds(1), Duration.ofMinutes(1)));
+  }
+
+  @Test
+  void shouldNotExposeCredentials_inCacheKey() {
+    var key =
+        RabbitMqConnectionPool.cacheKey(new CredentialsAuthentication("user", "secret"), ROUTING);
+
+    assertThat(key).doesNotContain("secret").hasSize(64);
+  }
+}
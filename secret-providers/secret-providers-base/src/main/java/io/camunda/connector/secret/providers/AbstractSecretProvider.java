@@ -25,14 +25,23 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import io.camunda.connector.api.error.ConnectorException;
 import io.camunda.connector.api.secret.SecretContext;
 import io.camunda.connector.api.secret.SecretProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,6 +55,15 @@ public abstract class AbstractSecretProvider implements SecretProvider, AutoClos
   public static final String SECRETS_CACHE_MILLIS_ENV_NAME =
       "CAMUNDA_CONNECTOR_SECRETS_CACHE_MILLIS";
 
+  /** Time spent loading secrets from the secret manager, tagged by {@code provider} and result. */
+  public static final String METRIC_NAME_LOAD_TIME = "camunda.connector.secrets.provider.load-time";
+
+  /**
+   * Seconds since secrets were last loaded successfully, tagged by {@code provider} and {@code
+   * instance}, as several instances of the same provider may be in use at the same time.
+   */
+  public static final String METRIC_NAME_STALENESS = "camunda.connector.secrets.provider.staleness";
+
   private static final Logger logger = LoggerFactory.getLogger(AbstractSecretProvider.class);
   private static final ObjectMapper DEFAULT_MAPPER =
       new ObjectMapper()
@@ -53,12 +71,17 @@ public abstract class AbstractSecretProvider implements SecretProvider, AutoClos
           .registerModule(new JavaTimeModule())
           .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
           .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-  private static final String CACHE_KEY = "SECRETS";
+  private static final AtomicInteger INSTANCE_COUNTER = new AtomicInteger();
+  static final String CACHE_KEY = "SECRETS";
   private final String clusterId;
   private final String secretsProjectId;
   private final String secretsNamePrefix;
-  LoadingCache<String, Map<String, String>> secretsCache;
+  LoadingCache<String, LoadedSecrets> secretsCache;
   private ObjectMapper mapper;
+  ExecutorService refreshExecutor;
+  private final MeterRegistry meterRegistry = Metrics.globalRegistry;
+  private final Gauge stalenessGauge;
+  private volatile long lastLoadedNanos;
 
   public AbstractSecretProvider() {
     this(
@@ -83,24 +106,44 @@ public abstract class AbstractSecretProvider implements SecretProvider, AutoClos
             secretsNamePrefix, "Configuration for Secrets name prefix is missing");
 
     this.setupSecretsCache();
+    this.stalenessGauge =
+        Gauge.builder(METRIC_NAME_STALENESS, this, AbstractSecretProvider::secondsSinceLastLoad)
+            .tag("provider", getClass().getSimpleName())
+            .tag("instance", String.valueOf(INSTANCE_COUNTER.incrementAndGet()))
+            .baseUnit("seconds")
+            .register(meterRegistry);
   }
 
   public void setupSecretsCache() {
-    // Load secrets via this loader function whenever necessary
-    CacheLoader<String, Map<String, String>> loader =
+    // Load secrets via this loader function whenever necessary. Only the very first load blocks
+    // the caller, afterwards expired secrets are served while they are reloaded in the background.
+    CacheLoader<String, LoadedSecrets> loader =
         new CacheLoader<>() {
           @Override
-          public Map<String, String> load(String key) throws JsonProcessingException {
-            return unwrapSecrets(
-                loadSecrets(clusterId, secretsProjectId, secretsNamePrefix, logger));
+          public LoadedSecrets load(String key) throws JsonProcessingException {
+            return loadAndUnwrapSecrets(null);
+          }
+
+          @Override
+          public ListenableFuture<LoadedSecrets> reload(String key, LoadedSecrets previous)
+              throws JsonProcessingException {
+            return Futures.immediateFuture(loadAndUnwrapSecrets(previous));
           }
         };
     long millis =
         Long.parseLong(
             Optional.ofNullable(System.getenv(SECRETS_CACHE_MILLIS_ENV_NAME))
                 .orElseGet(() -> "5000"));
+    if (refreshExecutor != null) {
+      refreshExecutor.shutdownNow();
+    }
+    refreshExecutor =
+        Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("secret-provider-refresh").daemon().factory());
     secretsCache =
-        CacheBuilder.newBuilder().refreshAfterWrite(millis, TimeUnit.MILLISECONDS).build(loader);
+        CacheBuilder.newBuilder()
+            .refreshAfterWrite(millis, TimeUnit.MILLISECONDS)
+            .build(CacheLoader.asyncReloading(loader, refreshExecutor));
   }
 
   protected Map<String, String> unwrapSecrets(final String secretsAsJson)
@@ -111,12 +154,85 @@ public abstract class AbstractSecretProvider implements SecretProvider, AutoClos
   protected abstract String loadSecrets(
       String clusterId, String secretsProjectId, String secretsNamePrefix, Logger logger);
 
+  /**
+   * Loads the secrets together with the version they were read from. Providers whose secret
+   * manager exposes a version should override this method, so that a reload of an unchanged
+   * version does not parse the secrets again. The default implementation compares the raw secrets
+   * instead.
+   */
+  protected VersionedSecrets loadVersionedSecrets(
+      String clusterId, String secretsProjectId, String secretsNamePrefix, Logger logger) {
+    return new VersionedSecrets(
+        null, loadSecrets(clusterId, secretsProjectId, secretsNamePrefix, logger));
+  }
+
+  private LoadedSecrets loadAndUnwrapSecrets(LoadedSecrets previous)
+      throws JsonProcessingException {
+    final Timer.Sample sample = Timer.start(meterRegistry);
+    String result = "failed";
+    try {
+      final VersionedSecrets loaded =
+          loadVersionedSecrets(clusterId, secretsProjectId, secretsNamePrefix, logger);
+      final LoadedSecrets secrets;
+      if (previous != null && previous.isSameAs(loaded)) {
+        logger.debug("Secrets are unchanged (version: {}), skipping parsing", loaded.version());
+        secrets = previous;
+        result = "unchanged";
+      } else {
+        secrets =
+            new LoadedSecrets(
+                loaded.version(), loaded.secretsAsJson(), unwrapSecrets(loaded.secretsAsJson()));
+        result = "changed";
+      }
+      lastLoadedNanos = System.nanoTime();
+      return secrets;
+    } finally {
+      sample.stop(
+          Timer.builder(METRIC_NAME_LOAD_TIME)
+              .tag("provider", getClass().getSimpleName())
+              .tag("result", result)
+              .register(meterRegistry));
+    }
+  }
+
+  private double secondsSinceLastLoad() {
+    final long loadedNanos = lastLoadedNanos;
+    if (loadedNanos == 0) {
+      return Double.NaN;
+    }
+    return (System.nanoTime() - loadedNanos) / 1_000_000_000d;
+  }
+
   @Override
   public String getSecret(String name, SecretContext context) {
     try {
-      return secretsCache.get(CACHE_KEY).get(name);
+      return secretsCache.get(CACHE_KEY).secrets().get(name);
     } catch (ExecutionException e) {
       throw new ConnectorException("Could not resolve secrets: " + e.getMessage(), e);
     }
   }
+
+  @Override
+  public void close() {
+    refreshExecutor.shutdownNow();
+    meterRegistry.remove(stalenessGauge);
+  }
+
+  /**
+   * Secrets as returned by the secret manager.
+   *
+   * @param version version of the secrets, if known
+   * @param secretsAsJson the secrets as JSON object
+   */
+  public record VersionedSecrets(String version, String secretsAsJson) {}
+
+  record LoadedSecrets(String version, String secretsAsJson, Map<String, String> secrets) {
+
+    boolean isSameAs(VersionedSecrets loaded) {
+      if (version != null && loaded.version() != null) {
+        return version.equals(loaded.version());
+      }
+      return Objects.equals(secretsAsJson, loaded.secretsAsJson());
+    }
+  }
 }
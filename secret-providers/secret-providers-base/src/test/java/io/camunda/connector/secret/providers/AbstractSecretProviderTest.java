@@ -0,0 +1,196 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.connector.secret.providers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+class AbstractSecretProviderTest {
+
+  @Test
+  void shouldServePreviousSecrets_whileReloading() throws Exception {
+    try (var provider = new TestSecretProvider(() -> versioned(null, "{\"a\":\"1\"}"))) {
+      assertThat(provider.getSecret("a", null)).isEqualTo("1");
+
+      var reloadStarted = new CountDownLatch(1);
+      var releaseReload = new CountDownLatch(1);
+      provider.source =
+          () -> {
+            reloadStarted.countDown();
+            await(releaseReload);
+            return versioned(null, "{\"a\":\"2\"}");
+          };
+      provider.secretsCache.refresh(AbstractSecretProvider.CACHE_KEY);
+      assertThat(reloadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+      assertThat(provider.getSecret("a", null)).isEqualTo("1");
+
+      releaseReload.countDown();
+      provider.awaitReload();
+      assertThat(provider.getSecret("a", null)).isEqualTo("2");
+    }
+  }
+
+  @Test
+  void shouldSkipParsing_whenVersionIsUnchanged() throws Exception {
+    try (var provider = new TestSecretProvider(() -> versioned("1", "{\"a\":\"1\"}"))) {
+      assertThat(provider.getSecret("a", null)).isEqualTo("1");
+
+      provider.source = () -> versioned("1", "{\"a\":\"2\"}");
+      provider.reload();
+
+      assertThat(provider.loads).hasValue(2);
+      assertThat(provider.parses).hasValue(1);
+      assertThat(provider.getSecret("a", null)).isEqualTo("1");
+
+      provider.source = () -> versioned("2", "{\"a\":\"2\"}");
+      provider.reload();
+
+      assertThat(provider.parses).hasValue(2);
+      assertThat(provider.getSecret("a", null)).isEqualTo("2");
+    }
+  }
+
+  @Test
+  void shouldSkipParsing_whenRawSecretsAreUnchanged() throws Exception {
+    try (var provider = new TestSecretProvider(() -> versioned(null, "{\"a\":\"1\"}"))) {
+      assertThat(provider.getSecret("a", null)).isEqualTo("1");
+
+      provider.reload();
+
+      assertThat(provider.loads).hasValue(2);
+      assertThat(provider.parses).hasValue(1);
+
+      provider.source = () -> versioned(null, "{\"a\":\"2\"}");
+      provider.reload();
+
+      assertThat(provider.parses).hasValue(2);
+      assertThat(provider.getSecret("a", null)).isEqualTo("2");
+    }
+  }
+
+  @Test
+  void shouldKeepPreviousSecrets_whenReloadFails() throws Exception {
+    try (var provider = new TestSecretProvider(() -> versioned(null, "{\"a\":\"1\"}"))) {
+      assertThat(provider.getSecret("a", null)).isEqualTo("1");
+
+      provider.source =
+          () -> {
+            throw new IllegalStateException("secret manager unavailable");
+          };
+      provider.reload();
+
+      assertThat(provider.loads).hasValue(2);
+      assertThat(provider.getSecret("a", null)).isEqualTo("1");
+    }
+  }
+
+  @Test
+  void shouldShutDownReloadExecutor_whenClosed() {
+    var provider = new TestSecretProvider(() -> versioned(null, "{}"));
+
+    provider.close();
+
+    assertThat(provider.refreshExecutor.isShutdown()).isTrue();
+  }
+
+  @Test
+  void shouldReportStalenessPerInstance() {
+    var first = new TestSecretProvider(() -> versioned(null, "{}"));
+    var second = new TestSecretProvider(() -> versioned(null, "{}"));
+
+    assertThat(stalenessGauges()).hasSize(2);
+
+    first.close();
+    assertThat(stalenessGauges()).hasSize(1);
+
+    second.close();
+    assertThat(stalenessGauges()).isEmpty();
+  }
+
+  private static Collection<Gauge> stalenessGauges() {
+    return Metrics.globalRegistry
+        .find(AbstractSecretProvider.METRIC_NAME_STALENESS)
+        .tag("provider", TestSecretProvider.class.getSimpleName())
+        .gauges();
+  }
+
+  private static AbstractSecretProvider.VersionedSecrets versioned(String version, String json) {
+    return new AbstractSecretProvider.VersionedSecrets(version, json);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static class TestSecretProvider extends AbstractSecretProvider {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicInteger parses = new AtomicInteger();
+    private volatile Supplier<VersionedSecrets> source;
+
+    TestSecretProvider(Supplier<VersionedSecrets> source) {
+      super("cluster", "project", "prefix");
+      this.source = source;
+    }
+
+    @Override
+    protected String loadSecrets(
+        String clusterId, String secretsProjectId, String secretsNamePrefix, Logger logger) {
+      return source.get().secretsAsJson();
+    }
+
+    @Override
+    protected VersionedSecrets loadVersionedSecrets(
+        String clusterId, String secretsProjectId, String secretsNamePrefix, Logger logger) {
+      loads.incrementAndGet();
+      return source.get();
+    }
+
+    @Override
+    protected Map<String, String> unwrapSecrets(String secretsAsJson)
+        throws JsonProcessingException {
+      parses.incrementAndGet();
+      return super.unwrapSecrets(secretsAsJson);
+    }
+
+    void reload() throws Exception {
+      secretsCache.refresh(CACHE_KEY);
+      awaitReload();
+    }
+
+    /** Reloads run on a single thread, so a task queued behind the reload runs after it. */
+    void awaitReload() throws Exception {
+      refreshExecutor.submit(() -> {}).get(5, TimeUnit.SECONDS);
+    }
+  }
+}